@@ -10,6 +10,10 @@
 package zowe.client.sdk.core;
 
 import kong.unirest.core.Cookie;
+import zowe.client.sdk.rest.ZosmfSession;
+import zowe.client.sdk.rest.ZosmfTransport;
+import zowe.client.sdk.rest.ZosmfTransportOptions;
+import zowe.client.sdk.utility.ValidateUtils;
 
 import java.util.Objects;
 import java.util.Optional;
@@ -58,6 +62,18 @@ public final class ZosConnection {
      * Base path for z/OSMF REST endpoints
      */
     private final String basePath;
+    /**
+     * Settings of the http transport owned by this connection
+     */
+    private ZosmfTransportOptions transportOptions = ZosmfTransportOptions.DEFAULT;
+    /**
+     * Http transport owned by this connection, created on first use
+     */
+    private volatile ZosmfTransport transport;
+    /**
+     * Token session of this connection, see enableSession
+     */
+    private volatile ZosmfSession session;
 
     /**
      * ZosConnection constructor
@@ -235,6 +251,79 @@ public final class ZosConnection {
         return "https://" + host + ":" + zosmfPort + (basePath != null ? basePath : "") + "/zosmf";
     }
 
+    /**
+     * Retrieve the http transport owned by this connection, creating it on first use.
+     * <p>
+     * All requests performed for this connection run through this transport and share its connection pool.
+     *
+     * @return ZosmfTransport object
+     */
+    public ZosmfTransport getTransport() {
+        ZosmfTransport result = transport;
+        if (result == null) {
+            synchronized (this) {
+                result = transport;
+                if (result == null) {
+                    result = new ZosmfTransport(this, transportOptions);
+                    transport = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Retrieve the settings of the http transport owned by this connection
+     *
+     * @return ZosmfTransportOptions object
+     */
+    public synchronized ZosmfTransportOptions getTransportOptions() {
+        return transportOptions;
+    }
+
+    /**
+     * Set the settings of the http transport owned by this connection.
+     * <p>
+     * A transport already created is closed, and a new one using the given settings is created on next use.
+     *
+     * @param transportOptions ZosmfTransportOptions object
+     */
+    public synchronized void setTransportOptions(final ZosmfTransportOptions transportOptions) {
+        ValidateUtils.checkNullParameter(transportOptions, "transportOptions");
+        this.transportOptions = transportOptions;
+        if (transport != null) {
+            transport.close();
+            transport = null;
+        }
+    }
+
+    /**
+     * Enable the token session of this connection, see ZosmfSession.
+     * <p>
+     * Requests performed for this connection then log into z/OSMF once and present the returned token instead
+     * of the user and password, logging in again when the token is rejected or expires. Enable the session
+     * before performing requests, method objects created earlier keep using basic authentication until their
+     * next request is prepared.
+     *
+     * @return ZosmfSession object, the same for every call
+     * @throws IllegalStateException authentication type is not BASIC
+     */
+    public synchronized ZosmfSession enableSession() {
+        if (session == null) {
+            session = new ZosmfSession(this);
+        }
+        return session;
+    }
+
+    /**
+     * Retrieve the token session of this connection
+     *
+     * @return ZosmfSession Optional object, empty when the session is not enabled
+     */
+    public Optional<ZosmfSession> getSession() {
+        return Optional.ofNullable(session);
+    }
+
     /**
      * Equals method comparing fields based on the authentication type.
      * <p>
@@ -9,14 +9,19 @@
  */
 package zowe.client.sdk.rest;
 
+import kong.unirest.core.Cookie;
 import kong.unirest.core.HttpResponse;
 import kong.unirest.core.JsonNode;
-import kong.unirest.core.Unirest;
 import kong.unirest.core.UnirestException;
 import zowe.client.sdk.core.ZosConnection;
 import zowe.client.sdk.rest.exception.ZosmfRequestException;
 import zowe.client.sdk.utility.ValidateUtils;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
 /**
  * Http delete operation with JSON content type
  *
@@ -47,14 +52,33 @@ public class DeleteJsonZosmfRequest extends ZosmfRequest {
         ValidateUtils.checkNullParameter(url, "url");
         HttpResponse<JsonNode> reply;
         try {
-            reply = token != null ? Unirest.delete(url).cookie(token).headers(headers).asJson() :
-                    Unirest.delete(url).headers(headers).asJson();
+            reply = getTransport().execute(client -> token != null ?
+                    client.delete(url).cookie(token).headers(headers).asJson() :
+                    client.delete(url).headers(headers).asJson());
         } catch (UnirestException e) {
             throw new ZosmfRequestException(e.getMessage(), e);
         }
         return buildResponse(reply);
     }
 
+    /**
+     * Perform the http rest request asynchronously
+     *
+     * @param executor executor the response is processed on
+     * @return CompletableFuture of the Response object
+     * @author Frank Giordano
+     */
+    @Override
+    public CompletableFuture<Response> executeRequestAsync(final Executor executor) {
+        ValidateUtils.checkNullParameter(url, "url");
+        final String url = this.url;
+        final Map<String, String> headers = new HashMap<>(this.headers);
+        final Cookie token = this.token;
+        return executeAsync(client -> token != null ?
+                client.delete(url).cookie(token).headers(headers).asJsonAsync() :
+                client.delete(url).headers(headers).asJsonAsync(), executor);
+    }
+
     /**
      * Method to set the body information for the http request which is not used for this request.
      *
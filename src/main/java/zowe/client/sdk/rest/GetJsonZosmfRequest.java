@@ -9,14 +9,18 @@
  */
 package zowe.client.sdk.rest;
 
+import kong.unirest.core.Cookie;
 import kong.unirest.core.HttpResponse;
-import kong.unirest.core.JsonNode;
-import kong.unirest.core.Unirest;
 import kong.unirest.core.UnirestException;
 import zowe.client.sdk.core.ZosConnection;
 import zowe.client.sdk.rest.exception.ZosmfRequestException;
 import zowe.client.sdk.utility.ValidateUtils;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
 /**
  * Http get operation with JSON content type
  *
@@ -45,16 +49,47 @@ public class GetJsonZosmfRequest extends ZosmfRequest {
     @Override
     public Response executeRequest() throws ZosmfRequestException {
         ValidateUtils.checkNullParameter(url, "url");
-        HttpResponse<JsonNode> reply;
+        HttpResponse<byte[]> reply;
         try {
-            reply = token != null ? Unirest.get(url).cookie(token).headers(headers).asJson() :
-                    Unirest.get(url).headers(headers).asJson();
+            reply = getTransport().execute(client -> token != null ?
+                    client.get(url).cookie(token).headers(headers).asBytes() :
+                    client.get(url).headers(headers).asBytes());
         } catch (UnirestException e) {
             throw new ZosmfRequestException(e.getMessage(), e);
         }
         return buildResponse(reply);
     }
 
+    /**
+     * Perform the http rest request asynchronously
+     *
+     * @param executor executor the response is processed on
+     * @return CompletableFuture of the Response object
+     * @author Frank Giordano
+     */
+    @Override
+    public CompletableFuture<Response> executeRequestAsync(final Executor executor) {
+        ValidateUtils.checkNullParameter(url, "url");
+        final String url = this.url;
+        final Map<String, String> headers = new HashMap<>(this.headers);
+        final Cookie token = this.token;
+        return executeAsync(client -> token != null ?
+                client.get(url).cookie(token).headers(headers).asBytesAsync() :
+                client.get(url).headers(headers).asBytesAsync(), executor);
+    }
+
+    /**
+     * The JSON body is read as bytes, so it can be bound to model objects in a single pass,
+     * see JsonUtils.parseResponse(Response, Class, String)
+     *
+     * @return boolean true
+     * @author Frank Giordano
+     */
+    @Override
+    protected boolean isJsonContent() {
+        return true;
+    }
+
     /**
      * Method to set the body information for the http request which is not used for this request.
      *
@@ -9,13 +9,22 @@
  */
 package zowe.client.sdk.rest;
 
+import kong.unirest.core.Cookie;
 import kong.unirest.core.HttpResponse;
-import kong.unirest.core.Unirest;
+import kong.unirest.core.RawResponse;
 import kong.unirest.core.UnirestException;
 import zowe.client.sdk.core.ZosConnection;
 import zowe.client.sdk.rest.exception.ZosmfRequestException;
 import zowe.client.sdk.utility.ValidateUtils;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
 /**
  * Http get stream operation with JSON content type
  *
@@ -24,6 +33,11 @@ import zowe.client.sdk.utility.ValidateUtils;
  */
 public class GetStreamZosmfRequest extends ZosmfRequest {
 
+    /**
+     * Maximum number of bytes of an error response body read from a streamed request
+     */
+    private static final int MAX_ERROR_BODY_SIZE = 1024 * 1024;
+
     /**
      * GetStreamZosmfRequest constructor
      *
@@ -46,14 +60,95 @@ public class GetStreamZosmfRequest extends ZosmfRequest {
         ValidateUtils.checkNullParameter(url, "url");
         HttpResponse<byte[]> reply;
         try {
-            reply = token != null ? Unirest.get(url).cookie(token).headers(headers).asBytes() :
-                    Unirest.get(url).headers(headers).asBytes();
+            reply = getTransport().execute(client -> token != null ?
+                    client.get(url).cookie(token).headers(headers).asBytes() :
+                    client.get(url).headers(headers).asBytes());
         } catch (UnirestException e) {
             throw new ZosmfRequestException(e.getMessage(), e);
         }
         return buildResponse(reply);
     }
 
+    /**
+     * Perform the http rest request returning the response content as a stream read directly from the
+     * connection instead of a byte array holding the whole content.
+     * <p>
+     * The returned stream holds a transport slot of the connection until it is closed.
+     *
+     * @param bufferSize buffer size of the returned stream in bytes
+     * @return ZosmfInputStream object
+     * @throws ZosmfRequestException request error state
+     * @author Frank Giordano
+     */
+    public ZosmfInputStream executeStreamRequest(final int bufferSize) throws ZosmfRequestException {
+        ValidateUtils.checkNullParameter(url, "url");
+        ValidateUtils.checkIllegalParameter(bufferSize <= 0, "bufferSize must be positive");
+        final ZosmfTransport.Lease lease = getTransport().lease();
+        final HttpResponse<InputStream> reply;
+        try {
+            reply = token != null ?
+                    lease.getClient().get(url).cookie(token).headers(headers).asObject(RawResponse::getContent) :
+                    lease.getClient().get(url).headers(headers).asObject(RawResponse::getContent);
+        } catch (UnirestException e) {
+            lease.close();
+            throw new ZosmfRequestException(e.getMessage(), e);
+        } catch (RuntimeException e) {
+            lease.close();
+            throw e;
+        }
+
+        final int statusCode = reply.getStatus();
+        if (statusCode >= 100 && statusCode <= 299 && reply.getBody() != null) {
+            return new ZosmfInputStream(reply.getBody(), bufferSize, lease);
+        }
+
+        // read the error report document and let buildResponse report it as it does for buffered requests
+        try {
+            buildResponse(reply.map(GetStreamZosmfRequest::readErrorBody));
+        } catch (UncheckedIOException e) {
+            throw new ZosmfRequestException(e.getMessage(), e);
+        } finally {
+            lease.close();
+        }
+        throw new IllegalStateException("no content stream returned");
+    }
+
+    /**
+     * Read the body of an error response and close its stream
+     *
+     * @param content content stream of the http response
+     * @return byte array value
+     * @author Frank Giordano
+     */
+    private static byte[] readErrorBody(final InputStream content) {
+        if (content == null) {
+            return new byte[0];
+        }
+        try (content) {
+            return content.readNBytes(MAX_ERROR_BODY_SIZE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Perform the http rest request asynchronously
+     *
+     * @param executor executor the response is processed on
+     * @return CompletableFuture of the Response object
+     * @author Frank Giordano
+     */
+    @Override
+    public CompletableFuture<Response> executeRequestAsync(final Executor executor) {
+        ValidateUtils.checkNullParameter(url, "url");
+        final String url = this.url;
+        final Map<String, String> headers = new HashMap<>(this.headers);
+        final Cookie token = this.token;
+        return executeAsync(client -> token != null ?
+                client.get(url).cookie(token).headers(headers).asBytesAsync() :
+                client.get(url).headers(headers).asBytesAsync(), executor);
+    }
+
     /**
      * Method to set the body information for the http request which is not used for this request.
      *
@@ -9,13 +9,18 @@
  */
 package zowe.client.sdk.rest;
 
+import kong.unirest.core.Cookie;
 import kong.unirest.core.HttpResponse;
-import kong.unirest.core.Unirest;
 import kong.unirest.core.UnirestException;
 import zowe.client.sdk.core.ZosConnection;
 import zowe.client.sdk.rest.exception.ZosmfRequestException;
 import zowe.client.sdk.utility.ValidateUtils;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
 /**
  * Http get operation with a text content type
  *
@@ -46,14 +51,33 @@ public class GetTextZosmfRequest extends ZosmfRequest {
         ValidateUtils.checkNullParameter(url, "url");
         HttpResponse<String> reply;
         try {
-            reply = token != null ? Unirest.get(url).cookie(token).headers(headers).asString() :
-                    Unirest.get(url).headers(headers).asString();
+            reply = getTransport().execute(client -> token != null ?
+                    client.get(url).cookie(token).headers(headers).asString() :
+                    client.get(url).headers(headers).asString());
         } catch (UnirestException e) {
             throw new ZosmfRequestException(e.getMessage(), e);
         }
         return buildResponse(reply);
     }
 
+    /**
+     * Perform the http rest request asynchronously
+     *
+     * @param executor executor the response is processed on
+     * @return CompletableFuture of the Response object
+     * @author Frank Giordano
+     */
+    @Override
+    public CompletableFuture<Response> executeRequestAsync(final Executor executor) {
+        ValidateUtils.checkNullParameter(url, "url");
+        final String url = this.url;
+        final Map<String, String> headers = new HashMap<>(this.headers);
+        final Cookie token = this.token;
+        return executeAsync(client -> token != null ?
+                client.get(url).cookie(token).headers(headers).asStringAsync() :
+                client.get(url).headers(headers).asStringAsync(), executor);
+    }
+
     /**
      * Method to set the body information for the http request which is not used for this request.
      *
@@ -9,9 +9,9 @@
  */
 package zowe.client.sdk.rest;
 
+import kong.unirest.core.Cookie;
 import kong.unirest.core.HttpResponse;
 import kong.unirest.core.JsonNode;
-import kong.unirest.core.Unirest;
 import kong.unirest.core.UnirestException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -19,6 +19,11 @@ import zowe.client.sdk.core.ZosConnection;
 import zowe.client.sdk.rest.exception.ZosmfRequestException;
 import zowe.client.sdk.utility.ValidateUtils;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
 /**
  * Http post-operation with JSON content type
  *
@@ -57,14 +62,35 @@ public class PostJsonZosmfRequest extends ZosmfRequest {
         ValidateUtils.checkNullParameter(body, "body");
         HttpResponse<JsonNode> reply;
         try {
-            reply = token != null ? Unirest.post(url).cookie(token).headers(headers).body(body).asJson() :
-                    Unirest.post(url).headers(headers).body(body).asJson();
+            reply = getTransport().execute(client -> token != null ?
+                    client.post(url).cookie(token).headers(headers).body(body).asJson() :
+                    client.post(url).headers(headers).body(body).asJson());
         } catch (UnirestException e) {
             throw new ZosmfRequestException(e.getMessage(), e);
         }
         return buildResponse(reply);
     }
 
+    /**
+     * Perform the http rest request asynchronously
+     *
+     * @param executor executor the response is processed on
+     * @return CompletableFuture of the Response object
+     * @author Frank Giordano
+     */
+    @Override
+    public CompletableFuture<Response> executeRequestAsync(final Executor executor) {
+        ValidateUtils.checkNullParameter(url, "url");
+        ValidateUtils.checkNullParameter(body, "body");
+        final String url = this.url;
+        final Map<String, String> headers = new HashMap<>(this.headers);
+        final Cookie token = this.token;
+        final String body = this.body;
+        return executeAsync(client -> token != null ?
+                client.post(url).cookie(token).headers(headers).body(body).asJsonAsync() :
+                client.post(url).headers(headers).body(body).asJsonAsync(), executor);
+    }
+
     /**
      * Set the body information for the http request
      *
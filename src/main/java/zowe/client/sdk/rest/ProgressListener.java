@@ -0,0 +1,29 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.rest;
+
+/**
+ * Callback notified of the progress of a content transfer
+ *
+ * @author Frank Giordano
+ * @version 6.0
+ */
+@FunctionalInterface
+public interface ProgressListener {
+
+    /**
+     * Report the number of bytes transferred so far. Called on the thread performing the transfer.
+     *
+     * @param bytesTransferred number of bytes transferred so far
+     * @param totalBytes       total number of bytes to transfer, -1 when unknown
+     */
+    void progress(long bytesTransferred, long totalBytes);
+
+}
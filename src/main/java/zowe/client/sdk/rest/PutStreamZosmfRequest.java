@@ -9,14 +9,21 @@
  */
 package zowe.client.sdk.rest;
 
+import kong.unirest.core.Cookie;
 import kong.unirest.core.HttpResponse;
 import kong.unirest.core.JsonNode;
-import kong.unirest.core.Unirest;
 import kong.unirest.core.UnirestException;
 import zowe.client.sdk.core.ZosConnection;
 import zowe.client.sdk.rest.exception.ZosmfRequestException;
 import zowe.client.sdk.utility.ValidateUtils;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
 /**
  * Http put stream operation with a binary content type
  *
@@ -30,6 +37,11 @@ public class PutStreamZosmfRequest extends ZosmfRequest {
      */
     private byte[] body;
 
+    /**
+     * Binary data read from a stream while it is sent
+     */
+    private ZosmfStreamBody streamBody;
+
     /**
      * PutStreamZosmfRequest constructor
      *
@@ -51,11 +63,15 @@ public class PutStreamZosmfRequest extends ZosmfRequest {
     @Override
     public Response executeRequest() throws ZosmfRequestException {
         ValidateUtils.checkNullParameter(url, "url");
+        if (streamBody != null) {
+            return executeStreamBodyRequest();
+        }
         ValidateUtils.checkNullParameter(body, "body");
         HttpResponse<JsonNode> reply;
         try {
-            reply = token != null ? Unirest.put(url).cookie(token).headers(headers).body(body).asJson() :
-                    Unirest.put(url).headers(headers).body(body).asJson();
+            reply = getTransport().execute(client -> token != null ?
+                    client.put(url).cookie(token).headers(headers).body(body).asJson() :
+                    client.put(url).headers(headers).body(body).asJson());
         } catch (UnirestException e) {
             throw new ZosmfRequestException(e.getMessage(), e);
         }
@@ -63,14 +79,86 @@ public class PutStreamZosmfRequest extends ZosmfRequest {
     }
 
     /**
-     * Set the body byte array value for request
+     * Perform the http rest request sending the stream body with chunked transfer encoding
+     *
+     * @return Response object
+     * @throws ZosmfRequestException request error state
+     * @author Frank Giordano
+     */
+    private Response executeStreamBodyRequest() throws ZosmfRequestException {
+        HttpResponse<JsonNode> reply;
+        try (final InputStream content = streamBody.open()) {
+            // the content is read once, so the call is not repeated after a rejection of the session token
+            reply = getTransport().execute(client -> token != null ?
+                    client.put(url).cookie(token).headers(headers).body(content).asJson() :
+                    client.put(url).headers(headers).body(content).asJson(), false);
+        } catch (UnirestException | IOException e) {
+            throw new ZosmfRequestException(e.getMessage(), e);
+        }
+        return buildResponse(reply);
+    }
+
+    /**
+     * Perform the http rest request asynchronously
+     *
+     * @param executor executor the response is processed on
+     * @return CompletableFuture of the Response object
+     * @author Frank Giordano
+     */
+    @Override
+    public CompletableFuture<Response> executeRequestAsync(final Executor executor) {
+        ValidateUtils.checkNullParameter(url, "url");
+        final String url = this.url;
+        final Map<String, String> headers = new HashMap<>(this.headers);
+        final Cookie token = this.token;
+        if (streamBody != null) {
+            final InputStream content;
+            try {
+                content = streamBody.open();
+            } catch (IOException e) {
+                return CompletableFuture.failedFuture(new ZosmfRequestException(e.getMessage(), e));
+            }
+            return executeAsync(client -> token != null ?
+                    client.put(url).cookie(token).headers(headers).body(content).asJsonAsync() :
+                    client.put(url).headers(headers).body(content).asJsonAsync(), executor, false)
+                    .whenComplete((response, err) -> closeQuietly(content));
+        }
+        ValidateUtils.checkNullParameter(body, "body");
+        final byte[] body = this.body;
+        return executeAsync(client -> token != null ?
+                client.put(url).cookie(token).headers(headers).body(body).asJsonAsync() :
+                client.put(url).headers(headers).body(body).asJsonAsync(), executor);
+    }
+
+    /**
+     * Close the content stream of a stream body once sent
      *
-     * @param body byte array value
+     * @param content InputStream object
+     * @author Frank Giordano
+     */
+    private static void closeQuietly(final InputStream content) {
+        try {
+            content.close();
+        } catch (IOException ignored) {
+            // nothing left to do with the stream
+        }
+    }
+
+    /**
+     * Set the body for request, either a byte array value or a ZosmfStreamBody object
+     *
+     * @param body byte array value or ZosmfStreamBody object
      * @author Frank Giordano
      */
     @Override
     public void setBody(final Object body) {
-        this.body = (byte[]) body;
+        if (body instanceof ZosmfStreamBody) {
+            this.streamBody = (ZosmfStreamBody) body;
+            this.body = null;
+        } else {
+            this.body = (byte[]) body;
+            this.streamBody = null;
+        }
     }
 
     /**
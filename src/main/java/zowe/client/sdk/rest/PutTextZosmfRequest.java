@@ -9,8 +9,8 @@
  */
 package zowe.client.sdk.rest;
 
+import kong.unirest.core.Cookie;
 import kong.unirest.core.HttpResponse;
-import kong.unirest.core.Unirest;
 import kong.unirest.core.UnirestException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -18,6 +18,11 @@ import zowe.client.sdk.core.ZosConnection;
 import zowe.client.sdk.rest.exception.ZosmfRequestException;
 import zowe.client.sdk.utility.ValidateUtils;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
 /**
  * Http put operation with a text content type
  *
@@ -56,14 +61,35 @@ public class PutTextZosmfRequest extends ZosmfRequest {
         ValidateUtils.checkNullParameter(body, "body");
         HttpResponse<String> reply;
         try {
-            reply = token != null ? Unirest.put(url).cookie(token).headers(headers).body(body).asString() :
-                    Unirest.put(url).headers(headers).body(body).asString();
+            reply = getTransport().execute(client -> token != null ?
+                    client.put(url).cookie(token).headers(headers).body(body).asString() :
+                    client.put(url).headers(headers).body(body).asString());
         } catch (UnirestException e) {
             throw new ZosmfRequestException(e.getMessage(), e);
         }
         return buildResponse(reply);
     }
 
+    /**
+     * Perform the http rest request asynchronously
+     *
+     * @param executor executor the response is processed on
+     * @return CompletableFuture of the Response object
+     * @author Frank Giordano
+     */
+    @Override
+    public CompletableFuture<Response> executeRequestAsync(final Executor executor) {
+        ValidateUtils.checkNullParameter(url, "url");
+        ValidateUtils.checkNullParameter(body, "body");
+        final String url = this.url;
+        final Map<String, String> headers = new HashMap<>(this.headers);
+        final Cookie token = this.token;
+        final String body = this.body;
+        return executeAsync(client -> token != null ?
+                client.put(url).cookie(token).headers(headers).body(body).asStringAsync() :
+                client.put(url).headers(headers).body(body).asStringAsync(), executor);
+    }
+
     /**
      * Set the body information for the http request
      *
@@ -10,7 +10,12 @@
 package zowe.client.sdk.rest;
 
 import kong.unirest.core.Cookies;
+import kong.unirest.core.Headers;
+import kong.unirest.core.JsonNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Optional;
 import java.util.OptionalInt;
 
@@ -22,10 +27,17 @@ import java.util.OptionalInt;
  */
 public class Response {
 
+    private static final Logger LOG = LoggerFactory.getLogger(Response.class);
+
+    /**
+     * Holds http response information, decoded from content on first use when content is present
+     */
+    private volatile Object responsePhrase;
+
     /**
-     * Holds http response information
+     * Holds the raw JSON body of the http response
      */
-    private final Object responsePhrase;
+    private final byte[] content;
 
     /**
      * Holds http response status code
@@ -42,6 +54,11 @@ public class Response {
      */
     private final Cookies tokens;
 
+    /**
+     * Holds http response headers
+     */
+    private Headers headers;
+
     /**
      * Response constructor
      *
@@ -51,10 +68,7 @@ public class Response {
      * @author Frank Giordano
      */
     public Response(final Object responsePhrase, final Integer statusCode, final String statusText) {
-        this.responsePhrase = responsePhrase;
-        this.statusCode = statusCode;
-        this.statusText = statusText;
-        this.tokens = null;
+        this(responsePhrase, null, statusCode, statusText, null);
     }
 
     /**
@@ -68,21 +82,94 @@ public class Response {
      */
     public Response(final Object responsePhrase, final Integer statusCode, final String statusText,
                     final Cookies tokens) {
+        this(responsePhrase, null, statusCode, statusText, tokens);
+    }
+
+    /**
+     * Response constructor
+     *
+     * @param responsePhrase http response information, null when decoded from content
+     * @param content        raw JSON body of the http response, may be null
+     * @param statusCode     http response status code
+     * @param statusText     http response status text
+     * @param tokens         http response Cookies object representing TOKENS, may be null
+     * @author Frank Giordano
+     */
+    private Response(final Object responsePhrase, final byte[] content, final Integer statusCode,
+                     final String statusText, final Cookies tokens) {
         this.responsePhrase = responsePhrase;
+        this.content = content;
         this.statusCode = statusCode;
         this.statusText = statusText;
         this.tokens = tokens;
     }
 
+    /**
+     * Create a Response for a raw JSON body. The response phrase is decoded from the content the first time
+     * it is retrieved, so content bound directly to model objects is parsed only once.
+     *
+     * @param content    raw JSON body of the http response
+     * @param statusCode http response status code
+     * @param statusText http response status text
+     * @param tokens     http response Cookies object representing TOKENS, may be null
+     * @return Response object
+     * @author Frank Giordano
+     */
+    static Response ofJsonContent(final byte[] content, final int statusCode, final String statusText,
+                                  final Cookies tokens) {
+        return new Response(null, content, statusCode, statusText, tokens);
+    }
+
     /**
      * Retrieve responsePhrase value
      *
      * @return responsePhrase Optional object value
      */
     public Optional<Object> getResponsePhrase() {
+        if (responsePhrase == null && content != null) {
+            responsePhrase = decode(content);
+        }
         return Optional.ofNullable(responsePhrase);
     }
 
+    /**
+     * Whether the response holds a response phrase, checked without decoding it from content
+     *
+     * @return boolean true or false
+     */
+    public boolean hasResponsePhrase() {
+        return content != null || responsePhrase != null;
+    }
+
+    /**
+     * Retrieve the raw JSON body the response phrase is decoded from. Present only for responses of requests
+     * reading JSON content as bytes, see GetJsonZosmfRequest.
+     *
+     * @return content Optional byte array value
+     */
+    public Optional<byte[]> getContent() {
+        return Optional.ofNullable(content);
+    }
+
+    /**
+     * Decode a raw JSON body the same way Unirest does for a JSON request. A body that is not valid JSON
+     * is returned as a string.
+     *
+     * @param content raw JSON body
+     * @return JSONObject, JSONArray or String object
+     * @author Frank Giordano
+     */
+    private static Object decode(final byte[] content) {
+        final String body = content.length == 0 ? null : new String(content, StandardCharsets.UTF_8);
+        try {
+            final JsonNode node = new JsonNode(body);
+            return node.isArray() ? node.getArray() : node.getObject();
+        } catch (RuntimeException e) {
+            LOG.debug("json parsing error: {} {}", e.getMessage(), body);
+            return body;
+        }
+    }
+
     /**
      * Retrieve statusCode value
      *
@@ -102,6 +189,29 @@ public class Response {
         return Optional.ofNullable(statusText);
     }
 
+    /**
+     * Retrieve the first value of the given http response header
+     *
+     * @param name header name, case-insensitive
+     * @return header Optional String value
+     */
+    public Optional<String> getHeader(final String name) {
+        if (headers == null || !headers.containsKey(name)) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(headers.getFirst(name));
+    }
+
+    /**
+     * Set the http response headers
+     *
+     * @param headers Headers object
+     * @author Frank Giordano
+     */
+    void setHeaders(final Headers headers) {
+        this.headers = headers;
+    }
+
     /**
      * Retrieve tokens value
      *
@@ -119,7 +229,7 @@ public class Response {
     @Override
     public String toString() {
         return "Response{" +
-                "responsePhrase=" + responsePhrase +
+                "responsePhrase=" + getResponsePhrase().orElse(null) +
                 ", statusCode=" + statusCode +
                 ", statusText=" + statusText +
                 '}';
@@ -0,0 +1,251 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.rest;
+
+import kong.unirest.core.UnirestConfigException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLContext;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.KeyStore;
+import java.security.SecureRandom;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SSLContext built from a PKCS12 client certificate file, held by the ZosmfTransport of a connection.
+ * <p>
+ * Loading the keystore and initializing the key managers is costly, so the SSLContext is built once per
+ * transport and used by every request of the connection. Its TLS session cache is shared by these requests, so
+ * new connections to z/OSMF resume the previous TLS sessions instead of performing a full handshake. Nothing is
+ * kept once the transport is dropped.
+ * <p>
+ * The certificate file is checked for changes at most once every CHECK_INTERVAL, see reload.
+ * <p>
+ * This class is package-private
+ *
+ * @author Frank Giordano
+ * @version 6.0
+ */
+final class SslMaterial {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SslMaterial.class);
+
+    /**
+     * Minimum time between two checks of a certificate file for changes
+     */
+    static final long CHECK_INTERVAL = TimeUnit.SECONDS.toNanos(2);
+
+    private final String certFilePath;
+    private final String certPassword;
+    private final boolean insecure;
+    private final SSLContext sslContext;
+    private final FileStamp stamp;
+    private volatile long checkedAt;
+
+    /**
+     * SslMaterial constructor
+     *
+     * @param certFilePath certificate file (.p12) location
+     * @param certPassword certificate password for certificate file (.p12)
+     * @param insecure     whether every server certificate is trusted, for self-signed certificates
+     * @param sslContext   SSLContext built from the certificate file
+     * @param stamp        size and modification time of the certificate file loaded
+     * @param now          System.nanoTime value
+     */
+    private SslMaterial(final String certFilePath, final String certPassword, final boolean insecure,
+                        final SSLContext sslContext, final FileStamp stamp, final long now) {
+        this.certFilePath = certFilePath;
+        this.certPassword = certPassword;
+        this.insecure = insecure;
+        this.sslContext = sslContext;
+        this.stamp = stamp;
+        this.checkedAt = now;
+    }
+
+    /**
+     * Load the certificate file and build its SSLContext
+     *
+     * @param certFilePath certificate file (.p12) location
+     * @param certPassword certificate password for certificate file (.p12)
+     * @param insecure     whether every server certificate is trusted, for self-signed certificates
+     * @return SslMaterial object
+     * @throws UnirestConfigException error loading the certificate file when not insecure
+     * @throws IllegalStateException  error loading the certificate file when insecure
+     */
+    static SslMaterial load(final String certFilePath, final String certPassword, final boolean insecure) {
+        return load(certFilePath, certPassword, insecure, System.nanoTime());
+    }
+
+    /**
+     * Load the certificate file and build its SSLContext as seen at the given time, see load
+     *
+     * @param certFilePath certificate file (.p12) location
+     * @param certPassword certificate password for certificate file (.p12)
+     * @param insecure     whether every server certificate is trusted, for self-signed certificates
+     * @param now          System.nanoTime value
+     * @return SslMaterial object
+     */
+    static SslMaterial load(final String certFilePath, final String certPassword, final boolean insecure,
+                            final long now) {
+        LOG.debug("loading certificate file {}", certFilePath);
+        final FileStamp stamp = FileStamp.of(certFilePath);
+        try {
+            final KeyStore keyStore = KeyStore.getInstance("PKCS12");
+            try (FileInputStream fileInputStream = open(certFilePath, insecure)) {
+                keyStore.load(fileInputStream, certPassword.toCharArray());
+            }
+
+            final KeyManagerFactory keyManagerFactory =
+                    KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+            keyManagerFactory.init(keyStore, certPassword.toCharArray());
+
+            final SSLContext sslContext = SSLContext.getInstance("TLS");
+            sslContext.init(keyManagerFactory.getKeyManagers(),
+                    insecure ? RestConstant.TRUST_ALL_CERTS : null, new SecureRandom());
+            return new SslMaterial(certFilePath, certPassword, insecure, sslContext, stamp, now);
+        } catch (Exception e) {
+            if (insecure) {
+                throw new IllegalStateException(e);
+            }
+            throw new UnirestConfigException(e);
+        }
+    }
+
+    /**
+     * Open the certificate file, failing as unirest did when loading the client certificate store itself
+     *
+     * @param certFilePath certificate file (.p12) location
+     * @param insecure     whether every server certificate is trusted
+     * @return FileInputStream object
+     * @throws FileNotFoundException certificate file not found when insecure
+     */
+    private static FileInputStream open(final String certFilePath, final boolean insecure)
+            throws FileNotFoundException {
+        try {
+            return new FileInputStream(certFilePath);
+        } catch (FileNotFoundException e) {
+            if (insecure) {
+                throw e;
+            }
+            throw new UnirestConfigException(e);
+        }
+    }
+
+    /**
+     * Retrieve the SSLContext built from the certificate file
+     *
+     * @return SSLContext object
+     */
+    SSLContext getSslContext() {
+        return sslContext;
+    }
+
+    /**
+     * Build the material again when the certificate file changed since this one was built, i.e. its size or
+     * modification time changed. The file is checked at most once every CHECK_INTERVAL. A changed file that
+     * cannot be loaded, e.g. while being replaced, keeps this material in use.
+     *
+     * @return SslMaterial Optional object, the new material when the certificate file changed
+     */
+    Optional<SslMaterial> reload() {
+        return reload(System.nanoTime());
+    }
+
+    /**
+     * Build the material again when the certificate file changed as seen at the given time, see reload
+     *
+     * @param now System.nanoTime value
+     * @return SslMaterial Optional object, the new material when the certificate file changed
+     */
+    Optional<SslMaterial> reload(final long now) {
+        if (!isChanged(now)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(load(certFilePath, certPassword, insecure, now));
+        } catch (RuntimeException e) {
+            LOG.debug("error reloading certificate file {}", certFilePath, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Whether the certificate file changed since this material was built, checked at most once every
+     * CHECK_INTERVAL
+     *
+     * @param now System.nanoTime value
+     * @return boolean true or false
+     */
+    private boolean isChanged(final long now) {
+        if (now - checkedAt < CHECK_INTERVAL) {
+            return false;
+        }
+        checkedAt = now;
+        final FileStamp current = FileStamp.of(certFilePath);
+        // a file missing for a moment while being replaced is not a change
+        return current != null && !current.equals(stamp);
+    }
+
+    /**
+     * Size and modification time of a certificate file
+     */
+    private static final class FileStamp {
+
+        private final long size;
+        private final long lastModified;
+
+        private FileStamp(final long size, final long lastModified) {
+            this.size = size;
+            this.lastModified = lastModified;
+        }
+
+        /**
+         * Read the stamp of the given file
+         *
+         * @param file file location
+         * @return FileStamp object, null when the file cannot be read
+         */
+        private static FileStamp of(final String file) {
+            try {
+                final Path path = Paths.get(file);
+                final BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                return new FileStamp(attributes.size(), attributes.lastModifiedTime().toMillis());
+            } catch (IOException | RuntimeException e) {
+                return null;
+            }
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (!(obj instanceof FileStamp)) {
+                return false;
+            }
+            final FileStamp that = (FileStamp) obj;
+            return size == that.size && lastModified == that.lastModified;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(size, lastModified);
+        }
+
+    }
+
+}
@@ -0,0 +1,101 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.rest;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Response content read directly from the http connection.
+ * <p>
+ * Content is buffered up to the buffer size given when the stream is opened, so memory use does not depend
+ * on the size of the response. The stream holds a transport slot of the connection until it is closed, so it
+ * must always be closed, preferably with try-with-resources. Closing it before the end of the content is
+ * reached discards the remaining content.
+ *
+ * @author Frank Giordano
+ * @version 6.0
+ */
+public final class ZosmfInputStream extends BufferedInputStream {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ZosmfInputStream.class);
+
+    /**
+     * Default buffer size in bytes
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    private final AutoCloseable onClose;
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    /**
+     * ZosmfInputStream constructor
+     *
+     * @param content    content stream of the http response
+     * @param bufferSize buffer size in bytes
+     * @param onClose    resource released once the stream is closed
+     * @author Frank Giordano
+     */
+    ZosmfInputStream(final InputStream content, final int bufferSize, final AutoCloseable onClose) {
+        super(content, bufferSize);
+        this.onClose = onClose;
+    }
+
+    /**
+     * Close the stream, discarding any content not read yet, and release the connection slot it holds
+     *
+     * @throws IOException error closing the underlying stream
+     * @author Frank Giordano
+     */
+    @Override
+    public void close() throws IOException {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            super.close();
+        } finally {
+            try {
+                onClose.close();
+            } catch (Exception e) {
+                LOG.debug("error releasing stream resource", e);
+            }
+        }
+    }
+
+    /**
+     * Abort the transfer. Unlike close, no exception is thrown, and it may be called from another thread to
+     * interrupt a read in progress.
+     *
+     * @author Frank Giordano
+     */
+    public void abort() {
+        try {
+            close();
+        } catch (IOException e) {
+            LOG.debug("error aborting stream", e);
+        }
+    }
+
+    /**
+     * Retrieve whether the stream is closed
+     *
+     * @return boolean true or false
+     */
+    public boolean isClosed() {
+        return closed.get();
+    }
+
+}
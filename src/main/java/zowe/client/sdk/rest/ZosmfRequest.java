@@ -12,26 +12,28 @@ package zowe.client.sdk.rest;
 import kong.unirest.core.Cookie;
 import kong.unirest.core.HttpResponse;
 import kong.unirest.core.JsonNode;
-import kong.unirest.core.Unirest;
+import kong.unirest.core.UnirestInstance;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import zowe.client.sdk.core.ZosConnection;
 import zowe.client.sdk.rest.exception.ZosmfRequestException;
+import zowe.client.sdk.utility.AsyncUtils;
 import zowe.client.sdk.utility.EncodeUtils;
 import zowe.client.sdk.utility.ValidateUtils;
 
-import javax.net.ssl.KeyManagerFactory;
-import javax.net.ssl.SSLContext;
 import java.io.*;
 import java.net.MalformedURLException;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
-import java.security.KeyStore;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 
 /**
  * Base abstract class that conforms to http CRUD operations
@@ -50,6 +52,10 @@ public abstract class ZosmfRequest {
      * X_CSRF_ZOSMF_HEADER_VALUE header info
      */
     public static final String X_CSRF_ZOSMF_HEADER_VALUE = ZosmfHeaders.HEADERS.get(ZosmfHeaders.X_CSRF_ZOSMF_HEADER).get(1);
+    /**
+     * Http status code of a conditional request whose cached content is still valid
+     */
+    public static final int NOT_MODIFIED = 304;
     /**
      * ZosConnection object
      */
@@ -79,24 +85,31 @@ public abstract class ZosmfRequest {
     }
 
     /**
-     * Initialize the unirest http request object based on an authentication type
+     * Initialize the http request object based on an authentication type.
+     * <p>
+     * The transport owned by the connection is created here if not done before, so any error in the
+     * connection settings is reported when the request object is built.
      *
      * @author Frank Giordano
      */
     private void initialize() {
-        Unirest.config().reset();
-        Unirest.config().enableCookieManagement(false);
+        connection.getTransport();
         this.setStandardHeaders();
         this.token = null;
         switch (connection.getAuthType()) {
             case BASIC:
-                setupBasic();
+                if (connection.getSession().isPresent()) {
+                    // the session token is presented by the transport, see ZosmfSession
+                    LOG.debug("token session");
+                } else {
+                    setupBasic();
+                }
                 break;
             case TOKEN:
                 setupToken();
                 break;
             case SSL:
-                setupSsl();
+                LOG.debug("ssl authentication type");
                 break;
             default:
                 throw new IllegalStateException("no authentication type found");
@@ -110,7 +123,6 @@ public abstract class ZosmfRequest {
      */
     private void setupBasic() {
         LOG.debug("basic authentication type");
-        Unirest.config().verifySsl(false);
         headers.put("Authorization", "Basic " + EncodeUtils.encodeAuthComponent(connection));
     }
 
@@ -121,58 +133,17 @@ public abstract class ZosmfRequest {
      */
     private void setupToken() {
         LOG.debug("token authentication type");
-        Unirest.config().verifySsl(false);
         this.token = connection.getToken();
     }
 
     /**
-     * Setup authentication SSL type
-     * <p>
-     * With the following system property set "zowe.sdk.allow.insecure.connection",
-     * insecure type for self-signed certificate processing is enabled.
+     * Retrieve the http transport of the connection used to perform the request
      *
+     * @return ZosmfTransport object
      * @author Frank Giordano
      */
-    private void setupSsl() {
-        LOG.debug("ssl authentication type");
-        boolean inSecure = Boolean.parseBoolean(System.getProperty(RestConstant.INSECURE_PROPERTY_NAME, "false"));
-        if (inSecure) {
-            LOG.debug("insecure enabled");
-            setupSelfSignedCertificate(connection.getCertFilePath(), connection.getCertPassword());
-        } else {
-            Unirest.config().clientCertificateStore(connection.getCertFilePath(), connection.getCertPassword());
-        }
-    }
-
-    /**
-     * Setup authentication SSL type for self-signed certificate
-     *
-     * @param certFilePath certificate file (.p12) location
-     * @param certPassword certificate password for certificate file (.p12)
-     * @author Frank Giordano
-     */
-    private void setupSelfSignedCertificate(final String certFilePath, final String certPassword) {
-        try {
-            System.setProperty("jdk.internal.httpclient.disableHostnameVerification", "true");
-
-            KeyStore keyStore = KeyStore.getInstance("PKCS12");
-            try (FileInputStream fileInputStream = new FileInputStream(certFilePath)) {
-                keyStore.load(fileInputStream, certPassword.toCharArray());
-            } catch (Exception e) {
-                throw new IllegalStateException(e);
-            }
-
-            KeyManagerFactory keyManagerFactory =
-                    KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
-            keyManagerFactory.init(keyStore, certPassword.toCharArray());
-
-            SSLContext sslContext = SSLContext.getInstance("TLS");
-            sslContext.init(keyManagerFactory.getKeyManagers(),
-                    RestConstant.TRUST_ALL_CERTS, new java.security.SecureRandom());
-            Unirest.config().sslContext(sslContext);
-        } catch (Exception e) {
-            throw new IllegalStateException(e);
-        }
+    protected ZosmfTransport getTransport() {
+        return connection.getTransport();
     }
 
     /**
@@ -222,6 +193,9 @@ public abstract class ZosmfRequest {
             response = reply.getCookies() != null ?
                     new Response(stringReply.getBody(), statusCode, statusText, reply.getCookies()) :
                     new Response(stringReply.getBody(), statusCode, statusText);
+        } else if (reply.getBody() instanceof byte[] && isJsonContent()) {
+            // the response phrase is decoded only when retrieved, see Response.getContent
+            response = Response.ofJsonContent((byte[]) reply.getBody(), statusCode, statusText, reply.getCookies());
         } else if (reply.getBody() instanceof byte[]) {
             final HttpResponse<byte[]> byteReply = (HttpResponse<byte[]>) reply;
             response = reply.getCookies() != null ?
@@ -242,6 +216,12 @@ public abstract class ZosmfRequest {
                     new Response(null, statusCode, statusText);
         }
 
+        response.setHeaders(reply.getHeaders());
+
+        if (statusCode == ZosmfSession.UNAUTHORIZED) {
+            connection.getSession().ifPresent(ZosmfSession::invalidate);
+        }
+
         if (!(statusCode >= 100 && statusCode <= 299)) {
             throw new ZosmfRequestException(httpErrorMsg(response, statusCode), response);
         }
@@ -249,6 +229,17 @@ public abstract class ZosmfRequest {
         return response;
     }
 
+    /**
+     * Whether a byte array reply of this request holds JSON content, in which case the built Response keeps
+     * the raw body and decodes its response phrase on first use.
+     *
+     * @return boolean true or false
+     * @author Frank Giordano
+     */
+    protected boolean isJsonContent() {
+        return false;
+    }
+
     /**
      * Return custom http error message
      *
@@ -294,6 +285,84 @@ public abstract class ZosmfRequest {
      */
     public abstract Response executeRequest() throws ZosmfRequestException;
 
+    /**
+     * Perform the conditional request, sent with an If-None-Match header. The 304 Not Modified reply expected
+     * when the content did not change is returned instead of raising an error.
+     *
+     * @return Response object, with status code 304 when the content is not modified
+     * @throws ZosmfRequestException request error state
+     * @author Frank Giordano
+     */
+    public Response executeConditionalRequest() throws ZosmfRequestException {
+        try {
+            return executeRequest();
+        } catch (ZosmfRequestException e) {
+            final Response response = e.getResponse();
+            if (response != null && response.getStatusCode().orElse(0) == NOT_MODIFIED) {
+                return response;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Perform the http rest request asynchronously.
+     * <p>
+     * The url, headers and body are captured when this method is called, so the request object may be
+     * prepared for another call right away. The returned future completes on the given executor, and
+     * completes exceptionally with a CompletionException wrapping a ZosmfRequestException on error.
+     * <p>
+     * This default implementation runs executeRequest on the executor. The request types built by
+     * ZosmfRequestFactory override it to perform non-blocking I/O instead.
+     *
+     * @param executor executor the response is processed on
+     * @return CompletableFuture of the Response object
+     * @author Frank Giordano
+     */
+    public CompletableFuture<Response> executeRequestAsync(final Executor executor) {
+        return AsyncUtils.supplyAsync(this::executeRequest, executor);
+    }
+
+    /**
+     * Perform an asynchronous http call through the transport and build its Response on the given executor
+     *
+     * @param call     function issuing the asynchronous http call with the given unirest instance
+     * @param executor executor the response is processed on
+     * @param <T>      either JsonNode, String or byte[] type
+     * @return CompletableFuture of the Response object
+     * @author Frank Giordano
+     */
+    protected <T> CompletableFuture<Response> executeAsync(
+            final Function<UnirestInstance, CompletableFuture<HttpResponse<T>>> call, final Executor executor) {
+        return executeAsync(call, executor, true);
+    }
+
+    /**
+     * Perform an asynchronous http call through the transport and build its Response on the given executor
+     *
+     * @param call       function issuing the asynchronous http call with the given unirest instance
+     * @param executor   executor the response is processed on
+     * @param repeatable whether the call may be performed again after a 401 rejection of the session token
+     * @param <T>        either JsonNode, String or byte[] type
+     * @return CompletableFuture of the Response object
+     * @author Frank Giordano
+     */
+    protected <T> CompletableFuture<Response> executeAsync(
+            final Function<UnirestInstance, CompletableFuture<HttpResponse<T>>> call, final Executor executor,
+            final boolean repeatable) {
+        ValidateUtils.checkNullParameter(executor, "executor");
+        return getTransport().executeAsync(call, repeatable).handleAsync((HttpResponse<T> reply, Throwable err) -> {
+            if (err != null) {
+                throw new CompletionException(AsyncUtils.toRequestException(err));
+            }
+            try {
+                return buildResponse(reply);
+            } catch (ZosmfRequestException e) {
+                throw new CompletionException(e);
+            }
+        }, executor);
+    }
+
     /**
      * Set the body information for the http request
      *
@@ -0,0 +1,368 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.rest;
+
+import kong.unirest.core.Cookie;
+import kong.unirest.core.Cookies;
+import kong.unirest.core.Empty;
+import kong.unirest.core.Headers;
+import kong.unirest.core.HttpResponse;
+import kong.unirest.core.UnirestException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import zowe.client.sdk.core.AuthType;
+import zowe.client.sdk.core.ZosConnection;
+import zowe.client.sdk.rest.exception.ZosmfRequestException;
+import zowe.client.sdk.utility.AsyncUtils;
+import zowe.client.sdk.utility.EncodeUtils;
+import zowe.client.sdk.utility.ValidateUtils;
+import zowe.client.sdk.zosmfauth.ZosmfAuthConstants;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token session of a ZosConnection with BASIC authentication, see ZosConnection.enableSession.
+ * <p>
+ * The session logs into z/OSMF once with the user and password of the connection, and every request performed
+ * for the connection then presents the returned token instead of the user and password, so z/OSMF does not
+ * authenticate the user against the security product again for each request. The LtpaToken2 cookie is used
+ * when returned, otherwise the jwtToken cookie.
+ * <p>
+ * When a request is rejected with http status 401, the session logs in again and the request is performed
+ * once more. A token whose cookie carries an expiration is renewed shortly before it expires. Concurrent
+ * requests share a single login in progress, so a burst of rejected requests results in one login only.
+ *
+ * @author Frank Giordano
+ * @version 6.0
+ */
+public final class ZosmfSession {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ZosmfSession.class);
+
+    /**
+     * Http status code of a request rejected for its authentication
+     */
+    public static final int UNAUTHORIZED = 401;
+
+    /**
+     * Name of the LTPA token cookie, preferred when returned by the login
+     */
+    public static final String LTPA_TOKEN = "LtpaToken2";
+
+    /**
+     * Name of the JSON web token cookie
+     */
+    public static final String JWT_TOKEN = "jwtToken";
+
+    /**
+     * Time before the expiration of a token when it is renewed
+     */
+    private static final Duration EXPIRATION_MARGIN = Duration.ofSeconds(30);
+    private static final String SET_COOKIE = "Set-Cookie";
+    private static final String MAX_AGE = "Max-Age=";
+
+    private final ZosConnection connection;
+    private final AtomicLong logins = new AtomicLong();
+    private CompletableFuture<Cookie> login;
+    private long expiresAt;
+    private volatile Cookie token;
+
+    /**
+     * ZosmfSession constructor
+     * <p>
+     * Use ZosConnection.enableSession to create the session of a connection.
+     *
+     * @param connection connection with BASIC authentication, see ZosConnection object
+     * @author Frank Giordano
+     */
+    public ZosmfSession(final ZosConnection connection) {
+        ValidateUtils.checkNullParameter(connection, "connection");
+        if (connection.getAuthType() != AuthType.BASIC) {
+            throw new IllegalStateException("BASIC authentication type required for a token session");
+        }
+        this.connection = connection;
+    }
+
+    /**
+     * Retrieve the token of the session, logging in when no valid token is held
+     *
+     * @return Cookie object
+     * @throws ZosmfRequestException login error state
+     * @author Frank Giordano
+     */
+    public Cookie getToken() throws ZosmfRequestException {
+        return AsyncUtils.join(getTokenAsync());
+    }
+
+    /**
+     * Retrieve the token of the session asynchronously, logging in when no valid token is held
+     *
+     * @return CompletableFuture of the Cookie object
+     * @author Frank Giordano
+     */
+    public synchronized CompletableFuture<Cookie> getTokenAsync() {
+        if (login == null || login.isCompletedExceptionally() || (login.isDone() && isExpired())) {
+            login = login();
+        }
+        return login;
+    }
+
+    /**
+     * Renew the given token rejected by z/OSMF. When the token was already renewed by another request, the
+     * current token is returned without logging in again.
+     *
+     * @param rejected token presented by the rejected request, may be null
+     * @return CompletableFuture of the Cookie object
+     * @author Frank Giordano
+     */
+    public synchronized CompletableFuture<Cookie> refreshAsync(final Cookie rejected) {
+        if (login == null || login.isCompletedExceptionally() ||
+                (login.isDone() && isSameToken(login.join(), rejected))) {
+            LOG.debug("renewing rejected session token for {}", connection.getHost());
+            login = login();
+        }
+        return login;
+    }
+
+    /**
+     * Renew the given token rejected by z/OSMF, see refreshAsync
+     *
+     * @param rejected token presented by the rejected request, may be null
+     * @return Cookie object
+     * @throws ZosmfRequestException login error state
+     * @author Frank Giordano
+     */
+    public Cookie refresh(final Cookie rejected) throws ZosmfRequestException {
+        return AsyncUtils.join(refreshAsync(rejected));
+    }
+
+    /**
+     * Drop the current token, the next request logs in again
+     *
+     * @author Frank Giordano
+     */
+    public synchronized void invalidate() {
+        if (login != null && login.isDone()) {
+            login = null;
+            token = null;
+        }
+    }
+
+    /**
+     * Log out of z/OSMF, deleting the current token. The next request logs in again.
+     *
+     * @throws ZosmfRequestException request error state
+     * @author Frank Giordano
+     */
+    public void logout() throws ZosmfRequestException {
+        final Cookie current;
+        synchronized (this) {
+            current = token;
+            login = null;
+            token = null;
+        }
+        if (current == null) {
+            return;
+        }
+        final HttpResponse<Empty> reply;
+        try {
+            reply = connection.getTransport().getClient()
+                    .delete(getAuthUrl())
+                    .header(ZosmfRequest.X_CSRF_ZOSMF_HEADER_KEY, ZosmfRequest.X_CSRF_ZOSMF_HEADER_VALUE)
+                    .cookie(current)
+                    .asEmpty();
+        } catch (UnirestException e) {
+            throw new ZosmfRequestException(e.getMessage(), e);
+        }
+        if (!reply.isSuccess()) {
+            throw new ZosmfRequestException("logout failed, http status error code: " + reply.getStatus());
+        }
+    }
+
+    /**
+     * Retrieve the token currently held, without logging in
+     *
+     * @return Cookie Optional object
+     */
+    public Optional<Cookie> getCurrentToken() {
+        return Optional.ofNullable(token);
+    }
+
+    /**
+     * Retrieve the number of logins performed by the session
+     *
+     * @return login count
+     */
+    public long getLoginCount() {
+        return logins.get();
+    }
+
+    /**
+     * Log into z/OSMF with the user and password of the connection.
+     * <p>
+     * The login is sent with the unirest instance of the transport directly, without taking a transport slot,
+     * so renewing a token never waits on the requests holding all slots while waiting for that token.
+     *
+     * @return CompletableFuture of the Cookie object
+     */
+    private CompletableFuture<Cookie> login() {
+        LOG.debug("logging into {}", connection.getHost());
+        logins.incrementAndGet();
+        final CompletableFuture<HttpResponse<Empty>> reply;
+        try {
+            reply = connection.getTransport().getClient()
+                    .post(getAuthUrl())
+                    .header("Authorization", "Basic " + EncodeUtils.encodeAuthComponent(connection))
+                    .header(ZosmfRequest.X_CSRF_ZOSMF_HEADER_KEY, ZosmfRequest.X_CSRF_ZOSMF_HEADER_VALUE)
+                    .asEmptyAsync();
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(new ZosmfRequestException(e.getMessage(), e));
+        }
+        return reply.thenApply(this::onLogin);
+    }
+
+    /**
+     * Record the token returned by a login
+     *
+     * @param reply login HttpResponse object
+     * @return Cookie object
+     */
+    private Cookie onLogin(final HttpResponse<Empty> reply) {
+        if (!reply.isSuccess()) {
+            throw new CompletionException(new ZosmfRequestException(
+                    "login failed, http status error code: " + reply.getStatus()));
+        }
+        final Cookie cookie = selectToken(reply.getCookies()).orElseThrow(() -> new CompletionException(
+                new ZosmfRequestException("no authentication token returned by login")));
+        synchronized (this) {
+            expiresAt = expirationOf(cookie, maxAgeOf(reply.getHeaders(), cookie));
+            token = cookie;
+        }
+        return cookie;
+    }
+
+    /**
+     * Select the token to present from the login cookies, LtpaToken2 first
+     *
+     * @param cookies Cookies object
+     * @return Cookie Optional object
+     */
+    private static Optional<Cookie> selectToken(final Cookies cookies) {
+        if (cookies == null || cookies.isEmpty()) {
+            return Optional.empty();
+        }
+        final Cookie ltpa = cookies.getNamed(LTPA_TOKEN);
+        if (ltpa != null) {
+            return Optional.of(ltpa);
+        }
+        final Cookie jwt = cookies.getNamed(JWT_TOKEN);
+        return Optional.of(jwt != null ? jwt : cookies.get(0));
+    }
+
+    /**
+     * Compute the System.nanoTime value after which the token is renewed, zero when the cookie has no
+     * expiration
+     *
+     * @param cookie Cookie object
+     * @param maxAge Max-Age attribute of the cookie in seconds, zero when not set
+     * @return long value
+     */
+    private static long expirationOf(final Cookie cookie, final long maxAge) {
+        Duration lifetime = null;
+        if (maxAge > 0) {
+            lifetime = Duration.ofSeconds(maxAge);
+        } else if (cookie.getExpiration() != null) {
+            lifetime = Duration.between(ZonedDateTime.now(), cookie.getExpiration());
+        }
+        if (lifetime == null) {
+            return 0;
+        }
+        final long expiresAt = System.nanoTime() + lifetime.minus(EXPIRATION_MARGIN).toNanos();
+        return expiresAt == 0 ? 1 : expiresAt;
+    }
+
+    /**
+     * Retrieve the Max-Age attribute of a cookie from the raw Set-Cookie headers, as the parsed Cookie does not
+     * tell whether the attribute was set
+     *
+     * @param headers login response Headers object
+     * @param cookie  Cookie object
+     * @return seconds value, zero when not set or not numeric
+     */
+    private static long maxAgeOf(final Headers headers, final Cookie cookie) {
+        for (final String setCookie : headers.get(SET_COOKIE)) {
+            final String[] parts = setCookie.split(";");
+            if (!parts[0].trim().startsWith(cookie.getName() + "=")) {
+                continue;
+            }
+            for (int i = 1; i < parts.length; i++) {
+                final String attribute = parts[i].trim();
+                if (attribute.regionMatches(true, 0, MAX_AGE, 0, MAX_AGE.length())) {
+                    try {
+                        return Long.parseLong(attribute.substring(MAX_AGE.length()).trim());
+                    } catch (NumberFormatException e) {
+                        return 0;
+                    }
+                }
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Whether the current token is about to expire
+     *
+     * @return boolean true or false
+     */
+    private boolean isExpired() {
+        return expiresAt != 0 && System.nanoTime() - expiresAt >= 0;
+    }
+
+    /**
+     * Whether both cookies hold the same token, a null rejected token matches any token
+     *
+     * @param current  Cookie object
+     * @param rejected Cookie object, may be null
+     * @return boolean true or false
+     */
+    private static boolean isSameToken(final Cookie current, final Cookie rejected) {
+        return rejected == null || Objects.equals(current.getValue(), rejected.getValue());
+    }
+
+    /**
+     * Retrieve the z/OSMF authentication service url
+     *
+     * @return url string
+     */
+    private String getAuthUrl() {
+        return connection.getZosmfUrl() + ZosmfAuthConstants.RESOURCE;
+    }
+
+    /**
+     * Return string value representing ZosmfSession object
+     *
+     * @return string representation of ZosmfSession
+     */
+    @Override
+    public String toString() {
+        return "ZosmfSession{" +
+                "host=" + connection.getHost() +
+                ", token=" + (token == null ? "" : "*****") +
+                ", loginCount=" + logins +
+                '}';
+    }
+
+}
@@ -0,0 +1,175 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.rest;
+
+import zowe.client.sdk.utility.ValidateUtils;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Request body read from a stream while it is sent, so the content is never held in memory as a whole.
+ * <p>
+ * The body is sent with chunked transfer encoding. A body created from an InputStream or a ReadableByteChannel
+ * can be sent once, the source is closed when the request completes. A body created from a Path opens the file
+ * each time it is sent.
+ *
+ * @author Frank Giordano
+ * @version 6.0
+ */
+public final class ZosmfStreamBody {
+
+    /**
+     * Source of the content stream
+     */
+    @FunctionalInterface
+    private interface Source {
+
+        InputStream open() throws IOException;
+
+    }
+
+    private final Source source;
+    private final long length;
+    private final ProgressListener listener;
+
+    /**
+     * ZosmfStreamBody constructor
+     *
+     * @param source   source of the content stream
+     * @param length   content length in bytes, -1 when unknown
+     * @param listener progress callback, may be null
+     * @author Frank Giordano
+     */
+    private ZosmfStreamBody(final Source source, final long length, final ProgressListener listener) {
+        this.source = source;
+        this.length = length;
+        this.listener = listener;
+    }
+
+    /**
+     * Create a body read from an InputStream
+     *
+     * @param inputStream content stream
+     * @return ZosmfStreamBody object
+     * @author Frank Giordano
+     */
+    public static ZosmfStreamBody of(final InputStream inputStream) {
+        ValidateUtils.checkNullParameter(inputStream, "inputStream");
+        return new ZosmfStreamBody(() -> inputStream, -1, null);
+    }
+
+    /**
+     * Create a body read from a file through a FileChannel
+     *
+     * @param path file path
+     * @return ZosmfStreamBody object
+     * @throws IOException error reading the file size
+     * @author Frank Giordano
+     */
+    public static ZosmfStreamBody of(final Path path) throws IOException {
+        ValidateUtils.checkNullParameter(path, "path");
+        return new ZosmfStreamBody(() -> Channels.newInputStream(FileChannel.open(path, StandardOpenOption.READ)),
+                Files.size(path), null);
+    }
+
+    /**
+     * Create a body read from a ReadableByteChannel
+     *
+     * @param channel content channel
+     * @return ZosmfStreamBody object
+     * @author Frank Giordano
+     */
+    public static ZosmfStreamBody of(final ReadableByteChannel channel) {
+        ValidateUtils.checkNullParameter(channel, "channel");
+        return new ZosmfStreamBody(() -> Channels.newInputStream(channel), -1, null);
+    }
+
+    /**
+     * Return a copy of this body reporting its upload progress to the given listener
+     *
+     * @param listener progress callback
+     * @return ZosmfStreamBody object
+     * @author Frank Giordano
+     */
+    public ZosmfStreamBody withProgressListener(final ProgressListener listener) {
+        ValidateUtils.checkNullParameter(listener, "listener");
+        return new ZosmfStreamBody(source, length, listener);
+    }
+
+    /**
+     * Retrieve the content length in bytes, -1 when unknown
+     *
+     * @return long value
+     */
+    public long getLength() {
+        return length;
+    }
+
+    /**
+     * Open the content stream to send. Bytes read from it are reported to the progress listener if any.
+     *
+     * @return InputStream object
+     * @throws IOException error opening the source
+     * @author Frank Giordano
+     */
+    public InputStream open() throws IOException {
+        final InputStream content = source.open();
+        return listener == null ? content : new ProgressInputStream(content, length, listener);
+    }
+
+    /**
+     * Stream counting the bytes read from it
+     */
+    private static final class ProgressInputStream extends FilterInputStream {
+
+        private final long length;
+        private final ProgressListener listener;
+        private long transferred;
+
+        private ProgressInputStream(final InputStream in, final long length, final ProgressListener listener) {
+            super(in);
+            this.length = length;
+            this.listener = listener;
+        }
+
+        @Override
+        public int read() throws IOException {
+            final int value = super.read();
+            if (value != -1) {
+                report(1);
+            }
+            return value;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            final int count = super.read(b, off, len);
+            if (count > 0) {
+                report(count);
+            }
+            return count;
+        }
+
+        private void report(final long count) {
+            transferred += count;
+            listener.progress(transferred, length);
+        }
+
+    }
+
+}
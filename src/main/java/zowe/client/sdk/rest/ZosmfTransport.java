@@ -0,0 +1,488 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.rest;
+
+import kong.unirest.core.Config;
+import kong.unirest.core.Cookie;
+import kong.unirest.core.HttpRequest;
+import kong.unirest.core.HttpResponse;
+import kong.unirest.core.Interceptor;
+import kong.unirest.core.UnirestInstance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import zowe.client.sdk.core.ZosConnection;
+import zowe.client.sdk.rest.exception.ZosmfRequestException;
+import zowe.client.sdk.utility.ValidateUtils;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Http transport owned by a ZosConnection.
+ * <p>
+ * Each transport holds its own Unirest instance configured once for the authentication type of the connection.
+ * Every request performed for the connection runs through it, so the keep-alive connection pool and TLS sessions
+ * are reused between requests and are never reset by requests issued for other connections.
+ * <p>
+ * The http protocol version is set by the httpVersion option. With HTTP/2, the default, concurrent requests of
+ * the connection are multiplexed as streams over one TLS connection to the host instead of one socket each.
+ * <p>
+ * The number of requests in flight at once is bounded by the maxRequestsPerRoute option. Blocking calls wait for
+ * a free slot, while asynchronous calls are queued and started as soon as a slot is released, so no thread is
+ * held while they wait.
+ * <p>
+ * Idle pooled connections are closed by the JDK http client itself, after the number of seconds given by the
+ * jdk.httpclient.keepalive.timeout system property (jdk.httpclient.keepalive.timeout.h2 for HTTP/2 on recent
+ * JDKs). Set it under the 30 seconds keep-alive timeout of the Liberty server hosting z/OSMF, e.g.
+ * -Djdk.httpclient.keepalive.timeout=25, so a connection already closed by the server is not reused.
+ * <p>
+ * When the connection has a token session, see ZosConnection.enableSession, the session token is presented
+ * with every request, and a request rejected with http status 401 is performed once more after the session
+ * logged in again.
+ * <p>
+ * With SSL authentication, the client certificate is loaded once by the transport and its SSLContext is used by
+ * every request of the connection. A changed certificate file is picked up before the next request sent while no
+ * other request is in flight.
+ *
+ * @author Frank Giordano
+ * @version 6.0
+ */
+public final class ZosmfTransport implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ZosmfTransport.class);
+    private final ZosConnection connection;
+    private final ZosmfTransportOptions options;
+    private volatile UnirestInstance client;
+    private final Semaphore permits;
+    private final Queue<Runnable> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile SslMaterial sslMaterial;
+
+    /**
+     * ZosmfTransport constructor
+     *
+     * @param connection for connection information, see ZosConnection object
+     * @param options    transport settings, see ZosmfTransportOptions object
+     * @author Frank Giordano
+     */
+    public ZosmfTransport(final ZosConnection connection, final ZosmfTransportOptions options) {
+        ValidateUtils.checkNullParameter(connection, "connection");
+        ValidateUtils.checkNullParameter(options, "options");
+        this.connection = connection;
+        this.options = options;
+        this.permits = options.getMaxRequestsPerRoute() > 0 ?
+                new Semaphore(options.getMaxRequestsPerRoute(), true) : null;
+        this.client = createClient();
+    }
+
+    /**
+     * Create the unirest instance of this transport
+     *
+     * @return UnirestInstance object
+     * @author Frank Giordano
+     */
+    private UnirestInstance createClient() {
+        final UnirestInstance instance = new UnirestInstance(new Config());
+        configure(instance.config());
+        return instance;
+    }
+
+    /**
+     * Configure the unirest instance based on the connection authentication type
+     *
+     * @param config Unirest Config object of this transport
+     * @author Frank Giordano
+     */
+    private void configure(final Config config) {
+        config.enableCookieManagement(false);
+        config.connectTimeout(options.getConnectTimeout());
+        config.version(options.getHttpVersion());
+        options.getRequestTimeout().ifPresent(config::requestTimeout);
+        switch (connection.getAuthType()) {
+            case BASIC:
+                LOG.debug("basic authentication type");
+                config.verifySsl(false);
+                config.interceptor(new SessionInterceptor());
+                break;
+            case TOKEN:
+                LOG.debug("token authentication type");
+                config.verifySsl(false);
+                break;
+            case SSL:
+                setupSsl(config);
+                break;
+            default:
+                throw new IllegalStateException("no authentication type found");
+        }
+    }
+
+    /**
+     * Setup authentication SSL type
+     * <p>
+     * With the following system property set "zowe.sdk.allow.insecure.connection",
+     * insecure type for self-signed certificate processing is enabled.
+     * <p>
+     * The certificate file is loaded once, the SSLContext built from it is held by this transport.
+     *
+     * @param config Unirest Config object of this transport
+     * @author Frank Giordano
+     */
+    private void setupSsl(final Config config) {
+        LOG.debug("ssl authentication type");
+        boolean inSecure = Boolean.parseBoolean(System.getProperty(RestConstant.INSECURE_PROPERTY_NAME, "false"));
+        if (inSecure) {
+            LOG.debug("insecure enabled");
+            System.setProperty("jdk.internal.httpclient.disableHostnameVerification", "true");
+        }
+        if (sslMaterial == null) {
+            sslMaterial = SslMaterial.load(connection.getCertFilePath(), connection.getCertPassword(), inSecure);
+        }
+        config.sslContext(sslMaterial.getSslContext());
+    }
+
+    /**
+     * Switch to the SSLContext rebuilt from a changed certificate file, called only while no call of this
+     * transport is in flight. A new unirest instance is created with the new SSLContext. The previous one is
+     * dropped rather than closed, as a call starting at the same time may still use it: Unirest has nothing to
+     * close its JDK http client, which releases its selector thread and pooled connections once unreachable.
+     *
+     * @author Frank Giordano
+     */
+    private void reloadSsl() {
+        final SslMaterial current = sslMaterial;
+        if (current == null) {
+            return;
+        }
+        current.reload().ifPresent(material -> {
+            LOG.debug("certificate file changed for {}", connection.getHost());
+            sslMaterial = material;
+            client = createClient();
+        });
+    }
+
+    /**
+     * Perform an http call with the unirest instance of this transport.
+     * <p>
+     * The caller waits for a free slot when maxRequestsPerRoute requests are already in flight.
+     *
+     * @param call function issuing the http call with the given unirest instance
+     * @param <T>  either JsonNode, String or byte[] type
+     * @return HttpResponse object
+     * @throws ZosmfRequestException interrupted while waiting for a free slot or session login error
+     * @author Frank Giordano
+     */
+    public <T> HttpResponse<T> execute(final Function<UnirestInstance, HttpResponse<T>> call)
+            throws ZosmfRequestException {
+        return execute(call, true);
+    }
+
+    /**
+     * Perform an http call with the unirest instance of this transport.
+     * <p>
+     * A call whose body can be sent only once, such as a stream body, is not repeatable and is never performed
+     * again after a 401 rejection.
+     *
+     * @param call       function issuing the http call with the given unirest instance
+     * @param repeatable whether the call may be performed again after a 401 rejection of the session token
+     * @param <T>        either JsonNode, String or byte[] type
+     * @return HttpResponse object
+     * @throws ZosmfRequestException interrupted while waiting for a free slot or session login error
+     * @author Frank Giordano
+     */
+    <T> HttpResponse<T> execute(final Function<UnirestInstance, HttpResponse<T>> call, final boolean repeatable)
+            throws ZosmfRequestException {
+        final ZosmfSession session = connection.getSession().orElse(null);
+        final Cookie used = session != null ? session.getToken() : null;
+        final HttpResponse<T> reply = perform(call);
+        if (session != null && repeatable && reply.getStatus() == ZosmfSession.UNAUTHORIZED) {
+            session.refresh(used);
+            return perform(call);
+        }
+        return reply;
+    }
+
+    /**
+     * Perform an http call on a free slot
+     *
+     * @param call function issuing the http call with the given unirest instance
+     * @param <T>  either JsonNode, String or byte[] type
+     * @return HttpResponse object
+     * @throws ZosmfRequestException interrupted while waiting for a free slot
+     * @author Frank Giordano
+     */
+    private <T> HttpResponse<T> perform(final Function<UnirestInstance, HttpResponse<T>> call)
+            throws ZosmfRequestException {
+        acquire();
+        try {
+            return call.apply(client);
+        } finally {
+            release();
+        }
+    }
+
+    /**
+     * Reserve a slot of this transport for a call whose response outlives the method issuing it, such as a
+     * streamed response body. The slot stays reserved until the returned Lease is closed.
+     * <p>
+     * A call performed with a lease is not repeated after a 401 rejection of the session token.
+     *
+     * @return Lease object
+     * @throws ZosmfRequestException interrupted while waiting for a free slot or session login error
+     * @author Frank Giordano
+     */
+    public Lease lease() throws ZosmfRequestException {
+        final ZosmfSession session = connection.getSession().orElse(null);
+        if (session != null) {
+            session.getToken();
+        }
+        acquire();
+        return new Lease();
+    }
+
+    /**
+     * Perform an asynchronous http call with the unirest instance of this transport.
+     * <p>
+     * When maxRequestsPerRoute requests are already in flight, the call is queued and started without
+     * blocking the caller as soon as a slot is released.
+     *
+     * @param call function issuing the asynchronous http call with the given unirest instance
+     * @param <T>  either JsonNode, String or byte[] type
+     * @return CompletableFuture of the HttpResponse object
+     * @author Frank Giordano
+     */
+    public <T> CompletableFuture<HttpResponse<T>> executeAsync(
+            final Function<UnirestInstance, CompletableFuture<HttpResponse<T>>> call) {
+        return executeAsync(call, true);
+    }
+
+    /**
+     * Perform an asynchronous http call with the unirest instance of this transport, see execute for repeatable
+     *
+     * @param call       function issuing the asynchronous http call with the given unirest instance
+     * @param repeatable whether the call may be performed again after a 401 rejection of the session token
+     * @param <T>        either JsonNode, String or byte[] type
+     * @return CompletableFuture of the HttpResponse object
+     * @author Frank Giordano
+     */
+    <T> CompletableFuture<HttpResponse<T>> executeAsync(
+            final Function<UnirestInstance, CompletableFuture<HttpResponse<T>>> call, final boolean repeatable) {
+        final ZosmfSession session = connection.getSession().orElse(null);
+        if (session == null) {
+            return performAsync(call);
+        }
+        return session.getTokenAsync().thenCompose(used -> performAsync(call).thenCompose(reply -> {
+            if (repeatable && reply.getStatus() == ZosmfSession.UNAUTHORIZED) {
+                return session.refreshAsync(used).thenCompose(token -> performAsync(call));
+            }
+            return CompletableFuture.completedFuture(reply);
+        }));
+    }
+
+    /**
+     * Perform an asynchronous http call on a free slot, queuing it until a slot is released
+     *
+     * @param call function issuing the asynchronous http call with the given unirest instance
+     * @param <T>  either JsonNode, String or byte[] type
+     * @return CompletableFuture of the HttpResponse object
+     * @author Frank Giordano
+     */
+    private <T> CompletableFuture<HttpResponse<T>> performAsync(
+            final Function<UnirestInstance, CompletableFuture<HttpResponse<T>>> call) {
+        final CompletableFuture<HttpResponse<T>> result = new CompletableFuture<>();
+        final Runnable task = () -> {
+            start();
+            CompletableFuture<HttpResponse<T>> reply;
+            try {
+                reply = call.apply(client);
+            } catch (RuntimeException e) {
+                reply = CompletableFuture.failedFuture(e);
+            }
+            reply.whenComplete((response, err) -> {
+                release();
+                if (err != null) {
+                    result.completeExceptionally(err);
+                } else {
+                    result.complete(response);
+                }
+            });
+        };
+        if (permits == null) {
+            task.run();
+        } else {
+            pending.add(task);
+            drainPending();
+        }
+        return result;
+    }
+
+    /**
+     * Start queued asynchronous calls while slots are free
+     *
+     * @author Frank Giordano
+     */
+    private void drainPending() {
+        while (!pending.isEmpty() && permits.tryAcquire()) {
+            final Runnable next = pending.poll();
+            if (next == null) {
+                permits.release();
+            } else {
+                next.run();
+            }
+        }
+    }
+
+    /**
+     * Reserve a slot for a request
+     *
+     * @throws ZosmfRequestException interrupted while waiting for a free slot
+     * @author Frank Giordano
+     */
+    private void acquire() throws ZosmfRequestException {
+        if (permits != null) {
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ZosmfRequestException("interrupted waiting for a free connection", e);
+            }
+        }
+        start();
+    }
+
+    /**
+     * Account for a request starting on a reserved slot
+     *
+     * @author Frank Giordano
+     */
+    private void start() {
+        if (inFlight.getAndIncrement() == 0) {
+            reloadSsl();
+        }
+    }
+
+    /**
+     * Release a slot reserved by acquire
+     *
+     * @author Frank Giordano
+     */
+    private void release() {
+        inFlight.decrementAndGet();
+        if (permits != null) {
+            permits.release();
+            drainPending();
+        }
+    }
+
+    /**
+     * Retrieve the unirest instance of this transport, for calls performed without taking a slot
+     * <p>
+     * This method is package-private
+     *
+     * @return UnirestInstance object
+     */
+    UnirestInstance getClient() {
+        return client;
+    }
+
+    /**
+     * Retrieve the options this transport is configured with
+     *
+     * @return ZosmfTransportOptions object
+     */
+    public ZosmfTransportOptions getOptions() {
+        return options;
+    }
+
+    /**
+     * Retrieve the number of asynchronous requests waiting for a free slot
+     *
+     * @return int value
+     */
+    public int getPending() {
+        return pending.size();
+    }
+
+    /**
+     * Retrieve the number of requests currently in flight
+     *
+     * @return int value
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * Interceptor presenting the token of the connection session with each request that carries no
+     * Authorization header of its own
+     */
+    private final class SessionInterceptor implements Interceptor {
+
+        @Override
+        public void onRequest(final HttpRequest<?> request, final Config config) {
+            if (request.getHeaders().containsKey("Authorization")) {
+                return;
+            }
+            connection.getSession().flatMap(ZosmfSession::getCurrentToken).ifPresent(request::cookie);
+        }
+
+    }
+
+    /**
+     * Slot of the transport reserved by lease
+     */
+    public final class Lease implements AutoCloseable {
+
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        /**
+         * Lease constructor
+         */
+        private Lease() {
+        }
+
+        /**
+         * Retrieve the unirest instance to perform the http call with
+         *
+         * @return UnirestInstance object
+         */
+        public UnirestInstance getClient() {
+            return client;
+        }
+
+        /**
+         * Release the slot, only the first call has an effect
+         */
+        @Override
+        public void close() {
+            if (released.compareAndSet(false, true)) {
+                release();
+            }
+        }
+
+    }
+
+    /**
+     * Close the transport and drop its SSL material. Unirest has nothing to close the underlying JDK http client,
+     * which releases its selector thread and pooled connections once the transport is unreachable.
+     *
+     * @author Frank Giordano
+     */
+    @Override
+    public void close() {
+        client.close();
+        sslMaterial = null;
+    }
+
+}
@@ -0,0 +1,228 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.rest;
+
+import java.net.http.HttpClient;
+import java.util.OptionalInt;
+
+/**
+ * Parameter container class for the http transport owned by a ZosConnection
+ *
+ * @author Frank Giordano
+ * @version 6.0
+ */
+public class ZosmfTransportOptions {
+
+    /**
+     * Default maximum number of requests in flight at once for a connection
+     */
+    public static final int DEFAULT_MAX_REQUESTS_PER_ROUTE = 20;
+
+    /**
+     * Default connection timeout in milliseconds
+     */
+    public static final int DEFAULT_CONNECT_TIMEOUT = 10000;
+
+    /**
+     * Default http protocol version. With HTTP/2, negotiated through ALPN over TLS, concurrent requests of a
+     * connection are multiplexed over a single socket; the client falls back to HTTP/1.1 when the server
+     * does not support it.
+     */
+    public static final HttpClient.Version DEFAULT_HTTP_VERSION = HttpClient.Version.HTTP_2;
+
+    /**
+     * Default transport options
+     */
+    public static final ZosmfTransportOptions DEFAULT = new ZosmfTransportOptions.Builder().build();
+
+    /**
+     * Maximum number of requests in flight at once for a connection, zero means no limit
+     */
+    private final int maxRequestsPerRoute;
+
+    /**
+     * Connection timeout in milliseconds
+     */
+    private final int connectTimeout;
+
+    /**
+     * Request timeout in milliseconds
+     */
+    private final Integer requestTimeout;
+
+    /**
+     * Http protocol version requested
+     */
+    private final HttpClient.Version httpVersion;
+
+    /**
+     * ZosmfTransportOptions constructor
+     *
+     * @param builder ZosmfTransportOptions.Builder object
+     * @author Frank Giordano
+     */
+    private ZosmfTransportOptions(final ZosmfTransportOptions.Builder builder) {
+        this.maxRequestsPerRoute = builder.maxRequestsPerRoute;
+        this.connectTimeout = builder.connectTimeout;
+        this.requestTimeout = builder.requestTimeout;
+        this.httpVersion = builder.httpVersion;
+    }
+
+    /**
+     * Retrieve maxRequestsPerRoute value
+     *
+     * @return maxRequestsPerRoute value
+     */
+    public int getMaxRequestsPerRoute() {
+        return maxRequestsPerRoute;
+    }
+
+    /**
+     * Retrieve connectTimeout value
+     *
+     * @return connectTimeout value
+     */
+    public int getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    /**
+     * Retrieve requestTimeout value
+     *
+     * @return requestTimeout value
+     */
+    public OptionalInt getRequestTimeout() {
+        return (requestTimeout == null) ? OptionalInt.empty() : OptionalInt.of(requestTimeout);
+    }
+
+    /**
+     * Retrieve httpVersion value
+     *
+     * @return httpVersion value
+     */
+    public HttpClient.Version getHttpVersion() {
+        return httpVersion;
+    }
+
+    /**
+     * Return string value representing ZosmfTransportOptions object
+     *
+     * @return string representation of ZosmfTransportOptions
+     */
+    @Override
+    public String toString() {
+        return "ZosmfTransportOptions{" +
+                "maxRequestsPerRoute=" + maxRequestsPerRoute +
+                ", connectTimeout=" + connectTimeout +
+                ", requestTimeout=" + requestTimeout +
+                ", httpVersion=" + httpVersion +
+                '}';
+    }
+
+    /**
+     * Builder class for ZosmfTransportOptions
+     */
+    public static class Builder {
+
+        /**
+         * Maximum number of requests in flight at once for a connection, zero means no limit
+         */
+        private int maxRequestsPerRoute = DEFAULT_MAX_REQUESTS_PER_ROUTE;
+
+        /**
+         * Connection timeout in milliseconds
+         */
+        private int connectTimeout = DEFAULT_CONNECT_TIMEOUT;
+
+        /**
+         * Request timeout in milliseconds
+         */
+        private Integer requestTimeout;
+
+        /**
+         * Http protocol version requested
+         */
+        private HttpClient.Version httpVersion = DEFAULT_HTTP_VERSION;
+
+        /**
+         * Builder constructor
+         */
+        public Builder() {
+        }
+
+        /**
+         * Set maxRequestsPerRoute int value
+         *
+         * @param maxRequestsPerRoute int value, zero means no limit
+         * @return Builder this object
+         */
+        public Builder maxRequestsPerRoute(final int maxRequestsPerRoute) {
+            if (maxRequestsPerRoute < 0) {
+                throw new IllegalArgumentException("maxRequestsPerRoute must not be negative");
+            }
+            this.maxRequestsPerRoute = maxRequestsPerRoute;
+            return this;
+        }
+
+        /**
+         * Set connectTimeout int value
+         *
+         * @param connectTimeout int value in milliseconds
+         * @return Builder this object
+         */
+        public Builder connectTimeout(final int connectTimeout) {
+            if (connectTimeout <= 0) {
+                throw new IllegalArgumentException("connectTimeout must be positive");
+            }
+            this.connectTimeout = connectTimeout;
+            return this;
+        }
+
+        /**
+         * Set requestTimeout int value
+         *
+         * @param requestTimeout int value in milliseconds
+         * @return Builder this object
+         */
+        public Builder requestTimeout(final int requestTimeout) {
+            if (requestTimeout <= 0) {
+                throw new IllegalArgumentException("requestTimeout must be positive");
+            }
+            this.requestTimeout = requestTimeout;
+            return this;
+        }
+
+        /**
+         * Set httpVersion HttpClient.Version value. HTTP_1_1 forces one request per socket, for servers or
+         * proxies mishandling HTTP/2.
+         *
+         * @param httpVersion HttpClient.Version value
+         * @return Builder this object
+         */
+        public Builder httpVersion(final HttpClient.Version httpVersion) {
+            if (httpVersion == null) {
+                throw new IllegalArgumentException("httpVersion must be specified");
+            }
+            this.httpVersion = httpVersion;
+            return this;
+        }
+
+        /**
+         * Return ZosmfTransportOptions object based on Builder this object
+         *
+         * @return ZosmfTransportOptions this object
+         */
+        public ZosmfTransportOptions build() {
+            return new ZosmfTransportOptions(this);
+        }
+
+    }
+
+}
@@ -0,0 +1,449 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.rest.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import zowe.client.sdk.rest.Response;
+import zowe.client.sdk.rest.ZosmfHeaders;
+import zowe.client.sdk.rest.ZosmfRequest;
+import zowe.client.sdk.rest.exception.ZosmfRequestException;
+import zowe.client.sdk.utility.ValidateUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache of file content retrieved through conditional requests.
+ * <p>
+ * The content of a reply carrying an ETag header is kept together with its ETag. The next request for the
+ * same url and headers is sent with an If-None-Match header, and when z/OSMF replies 304 Not Modified the
+ * content is served from the cache instead of being transferred again. The returned Response then holds
+ * the cached content with the 304 status code.
+ * <p>
+ * The cache is bounded by the total size of the content it holds, and the least recently used entries are
+ * evicted first. A cache instance may be shared by several threads and connections; z/OSMF still checks
+ * the authorization of every request, the cache only saves the transfer of the content. The storage is
+ * read and written without holding the cache lock, each stored content is kept under a key of its own.
+ *
+ * @author Frank Giordano
+ * @version 6.0
+ */
+public final class ContentCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ContentCache.class);
+
+    /**
+     * Default maximum total size in bytes of the cached content
+     */
+    public static final long DEFAULT_MAX_SIZE = 64L * 1024 * 1024;
+
+    private static final String ETAG = "ETag";
+    private static final String IF_NONE_MATCH = ZosmfHeaders.HEADERS.get(ZosmfHeaders.IF_NONE_MATCH).get(0);
+    private static final String AUTHORIZATION = "Authorization";
+
+    private final long maxSize;
+    private final ContentCacheStorage storage;
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong contentVersions = new AtomicLong();
+    private long size;
+
+    /**
+     * ContentCache constructor
+     *
+     * @param builder ContentCache.Builder object
+     * @author Frank Giordano
+     */
+    private ContentCache(final ContentCache.Builder builder) {
+        this.maxSize = builder.maxSize;
+        this.storage = builder.storage != null ? builder.storage : new HeapContentCacheStorage();
+    }
+
+    /**
+     * Perform the given prepared request, conditionally when its content is cached
+     *
+     * @param request ZosmfRequest object with its url and headers set
+     * @return Response object, holding the cached content with status code 304 on a cache hit
+     * @throws ZosmfRequestException request error state
+     * @author Frank Giordano
+     */
+    public Response execute(final ZosmfRequest request) throws ZosmfRequestException {
+        ValidateUtils.checkNullParameter(request, "request");
+        final String key = keyOf(request);
+        final Entry entry = entryOf(key);
+
+        final Response response;
+        if (entry != null) {
+            request.getHeaders().put(IF_NONE_MATCH, entry.etag);
+            try {
+                response = request.executeConditionalRequest();
+            } finally {
+                request.getHeaders().remove(IF_NONE_MATCH);
+            }
+        } else {
+            response = request.executeRequest();
+        }
+
+        if (response.getStatusCode().orElse(0) == ZosmfRequest.NOT_MODIFIED) {
+            final Optional<Response> cached = cachedResponse(key, entry, response);
+            if (cached.isPresent()) {
+                hits.incrementAndGet();
+                return cached.get();
+            }
+            // the entry was evicted or its content lost meanwhile, retrieve the content again
+            LOG.debug("cached content missing for {}", request.getUrl());
+            misses.incrementAndGet();
+            final Response reply = request.executeRequest();
+            store(key, reply);
+            return reply;
+        }
+
+        misses.incrementAndGet();
+        store(key, response);
+        return response;
+    }
+
+    /**
+     * Build the cache key of a request from its url and headers. The authorization and conditional headers
+     * are left out, as they do not change the content returned.
+     *
+     * @param request ZosmfRequest object
+     * @return key string
+     */
+    private static String keyOf(final ZosmfRequest request) {
+        final Map<String, String> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        headers.putAll(request.getHeaders());
+        headers.remove(AUTHORIZATION);
+        headers.remove(IF_NONE_MATCH);
+        return request.getUrl() + " " + headers;
+    }
+
+    /**
+     * Retrieve the cached entry of the given key
+     *
+     * @param key cache key
+     * @return Entry object, null when not cached
+     */
+    private synchronized Entry entryOf(final String key) {
+        return entries.get(key);
+    }
+
+    /**
+     * Build the Response serving the cached content of the given entry. The content is read without holding
+     * the cache lock; the content of an entry never changes, a replaced entry gets content of its own.
+     *
+     * @param key      cache key
+     * @param entry    entry whose ETag the request was sent with
+     * @param response not modified Response object
+     * @return Response object, empty when the content is no longer cached
+     */
+    private Optional<Response> cachedResponse(final String key, final Entry entry, final Response response) {
+        Optional<byte[]> content;
+        try {
+            content = storage.read(entry.contentKey);
+        } catch (IOException e) {
+            LOG.debug("error reading cached content", e);
+            content = Optional.empty();
+        }
+        if (content.isEmpty()) {
+            final boolean removed;
+            synchronized (this) {
+                removed = detach(key, entry);
+            }
+            if (removed) {
+                deleteContent(entry);
+            }
+            return Optional.empty();
+        }
+        final Object phrase = entry.text ? new String(content.get(), StandardCharsets.UTF_8) : content.get();
+        final int statusCode = response.getStatusCode().orElse(ZosmfRequest.NOT_MODIFIED);
+        final String statusText = response.getStatusText().orElse("Not Modified");
+        return Optional.of(response.getTokens() != null ?
+                new Response(phrase, statusCode, statusText, response.getTokens()) :
+                new Response(phrase, statusCode, statusText));
+    }
+
+    /**
+     * Store the content of the given response when it carries an ETag, otherwise drop any stale entry. The
+     * content is written and the replaced or evicted content deleted without holding the cache lock.
+     *
+     * @param key      cache key
+     * @param response Response object
+     */
+    private void store(final String key, final Response response) {
+        final Optional<String> etag = response.getHeader(ETAG);
+        final Object phrase = response.getResponsePhrase().orElse(null);
+        final byte[] content;
+        final boolean text;
+        if (phrase instanceof byte[]) {
+            content = (byte[]) phrase;
+            text = false;
+        } else if (phrase instanceof String) {
+            content = ((String) phrase).getBytes(StandardCharsets.UTF_8);
+            text = true;
+        } else {
+            content = null;
+            text = false;
+        }
+
+        final List<Entry> discarded = new ArrayList<>();
+        if (etag.isPresent() && content != null && content.length <= maxSize) {
+            final Entry entry = new Entry(etag.get(), key + " " + contentVersions.incrementAndGet(),
+                    content.length, text);
+            try {
+                storage.write(entry.contentKey, content);
+                synchronized (this) {
+                    discard(key, discarded);
+                    entries.put(key, entry);
+                    size += entry.size;
+                    final Iterator<Map.Entry<String, Entry>> eldest = entries.entrySet().iterator();
+                    while (size > maxSize && eldest.hasNext()) {
+                        final Entry evicted = eldest.next().getValue();
+                        eldest.remove();
+                        size -= evicted.size;
+                        evictions.incrementAndGet();
+                        discarded.add(evicted);
+                    }
+                }
+            } catch (IOException e) {
+                LOG.debug("error writing cached content", e);
+                synchronized (this) {
+                    discard(key, discarded);
+                }
+            }
+        } else {
+            synchronized (this) {
+                discard(key, discarded);
+            }
+        }
+        discarded.forEach(this::deleteContent);
+    }
+
+    /**
+     * Remove the entry of the given key, adding it to the entries whose content is to be deleted. The cache
+     * lock must be held.
+     *
+     * @param key       cache key
+     * @param discarded entries whose content is to be deleted
+     */
+    private void discard(final String key, final List<Entry> discarded) {
+        final Entry entry = entries.remove(key);
+        if (entry != null) {
+            size -= entry.size;
+            discarded.add(entry);
+        }
+    }
+
+    /**
+     * Remove the given entry of a key, unless it was replaced meanwhile. The cache lock must be held.
+     *
+     * @param key   cache key
+     * @param entry Entry object
+     * @return boolean true when the entry was removed
+     */
+    private boolean detach(final String key, final Entry entry) {
+        if (entries.remove(key, entry)) {
+            size -= entry.size;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Delete the stored content of the given entry
+     *
+     * @param entry Entry object
+     */
+    private void deleteContent(final Entry entry) {
+        try {
+            storage.delete(entry.contentKey);
+        } catch (IOException e) {
+            LOG.debug("error deleting cached content", e);
+        }
+    }
+
+    /**
+     * Remove all entries and their content
+     *
+     * @author Frank Giordano
+     */
+    public void clear() {
+        synchronized (this) {
+            entries.clear();
+            size = 0;
+        }
+        try {
+            storage.clear();
+        } catch (IOException e) {
+            LOG.debug("error clearing cached content", e);
+        }
+    }
+
+    /**
+     * Retrieve the number of requests served from the cache
+     *
+     * @return hit count
+     */
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    /**
+     * Retrieve the number of requests whose content was transferred
+     *
+     * @return miss count
+     */
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    /**
+     * Retrieve the number of entries evicted to keep the cache within its maximum size
+     *
+     * @return eviction count
+     */
+    public long getEvictionCount() {
+        return evictions.get();
+    }
+
+    /**
+     * Retrieve the total size in bytes of the cached content
+     *
+     * @return size value
+     */
+    public synchronized long getSize() {
+        return size;
+    }
+
+    /**
+     * Retrieve the number of cached entries
+     *
+     * @return entry count
+     */
+    public synchronized int getEntryCount() {
+        return entries.size();
+    }
+
+    /**
+     * Retrieve the maximum total size in bytes of the cached content
+     *
+     * @return maxSize value
+     */
+    public long getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Return string value representing ContentCache object
+     *
+     * @return string representation of ContentCache
+     */
+    @Override
+    public String toString() {
+        return "ContentCache{" +
+                "maxSize=" + maxSize +
+                ", storage=" + storage.getClass().getSimpleName() +
+                ", size=" + getSize() +
+                ", entryCount=" + getEntryCount() +
+                ", hits=" + hits +
+                ", misses=" + misses +
+                ", evictions=" + evictions +
+                '}';
+    }
+
+    /**
+     * Cached entry information, the content itself is held by the storage
+     */
+    private static final class Entry {
+
+        private final String etag;
+        private final String contentKey;
+        private final long size;
+        private final boolean text;
+
+        private Entry(final String etag, final String contentKey, final long size, final boolean text) {
+            this.etag = etag;
+            this.contentKey = contentKey;
+            this.size = size;
+            this.text = text;
+        }
+
+    }
+
+    /**
+     * Builder class for ContentCache
+     */
+    public static class Builder {
+
+        /**
+         * Maximum total size in bytes of the cached content
+         */
+        private long maxSize = DEFAULT_MAX_SIZE;
+
+        /**
+         * Storage of the cached content, heap storage when not set
+         */
+        private ContentCacheStorage storage;
+
+        /**
+         * Builder constructor
+         */
+        public Builder() {
+        }
+
+        /**
+         * Set maxSize long value
+         *
+         * @param maxSize maximum total size in bytes of the cached content
+         * @return Builder this object
+         */
+        public Builder maxSize(final long maxSize) {
+            if (maxSize <= 0) {
+                throw new IllegalArgumentException("maxSize must be greater than zero");
+            }
+            this.maxSize = maxSize;
+            return this;
+        }
+
+        /**
+         * Set storage object, see HeapContentCacheStorage, OffHeapContentCacheStorage and DiskContentCacheStorage
+         *
+         * @param storage ContentCacheStorage object
+         * @return Builder this object
+         */
+        public Builder storage(final ContentCacheStorage storage) {
+            ValidateUtils.checkNullParameter(storage, "storage");
+            this.storage = storage;
+            return this;
+        }
+
+        /**
+         * Return ContentCache object based on Builder variables
+         *
+         * @return ContentCache object
+         */
+        public ContentCache build() {
+            return new ContentCache(this);
+        }
+
+    }
+
+}
@@ -0,0 +1,60 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.rest.cache;
+
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * Storage of the content held by a ContentCache.
+ * <p>
+ * The cache keeps track of the entries, their size and eviction order. It calls the storage without holding
+ * its lock, so implementations must be thread-safe; the content of a key is written once, before it is read,
+ * and is not written again.
+ *
+ * @author Frank Giordano
+ * @version 6.0
+ */
+public interface ContentCacheStorage {
+
+    /**
+     * Store the content of an entry, replacing any previous content
+     *
+     * @param key     entry key
+     * @param content content bytes
+     * @throws IOException error storing the content
+     */
+    void write(String key, byte[] content) throws IOException;
+
+    /**
+     * Read the content of an entry
+     *
+     * @param key entry key
+     * @return content bytes, empty when not stored
+     * @throws IOException error reading the content
+     */
+    Optional<byte[]> read(String key) throws IOException;
+
+    /**
+     * Remove the content of an entry
+     *
+     * @param key entry key
+     * @throws IOException error removing the content
+     */
+    void delete(String key) throws IOException;
+
+    /**
+     * Remove the content of all entries
+     *
+     * @throws IOException error removing the content
+     */
+    void clear() throws IOException;
+
+}
@@ -0,0 +1,146 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.rest.cache;
+
+import zowe.client.sdk.utility.ValidateUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Content cache storage keeping the content in files of a local directory, one file per entry named after
+ * a SHA-256 digest of the entry key.
+ * <p>
+ * The storage only lasts as long as the process: the ETag of the content is held by the cache in memory, so
+ * files left in the directory by a previous run cannot be reused. The constructor removes them.
+ *
+ * @author Frank Giordano
+ * @version 6.0
+ */
+public class DiskContentCacheStorage implements ContentCacheStorage {
+
+    private static final String FILE_SUFFIX = ".cache";
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private final Path directory;
+
+    /**
+     * DiskContentCacheStorage constructor, the directory is created when it does not exist and the files
+     * left by a previous run are removed
+     *
+     * @param directory directory holding the cache files
+     * @throws IOException error creating the directory or removing the files
+     * @author Frank Giordano
+     */
+    public DiskContentCacheStorage(final Path directory) throws IOException {
+        ValidateUtils.checkNullParameter(directory, "directory");
+        this.directory = Files.createDirectories(directory);
+        deleteFiles(true);
+    }
+
+    /**
+     * Store the content of an entry. The content is written to a temporary file first, so a failed write
+     * never leaves a partial entry.
+     *
+     * @param key     entry key
+     * @param content content bytes
+     * @throws IOException error writing the file
+     */
+    @Override
+    public void write(final String key, final byte[] content) throws IOException {
+        final Path target = fileOf(key);
+        final Path temp = Files.createTempFile(directory, null, TEMP_SUFFIX);
+        try {
+            Files.write(temp, content);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Read the content of an entry
+     *
+     * @param key entry key
+     * @return content bytes, empty when the file does not exist
+     * @throws IOException error reading the file
+     */
+    @Override
+    public Optional<byte[]> read(final String key) throws IOException {
+        try {
+            return Optional.of(Files.readAllBytes(fileOf(key)));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Remove the content of an entry
+     *
+     * @param key entry key
+     * @throws IOException error deleting the file
+     */
+    @Override
+    public void delete(final String key) throws IOException {
+        Files.deleteIfExists(fileOf(key));
+    }
+
+    /**
+     * Remove the files of all entries
+     *
+     * @throws IOException error deleting the files
+     */
+    @Override
+    public void clear() throws IOException {
+        deleteFiles(false);
+    }
+
+    /**
+     * Delete the entry files of the directory, and the temporary files when no write can be in progress
+     *
+     * @param temporary whether to delete the temporary files too
+     * @throws IOException error deleting the files
+     */
+    private void deleteFiles(final boolean temporary) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (final Path file : (Iterable<Path>) files::iterator) {
+                final String name = file.getFileName().toString();
+                if (name.endsWith(FILE_SUFFIX) || temporary && name.endsWith(TEMP_SUFFIX)) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+
+    /**
+     * Retrieve the file holding the content of an entry
+     *
+     * @param key entry key
+     * @return Path object
+     */
+    private Path fileOf(final String key) {
+        try {
+            final byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+            final StringBuilder name = new StringBuilder();
+            for (final byte b : digest) {
+                name.append(String.format("%02x", b));
+            }
+            return directory.resolve(name.append(FILE_SUFFIX).toString());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
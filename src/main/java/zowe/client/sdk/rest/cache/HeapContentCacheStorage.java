@@ -0,0 +1,67 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.rest.cache;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Content cache storage keeping the content in byte arrays on the java heap
+ *
+ * @author Frank Giordano
+ * @version 6.0
+ */
+public class HeapContentCacheStorage implements ContentCacheStorage {
+
+    private final Map<String, byte[]> contents = new ConcurrentHashMap<>();
+
+    /**
+     * Store the content of an entry
+     *
+     * @param key     entry key
+     * @param content content bytes
+     */
+    @Override
+    public void write(final String key, final byte[] content) {
+        contents.put(key, content.clone());
+    }
+
+    /**
+     * Read the content of an entry
+     *
+     * @param key entry key
+     * @return content bytes, empty when not stored
+     */
+    @Override
+    public Optional<byte[]> read(final String key) {
+        final byte[] content = contents.get(key);
+        return content == null ? Optional.empty() : Optional.of(content.clone());
+    }
+
+    /**
+     * Remove the content of an entry
+     *
+     * @param key entry key
+     */
+    @Override
+    public void delete(final String key) {
+        contents.remove(key);
+    }
+
+    /**
+     * Remove the content of all entries
+     */
+    @Override
+    public void clear() {
+        contents.clear();
+    }
+
+}
@@ -0,0 +1,77 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.rest.cache;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Content cache storage keeping the content in direct byte buffers outside the java heap, so a large cache
+ * does not add to garbage collection work. The memory of a buffer is released once it is unreachable, and
+ * it counts against the -XX:MaxDirectMemorySize limit.
+ *
+ * @author Frank Giordano
+ * @version 6.0
+ */
+public class OffHeapContentCacheStorage implements ContentCacheStorage {
+
+    private final Map<String, ByteBuffer> contents = new ConcurrentHashMap<>();
+
+    /**
+     * Store the content of an entry
+     *
+     * @param key     entry key
+     * @param content content bytes
+     */
+    @Override
+    public void write(final String key, final byte[] content) {
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(content.length);
+        buffer.put(content).flip();
+        contents.put(key, buffer);
+    }
+
+    /**
+     * Read the content of an entry
+     *
+     * @param key entry key
+     * @return content bytes, empty when not stored
+     */
+    @Override
+    public Optional<byte[]> read(final String key) {
+        final ByteBuffer buffer = contents.get(key);
+        if (buffer == null) {
+            return Optional.empty();
+        }
+        final byte[] content = new byte[buffer.remaining()];
+        buffer.duplicate().get(content);
+        return Optional.of(content);
+    }
+
+    /**
+     * Remove the content of an entry
+     *
+     * @param key entry key
+     */
+    @Override
+    public void delete(final String key) {
+        contents.remove(key);
+    }
+
+    /**
+     * Remove the content of all entries
+     */
+    @Override
+    public void clear() {
+        contents.clear();
+    }
+
+}
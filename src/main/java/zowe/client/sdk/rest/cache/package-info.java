@@ -0,0 +1,4 @@
+/**
+ * Conditional request content cache and its storage implementations
+ */
+package zowe.client.sdk.rest.cache;
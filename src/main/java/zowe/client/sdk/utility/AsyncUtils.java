@@ -0,0 +1,183 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.utility;
+
+import zowe.client.sdk.rest.exception.ZosmfRequestException;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Utility class contains helper methods for asynchronous request processing.
+ * <p>
+ * A CompletableFuture returned by the asynchronous api completes exceptionally with a CompletionException
+ * whose cause is the ZosmfRequestException the blocking api would have thrown.
+ *
+ * @author Frank Giordano
+ * @version 6.0
+ */
+public final class AsyncUtils {
+
+    /**
+     * Private constructor defined to avoid instantiation of class
+     */
+    private AsyncUtils() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Function that may throw a ZosmfRequestException
+     *
+     * @param <T> input type
+     * @param <R> result type
+     */
+    @FunctionalInterface
+    public interface RequestFunction<T, R> {
+
+        /**
+         * Apply the function to the given value
+         *
+         * @param value input value
+         * @return result value
+         * @throws ZosmfRequestException request error state
+         */
+        R apply(T value) throws ZosmfRequestException;
+
+    }
+
+    /**
+     * Supplier that may throw a ZosmfRequestException
+     *
+     * @param <T> result type
+     */
+    @FunctionalInterface
+    public interface RequestSupplier<T> {
+
+        /**
+         * Retrieve the result
+         *
+         * @return result value
+         * @throws ZosmfRequestException request error state
+         */
+        T get() throws ZosmfRequestException;
+
+    }
+
+    /**
+     * Run a blocking request on the given executor
+     *
+     * @param supplier supplier throwing ZosmfRequestException
+     * @param executor executor the supplier runs on
+     * @param <T>      result type
+     * @return CompletableFuture of the result
+     * @author Frank Giordano
+     */
+    public static <T> CompletableFuture<T> supplyAsync(final RequestSupplier<T> supplier, final Executor executor) {
+        ValidateUtils.checkNullParameter(supplier, "supplier");
+        ValidateUtils.checkNullParameter(executor, "executor");
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return supplier.get();
+            } catch (ZosmfRequestException e) {
+                throw new CompletionException(e);
+            }
+        }, executor);
+    }
+
+    /**
+     * Adapt a function throwing ZosmfRequestException for use as a CompletableFuture stage.
+     * The exception is rethrown wrapped in a CompletionException.
+     *
+     * @param function function throwing ZosmfRequestException
+     * @param <T>      input type
+     * @param <R>      result type
+     * @return Function object
+     * @author Frank Giordano
+     */
+    public static <T, R> Function<T, R> unchecked(final RequestFunction<T, R> function) {
+        ValidateUtils.checkNullParameter(function, "function");
+        return value -> {
+            try {
+                return function.apply(value);
+            } catch (ZosmfRequestException e) {
+                throw new CompletionException(e);
+            }
+        };
+    }
+
+    /**
+     * Convert the failure of an asynchronous request into a ZosmfRequestException.
+     * A ZosmfRequestException cause is returned as is, any other cause is wrapped.
+     *
+     * @param error Throwable object the CompletableFuture completed with
+     * @return ZosmfRequestException object
+     * @author Frank Giordano
+     */
+    public static ZosmfRequestException toRequestException(final Throwable error) {
+        Throwable cause = error;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException)
+                && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof ZosmfRequestException) {
+            return (ZosmfRequestException) cause;
+        }
+        return new ZosmfRequestException(cause.getMessage(), cause);
+    }
+
+    /**
+     * Wait for the result of an asynchronous request
+     *
+     * @param future CompletableFuture object
+     * @param <T>    result type
+     * @return result value
+     * @throws ZosmfRequestException request error state, or "request cancelled" when the future was cancelled
+     * @author Frank Giordano
+     */
+    public static <T> T join(final CompletableFuture<T> future) throws ZosmfRequestException {
+        ValidateUtils.checkNullParameter(future, "future");
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw toRequestException(e);
+        } catch (CancellationException e) {
+            throw new ZosmfRequestException("request cancelled", e);
+        }
+    }
+
+    /**
+     * Create the executor running the requests of a bulk operation, a fixed pool of daemon threads named after the
+     * given prefix, e.g. 'zowe-sdk-job-batch-1'. The caller shuts it down once its requests are processed.
+     *
+     * @param namePrefix            prefix of the thread names
+     * @param maxConcurrentRequests number of threads
+     * @return ExecutorService object
+     * @author Frank Giordano
+     */
+    public static ExecutorService createExecutor(final String namePrefix, final int maxConcurrentRequests) {
+        ValidateUtils.checkIllegalParameter(namePrefix, "namePrefix");
+        ValidateUtils.checkIllegalParameter(maxConcurrentRequests <= 0,
+                "maxConcurrentRequests must be greater than zero");
+        final AtomicInteger count = new AtomicInteger();
+        return Executors.newFixedThreadPool(maxConcurrentRequests, runnable -> {
+            final Thread thread = new Thread(runnable, namePrefix + "-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+}
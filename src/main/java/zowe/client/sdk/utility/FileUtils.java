@@ -9,17 +9,52 @@
  */
 package zowe.client.sdk.utility;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import zowe.client.sdk.rest.exception.ZosmfRequestException;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 /**
- * Utility class for UNIX (USS) related static helper methods.
+ * Utility class for UNIX (USS) and local file related static helper methods.
  *
  * @author Frank Giordano
  * @version 6.0
  */
 public final class FileUtils {
 
+    private static final Logger LOG = LoggerFactory.getLogger(FileUtils.class);
+
+    /**
+     * Extension of the temporary file a local file is written to before being renamed
+     */
+    public static final String PART_EXTENSION = ".part";
+
+    /**
+     * Writer of the content of a local file
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+
+        /**
+         * Write the content to the given output stream
+         *
+         * @param outputStream output stream of the file
+         * @return value returned to the caller, e.g. number of bytes or records written
+         * @throws ZosmfRequestException request error state
+         * @throws IOException           error writing the content
+         */
+        long write(OutputStream outputStream) throws ZosmfRequestException, IOException;
+
+    }
+
     /**
      * Private constructor defined to avoid instantiation of class
      */
@@ -69,4 +104,37 @@ public final class FileUtils {
         return path;
     }
 
+    /**
+     * Write a local file through a temporary file, the target name with a '.part' extension, renamed over the
+     * target once complete. The target is either left unchanged or replaced by the complete content, the
+     * temporary file is deleted on failure.
+     *
+     * @param target file written
+     * @param writer writer of the content
+     * @return value returned by the writer
+     * @throws ZosmfRequestException error of the writer, or error writing the file
+     * @author Frank Giordano
+     */
+    public static long writeAtomically(final Path target, final ContentWriter writer) throws ZosmfRequestException {
+        ValidateUtils.checkNullParameter(target, "target");
+        ValidateUtils.checkNullParameter(writer, "writer");
+        final Path part = target.resolveSibling(target.getFileName() + PART_EXTENSION);
+        try {
+            final long result;
+            try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(part))) {
+                result = writer.write(outputStream);
+            }
+            Files.move(part, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return result;
+        } catch (IOException e) {
+            throw new ZosmfRequestException(e.getMessage(), e);
+        } finally {
+            try {
+                Files.deleteIfExists(part);
+            } catch (IOException e) {
+                LOG.debug("error deleting {}", part, e);
+            }
+        }
+    }
+
 }
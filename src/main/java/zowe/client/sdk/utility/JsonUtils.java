@@ -9,7 +9,10 @@
  */
 package zowe.client.sdk.utility;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.json.simple.JSONArray;
@@ -18,11 +21,16 @@ import org.json.simple.parser.JSONParser;
 import org.json.simple.parser.ParseException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import zowe.client.sdk.rest.Response;
 import zowe.client.sdk.rest.exception.ZosmfRequestException;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * Utility class contains helper methods for JSON parse processing.
@@ -43,6 +51,16 @@ public final class JsonUtils {
         throw new IllegalStateException("Utility class");
     }
 
+    /**
+     * Retrieve the ObjectMapper shared by the SDK, for callers streaming or binding JSON content themselves.
+     * It is thread-safe once configured, and must not be reconfigured.
+     *
+     * @return ObjectMapper object
+     */
+    public static ObjectMapper getObjectMapper() {
+        return objectMapper;
+    }
+
     /**
      * This method is a wrapper for JSONParser().parse() call to parse z/OSMF response
      * which may return ZosmfRequestException.
@@ -99,6 +117,114 @@ public final class JsonUtils {
         }
     }
 
+    /**
+     * Parse the JSON body of a response into a specified POJO type.
+     * <p>
+     * When the response holds its raw JSON content, see Response.getContent, the bytes are bound to the POJO
+     * in a single pass without decoding the response phrase.
+     *
+     * @param response Response object holding a JSON body
+     * @param clazz    the target class type
+     * @param context  the context for logging purposes
+     * @param <T>      the type parameter
+     * @return deserialized object of type T
+     * @throws ZosmfRequestException if parsing fails
+     */
+    public static <T> T parseResponse(final Response response, final Class<T> clazz, final String context)
+            throws ZosmfRequestException {
+        return readResponse(response, objectMapper.constructType(clazz), clazz.getSimpleName(), context);
+    }
+
+    /**
+     * Parse the JSON array body of a response into a list of a specified POJO type in a single pass.
+     *
+     * @param response Response object holding a JSON array body
+     * @param clazz    the target class type of the array elements
+     * @param context  the context for logging purposes
+     * @param <T>      the type parameter
+     * @return list of deserialized objects of type T
+     * @throws ZosmfRequestException if parsing fails
+     */
+    public static <T> List<T> parseResponseList(final Response response, final Class<T> clazz, final String context)
+            throws ZosmfRequestException {
+        return readResponse(response, objectMapper.getTypeFactory().constructCollectionType(List.class, clazz),
+                clazz.getSimpleName(), context);
+    }
+
+    /**
+     * Parse an array field of the JSON object body of a response into a list of a specified POJO type in a
+     * single pass. Other fields of the object are skipped, and an empty list is returned when the field is
+     * missing.
+     *
+     * @param response Response object holding a JSON object body
+     * @param field    name of the array field, e.g. "items"
+     * @param clazz    the target class type of the array elements
+     * @param context  the context for logging purposes
+     * @param <T>      the type parameter
+     * @return list of deserialized objects of type T
+     * @throws ZosmfRequestException if parsing fails
+     */
+    public static <T> List<T> parseResponseList(final Response response, final String field, final Class<T> clazz,
+                                                final String context) throws ZosmfRequestException {
+        final JavaType type = objectMapper.getTypeFactory().constructCollectionType(List.class, clazz);
+        final Optional<byte[]> content = response.getContent();
+        try (final JsonParser parser = content.isPresent() ?
+                objectMapper.createParser(content.get()) :
+                objectMapper.createParser(responsePhrase(response))) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new ZosmfRequestException(
+                        "Failed to parse JSON response for [" + context + "], object expected");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                final String name = parser.getCurrentName();
+                final JsonToken value = parser.nextToken();
+                if (field.equals(name) && value == JsonToken.START_ARRAY) {
+                    return objectMapper.readValue(parser, type);
+                }
+                parser.skipChildren();
+            }
+            return new ArrayList<>();
+        } catch (IOException e) {
+            throw new ZosmfRequestException(
+                    "Failed to parse JSON response for [" + context + "] into " + clazz.getSimpleName(), e);
+        }
+    }
+
+    /**
+     * Bind the JSON body of a response to the given type, from its raw content when present
+     *
+     * @param response Response object holding a JSON body
+     * @param type     the target type
+     * @param name     name of the target type for error reporting
+     * @param context  the context for logging purposes
+     * @param <T>      the type parameter
+     * @return deserialized object of type T
+     * @throws ZosmfRequestException if parsing fails
+     */
+    private static <T> T readResponse(final Response response, final JavaType type, final String name,
+                                      final String context) throws ZosmfRequestException {
+        final Optional<byte[]> content = response.getContent();
+        try {
+            return content.isPresent() ?
+                    objectMapper.readValue(content.get(), type) :
+                    objectMapper.readValue(responsePhrase(response), type);
+        } catch (IOException e) {
+            throw new ZosmfRequestException("Failed to parse JSON response for [" + context + "] into " + name, e);
+        }
+    }
+
+    /**
+     * Retrieve the response phrase of a response as a JSON string
+     *
+     * @param response Response object
+     * @return JSON string value
+     */
+    private static String responsePhrase(final Response response) {
+        return response.getResponsePhrase()
+                .orElseThrow(() -> new IllegalStateException("no response phrase"))
+                .toString();
+    }
+
     /**
      * Convert a JSONObject to a {@code Map<String, String>}, converting all values to String.
      * <p>
@@ -9,14 +9,25 @@
  */
 package zowe.client.sdk.utility.timer;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * Global Utility Class with static helper methods.
+ * <p>
+ * Waiting never keeps a cpu busy: the blocking wait parks the calling thread, and the asynchronous delay is
+ * completed by a single daemon scheduler thread shared by the whole SDK, so no thread is held while it runs.
  *
  * @author Frank Giordano
  * @version 6.0
  */
 public final class WaitUtil {
 
+    private static final ScheduledExecutorService SCHEDULER = createScheduler();
+
     /**
      * Private constructor defined to avoid instantiation of class
      */
@@ -26,17 +37,58 @@ public final class WaitUtil {
 
     /**
      * Wait by time specified.
+     * <p>
+     * The calling thread is parked for the given time. When the thread is interrupted, the wait ends early and
+     * the interrupt status of the thread is kept.
      *
      * @param time in milliseconds
      * @author Frank Giordano
      */
     public static void wait(final int time) {
-        final Timer timer = new Timer(time).initialize();
-        while (true) {
-            if (timer.isEnded()) {
-                break;
-            }
+        if (time <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(time);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Wait by time specified asynchronously.
+     * <p>
+     * The returned CompletableFuture completes on the shared scheduler thread after the given time. Dependent
+     * stages doing more than trivial work should run on an executor of the caller, e.g. with thenComposeAsync.
+     *
+     * @param time in milliseconds
+     * @return CompletableFuture completed after the given time
+     * @author Frank Giordano
+     */
+    public static CompletableFuture<Void> delay(final long time) {
+        final CompletableFuture<Void> future = new CompletableFuture<>();
+        if (time <= 0) {
+            future.complete(null);
+            return future;
         }
+        SCHEDULER.schedule(() -> future.complete(null), time, TimeUnit.MILLISECONDS);
+        return future;
+    }
+
+    /**
+     * Create the scheduler shared by all delays, its thread is a daemon so it never prevents the JVM exit
+     *
+     * @return ScheduledExecutorService object
+     */
+    private static ScheduledExecutorService createScheduler() {
+        final AtomicInteger count = new AtomicInteger();
+        final ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+            final Thread thread = new Thread(runnable, "zowe-sdk-timer-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.setRemoveOnCancelPolicy(true);
+        return scheduler;
     }
 
 }
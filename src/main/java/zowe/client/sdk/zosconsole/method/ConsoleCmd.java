@@ -12,10 +12,12 @@ package zowe.client.sdk.zosconsole.method;
 import org.json.simple.JSONObject;
 import zowe.client.sdk.core.ZosConnection;
 import zowe.client.sdk.rest.PutJsonZosmfRequest;
+import zowe.client.sdk.rest.Response;
 import zowe.client.sdk.rest.ZosmfRequest;
 import zowe.client.sdk.rest.ZosmfRequestFactory;
 import zowe.client.sdk.rest.exception.ZosmfRequestException;
 import zowe.client.sdk.rest.type.ZosmfRequestType;
+import zowe.client.sdk.utility.AsyncUtils;
 import zowe.client.sdk.utility.ConsoleUtils;
 import zowe.client.sdk.utility.EncodeUtils;
 import zowe.client.sdk.utility.JsonUtils;
@@ -26,6 +28,8 @@ import zowe.client.sdk.zosconsole.response.ConsoleCmdResponse;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * Issue a MVS console command.
@@ -54,7 +58,7 @@ public class ConsoleCmd {
     private static final String SOL_KEY = "sol-key";
     private static final String SYSTEM = "system";
     private final ZosConnection connection;
-    private ZosmfRequest request;
+    private final ZosmfRequest request;
 
     /**
      * ConsoleCmd constructor
@@ -65,6 +69,7 @@ public class ConsoleCmd {
     public ConsoleCmd(final ZosConnection connection) {
         ValidateUtils.checkNullParameter(connection, "connection");
         this.connection = connection;
+        this.request = null;
     }
 
     /**
@@ -129,6 +134,36 @@ public class ConsoleCmd {
      */
     public ConsoleCmdResponse issueCommandCommon(final String consoleName, final ConsoleCmdInputData consoleInputData)
             throws ZosmfRequestException {
+        return parseResponse(prepareRequest(consoleName, consoleInputData).executeRequest(), consoleInputData);
+    }
+
+    /**
+     * Issue an MVS console command on a given console name driven by ConsoleCmdInputData settings done
+     * asynchronously.
+     *
+     * @param consoleName      name of the console that is used to issue the command
+     * @param consoleInputData synchronous console issue parameters, see ConsoleCmdInputData object
+     * @param executor         executor the response is processed on
+     * @return CompletableFuture of the IssueCommandResponse object
+     * @author Frank Giordano
+     */
+    public CompletableFuture<ConsoleCmdResponse> issueCommandCommonAsync(final String consoleName,
+                                                                         final ConsoleCmdInputData consoleInputData,
+                                                                         final Executor executor) {
+        ValidateUtils.checkNullParameter(executor, "executor");
+        return prepareRequest(consoleName, consoleInputData).executeRequestAsync(executor)
+                .thenApply(AsyncUtils.unchecked(response -> parseResponse(response, consoleInputData)));
+    }
+
+    /**
+     * Prepare the request issuing an MVS console command
+     *
+     * @param consoleName      name of the console that is used to issue the command
+     * @param consoleInputData synchronous console issue parameters, see ConsoleCmdInputData object
+     * @return ZosmfRequest object
+     * @author Frank Giordano
+     */
+    private ZosmfRequest prepareRequest(final String consoleName, final ConsoleCmdInputData consoleInputData) {
         ValidateUtils.checkIllegalParameter(consoleName, "consoleName");
         ValidateUtils.checkNullParameter(consoleInputData, "consoleInputData");
 
@@ -138,23 +173,36 @@ public class ConsoleCmd {
 
         final Map<String, String> issueMap = getIssueMap(consoleInputData);
 
-        if (request == null) {
-            request = ZosmfRequestFactory.buildRequest(connection, ZosmfRequestType.PUT_JSON);
-        }
+        final ZosmfRequest request = this.request != null ?
+                this.request : ZosmfRequestFactory.buildRequest(connection, ZosmfRequestType.PUT_JSON);
         request.setUrl(url);
         request.setBody(new JSONObject(issueMap).toString());
+        return request;
+    }
 
-        final String responsePhrase = request.executeRequest()
+    /**
+     * Retrieve the IssueCommandResponse object from the response
+     *
+     * @param response         Response object
+     * @param consoleInputData synchronous console issue parameters, see ConsoleCmdInputData object
+     * @return IssueCommandResponse object
+     * @throws ZosmfRequestException request error state
+     * @author Frank Giordano
+     */
+    private static ConsoleCmdResponse parseResponse(final Response response,
+                                                    final ConsoleCmdInputData consoleInputData)
+            throws ZosmfRequestException {
+        final String responsePhrase = response
                 .getResponsePhrase()
                 .orElseThrow(() -> new IllegalStateException("no issue console response phrase"))
                 .toString();
 
         final String context = "issueCommandCommon";
-        ConsoleCmdResponse response = JsonUtils.parseResponse(responsePhrase, ConsoleCmdResponse.class, context);
+        ConsoleCmdResponse cmdResponse = JsonUtils.parseResponse(responsePhrase, ConsoleCmdResponse.class, context);
         if (consoleInputData.isProcessResponse()) {
-            response = response.withCmdResponse(ConsoleUtils.processCmdResponse(response.getCmdResponse()));
+            cmdResponse = cmdResponse.withCmdResponse(ConsoleUtils.processCmdResponse(cmdResponse.getCmdResponse()));
         }
-        return response;
+        return cmdResponse;
     }
 
     /**
@@ -0,0 +1,318 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosfiles.dsn.cache;
+
+import zowe.client.sdk.core.ZosConnection;
+import zowe.client.sdk.utility.ValidateUtils;
+import zowe.client.sdk.zosfiles.dsn.model.Dataset;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Cache of dataset attributes retrieved by DsnGet.getDsnInfo.
+ * <p>
+ * An entry expires once its time to live elapsed, and the least recently used entries are evicted first when the
+ * cache holds its maximum number of entries. DsnCreate, DsnDelete and DsnRename created with the same cache
+ * invalidate the entries of the datasets they change; changes made by other clients are seen once the entry
+ * expires. The entries are kept per host, port and user, so a cache instance may be shared by several threads
+ * and connections.
+ *
+ * @author Frank Giordano
+ * @version 6.0
+ */
+public final class DsnInfoCache {
+
+    /**
+     * Default time to live of an entry
+     */
+    public static final Duration DEFAULT_TTL = Duration.ofSeconds(30);
+
+    /**
+     * Default maximum number of entries
+     */
+    public static final int DEFAULT_MAX_ENTRIES = 1000;
+
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final LongSupplier ticker;
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    /**
+     * DsnInfoCache constructor
+     *
+     * @param builder DsnInfoCache.Builder object
+     * @author Frank Giordano
+     */
+    private DsnInfoCache(final DsnInfoCache.Builder builder) {
+        this.ttlNanos = builder.ttl.toNanos();
+        this.maxEntries = builder.maxEntries;
+        this.ticker = builder.ticker;
+    }
+
+    /**
+     * Retrieve the cached attributes of the given dataset
+     *
+     * @param connection  connection the attributes were retrieved with
+     * @param dataSetName sequential or partition dataset (e.g. 'DATASET.LIB')
+     * @return Dataset Optional object, empty when not cached or expired
+     * @author Frank Giordano
+     */
+    public synchronized Optional<Dataset> get(final ZosConnection connection, final String dataSetName) {
+        final String key = keyOf(connection, dataSetName);
+        final Entry entry = entries.get(key);
+        if (entry == null || ticker.getAsLong() - entry.created >= ttlNanos) {
+            if (entry != null) {
+                entries.remove(key);
+            }
+            misses.incrementAndGet();
+            return Optional.empty();
+        }
+        hits.incrementAndGet();
+        return Optional.of(entry.dataset);
+    }
+
+    /**
+     * Cache the attributes of the given dataset, evicting the least recently used entry when full
+     *
+     * @param connection connection the attributes were retrieved with
+     * @param dataset    Dataset object
+     * @author Frank Giordano
+     */
+    public synchronized void put(final ZosConnection connection, final Dataset dataset) {
+        ValidateUtils.checkNullParameter(dataset, "dataset");
+        if (dataset.getDsname() == null) {
+            return;
+        }
+        entries.put(keyOf(connection, dataset.getDsname()), new Entry(dataset, ticker.getAsLong()));
+
+        final Iterator<Map.Entry<String, Entry>> eldest = entries.entrySet().iterator();
+        while (entries.size() > maxEntries && eldest.hasNext()) {
+            eldest.next();
+            eldest.remove();
+            evictions.incrementAndGet();
+        }
+    }
+
+    /**
+     * Remove the cached attributes of the given datasets. A member name, e.g. 'DATASET.LIB(MEMBER)', invalidates
+     * its dataset, null names are ignored.
+     *
+     * @param connection   connection the datasets are changed with
+     * @param dataSetNames dataset names or dataset member names
+     * @author Frank Giordano
+     */
+    public synchronized void invalidate(final ZosConnection connection, final String... dataSetNames) {
+        ValidateUtils.checkNullParameter(dataSetNames, "dataSetNames");
+        for (final String dataSetName : dataSetNames) {
+            if (dataSetName != null) {
+                final int member = dataSetName.indexOf('(');
+                entries.remove(keyOf(connection, member < 0 ? dataSetName : dataSetName.substring(0, member)));
+            }
+        }
+    }
+
+    /**
+     * Remove all entries
+     *
+     * @author Frank Giordano
+     */
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Build the cache key of a dataset, the attributes visible depend on the host and the user. Dataset names are
+     * not case-sensitive and may be quoted, z/OSMF returns them in upper case.
+     *
+     * @param connection  ZosConnection object
+     * @param dataSetName dataset name
+     * @return key string
+     */
+    private static String keyOf(final ZosConnection connection, final String dataSetName) {
+        ValidateUtils.checkNullParameter(connection, "connection");
+        ValidateUtils.checkNullParameter(dataSetName, "dataSetName");
+        // a quote is never part of a dataset name, so the quotes of a fully qualified name are simply dropped
+        final String name = dataSetName.replace("'", "").trim();
+        return connection.getZosmfUrl() + " " + connection.getUser() + " " + name.toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * Retrieve the number of lookups served from the cache
+     *
+     * @return hit count
+     */
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    /**
+     * Retrieve the number of lookups not cached or expired
+     *
+     * @return miss count
+     */
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    /**
+     * Retrieve the number of entries evicted to keep the cache within its maximum number of entries
+     *
+     * @return eviction count
+     */
+    public long getEvictionCount() {
+        return evictions.get();
+    }
+
+    /**
+     * Retrieve the number of cached entries, expired entries included until looked up
+     *
+     * @return entry count
+     */
+    public synchronized int getEntryCount() {
+        return entries.size();
+    }
+
+    /**
+     * Retrieve the time to live of an entry
+     *
+     * @return Duration object
+     */
+    public Duration getTtl() {
+        return Duration.ofNanos(ttlNanos);
+    }
+
+    /**
+     * Retrieve the maximum number of entries
+     *
+     * @return maxEntries value
+     */
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    /**
+     * Return string value representing DsnInfoCache object
+     *
+     * @return string representation of DsnInfoCache
+     */
+    @Override
+    public String toString() {
+        return "DsnInfoCache{" +
+                "ttl=" + getTtl() +
+                ", maxEntries=" + maxEntries +
+                ", entryCount=" + getEntryCount() +
+                ", hits=" + hits +
+                ", misses=" + misses +
+                ", evictions=" + evictions +
+                '}';
+    }
+
+    /**
+     * Cached dataset attributes with the time they were retrieved
+     */
+    private static final class Entry {
+
+        private final Dataset dataset;
+        private final long created;
+
+        private Entry(final Dataset dataset, final long created) {
+            this.dataset = dataset;
+            this.created = created;
+        }
+
+    }
+
+    /**
+     * Builder class for DsnInfoCache
+     */
+    public static class Builder {
+
+        /**
+         * Time to live of an entry
+         */
+        private Duration ttl = DEFAULT_TTL;
+
+        /**
+         * Maximum number of entries
+         */
+        private int maxEntries = DEFAULT_MAX_ENTRIES;
+
+        /**
+         * Source of the current time in nanoseconds
+         */
+        private LongSupplier ticker = System::nanoTime;
+
+        /**
+         * Builder constructor
+         */
+        public Builder() {
+        }
+
+        /**
+         * Set ttl Duration value
+         *
+         * @param ttl time to live of an entry, greater than zero
+         * @return Builder this object
+         */
+        public Builder ttl(final Duration ttl) {
+            ValidateUtils.checkNullParameter(ttl, "ttl");
+            ValidateUtils.checkIllegalParameter(ttl.isNegative() || ttl.isZero(), "ttl must be greater than zero");
+            this.ttl = ttl;
+            return this;
+        }
+
+        /**
+         * Set maxEntries int value
+         *
+         * @param maxEntries maximum number of entries, greater than zero
+         * @return Builder this object
+         */
+        public Builder maxEntries(final int maxEntries) {
+            ValidateUtils.checkIllegalParameter(maxEntries <= 0, "maxEntries must be greater than zero");
+            this.maxEntries = maxEntries;
+            return this;
+        }
+
+        /**
+         * Set the source of the current time in nanoseconds, used for unit testing
+         * <p>
+         * This method is package-private
+         *
+         * @param ticker LongSupplier object
+         * @return Builder this object
+         */
+        Builder ticker(final LongSupplier ticker) {
+            ValidateUtils.checkNullParameter(ticker, "ticker");
+            this.ticker = ticker;
+            return this;
+        }
+
+        /**
+         * Return DsnInfoCache object based on Builder variables
+         *
+         * @return DsnInfoCache object
+         */
+        public DsnInfoCache build() {
+            return new DsnInfoCache(this);
+        }
+
+    }
+
+}
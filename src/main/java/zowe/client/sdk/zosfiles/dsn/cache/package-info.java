@@ -0,0 +1,4 @@
+/**
+ * Dataset attribute cache used by the dataset methods
+ */
+package zowe.client.sdk.zosfiles.dsn.cache;
@@ -0,0 +1,370 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ *
+ */
+package zowe.client.sdk.zosfiles.dsn.input;
+
+import zowe.client.sdk.utility.ValidateUtils;
+
+import java.util.Locale;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+
+/**
+ * Parameters for searching the datasets of a local catalog index, see DsnCatalogIndex. Every criterion given must
+ * match, none given matches every dataset.
+ *
+ * @author Frank Giordano
+ * @version 6.0
+ */
+public class DsnCatalogSearchInputData {
+
+    /**
+     * Dataset name pattern, '*' matches any characters within a qualifier, '**' any qualifiers and '%' a single
+     * character, e.g. 'HLQ.**.COBOL'
+     */
+    private final String pattern;
+
+    /**
+     * Dataset name prefix, e.g. 'HLQ.PROJ'
+     */
+    private final String prefix;
+
+    /**
+     * Volume serial the dataset resides on
+     */
+    private final String volume;
+
+    /**
+     * Dataset organization, e.g. 'PO' or 'PS'
+     */
+    private final String dsorg;
+
+    /**
+     * Record format, e.g. 'FB'
+     */
+    private final String recfm;
+
+    /**
+     * Whether the dataset is migrated
+     */
+    private final Boolean migrated;
+
+    /**
+     * Minimum percentage of the allocated space used
+     */
+    private final Integer minUsed;
+
+    /**
+     * Minimum allocated size, in the space units of the dataset
+     */
+    private final Long minSize;
+
+    /**
+     * Maximum number of datasets returned
+     */
+    private final Integer limit;
+
+    /**
+     * DsnCatalogSearchInputData constructor
+     *
+     * @param builder DsnCatalogSearchInputData.Builder object
+     * @author Frank Giordano
+     */
+    private DsnCatalogSearchInputData(final DsnCatalogSearchInputData.Builder builder) {
+        this.pattern = builder.pattern;
+        this.prefix = builder.prefix;
+        this.volume = builder.volume;
+        this.dsorg = builder.dsorg;
+        this.recfm = builder.recfm;
+        this.migrated = builder.migrated;
+        this.minUsed = builder.minUsed;
+        this.minSize = builder.minSize;
+        this.limit = builder.limit;
+    }
+
+    /**
+     * Retrieve pattern value
+     *
+     * @return pattern value
+     */
+    public Optional<String> getPattern() {
+        return Optional.ofNullable(pattern);
+    }
+
+    /**
+     * Retrieve prefix value
+     *
+     * @return prefix value
+     */
+    public Optional<String> getPrefix() {
+        return Optional.ofNullable(prefix);
+    }
+
+    /**
+     * Retrieve volume value
+     *
+     * @return volume value
+     */
+    public Optional<String> getVolume() {
+        return Optional.ofNullable(volume);
+    }
+
+    /**
+     * Retrieve dsorg value
+     *
+     * @return dsorg value
+     */
+    public Optional<String> getDsorg() {
+        return Optional.ofNullable(dsorg);
+    }
+
+    /**
+     * Retrieve recfm value
+     *
+     * @return recfm value
+     */
+    public Optional<String> getRecfm() {
+        return Optional.ofNullable(recfm);
+    }
+
+    /**
+     * Retrieve migrated value
+     *
+     * @return migrated value
+     */
+    public Optional<Boolean> getMigrated() {
+        return Optional.ofNullable(migrated);
+    }
+
+    /**
+     * Retrieve minUsed value
+     *
+     * @return minUsed value
+     */
+    public OptionalInt getMinUsed() {
+        return minUsed != null ? OptionalInt.of(minUsed) : OptionalInt.empty();
+    }
+
+    /**
+     * Retrieve minSize value
+     *
+     * @return minSize value
+     */
+    public OptionalLong getMinSize() {
+        return minSize != null ? OptionalLong.of(minSize) : OptionalLong.empty();
+    }
+
+    /**
+     * Retrieve limit value
+     *
+     * @return limit value
+     */
+    public OptionalInt getLimit() {
+        return limit != null ? OptionalInt.of(limit) : OptionalInt.empty();
+    }
+
+    /**
+     * Return string value representing DsnCatalogSearchInputData object
+     *
+     * @return string representation of DsnCatalogSearchInputData
+     */
+    @Override
+    public String toString() {
+        return "DsnCatalogSearchInputData{" +
+                "pattern=" + getPattern() +
+                ", prefix=" + getPrefix() +
+                ", volume=" + getVolume() +
+                ", dsorg=" + getDsorg() +
+                ", recfm=" + getRecfm() +
+                ", migrated=" + getMigrated() +
+                ", minUsed=" + getMinUsed() +
+                ", minSize=" + getMinSize() +
+                ", limit=" + getLimit() +
+                '}';
+    }
+
+    /**
+     * Builder class for DsnCatalogSearchInputData
+     */
+    public static class Builder {
+
+        /**
+         * Dataset name pattern
+         */
+        private String pattern;
+
+        /**
+         * Dataset name prefix
+         */
+        private String prefix;
+
+        /**
+         * Volume serial the dataset resides on
+         */
+        private String volume;
+
+        /**
+         * Dataset organization
+         */
+        private String dsorg;
+
+        /**
+         * Record format
+         */
+        private String recfm;
+
+        /**
+         * Whether the dataset is migrated
+         */
+        private Boolean migrated;
+
+        /**
+         * Minimum percentage of the allocated space used
+         */
+        private Integer minUsed;
+
+        /**
+         * Minimum allocated size
+         */
+        private Long minSize;
+
+        /**
+         * Maximum number of datasets returned
+         */
+        private Integer limit;
+
+        /**
+         * Builder constructor
+         */
+        public Builder() {
+        }
+
+        /**
+         * Set the dataset name pattern, '*' matches any characters within a qualifier, '**' any qualifiers and
+         * '%' a single character, e.g. 'HLQ.**.COBOL'
+         *
+         * @param pattern dataset name pattern
+         * @return Builder this object
+         */
+        public Builder pattern(final String pattern) {
+            ValidateUtils.checkIllegalParameter(pattern, "pattern");
+            this.pattern = pattern.toUpperCase(Locale.ROOT);
+            return this;
+        }
+
+        /**
+         * Set the dataset name prefix, e.g. 'HLQ.PROJ' matches 'HLQ.PROJ.SRC' and 'HLQ.PROJECT'
+         *
+         * @param prefix dataset name prefix
+         * @return Builder this object
+         */
+        public Builder prefix(final String prefix) {
+            ValidateUtils.checkIllegalParameter(prefix, "prefix");
+            this.prefix = prefix.toUpperCase(Locale.ROOT);
+            return this;
+        }
+
+        /**
+         * Set the volume serial the dataset resides on
+         *
+         * @param volume volume serial
+         * @return Builder this object
+         */
+        public Builder volume(final String volume) {
+            ValidateUtils.checkIllegalParameter(volume, "volume");
+            this.volume = volume.toUpperCase(Locale.ROOT);
+            return this;
+        }
+
+        /**
+         * Set the dataset organization, e.g. 'PO' or 'PS'
+         *
+         * @param dsorg dataset organization
+         * @return Builder this object
+         */
+        public Builder dsorg(final String dsorg) {
+            ValidateUtils.checkIllegalParameter(dsorg, "dsorg");
+            this.dsorg = dsorg.toUpperCase(Locale.ROOT);
+            return this;
+        }
+
+        /**
+         * Set the record format, e.g. 'FB'
+         *
+         * @param recfm record format
+         * @return Builder this object
+         */
+        public Builder recfm(final String recfm) {
+            ValidateUtils.checkIllegalParameter(recfm, "recfm");
+            this.recfm = recfm.toUpperCase(Locale.ROOT);
+            return this;
+        }
+
+        /**
+         * Set whether the dataset is migrated
+         *
+         * @param migrated boolean value
+         * @return Builder this object
+         */
+        public Builder migrated(final boolean migrated) {
+            this.migrated = migrated;
+            return this;
+        }
+
+        /**
+         * Set the minimum percentage of the allocated space used, datasets without usage information do not match
+         *
+         * @param minUsed percentage between 0 and 100
+         * @return Builder this object
+         */
+        public Builder minUsed(final int minUsed) {
+            ValidateUtils.checkIllegalParameter(minUsed < 0 || minUsed > 100, "minUsed must be between 0 and 100");
+            this.minUsed = minUsed;
+            return this;
+        }
+
+        /**
+         * Set the minimum allocated size, in the space units of the dataset (e.g. tracks or cylinders), datasets
+         * without size information do not match
+         *
+         * @param minSize size value
+         * @return Builder this object
+         */
+        public Builder minSize(final long minSize) {
+            ValidateUtils.checkIllegalParameter(minSize < 0, "minSize must not be negative");
+            this.minSize = minSize;
+            return this;
+        }
+
+        /**
+         * Set the maximum number of datasets returned
+         *
+         * @param limit number of datasets, greater than zero
+         * @return Builder this object
+         */
+        public Builder limit(final int limit) {
+            ValidateUtils.checkIllegalParameter(limit <= 0, "limit must be greater than zero");
+            this.limit = limit;
+            return this;
+        }
+
+        /**
+         * Return DsnCatalogSearchInputData object based on Builder variables
+         *
+         * @return DsnCatalogSearchInputData object
+         */
+        public DsnCatalogSearchInputData build() {
+            return new DsnCatalogSearchInputData(this);
+        }
+
+    }
+
+}
@@ -9,9 +9,12 @@
  */
 package zowe.client.sdk.zosfiles.dsn.input;
 
+import zowe.client.sdk.rest.cache.ContentCache;
+
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.OptionalLong;
 
 /**
@@ -101,11 +104,45 @@ public class DsnDownloadInputData {
      */
     private final String task;
 
+    /**
+     * The indicator to return the content as a stream read directly from the connection.
+     * The content is then never held in memory as a whole, the returned stream must be closed by the caller.
+     */
+    private final boolean stream;
+
+    /**
+     * Buffer size in bytes of the stream returned when stream is specified
+     */
+    private final Integer bufferSize;
+
+    /**
+     * The range of records to retrieve, given in one of these formats:
+     * <p>
+     * SSS-EEE
+     * <p>
+     * Where SSS identifies the start record and EEE identifies the end record to be retrieved.
+     * Both values are relative offsets (0-based). When EEE is set to 0, records through the end of the
+     * data set are retrieved. When SSS is omitted (i.e., -EEE), the final EEE records of the data set are retrieved.
+     * <p>
+     * SSS,NNN
+     * <p>
+     * Where SSS identifies the start record and NNN identifies the number of records to be retrieved.
+     * <p>
+     * Usage note: If zero bytes returned due to the range specified, status code 500 is returned.
+     */
+    private final String recordsRange;
+
     /**
      * Request time out value
      */
     private final String responseTimeout;
 
+    /**
+     * Cache of the retrieved content. When set, the content is requested conditionally with its ETag and
+     * served from the cache when not modified. Not used when stream is specified.
+     */
+    private final ContentCache contentCache;
+
     /**
      * DsnDownloadInputData constructor
      *
@@ -126,7 +163,11 @@ public class DsnDownloadInputData {
         this.encoding = builder.encoding;
         this.volume = builder.volume;
         this.task = builder.task;
+        this.stream = builder.stream;
+        this.bufferSize = builder.bufferSize;
+        this.recordsRange = builder.recordsRange;
         this.responseTimeout = builder.responseTimeout;
+        this.contentCache = builder.contentCache;
     }
 
     /**
@@ -138,6 +179,24 @@ public class DsnDownloadInputData {
         return binary;
     }
 
+    /**
+     * Retrieve bufferSize value
+     *
+     * @return bufferSize value
+     */
+    public OptionalInt getBufferSize() {
+        return (bufferSize == null) ? OptionalInt.empty() : OptionalInt.of(bufferSize);
+    }
+
+    /**
+     * Retrieve contentCache value
+     *
+     * @return contentCache value
+     */
+    public Optional<ContentCache> getContentCache() {
+        return Optional.ofNullable(contentCache);
+    }
+
     /**
      * Retrieve directory value
      *
@@ -206,10 +265,21 @@ public class DsnDownloadInputData {
      *
      * @return maxConcurrentRequests value
      */
-    public OptionalLong getNaxConcurrentRequests() {
+    public OptionalLong getMaxConcurrentRequests() {
         return (maxConcurrentRequests == null) ? OptionalLong.empty() : OptionalLong.of(maxConcurrentRequests);
     }
 
+    /**
+     * Retrieve maxConcurrentRequests value
+     *
+     * @return maxConcurrentRequests value
+     * @deprecated misspelled, use getMaxConcurrentRequests
+     */
+    @Deprecated
+    public OptionalLong getNaxConcurrentRequests() {
+        return getMaxConcurrentRequests();
+    }
+
     /**
      * Retrieve is preserveOriginalLetterCase specified
      *
@@ -219,6 +289,15 @@ public class DsnDownloadInputData {
         return preserveOriginalLetterCase;
     }
 
+    /**
+     * Retrieve recordsRange value
+     *
+     * @return recordsRange value
+     */
+    public Optional<String> getRecordsRange() {
+        return Optional.ofNullable(recordsRange);
+    }
+
     /**
      * Retrieve responseTimeout value
      *
@@ -237,6 +316,15 @@ public class DsnDownloadInputData {
         return returnEtag;
     }
 
+    /**
+     * Retrieve is stream specified
+     *
+     * @return boolean true or false
+     */
+    public boolean isStream() {
+        return stream;
+    }
+
     /**
      * Retrieve task value
      *
@@ -276,7 +364,11 @@ public class DsnDownloadInputData {
                 ", encoding=" + encoding +
                 ", volume=" + volume +
                 ", task=" + task +
+                ", stream=" + stream +
+                ", bufferSize=" + bufferSize +
+                ", recordsRange=" + recordsRange +
                 ", responseTimeout=" + responseTimeout +
+                ", contentCache=" + contentCache +
                 '}';
     }
 
@@ -342,7 +434,7 @@ public class DsnDownloadInputData {
          * If set to false, individual download failures will be reported after all other downloads have been completed.
          * The default value is true for backward compatibility.
          */
-        private boolean failFast;
+        private boolean failFast = true;
 
         /**
          * The indicator to view the data set or USS file in binary mode
@@ -364,11 +456,33 @@ public class DsnDownloadInputData {
          */
         private String task;
 
+        /**
+         * The indicator to return the content as a stream read directly from the connection.
+         * The content is then never held in memory as a whole, the returned stream must be closed by the caller.
+         */
+        private boolean stream;
+
+        /**
+         * Buffer size in bytes of the stream returned when stream is specified
+         */
+        private Integer bufferSize;
+
+        /**
+         * The range of records to retrieve, e.g. "0,100" or "-10"
+         */
+        private String recordsRange;
+
         /**
          * Request time out value
          */
         private String responseTimeout;
 
+        /**
+         * Cache of the retrieved content. When set, the content is requested conditionally with its ETag and
+         * served from the cache when not modified. Not used when stream is specified.
+         */
+        private ContentCache contentCache;
+
         /**
          * Builder constructor
          */
@@ -386,6 +500,31 @@ public class DsnDownloadInputData {
             return this;
         }
 
+        /**
+         * Set bufferSize int value
+         *
+         * @param bufferSize int value in bytes
+         * @return Builder this object
+         */
+        public Builder bufferSize(final int bufferSize) {
+            if (bufferSize <= 0) {
+                throw new IllegalArgumentException("bufferSize must be positive");
+            }
+            this.bufferSize = bufferSize;
+            return this;
+        }
+
+        /**
+         * Set contentCache object
+         *
+         * @param contentCache ContentCache object
+         * @return Builder this object
+         */
+        public Builder contentCache(final ContentCache contentCache) {
+            this.contentCache = contentCache;
+            return this;
+        }
+
         /**
          * Set directory string value
          *
@@ -485,6 +624,18 @@ public class DsnDownloadInputData {
             return this;
         }
 
+        /**
+         * Set recordsRange string value, in the SSS-EEE or SSS,NNN format, e.g. "0,100" for the first 100 records
+         * or "-10" for the last 10 records
+         *
+         * @param recordsRange string value
+         * @return Builder this object
+         */
+        public Builder recordsRange(final String recordsRange) {
+            this.recordsRange = recordsRange;
+            return this;
+        }
+
         /**
          * Set responseTimeout string value
          *
@@ -507,6 +658,17 @@ public class DsnDownloadInputData {
             return this;
         }
 
+        /**
+         * Set stream boolean value
+         *
+         * @param stream boolean true or false value
+         * @return Builder this object
+         */
+        public Builder stream(final boolean stream) {
+            this.stream = stream;
+            return this;
+        }
+
         /**
          * Set task string value
          *
@@ -0,0 +1,180 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ *
+ */
+package zowe.client.sdk.zosfiles.dsn.input;
+
+import zowe.client.sdk.utility.ValidateUtils;
+
+/**
+ * Parameters for downloading a dataset in record windows fetched concurrently, see DsnRangeDownload
+ *
+ * @author Frank Giordano
+ * @version 6.0
+ */
+public class DsnRangeDownloadInputData {
+
+    /**
+     * Default number of records of a window
+     */
+    public static final int DEFAULT_RECORDS_PER_WINDOW = 50_000;
+
+    /**
+     * Default maximum number of requests performed at once
+     */
+    public static final int DEFAULT_MAX_CONCURRENT_REQUESTS = 4;
+
+    /**
+     * Number of records requested at once
+     */
+    private final int recordsPerWindow;
+
+    /**
+     * Maximum number of requests performed at once
+     */
+    private final int maxConcurrentRequests;
+
+    /**
+     * Parameters of each window request, e.g. encoding or volume
+     */
+    private final DsnDownloadInputData downloadInputData;
+
+    /**
+     * DsnRangeDownloadInputData constructor
+     *
+     * @param builder DsnRangeDownloadInputData.Builder object
+     * @author Frank Giordano
+     */
+    private DsnRangeDownloadInputData(final DsnRangeDownloadInputData.Builder builder) {
+        this.recordsPerWindow = builder.recordsPerWindow;
+        this.maxConcurrentRequests = builder.maxConcurrentRequests;
+        this.downloadInputData = builder.downloadInputData != null ? builder.downloadInputData :
+                new DsnDownloadInputData.Builder().build();
+    }
+
+    /**
+     * Retrieve the number of records requested at once
+     *
+     * @return recordsPerWindow value
+     */
+    public int getRecordsPerWindow() {
+        return recordsPerWindow;
+    }
+
+    /**
+     * Retrieve the maximum number of requests performed at once
+     *
+     * @return maxConcurrentRequests value
+     */
+    public int getMaxConcurrentRequests() {
+        return maxConcurrentRequests;
+    }
+
+    /**
+     * Retrieve the parameters of each window request
+     *
+     * @return DsnDownloadInputData object
+     */
+    public DsnDownloadInputData getDownloadInputData() {
+        return downloadInputData;
+    }
+
+    /**
+     * Return string value representing DsnRangeDownloadInputData object
+     *
+     * @return string representation of DsnRangeDownloadInputData
+     */
+    @Override
+    public String toString() {
+        return "DsnRangeDownloadInputData{" +
+                "recordsPerWindow=" + recordsPerWindow +
+                ", maxConcurrentRequests=" + maxConcurrentRequests +
+                ", downloadInputData=" + downloadInputData +
+                '}';
+    }
+
+    /**
+     * Builder class for DsnRangeDownloadInputData
+     */
+    public static class Builder {
+
+        /**
+         * Number of records requested at once
+         */
+        private int recordsPerWindow = DEFAULT_RECORDS_PER_WINDOW;
+
+        /**
+         * Maximum number of requests performed at once
+         */
+        private int maxConcurrentRequests = DEFAULT_MAX_CONCURRENT_REQUESTS;
+
+        /**
+         * Parameters of each window request
+         */
+        private DsnDownloadInputData downloadInputData;
+
+        /**
+         * Builder constructor
+         */
+        public Builder() {
+        }
+
+        /**
+         * Set the number of records requested at once. A window is held in memory until it is written in order,
+         * so at most maxConcurrentRequests windows are held at once.
+         *
+         * @param recordsPerWindow number of records, greater than zero
+         * @return Builder object
+         */
+        public DsnRangeDownloadInputData.Builder recordsPerWindow(final int recordsPerWindow) {
+            ValidateUtils.checkIllegalParameter(recordsPerWindow <= 0, "recordsPerWindow must be greater than zero");
+            this.recordsPerWindow = recordsPerWindow;
+            return this;
+        }
+
+        /**
+         * Set the maximum number of requests performed at once
+         *
+         * @param maxConcurrentRequests number of requests, greater than zero
+         * @return Builder object
+         */
+        public DsnRangeDownloadInputData.Builder maxConcurrentRequests(final int maxConcurrentRequests) {
+            ValidateUtils.checkIllegalParameter(maxConcurrentRequests <= 0,
+                    "maxConcurrentRequests must be greater than zero");
+            this.maxConcurrentRequests = maxConcurrentRequests;
+            return this;
+        }
+
+        /**
+         * Set the parameters of each window request, e.g. encoding, volume or responseTimeout. The records are
+         * delimited by line breaks, so binary mode is not supported; recordsRange and stream are not used.
+         *
+         * @param downloadInputData to download parameters, see DsnDownloadInputData object
+         * @return Builder object
+         */
+        public DsnRangeDownloadInputData.Builder downloadInputData(final DsnDownloadInputData downloadInputData) {
+            ValidateUtils.checkNullParameter(downloadInputData, "downloadInputData");
+            ValidateUtils.checkIllegalParameter(downloadInputData.isBinary(),
+                    "binary mode is not supported by a ranged download");
+            this.downloadInputData = downloadInputData;
+            return this;
+        }
+
+        /**
+         * Return DsnRangeDownloadInputData object based on Builder this object
+         *
+         * @return DsnRangeDownloadInputData object
+         */
+        public DsnRangeDownloadInputData build() {
+            return new DsnRangeDownloadInputData(this);
+        }
+
+    }
+
+}
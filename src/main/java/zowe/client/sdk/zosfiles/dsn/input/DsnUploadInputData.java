@@ -0,0 +1,266 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ *
+ */
+package zowe.client.sdk.zosfiles.dsn.input;
+
+import zowe.client.sdk.utility.ValidateUtils;
+
+import java.nio.file.Path;
+
+/**
+ * Parameters for uploading a local directory to the members of a partitioned dataset, see DsnUpload
+ *
+ * @author Frank Giordano
+ * @version 6.0
+ */
+public class DsnUploadInputData {
+
+    /**
+     * Default maximum number of requests performed at once
+     */
+    public static final int DEFAULT_MAX_CONCURRENT_REQUESTS = 4;
+
+    /**
+     * Default name of the state file, written in the uploaded directory
+     */
+    public static final String DEFAULT_STATE_FILE_NAME = ".zowe-dsn-upload.json";
+
+    /**
+     * Local directory whose files are uploaded
+     */
+    private final Path directory;
+
+    /**
+     * File recording what was uploaded, used to detect the unchanged members of the next upload
+     */
+    private final Path stateFile;
+
+    /**
+     * Maximum number of requests performed at once
+     */
+    private final int maxConcurrentRequests;
+
+    /**
+     * Whether the files are uploaded in binary mode instead of text mode
+     */
+    private final boolean binary;
+
+    /**
+     * Whether the members to upload are only reported, nothing is uploaded or recorded
+     */
+    private final boolean dryRun;
+
+    /**
+     * Whether every member is uploaded, changed or not
+     */
+    private final boolean force;
+
+    /**
+     * DsnUploadInputData constructor
+     *
+     * @param builder DsnUploadInputData.Builder object
+     * @author Frank Giordano
+     */
+    private DsnUploadInputData(final DsnUploadInputData.Builder builder) {
+        this.directory = builder.directory;
+        this.stateFile = builder.stateFile != null ? builder.stateFile :
+                builder.directory.resolve(DEFAULT_STATE_FILE_NAME);
+        this.maxConcurrentRequests = builder.maxConcurrentRequests;
+        this.binary = builder.binary;
+        this.dryRun = builder.dryRun;
+        this.force = builder.force;
+    }
+
+    /**
+     * Retrieve the local directory whose files are uploaded
+     *
+     * @return directory value
+     */
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Retrieve the file recording what was uploaded
+     *
+     * @return stateFile value
+     */
+    public Path getStateFile() {
+        return stateFile;
+    }
+
+    /**
+     * Retrieve the maximum number of requests performed at once
+     *
+     * @return maxConcurrentRequests value
+     */
+    public int getMaxConcurrentRequests() {
+        return maxConcurrentRequests;
+    }
+
+    /**
+     * Retrieve whether the files are uploaded in binary mode
+     *
+     * @return boolean true or false
+     */
+    public boolean isBinary() {
+        return binary;
+    }
+
+    /**
+     * Retrieve whether the members to upload are only reported
+     *
+     * @return boolean true or false
+     */
+    public boolean isDryRun() {
+        return dryRun;
+    }
+
+    /**
+     * Retrieve whether every member is uploaded, changed or not
+     *
+     * @return boolean true or false
+     */
+    public boolean isForce() {
+        return force;
+    }
+
+    /**
+     * Return string value representing DsnUploadInputData object
+     *
+     * @return string representation of DsnUploadInputData
+     */
+    @Override
+    public String toString() {
+        return "DsnUploadInputData{" +
+                "directory=" + directory +
+                ", stateFile=" + stateFile +
+                ", maxConcurrentRequests=" + maxConcurrentRequests +
+                ", binary=" + binary +
+                ", dryRun=" + dryRun +
+                ", force=" + force +
+                '}';
+    }
+
+    /**
+     * Builder class for DsnUploadInputData
+     */
+    public static class Builder {
+
+        /**
+         * Local directory whose files are uploaded
+         */
+        private final Path directory;
+
+        /**
+         * File recording what was uploaded
+         */
+        private Path stateFile;
+
+        /**
+         * Maximum number of requests performed at once
+         */
+        private int maxConcurrentRequests = DEFAULT_MAX_CONCURRENT_REQUESTS;
+
+        /**
+         * Whether the files are uploaded in binary mode
+         */
+        private boolean binary;
+
+        /**
+         * Whether the members to upload are only reported
+         */
+        private boolean dryRun;
+
+        /**
+         * Whether every member is uploaded, changed or not
+         */
+        private boolean force;
+
+        /**
+         * Builder constructor
+         *
+         * @param directory local directory whose files are uploaded
+         */
+        public Builder(final Path directory) {
+            ValidateUtils.checkNullParameter(directory, "directory");
+            this.directory = directory;
+        }
+
+        /**
+         * Set the file recording what was uploaded, DEFAULT_STATE_FILE_NAME in the directory by default
+         *
+         * @param stateFile state file path
+         * @return Builder object
+         */
+        public DsnUploadInputData.Builder stateFile(final Path stateFile) {
+            ValidateUtils.checkNullParameter(stateFile, "stateFile");
+            this.stateFile = stateFile;
+            return this;
+        }
+
+        /**
+         * Set the maximum number of requests performed at once
+         *
+         * @param maxConcurrentRequests number of requests, greater than zero
+         * @return Builder object
+         */
+        public DsnUploadInputData.Builder maxConcurrentRequests(final int maxConcurrentRequests) {
+            ValidateUtils.checkIllegalParameter(maxConcurrentRequests <= 0,
+                    "maxConcurrentRequests must be greater than zero");
+            this.maxConcurrentRequests = maxConcurrentRequests;
+            return this;
+        }
+
+        /**
+         * Set whether the files are uploaded in binary mode, text mode by default
+         *
+         * @param binary true for binary mode
+         * @return Builder object
+         */
+        public DsnUploadInputData.Builder binary(final boolean binary) {
+            this.binary = binary;
+            return this;
+        }
+
+        /**
+         * Set whether the members to upload are only reported, nothing is uploaded and the state file is not written
+         *
+         * @param dryRun true for a dry run
+         * @return Builder object
+         */
+        public DsnUploadInputData.Builder dryRun(final boolean dryRun) {
+            this.dryRun = dryRun;
+            return this;
+        }
+
+        /**
+         * Set whether every member is uploaded, changed or not
+         *
+         * @param force true to skip the change detection
+         * @return Builder object
+         */
+        public DsnUploadInputData.Builder force(final boolean force) {
+            this.force = force;
+            return this;
+        }
+
+        /**
+         * Return DsnUploadInputData object based on Builder this object
+         *
+         * @return DsnUploadInputData object
+         */
+        public DsnUploadInputData build() {
+            return new DsnUploadInputData(this);
+        }
+
+    }
+
+}
@@ -0,0 +1,655 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosfiles.dsn.methods;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import zowe.client.sdk.core.ZosConnection;
+import zowe.client.sdk.rest.exception.ZosmfRequestException;
+import zowe.client.sdk.utility.AsyncUtils;
+import zowe.client.sdk.utility.FileUtils;
+import zowe.client.sdk.utility.JsonUtils;
+import zowe.client.sdk.utility.ValidateUtils;
+import zowe.client.sdk.utility.timer.WaitUtil;
+import zowe.client.sdk.zosfiles.dsn.input.DsnCatalogSearchInputData;
+import zowe.client.sdk.zosfiles.dsn.input.DsnListInputData;
+import zowe.client.sdk.zosfiles.dsn.model.Dataset;
+import zowe.client.sdk.zosfiles.dsn.types.AttributeType;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Local index of the dataset attributes of catalog levels, searched without any request.
+ * <p>
+ * Each level, e.g. 'HLQ' or 'HLQ.PROJ', is listed with its base attributes, see DsnList.streamDatasets, and kept
+ * as one segment: the dataset names sorted, and each attribute as an int code into a dictionary of the distinct
+ * values of the segment, as volumes, organizations, formats and dates repeat across datasets. The used percentage
+ * and the allocated size are also kept as primitives. A prefix narrows a search to a range of the sorted names, and
+ * an attribute criterion compares codes, so a search over tens of thousands of datasets takes microseconds.
+ * <p>
+ * A level is refreshed on its own, replacing its segment at once, so searches see either the previous or the
+ * new content of a level and never wait for a refresh. z/OSMF reports no catalog changes, so refreshing a level
+ * lists it again. The index may be persisted to a directory holding one file per level, so a refresh writes the
+ * file of its level only, and read back on creation.
+ *
+ * @author Frank Giordano
+ * @version 6.0
+ */
+public class DsnCatalogIndex implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DsnCatalogIndex.class);
+    private static final String FILE_SUFFIX = ".json";
+    private static final String LEVEL = "level";
+    private static final String REFRESHED = "refreshed";
+    private static final String DATASETS = "datasets";
+    private static final String MIGRATED = "YES";
+    private static final int UNKNOWN = -1;
+
+    /**
+     * Attributes kept for each dataset besides its name, in the order of the Dataset constructor
+     */
+    private static final List<Function<Dataset, String>> ATTRIBUTES = List.of(Dataset::getBlksz,
+            Dataset::getCatnm, Dataset::getCdate, Dataset::getDev, Dataset::getDsntp, Dataset::getDsorg,
+            Dataset::getEdate, Dataset::getExtx, Dataset::getLrectl, Dataset::getMigr, Dataset::getMvol,
+            Dataset::getOvf, Dataset::getRdate, Dataset::getRecfm, Dataset::getSizex, Dataset::getSpacu,
+            Dataset::getUsed, Dataset::getVol);
+    private static final int DSORG = 5;
+    private static final int MIGR = 9;
+    private static final int RECFM = 13;
+    private static final int VOL = 17;
+
+    private final DsnList dsnList;
+    private final Path indexDirectory;
+    private final Map<String, Segment> segments = new ConcurrentHashMap<>();
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private final Object saveLock = new Object();
+    private volatile boolean closed;
+
+    /**
+     * DsnCatalogIndex constructor, the index is held in memory only
+     *
+     * @param connection for connection information, see ZosConnection object
+     * @author Frank Giordano
+     */
+    public DsnCatalogIndex(final ZosConnection connection) {
+        ValidateUtils.checkNullParameter(connection, "connection");
+        this.dsnList = new DsnList(connection);
+        this.indexDirectory = null;
+    }
+
+    /**
+     * DsnCatalogIndex constructor, the index is persisted to the given directory. The level files it holds are
+     * read, their levels are searchable at once and refreshed when asked.
+     *
+     * @param connection     for connection information, see ZosConnection object
+     * @param indexDirectory directory the file of a level is written to after each refresh of the level
+     * @author Frank Giordano
+     */
+    public DsnCatalogIndex(final ZosConnection connection, final Path indexDirectory) {
+        ValidateUtils.checkNullParameter(connection, "connection");
+        ValidateUtils.checkNullParameter(indexDirectory, "indexDirectory");
+        this.dsnList = new DsnList(connection);
+        this.indexDirectory = indexDirectory;
+        load();
+    }
+
+    /**
+     * List the datasets of the given level and replace its content in the index, the level is added when new
+     *
+     * @param level catalog level, e.g. 'HLQ' or 'HLQ.PROJ'
+     * @return number of datasets of the level
+     * @throws ZosmfRequestException request error state, the previous content of the level is kept
+     * @author Frank Giordano
+     */
+    public int refresh(final String level) throws ZosmfRequestException {
+        ValidateUtils.checkIllegalParameter(level, "level");
+        final String name = level.toUpperCase(Locale.ROOT);
+        final DsnListInputData listInputData = new DsnListInputData.Builder().attribute(AttributeType.BASE).build();
+        final Segment segment;
+        try (Stream<Dataset> datasets = dsnList.streamDatasets(name, listInputData)) {
+            segment = Segment.of(name, System.currentTimeMillis(), datasets.collect(Collectors.toList()));
+        } catch (RuntimeException e) {
+            throw AsyncUtils.toRequestException(e);
+        }
+        segments.put(name, segment);
+        LOG.debug("indexed {} datasets of level {}", segment.names.length, name);
+        save(name);
+        return segment.names.length;
+    }
+
+    /**
+     * Refresh the given level asynchronously, see refresh
+     *
+     * @param level    catalog level, e.g. 'HLQ' or 'HLQ.PROJ'
+     * @param executor executor the request is processed on
+     * @return CompletableFuture of the number of datasets of the level
+     * @author Frank Giordano
+     */
+    public CompletableFuture<Integer> refreshAsync(final String level, final Executor executor) {
+        return AsyncUtils.supplyAsync(() -> refresh(level), executor);
+    }
+
+    /**
+     * Refresh the indexed levels in the background: every refreshInterval milliseconds, each level not refreshed
+     * for refreshInterval milliseconds is listed again, one level at a time. A failed refresh keeps the previous
+     * content of its level and is attempted again at the next interval. No thread is held between two intervals,
+     * the requests are processed on the given executor. The background refresh ends with close.
+     *
+     * @param refreshInterval delay in milliseconds between two refreshes of a level
+     * @param executor        executor the requests are processed on
+     * @throws IllegalStateException the background refresh is already started or the index is closed
+     * @author Frank Giordano
+     */
+    public void startRefresh(final long refreshInterval, final Executor executor) {
+        ValidateUtils.checkIllegalParameter(refreshInterval <= 0, "refreshInterval must be greater than zero");
+        ValidateUtils.checkNullParameter(executor, "executor");
+        if (closed || !refreshing.compareAndSet(false, true)) {
+            throw new IllegalStateException("background refresh already started or index closed");
+        }
+        schedule(refreshInterval, executor);
+    }
+
+    /**
+     * Schedule the next background refresh unless closed
+     *
+     * @param refreshInterval delay in milliseconds between two refreshes of a level
+     * @param executor        executor the requests are processed on
+     */
+    private void schedule(final long refreshInterval, final Executor executor) {
+        if (closed) {
+            return;
+        }
+        WaitUtil.delay(refreshInterval)
+                .thenRunAsync(() -> refreshStale(refreshInterval), executor)
+                .whenComplete((ignored, error) -> {
+                    if (error != null) {
+                        LOG.debug("catalog index refresh failed", error);
+                    }
+                    schedule(refreshInterval, executor);
+                });
+    }
+
+    /**
+     * Refresh each level not refreshed for the given time
+     *
+     * @param refreshInterval delay in milliseconds between two refreshes of a level
+     */
+    private void refreshStale(final long refreshInterval) {
+        final long now = System.currentTimeMillis();
+        for (final Segment segment : segments.values()) {
+            if (closed) {
+                return;
+            }
+            if (now - segment.refreshed < refreshInterval) {
+                continue;
+            }
+            try {
+                refresh(segment.level);
+            } catch (ZosmfRequestException e) {
+                LOG.debug("error refreshing level {}", segment.level, e);
+            }
+        }
+    }
+
+    /**
+     * Remove the given level from the index
+     *
+     * @param level catalog level, e.g. 'HLQ' or 'HLQ.PROJ'
+     * @author Frank Giordano
+     */
+    public void remove(final String level) {
+        ValidateUtils.checkIllegalParameter(level, "level");
+        final String name = level.toUpperCase(Locale.ROOT);
+        if (segments.remove(name) != null) {
+            save(name);
+        }
+    }
+
+    /**
+     * Search the indexed datasets, no request is performed
+     *
+     * @param searchInputData search criteria, see DsnCatalogSearchInputData object
+     * @return datasets matching every criterion, sorted by name
+     * @author Frank Giordano
+     */
+    public List<Dataset> search(final DsnCatalogSearchInputData searchInputData) {
+        ValidateUtils.checkNullParameter(searchInputData, "searchInputData");
+        final Query query = new Query(searchInputData);
+
+        // a dataset listed by overlapping levels is taken from the latest refresh
+        final List<Segment> ordered = new ArrayList<>(segments.values());
+        ordered.sort(Comparator.comparingLong((Segment segment) -> segment.refreshed).reversed());
+        final TreeMap<String, Dataset> matches = new TreeMap<>();
+        for (final Segment segment : ordered) {
+            segment.search(query, matches);
+        }
+        final int limit = searchInputData.getLimit().orElse(Integer.MAX_VALUE);
+        return matches.values().stream().limit(limit).collect(Collectors.toList());
+    }
+
+    /**
+     * Retrieve the indexed attributes of the given dataset, no request is performed
+     *
+     * @param dataSetName dataset name (e.g. 'DATASET.LIB')
+     * @return Dataset Optional object, empty when the dataset is not indexed
+     * @author Frank Giordano
+     */
+    public Optional<Dataset> get(final String dataSetName) {
+        ValidateUtils.checkIllegalParameter(dataSetName, "dataSetName");
+        final String name = dataSetName.toUpperCase(Locale.ROOT);
+        return segments.values().stream()
+                .sorted(Comparator.comparingLong((Segment segment) -> segment.refreshed).reversed())
+                .map(segment -> segment.get(name))
+                .filter(Objects::nonNull)
+                .findFirst();
+    }
+
+    /**
+     * Retrieve the indexed levels
+     *
+     * @return sorted set of level names
+     * @author Frank Giordano
+     */
+    public SortedSet<String> getLevels() {
+        return new TreeSet<>(segments.keySet());
+    }
+
+    /**
+     * Retrieve the time the given level was last refreshed
+     *
+     * @param level catalog level, e.g. 'HLQ' or 'HLQ.PROJ'
+     * @return Instant Optional object, empty when the level is not indexed
+     * @author Frank Giordano
+     */
+    public Optional<Instant> getRefreshTime(final String level) {
+        ValidateUtils.checkIllegalParameter(level, "level");
+        final Segment segment = segments.get(level.toUpperCase(Locale.ROOT));
+        return segment != null ? Optional.of(Instant.ofEpochMilli(segment.refreshed)) : Optional.empty();
+    }
+
+    /**
+     * Retrieve the number of indexed datasets, a dataset listed by overlapping levels is counted once per level
+     *
+     * @return number of datasets
+     * @author Frank Giordano
+     */
+    public int size() {
+        return segments.values().stream().mapToInt(segment -> segment.names.length).sum();
+    }
+
+    /**
+     * End the background refresh, the index remains searchable
+     *
+     * @author Frank Giordano
+     */
+    @Override
+    public void close() {
+        closed = true;
+    }
+
+    /**
+     * Read the level files of the index directory when it exists. A level whose file cannot be read starts empty.
+     */
+    private void load() {
+        if (!Files.isDirectory(indexDirectory)) {
+            return;
+        }
+        try (Stream<Path> files = Files.list(indexDirectory)) {
+            files.filter(file -> file.getFileName().toString().endsWith(FILE_SUFFIX)).forEach(this::load);
+        } catch (IOException e) {
+            LOG.warn("error listing {}, the index starts empty", indexDirectory, e);
+        }
+    }
+
+    /**
+     * Read the given level file
+     *
+     * @param levelFile level file path
+     */
+    private void load(final Path levelFile) {
+        try {
+            final Map<String, Object> level = JsonUtils.getObjectMapper().readValue(levelFile.toFile(),
+                    new TypeReference<Map<String, Object>>() {
+                    });
+            final String name = (String) level.get(LEVEL);
+            @SuppressWarnings("unchecked") final List<List<String>> rows = (List<List<String>>) level.get(DATASETS);
+            final List<Dataset> datasets = rows.stream().map(Segment::toDataset).collect(Collectors.toList());
+            segments.put(name, Segment.of(name, ((Number) level.get(REFRESHED)).longValue(), datasets));
+        } catch (IOException | RuntimeException e) {
+            LOG.warn("error reading {}, its level is not indexed", levelFile, e);
+        }
+    }
+
+    /**
+     * Write the file of the given level when the index directory is given, or delete it when the level was
+     * removed. The file is written atomically, so a reader never sees a partial level.
+     *
+     * @param level catalog level
+     */
+    private void save(final String level) {
+        if (indexDirectory == null) {
+            return;
+        }
+        synchronized (saveLock) {
+            final Path levelFile = indexDirectory.resolve(level + FILE_SUFFIX);
+            // the segment held now is written, a concurrent refresh of the level may have replaced it
+            final Segment segment = segments.get(level);
+            try {
+                if (segment == null) {
+                    Files.deleteIfExists(levelFile);
+                    return;
+                }
+                final Map<String, Object> content = new LinkedHashMap<>();
+                content.put(LEVEL, segment.level);
+                content.put(REFRESHED, segment.refreshed);
+                content.put(DATASETS, segment.rows());
+                Files.createDirectories(indexDirectory);
+                FileUtils.writeAtomically(levelFile, out -> {
+                    JsonUtils.getObjectMapper().writeValue(out, content);
+                    return segment.names.length;
+                });
+            } catch (IOException | ZosmfRequestException e) {
+                LOG.warn("error writing {}", levelFile, e);
+            }
+        }
+    }
+
+    /**
+     * Search criteria prepared once for every segment
+     */
+    private static final class Query {
+
+        private final String prefix;
+        private final String namePrefix;
+        private final Pattern pattern;
+        private final String volume;
+        private final String dsorg;
+        private final String recfm;
+        private final Boolean migrated;
+        private final int minUsed;
+        private final long minSize;
+
+        private Query(final DsnCatalogSearchInputData searchInputData) {
+            final String patternPrefix = searchInputData.getPattern().map(Query::literalPrefix).orElse("");
+            final String namePrefix = searchInputData.getPrefix().orElse("");
+            // the longer prefix narrows the range most, the other one is still checked by the pattern or prefix
+            this.prefix = patternPrefix.length() > namePrefix.length() ? patternPrefix : namePrefix;
+            this.pattern = searchInputData.getPattern().map(Query::toRegex).orElse(null);
+            this.volume = searchInputData.getVolume().orElse(null);
+            this.dsorg = searchInputData.getDsorg().orElse(null);
+            this.recfm = searchInputData.getRecfm().orElse(null);
+            this.migrated = searchInputData.getMigrated().orElse(null);
+            this.minUsed = searchInputData.getMinUsed().orElse(UNKNOWN);
+            this.minSize = searchInputData.getMinSize().orElse(UNKNOWN);
+            this.namePrefix = namePrefix;
+        }
+
+        /**
+         * Retrieve the characters of a pattern before its first wildcard
+         *
+         * @param pattern dataset name pattern
+         * @return literal prefix
+         */
+        private static String literalPrefix(final String pattern) {
+            int end = 0;
+            while (end < pattern.length() && pattern.charAt(end) != '*' && pattern.charAt(end) != '%') {
+                end++;
+            }
+            return pattern.substring(0, end);
+        }
+
+        /**
+         * Convert a dataset name pattern to a regular expression, '.**.' also matches no qualifier
+         *
+         * @param pattern dataset name pattern
+         * @return Pattern object
+         */
+        private static Pattern toRegex(final String pattern) {
+            final StringBuilder regex = new StringBuilder();
+            for (int i = 0; i < pattern.length(); i++) {
+                final char c = pattern.charAt(i);
+                if (c == '*' && i + 1 < pattern.length() && pattern.charAt(i + 1) == '*') {
+                    i++;
+                    if (i > 1 && pattern.charAt(i - 2) == '.' && i + 1 < pattern.length() &&
+                            pattern.charAt(i + 1) == '.') {
+                        regex.append("(?:.*\\.)?");
+                        i++;
+                    } else {
+                        regex.append(".*");
+                    }
+                } else if (c == '*') {
+                    regex.append("[^.]*");
+                } else if (c == '%') {
+                    regex.append("[^.]");
+                } else if (Character.isLetterOrDigit(c)) {
+                    regex.append(c);
+                } else {
+                    regex.append('\\').append(c);
+                }
+            }
+            return Pattern.compile(regex.toString());
+        }
+
+    }
+
+    /**
+     * Datasets of one level, immutable once built
+     */
+    private static final class Segment {
+
+        private final String level;
+        private final long refreshed;
+        private final String[] names;
+        private final String[] dictionary;
+        private final Map<String, Integer> codesByValue;
+        private final int[] codes;
+        private final int[] used;
+        private final long[] sizes;
+
+        private Segment(final String level, final long refreshed, final String[] names, final String[] dictionary,
+                        final Map<String, Integer> codesByValue, final int[] codes, final int[] used,
+                        final long[] sizes) {
+            this.level = level;
+            this.refreshed = refreshed;
+            this.names = names;
+            this.dictionary = dictionary;
+            this.codesByValue = codesByValue;
+            this.codes = codes;
+            this.used = used;
+            this.sizes = sizes;
+        }
+
+        /**
+         * Build the segment of a level
+         *
+         * @param level     catalog level
+         * @param refreshed time the level was listed in milliseconds
+         * @param datasets  datasets of the level
+         * @return Segment object
+         */
+        private static Segment of(final String level, final long refreshed, final List<Dataset> datasets) {
+            final TreeMap<String, Dataset> sorted = new TreeMap<>();
+            datasets.forEach(dataset -> sorted.putIfAbsent(dataset.getDsname(), dataset));
+
+            final int count = sorted.size();
+            final String[] names = sorted.keySet().toArray(new String[0]);
+            final Map<String, Integer> codesByValue = new HashMap<>();
+            final List<String> dictionary = new ArrayList<>();
+            final int[] codes = new int[count * ATTRIBUTES.size()];
+            final int[] used = new int[count];
+            final long[] sizes = new long[count];
+            int row = 0;
+            for (final Dataset dataset : sorted.values()) {
+                for (int column = 0; column < ATTRIBUTES.size(); column++) {
+                    final String value = ATTRIBUTES.get(column).apply(dataset);
+                    codes[row * ATTRIBUTES.size() + column] = codesByValue.computeIfAbsent(value, key -> {
+                        dictionary.add(key);
+                        return dictionary.size() - 1;
+                    });
+                }
+                used[row] = (int) parse(dataset.getUsed());
+                sizes[row] = parse(dataset.getSizex());
+                row++;
+            }
+            return new Segment(level, refreshed, names, dictionary.toArray(new String[0]), codesByValue, codes,
+                    used, sizes);
+        }
+
+        /**
+         * Parse a numeric attribute
+         *
+         * @param value attribute value
+         * @return number, UNKNOWN when not numeric
+         */
+        private static long parse(final String value) {
+            try {
+                return Long.parseLong(value.trim());
+            } catch (NumberFormatException e) {
+                return UNKNOWN;
+            }
+        }
+
+        /**
+         * Add the datasets matching the query and not matched by a more recent segment
+         *
+         * @param query   search criteria
+         * @param matches matched datasets by name
+         */
+        private void search(final Query query, final Map<String, Dataset> matches) {
+            final int volume = codeOf(query.volume);
+            final int dsorg = codeOf(query.dsorg);
+            final int recfm = codeOf(query.recfm);
+            final int migrated = codeOf(MIGRATED);
+            if (volume == UNKNOWN && query.volume != null || dsorg == UNKNOWN && query.dsorg != null ||
+                    recfm == UNKNOWN && query.recfm != null) {
+                return;
+            }
+
+            // the names are sorted, so the names starting with the prefix follow its insertion point
+            int row = Arrays.binarySearch(names, query.prefix);
+            if (row < 0) {
+                row = -row - 1;
+            }
+            for (; row < names.length && names[row].startsWith(query.prefix); row++) {
+                final int base = row * ATTRIBUTES.size();
+                if (query.volume != null && codes[base + VOL] != volume ||
+                        query.dsorg != null && codes[base + DSORG] != dsorg ||
+                        query.recfm != null && codes[base + RECFM] != recfm ||
+                        query.migrated != null && query.migrated != (codes[base + MIGR] == migrated) ||
+                        query.minUsed != UNKNOWN && used[row] < query.minUsed ||
+                        query.minSize != UNKNOWN && sizes[row] < query.minSize ||
+                        !names[row].startsWith(query.namePrefix) ||
+                        query.pattern != null && !query.pattern.matcher(names[row]).matches()) {
+                    continue;
+                }
+                matches.putIfAbsent(names[row], dataset(row));
+            }
+        }
+
+        /**
+         * Retrieve the dataset of the given name
+         *
+         * @param name dataset name
+         * @return Dataset object, null when not in this segment
+         */
+        private Dataset get(final String name) {
+            final int row = Arrays.binarySearch(names, name);
+            return row >= 0 ? dataset(row) : null;
+        }
+
+        /**
+         * Retrieve the dictionary code of the given value
+         *
+         * @param value attribute value
+         * @return code, UNKNOWN when null or absent from this segment
+         */
+        private int codeOf(final String value) {
+            return value != null ? codesByValue.getOrDefault(value, UNKNOWN) : UNKNOWN;
+        }
+
+        /**
+         * Build the Dataset object of a row
+         *
+         * @param row row number
+         * @return Dataset object
+         */
+        private Dataset dataset(final int row) {
+            return toDataset(row(row));
+        }
+
+        /**
+         * Build a Dataset object from its values, the name first and then the attributes
+         *
+         * @param values list of values
+         * @return Dataset object
+         */
+        private static Dataset toDataset(final List<String> values) {
+            return new Dataset(values.get(0), values.get(1), values.get(2), values.get(3), values.get(4),
+                    values.get(5), values.get(6), values.get(7), values.get(8), values.get(9), values.get(10),
+                    values.get(11), values.get(12), values.get(13), values.get(14), values.get(15),
+                    values.get(16), values.get(17), values.get(18));
+        }
+
+        /**
+         * Retrieve the values of a row, the name first and then the attributes
+         *
+         * @param row row number
+         * @return list of values
+         */
+        private List<String> row(final int row) {
+            final List<String> values = new ArrayList<>(ATTRIBUTES.size() + 1);
+            values.add(names[row]);
+            for (int column = 0; column < ATTRIBUTES.size(); column++) {
+                values.add(dictionary[codes[row * ATTRIBUTES.size() + column]]);
+            }
+            return values;
+        }
+
+        /**
+         * Retrieve the values of every row, see row
+         *
+         * @return list of rows
+         */
+        private List<List<String>> rows() {
+            final List<List<String>> rows = new ArrayList<>(names.length);
+            for (int row = 0; row < names.length; row++) {
+                rows.add(row(row));
+            }
+            return rows;
+        }
+
+    }
+
+}
@@ -35,7 +35,7 @@ import java.util.Map;
 public class DsnCopy {
 
     private final ZosConnection connection;
-    private ZosmfRequest request;
+    private final ZosmfRequest request;
 
     /**
      * DsnCopy constructor
@@ -46,6 +46,7 @@ public class DsnCopy {
     public DsnCopy(final ZosConnection connection) {
         ValidateUtils.checkNullParameter(connection, "connection");
         this.connection = connection;
+        this.request = null;
     }
 
     /**
@@ -119,9 +120,8 @@ public class DsnCopy {
         copyMap.put("from-dataset", new JSONObject(fromDataSetMap));
         copyMap.put("replace", copyInputData.isReplace());
 
-        if (request == null) {
-            request = ZosmfRequestFactory.buildRequest(connection, ZosmfRequestType.PUT_JSON);
-        }
+        final ZosmfRequest request = this.request != null ?
+                this.request : ZosmfRequestFactory.buildRequest(connection, ZosmfRequestType.PUT_JSON);
         request.setUrl(url);
         request.setBody(new JSONObject(copyMap).toString());
 
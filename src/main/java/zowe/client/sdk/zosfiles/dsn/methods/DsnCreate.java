@@ -20,6 +20,7 @@ import zowe.client.sdk.rest.type.ZosmfRequestType;
 import zowe.client.sdk.utility.EncodeUtils;
 import zowe.client.sdk.utility.ValidateUtils;
 import zowe.client.sdk.zosfiles.ZosFilesConstants;
+import zowe.client.sdk.zosfiles.dsn.cache.DsnInfoCache;
 import zowe.client.sdk.zosfiles.dsn.input.DsnCreateInputData;
 
 import java.util.HashMap;
@@ -35,7 +36,8 @@ import java.util.Map;
 public class DsnCreate {
 
     private final ZosConnection connection;
-    private ZosmfRequest request;
+    private final ZosmfRequest request;
+    private final DsnInfoCache dsnInfoCache;
 
     /**
      * DsnCreate Constructor
@@ -46,6 +48,24 @@ public class DsnCreate {
     public DsnCreate(final ZosConnection connection) {
         ValidateUtils.checkNullParameter(connection, "connection");
         this.connection = connection;
+        this.request = null;
+        this.dsnInfoCache = null;
+    }
+
+    /**
+     * Alternative DsnCreate constructor invalidating the cached attributes of each dataset it creates, see
+     * DsnInfoCache.
+     *
+     * @param connection   for connection information, see ZosConnection object
+     * @param dsnInfoCache dataset attribute cache, see DsnInfoCache object
+     * @author Frank Giordano
+     */
+    public DsnCreate(final ZosConnection connection, final DsnInfoCache dsnInfoCache) {
+        ValidateUtils.checkNullParameter(connection, "connection");
+        ValidateUtils.checkNullParameter(dsnInfoCache, "dsnInfoCache");
+        this.connection = connection;
+        this.request = null;
+        this.dsnInfoCache = dsnInfoCache;
     }
 
     /**
@@ -66,6 +86,7 @@ public class DsnCreate {
             throw new IllegalStateException("POST_JSON request type required");
         }
         this.request = request;
+        this.dsnInfoCache = null;
     }
 
     /**
@@ -104,13 +125,18 @@ public class DsnCreate {
         createInputData.getDataclass().ifPresent(v -> createMap.put("dataclass", v));
         createInputData.getDsntype().ifPresent(v -> createMap.put("dsntype", v));
 
-        if (request == null) {
-            request = ZosmfRequestFactory.buildRequest(connection, ZosmfRequestType.POST_JSON);
-        }
+        final ZosmfRequest request = this.request != null ?
+                this.request : ZosmfRequestFactory.buildRequest(connection, ZosmfRequestType.POST_JSON);
         request.setUrl(url);
         request.setBody(new JSONObject(createMap).toString());
 
-        return request.executeRequest();
+        try {
+            return request.executeRequest();
+        } finally {
+            if (dsnInfoCache != null) {
+                dsnInfoCache.invalidate(connection, dataSetName);
+            }
+        }
     }
 
 }
@@ -19,6 +19,7 @@ import zowe.client.sdk.rest.type.ZosmfRequestType;
 import zowe.client.sdk.utility.EncodeUtils;
 import zowe.client.sdk.utility.ValidateUtils;
 import zowe.client.sdk.zosfiles.ZosFilesConstants;
+import zowe.client.sdk.zosfiles.dsn.cache.DsnInfoCache;
 
 /**
  * Provides delete dataset and member functionality
@@ -30,7 +31,8 @@ import zowe.client.sdk.zosfiles.ZosFilesConstants;
 public class DsnDelete {
 
     private final ZosConnection connection;
-    private ZosmfRequest request;
+    private final ZosmfRequest request;
+    private final DsnInfoCache dsnInfoCache;
 
     /**
      * DsnDelete Constructor
@@ -41,6 +43,24 @@ public class DsnDelete {
     public DsnDelete(final ZosConnection connection) {
         ValidateUtils.checkNullParameter(connection, "connection");
         this.connection = connection;
+        this.request = null;
+        this.dsnInfoCache = null;
+    }
+
+    /**
+     * Alternative DsnDelete constructor invalidating the cached attributes of each dataset it deletes, or whose
+     * member it deletes, see DsnInfoCache.
+     *
+     * @param connection   for connection information, see ZosConnection object
+     * @param dsnInfoCache dataset attribute cache, see DsnInfoCache object
+     * @author Frank Giordano
+     */
+    public DsnDelete(final ZosConnection connection, final DsnInfoCache dsnInfoCache) {
+        ValidateUtils.checkNullParameter(connection, "connection");
+        ValidateUtils.checkNullParameter(dsnInfoCache, "dsnInfoCache");
+        this.connection = connection;
+        this.request = null;
+        this.dsnInfoCache = dsnInfoCache;
     }
 
     /**
@@ -61,6 +81,7 @@ public class DsnDelete {
             throw new IllegalStateException("DELETE_JSON request type required");
         }
         this.request = request;
+        this.dsnInfoCache = null;
     }
 
     /**
@@ -95,12 +116,17 @@ public class DsnDelete {
                 ZosFilesConstants.RES_DS_FILES + "/" +
                 EncodeUtils.encodeURIComponent(dataSetName);
 
-        if (request == null) {
-            request = ZosmfRequestFactory.buildRequest(connection, ZosmfRequestType.DELETE_JSON);
-        }
+        final ZosmfRequest request = this.request != null ?
+                this.request : ZosmfRequestFactory.buildRequest(connection, ZosmfRequestType.DELETE_JSON);
         request.setUrl(url);
 
-        return request.executeRequest();
+        try {
+            return request.executeRequest();
+        } finally {
+            if (dsnInfoCache != null) {
+                dsnInfoCache.invalidate(connection, dataSetName);
+            }
+        }
     }
 
 }
@@ -0,0 +1,306 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosfiles.dsn.methods;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import zowe.client.sdk.core.ZosConnection;
+import zowe.client.sdk.rest.ZosmfInputStream;
+import zowe.client.sdk.rest.exception.ZosmfRequestException;
+import zowe.client.sdk.utility.AsyncUtils;
+import zowe.client.sdk.utility.FileUtils;
+import zowe.client.sdk.utility.ValidateUtils;
+import zowe.client.sdk.zosfiles.dsn.input.DsnDownloadInputData;
+import zowe.client.sdk.zosfiles.dsn.input.DsnListInputData;
+import zowe.client.sdk.zosfiles.dsn.model.Member;
+import zowe.client.sdk.zosfiles.dsn.response.DsnDownloadResponse;
+import zowe.client.sdk.zosfiles.dsn.response.DsnMemberDownloadResult;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Download all the members of a partitioned dataset (PDS or PDSE) to a local directory.
+ * <p>
+ * The members are listed with DsnList.getMembers, then requested concurrently, up to the maxConcurrentRequests of
+ * DsnDownloadInputData, one when not given. Each member is streamed straight to disk, it is written to a temporary
+ * file first and renamed once complete, so an interrupted download never leaves a partial member behind.
+ *
+ * @author Frank Giordano
+ * @version 6.0
+ */
+public class DsnDownload {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DsnDownload.class);
+    private static final String DEFAULT_EXTENSION = ".txt";
+    private final DsnList dsnList;
+    private final DsnGet dsnGet;
+
+    /**
+     * DsnDownload constructor
+     *
+     * @param connection for connection information, see ZosConnection object
+     * @author Frank Giordano
+     */
+    public DsnDownload(final ZosConnection connection) {
+        ValidateUtils.checkNullParameter(connection, "connection");
+        this.dsnList = new DsnList(connection);
+        this.dsnGet = new DsnGet(connection);
+    }
+
+    /**
+     * Download all the members of a partitioned dataset.
+     * <p>
+     * The members are written to directory, or to a directory named after the dataset, e.g. "ibmuser/cntl" for
+     * IBMUSER.CNTL, when directory is not given. A member is written to its name followed by the extension mapped
+     * to the member name or to the last qualifier of the dataset in extensionMap, else by extension, else by
+     * ".txt". Generated directory and file names are lower case unless preserveOriginalLetterCase is set.
+     * <p>
+     * The members whose name matches one of the excludePatterns are skipped, a pattern may hold "*" for any
+     * characters and "%" for a single character, e.g. "TEMP*". With failFast, the default, the download stops at the
+     * first failure and throws it: the members in progress are completed and no other one is started. Otherwise,
+     * every member is attempted and the failures are reported in the response.
+     *
+     * @param dataSetName       name of a partitioned dataset (e.g. 'DATASET.LIB')
+     * @param downloadInputData to download parameters, see DsnDownloadInputData object
+     * @return DsnDownloadResponse object
+     * @throws ZosmfRequestException request error state of the member list, or first failure with failFast
+     * @author Frank Giordano
+     */
+    public DsnDownloadResponse downloadAllMembers(final String dataSetName,
+                                                  final DsnDownloadInputData downloadInputData)
+            throws ZosmfRequestException {
+        ValidateUtils.checkIllegalParameter(dataSetName, "dataSetName");
+        ValidateUtils.checkNullParameter(downloadInputData, "downloadInputData");
+        final long maxConcurrentRequests = downloadInputData.getMaxConcurrentRequests().orElse(1);
+        ValidateUtils.checkIllegalParameter(maxConcurrentRequests <= 0,
+                "maxConcurrentRequests must be greater than zero");
+
+        final long start = System.nanoTime();
+        final Download download = new Download(dataSetName, downloadInputData);
+        final List<Member> members = dsnList.getMembers(dataSetName, new DsnListInputData.Builder().build());
+        final List<Member> included = new ArrayList<>();
+        final List<String> excluded = new ArrayList<>();
+        members.forEach(member -> {
+            if (download.isExcluded(member.getMember())) {
+                excluded.add(member.getMember());
+            } else {
+                included.add(member);
+            }
+        });
+
+        try {
+            Files.createDirectories(download.directory);
+        } catch (IOException e) {
+            throw new ZosmfRequestException(e.getMessage(), e);
+        }
+
+        final ExecutorService executor = AsyncUtils.createExecutor("zowe-sdk-dsn-download",
+                (int) Math.max(1, Math.min(maxConcurrentRequests, included.size())));
+        try {
+            CompletableFuture.allOf(included.stream()
+                    .map(member -> CompletableFuture.runAsync(() -> downloadMember(member.getMember(), download),
+                            executor))
+                    .toArray(CompletableFuture[]::new)).join();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        final List<DsnMemberDownloadResult> downloaded = included.stream()
+                .map(member -> download.downloaded.get(member.getMember()))
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        final DsnDownloadResponse response = new DsnDownloadResponse(download.directory, downloaded, excluded,
+                download.failures, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        LOG.info("downloaded {} members of {}, {} bytes at {} bytes/s, {} excluded, {} failed",
+                downloaded.size(), dataSetName, response.getBytes(), response.getBytesPerSecond(),
+                excluded.size(), response.getFailures().size());
+
+        if (downloadInputData.isFailFast() && download.firstFailure.get() != null) {
+            throw download.firstFailure.get();
+        }
+        return response;
+    }
+
+    /**
+     * Write a member to its local file
+     *
+     * @param member   member name
+     * @param download state of the download
+     */
+    private void downloadMember(final String member, final Download download) {
+        if (download.isStopped()) {
+            return;
+        }
+
+        final long start = System.nanoTime();
+        final Path target = download.directory.resolve(download.getFileName(member));
+        try {
+            final long size = FileUtils.writeAtomically(target, outputStream -> {
+                try (ZosmfInputStream content = dsnGet.getStream(download.dataSetName + "(" + member + ")",
+                        download.downloadInputData)) {
+                    return content.transferTo(outputStream);
+                }
+            });
+            download.downloaded.put(member, new DsnMemberDownloadResult(member, target, size,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)));
+        } catch (ZosmfRequestException | RuntimeException e) {
+            download.fail(member, e);
+        }
+    }
+
+    /**
+     * State of a download shared by its requests
+     */
+    private static final class Download {
+
+        private final String dataSetName;
+        private final DsnDownloadInputData downloadInputData;
+        private final Path directory;
+        private final String extension;
+        private final List<Pattern> excludePatterns;
+        private final Map<String, DsnMemberDownloadResult> downloaded = new ConcurrentHashMap<>();
+        private final Map<String, ZosmfRequestException> failures = new ConcurrentHashMap<>();
+        private final AtomicReference<ZosmfRequestException> firstFailure = new AtomicReference<>();
+
+        private Download(final String dataSetName, final DsnDownloadInputData downloadInputData) {
+            this.dataSetName = dataSetName;
+            this.downloadInputData = downloadInputData;
+            this.directory = downloadInputData.getDirectory()
+                    .map(Paths::get)
+                    .orElseGet(() -> Paths.get("", toLetterCase(dataSetName).split("\\.")));
+            final String lastQualifier = dataSetName.substring(dataSetName.lastIndexOf('.') + 1);
+            this.extension = getMappedExtension(lastQualifier)
+                    .orElse(downloadInputData.getExtension().map(Download::toExtension).orElse(DEFAULT_EXTENSION));
+            this.excludePatterns = downloadInputData.getExcludePatterns()
+                    .map(patterns -> Arrays.stream(patterns)
+                            .flatMap(pattern -> Arrays.stream(pattern.split(",")))
+                            .map(String::trim)
+                            .filter(pattern -> !pattern.isEmpty())
+                            .map(Download::toPattern)
+                            .collect(Collectors.toList()))
+                    .orElse(List.of());
+        }
+
+        /**
+         * Whether a member matches one of the exclude patterns
+         *
+         * @param member member name
+         * @return boolean true or false
+         */
+        private boolean isExcluded(final String member) {
+            return excludePatterns.stream().anyMatch(pattern -> pattern.matcher(member).matches());
+        }
+
+        /**
+         * Retrieve the local file name of a member
+         *
+         * @param member member name
+         * @return file name
+         */
+        private String getFileName(final String member) {
+            return toLetterCase(member) + getMappedExtension(member).orElse(extension);
+        }
+
+        /**
+         * Retrieve the extension mapped to a name in extensionMap, the keys are matched ignoring case
+         *
+         * @param name member name or dataset qualifier
+         * @return extension, empty when not mapped
+         */
+        private Optional<String> getMappedExtension(final String name) {
+            return downloadInputData.getExtensionMap()
+                    .flatMap(extensionMap -> extensionMap.entrySet().stream()
+                            .filter(entry -> name.equalsIgnoreCase(entry.getKey()))
+                            .map(entry -> toExtension(entry.getValue()))
+                            .findFirst());
+        }
+
+        /**
+         * Convert a generated name to lower case, unless preserveOriginalLetterCase is set
+         *
+         * @param name dataset or member name
+         * @return name value
+         */
+        private String toLetterCase(final String name) {
+            return downloadInputData.isPreserveOriginalLetterCase() ? name : name.toLowerCase(Locale.ROOT);
+        }
+
+        /**
+         * Whether no more member is started, after a failure with failFast
+         *
+         * @return boolean true or false
+         */
+        private boolean isStopped() {
+            return downloadInputData.isFailFast() && firstFailure.get() != null;
+        }
+
+        /**
+         * Record the failure of a member
+         *
+         * @param member member name
+         * @param error  failure
+         */
+        private void fail(final String member, final Throwable error) {
+            final ZosmfRequestException failure = AsyncUtils.toRequestException(error);
+            LOG.debug("error downloading {}({})", dataSetName, member, failure);
+            failures.put(member, failure);
+            firstFailure.compareAndSet(null, failure);
+        }
+
+        /**
+         * Convert an extension value to a file name suffix, e.g. "c" to ".c"
+         *
+         * @param extension extension value, empty for no extension
+         * @return file name suffix
+         */
+        private static String toExtension(final String extension) {
+            return extension.isEmpty() || extension.startsWith(".") ? extension : "." + extension;
+        }
+
+        /**
+         * Compile an exclude pattern, "*" matches any characters and "%" a single character, ignoring case
+         *
+         * @param pattern exclude pattern
+         * @return Pattern object
+         */
+        private static Pattern toPattern(final String pattern) {
+            final StringBuilder regex = new StringBuilder();
+            for (final char character : pattern.toCharArray()) {
+                if (character == '*') {
+                    regex.append(".*");
+                } else if (character == '%') {
+                    regex.append('.');
+                } else {
+                    regex.append(Pattern.quote(String.valueOf(character)));
+                }
+            }
+            return Pattern.compile(regex.toString(), Pattern.CASE_INSENSITIVE);
+        }
+
+    }
+
+}
@@ -10,15 +10,14 @@
 package zowe.client.sdk.zosfiles.dsn.methods;
 
 import zowe.client.sdk.core.ZosConnection;
-import zowe.client.sdk.rest.GetStreamZosmfRequest;
-import zowe.client.sdk.rest.ZosmfHeaders;
-import zowe.client.sdk.rest.ZosmfRequest;
-import zowe.client.sdk.rest.ZosmfRequestFactory;
+import zowe.client.sdk.rest.*;
 import zowe.client.sdk.rest.exception.ZosmfRequestException;
 import zowe.client.sdk.rest.type.ZosmfRequestType;
+import zowe.client.sdk.utility.AsyncUtils;
 import zowe.client.sdk.utility.EncodeUtils;
 import zowe.client.sdk.utility.ValidateUtils;
 import zowe.client.sdk.zosfiles.ZosFilesConstants;
+import zowe.client.sdk.zosfiles.dsn.cache.DsnInfoCache;
 import zowe.client.sdk.zosfiles.dsn.input.DsnDownloadInputData;
 import zowe.client.sdk.zosfiles.dsn.input.DsnListInputData;
 import zowe.client.sdk.zosfiles.dsn.model.Dataset;
@@ -30,8 +29,9 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Predicate;
-import java.util.stream.IntStream;
 
 /**
  * Provides retrieve dataset and member functionality
@@ -42,8 +42,15 @@ import java.util.stream.IntStream;
  */
 public class DsnGet {
 
+    /**
+     * Number of datasets listed by getDsnInfo. The dataset level of an exact name lists the dataset itself
+     * first, followed by the datasets having it as prefix, so a single item is needed.
+     */
+    private static final String DSN_INFO_MAX_ITEMS = "1";
+
     private final ZosConnection connection;
-    private ZosmfRequest request;
+    private final ZosmfRequest request;
+    private final DsnInfoCache dsnInfoCache;
 
     /**
      * DsnGet Constructor
@@ -54,6 +61,24 @@ public class DsnGet {
     public DsnGet(final ZosConnection connection) {
         ValidateUtils.checkNullParameter(connection, "connection");
         this.connection = connection;
+        this.request = null;
+        this.dsnInfoCache = null;
+    }
+
+    /**
+     * Alternative DsnGet constructor with a dataset attribute cache. getDsnInfo serves the attributes from the
+     * cache while its entry is alive, see DsnInfoCache.
+     *
+     * @param connection   for connection information, see ZosConnection object
+     * @param dsnInfoCache dataset attribute cache, see DsnInfoCache object
+     * @author Frank Giordano
+     */
+    public DsnGet(final ZosConnection connection, final DsnInfoCache dsnInfoCache) {
+        ValidateUtils.checkNullParameter(connection, "connection");
+        ValidateUtils.checkNullParameter(dsnInfoCache, "dsnInfoCache");
+        this.connection = connection;
+        this.request = null;
+        this.dsnInfoCache = dsnInfoCache;
     }
 
     /**
@@ -74,10 +99,14 @@ public class DsnGet {
             throw new IllegalStateException("GET_STREAM request type required");
         }
         this.request = request;
+        this.dsnInfoCache = null;
     }
 
     /**
      * Retrieve dataset information.
+     * <p>
+     * Only the given dataset is requested, instead of every dataset of its parent level. When a dataset
+     * attribute cache is given to the constructor, the information is served from the cache while alive.
      *
      * @param dataSetName sequential or partition dataset (e.g. 'DATASET.LIB')
      * @return dataset object
@@ -85,24 +114,92 @@ public class DsnGet {
      * @author Frank Giordano
      */
     public Dataset getDsnInfo(final String dataSetName) throws ZosmfRequestException {
+        checkDsnInfoName(dataSetName);
+        final Optional<Dataset> cached = getCachedDsnInfo(dataSetName);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        final DsnList dsnList = new DsnList(connection);
+        final List<Dataset> dsLst = dsnList.getDatasets(dataSetName, getDsnInfoListInputData());
+        return cacheDsnInfo(findDsnInfo(dataSetName, dsLst));
+    }
+
+    /**
+     * Retrieve dataset information asynchronously, see getDsnInfo.
+     *
+     * @param dataSetName sequential or partition dataset (e.g. 'DATASET.LIB')
+     * @param executor    executor the response is processed on
+     * @return CompletableFuture of the dataset object
+     * @author Frank Giordano
+     */
+    public CompletableFuture<Dataset> getDsnInfoAsync(final String dataSetName, final Executor executor) {
+        checkDsnInfoName(dataSetName);
+        final Optional<Dataset> cached = getCachedDsnInfo(dataSetName);
+        if (cached.isPresent()) {
+            return CompletableFuture.completedFuture(cached.get());
+        }
+        final DsnList dsnList = new DsnList(connection);
+        return dsnList.getDatasetsAsync(dataSetName, getDsnInfoListInputData(), executor)
+                .thenApply(AsyncUtils.unchecked(dsLst -> cacheDsnInfo(findDsnInfo(dataSetName, dsLst))));
+    }
+
+    /**
+     * Validate the dataset name given for retrieving its information
+     *
+     * @param dataSetName sequential or partition dataset (e.g. 'DATASET.LIB')
+     * @author Frank Giordano
+     */
+    private static void checkDsnInfoName(final String dataSetName) {
         ValidateUtils.checkNullParameter(dataSetName, "dataSetName");
         ValidateUtils.checkIllegalParameter(dataSetName.isBlank(), "dataSetName not specified");
-
-        final String[] tokens = dataSetName.split("\\.");
-        final int length = tokens.length - 1;
-        if (1 >= length) {
+        if (dataSetName.split("\\.").length < 2) {
             throw new IllegalArgumentException("invalid dataset name");
         }
+    }
+
+    /**
+     * Retrieve the list parameters requesting the attributes of a single dataset
+     *
+     * @return DsnListInputData object
+     */
+    private static DsnListInputData getDsnInfoListInputData() {
+        return new DsnListInputData.Builder().attribute(AttributeType.BASE).maxLength(DSN_INFO_MAX_ITEMS).build();
+    }
 
-        final StringBuilder str = new StringBuilder();
-        IntStream.range(0, length).forEach(i -> str.append(tokens[i]).append("."));
+    /**
+     * Retrieve the cached information of the given dataset
+     *
+     * @param dataSetName sequential or partition dataset (e.g. 'DATASET.LIB')
+     * @return dataset Optional object, empty without cache or when not cached
+     */
+    private Optional<Dataset> getCachedDsnInfo(final String dataSetName) {
+        return dsnInfoCache != null ? dsnInfoCache.get(connection, dataSetName) : Optional.empty();
+    }
 
-        String dataSetSearchStr = str.toString();
-        dataSetSearchStr = dataSetSearchStr.substring(0, str.length() - 1);
-        final DsnList dsnList = new DsnList(connection);
-        final DsnListInputData listInputData = new DsnListInputData.Builder().attribute(AttributeType.BASE).build();
-        final List<Dataset> dsLst = dsnList.getDatasets(dataSetSearchStr, listInputData);
+    /**
+     * Cache the given dataset information when a cache is given
+     *
+     * @param dataset dataset object
+     * @return the given dataset object
+     */
+    private Dataset cacheDsnInfo(final Dataset dataset) {
+        if (dsnInfoCache != null) {
+            dsnInfoCache.put(connection, dataset);
+        }
+        return dataset;
+    }
 
+    /**
+     * Find the dataset matching the given dataset name
+     *
+     * @param dataSetName sequential or partition dataset (e.g. 'DATASET.LIB')
+     * @param dsLst       list of datasets to search
+     * @return dataset object
+     * @throws ZosmfRequestException dataset not found
+     * @author Frank Giordano
+     */
+    private static Dataset findDsnInfo(final String dataSetName, final List<Dataset> dsLst)
+            throws ZosmfRequestException {
         Predicate<Dataset> isExactMatch = d -> dataSetName.equals(d.getDsname());
         final Optional<Dataset> dataSet = dsLst.stream().filter(isExactMatch).findFirst();
         return dataSet.orElseThrow(() -> new ZosmfRequestException("dataset not found"));
@@ -110,6 +207,10 @@ public class DsnGet {
 
     /**
      * Retrieve sequential dataset or dataset member content
+     * <p>
+     * When stream is specified in downloadInputData, the returned stream reads the content directly from
+     * the connection and must be closed by the caller, otherwise the whole content is read in memory first.
+     * When a content cache is specified, the content is served from the cache unless modified.
      *
      * @param targetName        name of a sequential dataset e.g., DATASET.SEQ.DATA
      *                          or a dataset member e.g., DATASET.LIB(MEMBER)
@@ -120,6 +221,155 @@ public class DsnGet {
      */
     public InputStream get(final String targetName, final DsnDownloadInputData downloadInputData)
             throws ZosmfRequestException {
+        return getContent(prepareGetRequest(targetName, downloadInputData), downloadInputData);
+    }
+
+    /**
+     * Retrieve a range of records of a sequential dataset or dataset member. Only the requested records are
+     * transferred, e.g. the first lines of a large dataset. The range replaces any recordsRange specified in
+     * downloadInputData. The records are delimited by line breaks, so a range is meant for text mode.
+     * <p>
+     * z/OSMF answers with status code 500 when the range holds no record, i.e. starts past the last record.
+     *
+     * @param targetName        name of a sequential dataset e.g., DATASET.SEQ.DATA
+     *                          or a dataset member e.g., DATASET.LIB(MEMBER)
+     * @param start             zero-based number of the first record to retrieve
+     * @param count             maximum number of records to retrieve
+     * @param downloadInputData to download parameters, see DsnDownloadInputData object
+     * @return a content stream of the records
+     * @throws ZosmfRequestException request error state
+     * @author Frank Giordano
+     */
+    public InputStream getRange(final String targetName, final long start, final int count,
+                                final DsnDownloadInputData downloadInputData) throws ZosmfRequestException {
+        ValidateUtils.checkIllegalParameter(start < 0, "start must not be negative");
+        ValidateUtils.checkIllegalParameter(count <= 0, "count must be greater than zero");
+        return getContent(prepareGetRequest(targetName, downloadInputData, start + "," + count), downloadInputData);
+    }
+
+    /**
+     * Execute a content request, see get
+     *
+     * @param getRequest        request retrieving the content
+     * @param downloadInputData to download parameters, see DsnDownloadInputData object
+     * @return a content stream
+     * @throws ZosmfRequestException request error state
+     * @author Frank Giordano
+     */
+    private static InputStream getContent(final ZosmfRequest getRequest, final DsnDownloadInputData downloadInputData)
+            throws ZosmfRequestException {
+        if (downloadInputData.isStream()) {
+            return executeStreamRequest(getRequest, downloadInputData);
+        }
+        if (downloadInputData.getContentCache().isPresent()) {
+            return toContentStream(downloadInputData.getContentCache().get().execute(getRequest));
+        }
+        return toContentStream(getRequest.executeRequest());
+    }
+
+    /**
+     * Retrieve sequential dataset or dataset member content asynchronously
+     * <p>
+     * When stream or a content cache is specified in downloadInputData, the request is performed on the executor.
+     *
+     * @param targetName        name of a sequential dataset e.g., DATASET.SEQ.DATA
+     *                          or a dataset member e.g., DATASET.LIB(MEMBER)
+     * @param downloadInputData to download parameters, see DsnDownloadInputData object
+     * @param executor          executor the response is processed on
+     * @return CompletableFuture of the content stream
+     * @author Frank Giordano
+     */
+    public CompletableFuture<InputStream> getAsync(final String targetName,
+                                                   final DsnDownloadInputData downloadInputData,
+                                                   final Executor executor) {
+        ValidateUtils.checkNullParameter(executor, "executor");
+        if (downloadInputData != null &&
+                (downloadInputData.isStream() || downloadInputData.getContentCache().isPresent())) {
+            return AsyncUtils.supplyAsync(() -> get(targetName, downloadInputData), executor);
+        }
+        return prepareGetRequest(targetName, downloadInputData).executeRequestAsync(executor)
+                .thenApply(DsnGet::toContentStream);
+    }
+
+    /**
+     * Retrieve sequential dataset or dataset member content as a stream read directly from the connection,
+     * whether stream is specified in downloadInputData or not. The content cache is not used.
+     * <p>
+     * This method is package-private
+     *
+     * @param targetName        name of a sequential dataset or a dataset member
+     * @param downloadInputData to download parameters, see DsnDownloadInputData object
+     * @return a content stream, it must be closed
+     * @throws ZosmfRequestException request error state
+     * @author Frank Giordano
+     */
+    ZosmfInputStream getStream(final String targetName, final DsnDownloadInputData downloadInputData)
+            throws ZosmfRequestException {
+        return executeStreamRequest(prepareGetRequest(targetName, downloadInputData), downloadInputData);
+    }
+
+    /**
+     * Retrieve whether sequential dataset or dataset member content changed since it carried the given ETag.
+     * The content is requested conditionally, it is only returned, and discarded, when it changed.
+     * <p>
+     * This method is package-private
+     *
+     * @param targetName        name of a sequential dataset or a dataset member
+     * @param etag              ETag the content carried when last seen
+     * @param downloadInputData to download parameters, see DsnDownloadInputData object
+     * @return boolean true when the content changed, false when it is not modified
+     * @throws ZosmfRequestException request error state
+     * @author Frank Giordano
+     */
+    boolean isModified(final String targetName, final String etag, final DsnDownloadInputData downloadInputData)
+            throws ZosmfRequestException {
+        ValidateUtils.checkIllegalParameter(etag, "etag");
+        final ZosmfRequest getRequest = prepareGetRequest(targetName, downloadInputData);
+        getRequest.getHeaders().put(ZosmfHeaders.HEADERS.get(ZosmfHeaders.IF_NONE_MATCH).get(0), etag);
+        return getRequest.executeConditionalRequest().getStatusCode().orElse(0) != ZosmfRequest.NOT_MODIFIED;
+    }
+
+    /**
+     * Execute a content request, returning the content read directly from the connection
+     *
+     * @param getRequest        request retrieving the content
+     * @param downloadInputData to download parameters, see DsnDownloadInputData object
+     * @return a content stream
+     * @throws ZosmfRequestException request error state
+     * @author Frank Giordano
+     */
+    private static ZosmfInputStream executeStreamRequest(final ZosmfRequest getRequest,
+                                                         final DsnDownloadInputData downloadInputData)
+            throws ZosmfRequestException {
+        return ((GetStreamZosmfRequest) getRequest).executeStreamRequest(
+                downloadInputData.getBufferSize().orElse(ZosmfInputStream.DEFAULT_BUFFER_SIZE));
+    }
+
+    /**
+     * Prepare the request retrieving sequential dataset or dataset member content
+     *
+     * @param targetName        name of a sequential dataset or a dataset member
+     * @param downloadInputData to download parameters, see DsnDownloadInputData object
+     * @return ZosmfRequest object
+     * @author Frank Giordano
+     */
+    private ZosmfRequest prepareGetRequest(final String targetName, final DsnDownloadInputData downloadInputData) {
+        ValidateUtils.checkNullParameter(downloadInputData, "downloadInputData");
+        return prepareGetRequest(targetName, downloadInputData, downloadInputData.getRecordsRange().orElse(null));
+    }
+
+    /**
+     * Prepare the request retrieving sequential dataset or dataset member content, optionally limited to a range
+     * of records
+     *
+     * @param targetName        name of a sequential dataset or a dataset member
+     * @param downloadInputData to download parameters, see DsnDownloadInputData object
+     * @param recordRange       X-IBM-Record-Range header value, null for the whole content
+     * @return ZosmfRequest object
+     * @author Frank Giordano
+     */
+    private ZosmfRequest prepareGetRequest(final String targetName, final DsnDownloadInputData downloadInputData,
+                                           final String recordRange) {
         ValidateUtils.checkIllegalParameter(targetName, "targetName");
         ValidateUtils.checkNullParameter(downloadInputData, "downloadInputData");
 
@@ -160,6 +410,10 @@ public class DsnGet {
             headers.put(key, value);
         }
 
+        if (recordRange != null) {
+            headers.put("X-IBM-Record-Range", recordRange);
+        }
+
         key = ZosmfHeaders.HEADERS.get("ACCEPT_ENCODING").get(0);
         if (downloadInputData.getEncoding().isPresent()) {
             value = String.valueOf(downloadInputData.getEncoding().getAsLong());
@@ -168,13 +422,22 @@ public class DsnGet {
         }
         headers.put(key, value);
 
-        if (request == null) {
-            request = ZosmfRequestFactory.buildRequest(connection, ZosmfRequestType.GET_STREAM);
-        }
+        final ZosmfRequest request = this.request != null ?
+                this.request : ZosmfRequestFactory.buildRequest(connection, ZosmfRequestType.GET_STREAM);
         request.setHeaders(headers);
         request.setUrl(url);
+        return request;
+    }
 
-        return new ByteArrayInputStream((byte[]) request.executeRequest().getResponsePhrase()
+    /**
+     * Retrieve the content stream from the response
+     *
+     * @param response Response object
+     * @return a content stream
+     * @author Frank Giordano
+     */
+    private static InputStream toContentStream(final Response response) {
+        return new ByteArrayInputStream((byte[]) response.getResponsePhrase()
                 .orElseThrow(() -> new IllegalStateException("no dsn get response phrase")));
     }
 
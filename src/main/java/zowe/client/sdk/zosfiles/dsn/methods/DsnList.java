@@ -9,14 +9,13 @@
  */
 package zowe.client.sdk.zosfiles.dsn.methods;
 
-import org.json.simple.JSONArray;
-import org.json.simple.JSONObject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import zowe.client.sdk.core.ZosConnection;
 import zowe.client.sdk.rest.*;
 import zowe.client.sdk.rest.exception.ZosmfRequestException;
 import zowe.client.sdk.rest.type.ZosmfRequestType;
+import zowe.client.sdk.utility.AsyncUtils;
 import zowe.client.sdk.utility.EncodeUtils;
 import zowe.client.sdk.utility.JsonUtils;
 import zowe.client.sdk.utility.ValidateUtils;
@@ -26,7 +25,11 @@ import zowe.client.sdk.zosfiles.dsn.model.Dataset;
 import zowe.client.sdk.zosfiles.dsn.model.Member;
 import zowe.client.sdk.zosfiles.dsn.types.AttributeType;
 
+import java.io.InputStream;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
 
 /**
  * Provides list dataset and member functionality
@@ -38,8 +41,13 @@ public class DsnList {
 
     private static final Logger LOG = LoggerFactory.getLogger(DsnList.class);
 
+    /**
+     * Number of items requested per page by streamDatasets and streamMembers when no maxLength is given
+     */
+    public static final int DEFAULT_PAGE_SIZE = 1000;
+
     private final ZosConnection connection;
-    private ZosmfRequest request;
+    private final ZosmfRequest request;
 
     /**
      * DsnList constructor
@@ -50,6 +58,7 @@ public class DsnList {
     public DsnList(final ZosConnection connection) {
         ValidateUtils.checkNullParameter(connection, "connection");
         this.connection = connection;
+        this.request = null;
     }
 
     /**
@@ -83,11 +92,83 @@ public class DsnList {
      */
     public List<Dataset> getDatasets(final String dataSetName, final DsnListInputData listInputData)
             throws ZosmfRequestException {
+        final Response response = prepareDatasetsRequest(dataSetName, listInputData).executeRequest();
+        return getResult(response, new ArrayList<Dataset>(), null);
+    }
+
+    /**
+     * Get a list of Dataset objects asynchronously
+     *
+     * @param dataSetName   name of a dataset (e.g. 'DATASET.LIB')
+     * @param listInputData list parameters, see DsnListInputData object
+     * @param executor      executor the response is processed on
+     * @return CompletableFuture of the list of Dataset objects
+     * @author Frank Giordano
+     */
+    public CompletableFuture<List<Dataset>> getDatasetsAsync(final String dataSetName,
+                                                             final DsnListInputData listInputData,
+                                                             final Executor executor) {
+        ValidateUtils.checkNullParameter(executor, "executor");
+        return prepareDatasetsRequest(dataSetName, listInputData).executeRequestAsync(executor)
+                .thenApply(AsyncUtils.unchecked(response -> getResult(response, new ArrayList<Dataset>(), null)));
+    }
+
+    /**
+     * Stream the Dataset objects of a dataset list.
+     * <p>
+     * Datasets are parsed one at a time while the response is read, so the whole list is never held in memory,
+     * and the first ones are available before the response is complete. The list is requested in pages of
+     * maxLength items, DEFAULT_PAGE_SIZE when not given, and the next page is requested transparently when
+     * z/OSMF reports more rows.
+     * <p>
+     * The returned stream holds a connection slot while a page is read, it must be closed, preferably with
+     * try-with-resources. An error reading a later page is thrown as an unchecked exception while iterating.
+     *
+     * @param dataSetName   name of a dataset (e.g. 'DATASET.LIB')
+     * @param listInputData list parameters, see DsnListInputData object
+     * @return Stream of Dataset objects
+     * @throws ZosmfRequestException request error state of the first page
+     * @author Frank Giordano
+     */
+    public Stream<Dataset> streamDatasets(final String dataSetName, final DsnListInputData listInputData)
+            throws ZosmfRequestException {
         ValidateUtils.checkIllegalParameter(dataSetName, "dataSetName");
         ValidateUtils.checkNullParameter(listInputData, "listInputData");
+        final Map<String, String> headers = getPageHeaders(listInputData, false);
+        final Map<String, String> nextPageHeaders = getPageHeaders(listInputData, true);
+        return new DsnListIterator<>(Dataset.class, Dataset::getDsname,
+                (start, nextPage) -> openPage(getDatasetsUrl(dataSetName, listInputData, start),
+                        nextPage ? nextPageHeaders : headers),
+                listInputData.getStart().orElse(null)).stream();
+    }
 
-        final Map<String, String> headers = new HashMap<>();
-        final List<Dataset> datasets = new ArrayList<>();
+    /**
+     * Prepare the request retrieving a list of datasets
+     *
+     * @param dataSetName   name of a dataset (e.g. 'DATASET.LIB')
+     * @param listInputData list parameters, see DsnListInputData object
+     * @return ZosmfRequest object
+     * @author Frank Giordano
+     */
+    private ZosmfRequest prepareDatasetsRequest(final String dataSetName, final DsnListInputData listInputData) {
+        ValidateUtils.checkIllegalParameter(dataSetName, "dataSetName");
+        ValidateUtils.checkNullParameter(listInputData, "listInputData");
+
+        final String url = getDatasetsUrl(dataSetName, listInputData, listInputData.getStart().orElse(null));
+        return prepareRequest(listInputData, url);
+    }
+
+    /**
+     * Build the url of a dataset list request
+     *
+     * @param dataSetName   name of a dataset (e.g. 'DATASET.LIB')
+     * @param listInputData list parameters, see DsnListInputData object
+     * @param start         name of the first dataset to list, may be null
+     * @return url string value
+     * @author Frank Giordano
+     */
+    private String getDatasetsUrl(final String dataSetName, final DsnListInputData listInputData,
+                                  final String start) {
         String url = connection.getZosmfUrl() +
                 ZosFilesConstants.RESOURCE + ZosFilesConstants.RES_DS_FILES + QueryConstants.QUERY_ID +
                 ZosFilesConstants.QUERY_DS_LEVEL + EncodeUtils.encodeURIComponent(dataSetName);
@@ -96,11 +177,10 @@ public class DsnList {
             url += QueryConstants.COMBO_ID + ZosFilesConstants.QUERY_VOLUME +
                     EncodeUtils.encodeURIComponent(listInputData.getVolume().get());
         }
-        if (listInputData.getStart().isPresent()) {
-            url += QueryConstants.COMBO_ID + ZosFilesConstants.QUERY_START + listInputData.getStart().get();
+        if (start != null) {
+            url += QueryConstants.COMBO_ID + ZosFilesConstants.QUERY_START + EncodeUtils.encodeURIComponent(start);
         }
-
-        return getResult(getResponse(listInputData, headers, url), datasets, null);
+        return url;
     }
 
     /**
@@ -114,11 +194,78 @@ public class DsnList {
      */
     public List<Member> getMembers(final String dataSetName, final DsnListInputData listInputData)
             throws ZosmfRequestException {
+        final Response response = prepareMembersRequest(dataSetName, listInputData).executeRequest();
+        return getResult(response, null, new ArrayList<Member>());
+    }
+
+    /**
+     * Get a list of member objects from a partition Dataset asynchronously
+     *
+     * @param dataSetName   name of a dataset (e.g. 'DATASET.LIB')
+     * @param listInputData list parameters, see DsnListInputData object
+     * @param executor      executor the response is processed on
+     * @return CompletableFuture of the list of member objects
+     * @author Frank Giordano
+     */
+    public CompletableFuture<List<Member>> getMembersAsync(final String dataSetName,
+                                                           final DsnListInputData listInputData,
+                                                           final Executor executor) {
+        ValidateUtils.checkNullParameter(executor, "executor");
+        return prepareMembersRequest(dataSetName, listInputData).executeRequestAsync(executor)
+                .thenApply(AsyncUtils.unchecked(response -> getResult(response, null, new ArrayList<Member>())));
+    }
+
+    /**
+     * Stream the member objects of a partition Dataset.
+     * <p>
+     * Members are parsed one at a time while the response is read, and pages of maxLength items,
+     * DEFAULT_PAGE_SIZE when not given, are requested transparently, see streamDatasets.
+     * The returned stream must be closed.
+     *
+     * @param dataSetName   name of a dataset (e.g. 'DATASET.LIB')
+     * @param listInputData list parameters, see DsnListInputData object
+     * @return Stream of member objects
+     * @throws ZosmfRequestException request error state of the first page
+     * @author Frank Giordano
+     */
+    public Stream<Member> streamMembers(final String dataSetName, final DsnListInputData listInputData)
+            throws ZosmfRequestException {
         ValidateUtils.checkIllegalParameter(dataSetName, "dataSetName");
         ValidateUtils.checkNullParameter(listInputData, "listInputData");
+        final Map<String, String> headers = getPageHeaders(listInputData, false);
+        final Map<String, String> nextPageHeaders = getPageHeaders(listInputData, true);
+        return new DsnListIterator<>(Member.class, Member::getMember,
+                (start, nextPage) -> openPage(getMembersUrl(dataSetName, listInputData, start),
+                        nextPage ? nextPageHeaders : headers),
+                listInputData.getStart().orElse(null)).stream();
+    }
 
-        final Map<String, String> headers = new HashMap<>();
-        final List<Member> members = new ArrayList<>();
+    /**
+     * Prepare the request retrieving a list of members
+     *
+     * @param dataSetName   name of a dataset (e.g. 'DATASET.LIB')
+     * @param listInputData list parameters, see DsnListInputData object
+     * @return ZosmfRequest object
+     * @author Frank Giordano
+     */
+    private ZosmfRequest prepareMembersRequest(final String dataSetName, final DsnListInputData listInputData) {
+        ValidateUtils.checkIllegalParameter(dataSetName, "dataSetName");
+        ValidateUtils.checkNullParameter(listInputData, "listInputData");
+
+        return prepareRequest(listInputData, getMembersUrl(dataSetName, listInputData, null));
+    }
+
+    /**
+     * Build the url of a member list request
+     *
+     * @param dataSetName   name of a dataset (e.g. 'DATASET.LIB')
+     * @param listInputData list parameters, see DsnListInputData object
+     * @param start         name of the first member to list, may be null
+     * @return url string value
+     * @author Frank Giordano
+     */
+    private String getMembersUrl(final String dataSetName, final DsnListInputData listInputData,
+                                 final String start) {
         String url = connection.getZosmfUrl() +
                 ZosFilesConstants.RESOURCE + ZosFilesConstants.RES_DS_FILES + "/" +
                 EncodeUtils.encodeURIComponent(dataSetName) + ZosFilesConstants.RES_DS_MEMBERS;
@@ -127,8 +274,58 @@ public class DsnList {
             url += QueryConstants.QUERY_ID + ZosFilesConstants.QUERY_PATTERN +
                     EncodeUtils.encodeURIComponent(listInputData.getPattern().get());
         }
+        if (start != null) {
+            url += (url.contains(QueryConstants.QUERY_ID) ? QueryConstants.COMBO_ID : QueryConstants.QUERY_ID) +
+                    ZosFilesConstants.QUERY_START + EncodeUtils.encodeURIComponent(start);
+        }
+        return url;
+    }
 
-        return getResult(getResponse(listInputData, headers, url), null, members);
+    /**
+     * Build the http headers of a page requested by streamDatasets or streamMembers. A page following a returned
+     * one starts with the last item returned, so it asks for one more item to always bring new ones.
+     *
+     * @param listInputData list parameters
+     * @param nextPage      true for a page following a returned one
+     * @return map of headers
+     * @author Frank Giordano
+     */
+    private Map<String, String> getPageHeaders(final DsnListInputData listInputData, final boolean nextPage) {
+        final Map<String, String> headers = new HashMap<>();
+        setHeaders(listInputData, headers);
+        final String maxItemsKey = ZosmfHeaders.HEADERS.get("X_IBM_MAX_ITEMS").get(0);
+        int maxItems = DEFAULT_PAGE_SIZE;
+        if (listInputData.getMaxLength().isPresent()) {
+            try {
+                maxItems = Integer.parseInt(listInputData.getMaxLength().get().trim());
+            } catch (NumberFormatException e) {
+                // sent as given, z/OSMF reports the error
+                return headers;
+            }
+        }
+        // zero lists every item in one page
+        if (maxItems > 0) {
+            headers.put(maxItemsKey, String.valueOf(nextPage ? maxItems + 1 : maxItems));
+        }
+        return headers;
+    }
+
+    /**
+     * Request a page of a list, returning its content read directly from the connection
+     *
+     * @param url     url of the page
+     * @param headers http headers of the page request
+     * @return InputStream object
+     * @throws ZosmfRequestException request error state
+     * @author Frank Giordano
+     */
+    private InputStream openPage(final String url, final Map<String, String> headers)
+            throws ZosmfRequestException {
+        final GetStreamZosmfRequest pageRequest =
+                (GetStreamZosmfRequest) ZosmfRequestFactory.buildRequest(connection, ZosmfRequestType.GET_STREAM);
+        pageRequest.setHeaders(headers);
+        pageRequest.setUrl(url);
+        return pageRequest.executeStreamRequest(ZosmfInputStream.DEFAULT_BUFFER_SIZE);
     }
 
     /**
@@ -154,7 +351,7 @@ public class DsnList {
             }
         }
 
-        if (response.getResponsePhrase().isEmpty()) {
+        if (!response.hasResponsePhrase()) {
             LOG.debug(ZosFilesConstants.RESPONSE_PHRASE_ERROR);
             if (datasetLst == null) {
                 return memberLst;
@@ -180,24 +377,13 @@ public class DsnList {
             throw new IllegalStateException(errMsg);
         }
 
-        final String jsonStr = response.getResponsePhrase().get().toString();
-        final JSONObject jsonObject = JsonUtils.parse(jsonStr);
-        if (jsonObject.isEmpty()) {
-            if (datasetLst == null) {
-                return memberLst;
-            } else {
-                return datasetLst;
-            }
-        }
-
-        final JSONArray items = (JSONArray) jsonObject.get(ZosFilesConstants.RESPONSE_ITEMS);
         final String context = "getResult";
-        for (final Object obj : items) {
-            if (datasetLst == null) {
-                memberLst.add((T) JsonUtils.parseResponse(String.valueOf(obj), Member.class, context));
-            } else {
-                datasetLst.add((T) JsonUtils.parseResponse(String.valueOf(obj), Dataset.class, context));
-            }
+        if (datasetLst == null) {
+            memberLst.addAll((List<T>) JsonUtils.parseResponseList(
+                    response, ZosFilesConstants.RESPONSE_ITEMS, Member.class, context));
+        } else {
+            datasetLst.addAll((List<T>) JsonUtils.parseResponseList(
+                    response, ZosFilesConstants.RESPONSE_ITEMS, Dataset.class, context));
         }
 
         if (datasetLst == null) {
@@ -208,25 +394,21 @@ public class DsnList {
     }
 
     /**
-     * Perform the http request and return its response.
+     * Prepare the http request with its headers and url.
      *
      * @param listInputData list parameters
-     * @param headers       list of headers for http request
      * @param url           url for http request
-     * @return response object with http response info
-     * @throws ZosmfRequestException request error state
+     * @return ZosmfRequest object
      * @author Frank Giordano
      */
-    private Response getResponse(final DsnListInputData listInputData, final Map<String, String> headers, final String url)
-            throws ZosmfRequestException {
+    private ZosmfRequest prepareRequest(final DsnListInputData listInputData, final String url) {
+        final Map<String, String> headers = new HashMap<>();
         setHeaders(listInputData, headers);
-        if (request == null) {
-            request = ZosmfRequestFactory.buildRequest(connection, ZosmfRequestType.GET_JSON);
-        }
+        final ZosmfRequest request = this.request != null ?
+                this.request : ZosmfRequestFactory.buildRequest(connection, ZosmfRequestType.GET_JSON);
         request.setHeaders(headers);
         request.setUrl(url);
-
-        return request.executeRequest();
+        return request;
     }
 
     /**
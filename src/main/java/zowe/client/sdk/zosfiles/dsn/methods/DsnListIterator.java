@@ -0,0 +1,269 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosfiles.dsn.methods;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import zowe.client.sdk.rest.exception.ZosmfRequestException;
+import zowe.client.sdk.utility.JsonUtils;
+import zowe.client.sdk.zosfiles.ZosFilesConstants;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Iterator over the items of a dataset or member list response, parsed incrementally while the response
+ * content is read.
+ * <p>
+ * When z/OSMF reports more rows than returned, the next page is requested starting at the name of the last
+ * item returned. z/OSMF includes the start item in the next page, so it is skipped, and the page source asks for
+ * one more item than the first page so that a page always brings new items, even with a page size of one.
+ *
+ * @param <T> Dataset or Member object
+ * @author Frank Giordano
+ * @version 6.0
+ */
+final class DsnListIterator<T> implements Iterator<T>, AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DsnListIterator.class);
+    private static final String MORE_ROWS = "moreRows";
+
+    private final Class<T> type;
+    private final Function<T, String> nameOf;
+    private final PageSource pageSource;
+    private JsonParser parser;
+    private boolean inItems;
+    private boolean moreRows;
+    private boolean skipStart;
+    private boolean nextPage;
+    private int pageItems;
+    private String lastName;
+    private T next;
+    private boolean closed;
+
+    /**
+     * DsnListIterator constructor, the first page is requested right away
+     *
+     * @param type       Dataset or Member class
+     * @param nameOf     function returning the name of an item, used as the start of the next page
+     * @param pageSource source of the content of the pages
+     * @param start      name the first page starts at, may be null
+     * @throws ZosmfRequestException request error state
+     * @author Frank Giordano
+     */
+    DsnListIterator(final Class<T> type, final Function<T, String> nameOf, final PageSource pageSource,
+                    final String start) throws ZosmfRequestException {
+        this.type = type;
+        this.nameOf = nameOf;
+        this.pageSource = pageSource;
+        try {
+            openPage(start, false);
+        } catch (IOException e) {
+            close();
+            throw new ZosmfRequestException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Return a sequential stream over the items. Closing the stream closes this iterator.
+     *
+     * @return Stream object
+     * @author Frank Giordano
+     */
+    Stream<T> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this,
+                Spliterator.ORDERED | Spliterator.NONNULL), false).onClose(this::close);
+    }
+
+    /**
+     * Return whether another item is available, requesting the next page when needed
+     *
+     * @return boolean true or false
+     * @throws UncheckedIOException error reading the response content
+     * @throws IllegalStateException error requesting the next page, with the ZosmfRequestException as cause
+     */
+    @Override
+    public boolean hasNext() {
+        if (next == null && !closed) {
+            try {
+                next = advance();
+            } catch (IOException e) {
+                close();
+                throw new UncheckedIOException(e);
+            } catch (ZosmfRequestException e) {
+                close();
+                throw new IllegalStateException(e.getMessage(), e);
+            }
+        }
+        return next != null;
+    }
+
+    /**
+     * Return the next item
+     *
+     * @return Dataset or Member object
+     */
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        final T item = next;
+        next = null;
+        return item;
+    }
+
+    /**
+     * Read the next item, moving to the next page at the end of the current one
+     *
+     * @return item or null at the end of the list
+     * @throws IOException           error reading the response content
+     * @throws ZosmfRequestException error requesting the next page
+     */
+    private T advance() throws IOException, ZosmfRequestException {
+        while (parser != null) {
+            if (inItems) {
+                if (parser.nextToken() == JsonToken.START_OBJECT) {
+                    final T item = JsonUtils.getObjectMapper().readValue(parser, type);
+                    final String name = nameOf.apply(item);
+                    if (skipStart) {
+                        skipStart = false;
+                        if (name != null && name.equals(lastName)) {
+                            continue;
+                        }
+                    }
+                    pageItems++;
+                    lastName = name;
+                    return item;
+                }
+                // end of the items array, read the remaining fields of the page
+                inItems = false;
+                readFields();
+                if (inItems) {
+                    continue;
+                }
+            }
+            closePage();
+            if (moreRows && lastName != null) {
+                if (nextPage && pageItems == 0) {
+                    throw new IOException("list page starting at " + lastName + " returned no further item");
+                }
+                LOG.debug("requesting next page starting at {}", lastName);
+                openPage(lastName, true);
+                skipStart = true;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Request the page starting at the given name and position the parser at its first item
+     *
+     * @param start    name the page starts at, may be null
+     * @param nextPage true for a page following a returned one
+     * @throws IOException           error reading the response content
+     * @throws ZosmfRequestException request error state
+     */
+    private void openPage(final String start, final boolean nextPage) throws IOException, ZosmfRequestException {
+        final InputStream content = pageSource.open(start, nextPage);
+        try {
+            parser = JsonUtils.getObjectMapper().createParser(content);
+        } catch (IOException e) {
+            content.close();
+            throw e;
+        }
+        this.nextPage = nextPage;
+        moreRows = false;
+        pageItems = 0;
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new IOException("json object expected in list response");
+        }
+        readFields();
+    }
+
+    /**
+     * Read the fields of the page object up to the items array or the end of the object, recording moreRows
+     *
+     * @throws IOException error reading the response content
+     */
+    private void readFields() throws IOException {
+        JsonToken token;
+        while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+            final String name = parser.getCurrentName();
+            final JsonToken value = parser.nextToken();
+            if (ZosFilesConstants.RESPONSE_ITEMS.equals(name) && value == JsonToken.START_ARRAY) {
+                inItems = true;
+                return;
+            }
+            if (MORE_ROWS.equals(name)) {
+                moreRows = value == JsonToken.VALUE_TRUE;
+            }
+            parser.skipChildren();
+        }
+        if (token != JsonToken.END_OBJECT) {
+            throw new IOException("unexpected end of list response");
+        }
+    }
+
+    /**
+     * Close the content of the current page, releasing its connection slot
+     */
+    private void closePage() {
+        if (parser != null) {
+            try {
+                parser.close();
+            } catch (IOException e) {
+                LOG.debug("error closing list response", e);
+            }
+            parser = null;
+        }
+        inItems = false;
+    }
+
+    /**
+     * Stop the iteration and close the content of the current page
+     */
+    @Override
+    public void close() {
+        closed = true;
+        next = null;
+        closePage();
+    }
+
+    /**
+     * Source of the content of the pages of a list
+     */
+    @FunctionalInterface
+    interface PageSource {
+
+        /**
+         * Request the page starting at the given name, returning its content
+         *
+         * @param start    name the page starts at, may be null
+         * @param nextPage true for a page following a returned one, which starts with the last item returned
+         *                 and asks for one more item than the first page
+         * @return InputStream object
+         * @throws ZosmfRequestException request error state
+         */
+        InputStream open(String start, boolean nextPage) throws ZosmfRequestException;
+
+    }
+
+}
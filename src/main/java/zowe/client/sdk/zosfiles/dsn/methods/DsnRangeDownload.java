@@ -0,0 +1,234 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosfiles.dsn.methods;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import zowe.client.sdk.core.ZosConnection;
+import zowe.client.sdk.rest.exception.ZosmfRequestException;
+import zowe.client.sdk.utility.AsyncUtils;
+import zowe.client.sdk.utility.FileUtils;
+import zowe.client.sdk.utility.ValidateUtils;
+import zowe.client.sdk.zosfiles.dsn.input.DsnDownloadInputData;
+import zowe.client.sdk.zosfiles.dsn.input.DsnRangeDownloadInputData;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Download a large sequential dataset, or dataset member, in windows of records fetched concurrently.
+ * <p>
+ * The content is requested in consecutive record ranges of recordsPerWindow records, up to the maximum number of
+ * concurrent requests given at once, and written in order as the windows complete. The number of records does not
+ * need to be known beforehand: the download ends with the first window holding fewer records than requested.
+ * A single transfer of a multi-gigabyte dataset is bound by the throughput of one connection, several ranged
+ * transfers use the bandwidth and the z/OSMF threads available.
+ * <p>
+ * The records are delimited by line breaks, so the content is retrieved in text mode.
+ *
+ * @author Frank Giordano
+ * @version 6.0
+ */
+public class DsnRangeDownload {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DsnRangeDownload.class);
+    private static final int NO_RECORD_STATUS = 500;
+    private final DsnGet dsnGet;
+
+    /**
+     * DsnRangeDownload constructor
+     *
+     * @param connection for connection information, see ZosConnection object
+     * @author Frank Giordano
+     */
+    public DsnRangeDownload(final ZosConnection connection) {
+        ValidateUtils.checkNullParameter(connection, "connection");
+        this.dsnGet = new DsnGet(connection);
+    }
+
+    /**
+     * Download the content of a sequential dataset or dataset member to the given stream, in order.
+     * The stream is not closed.
+     *
+     * @param targetName     name of a sequential dataset e.g., DATASET.SEQ.DATA
+     *                       or a dataset member e.g., DATASET.LIB(MEMBER)
+     * @param outputStream   stream the content is written to
+     * @param rangeInputData ranged download parameters, see DsnRangeDownloadInputData object
+     * @return number of records written
+     * @throws ZosmfRequestException request error state, or error writing the stream
+     * @author Frank Giordano
+     */
+    public long download(final String targetName, final OutputStream outputStream,
+                         final DsnRangeDownloadInputData rangeInputData) throws ZosmfRequestException {
+        ValidateUtils.checkIllegalParameter(targetName, "targetName");
+        ValidateUtils.checkNullParameter(outputStream, "outputStream");
+        ValidateUtils.checkNullParameter(rangeInputData, "rangeInputData");
+
+        final int recordsPerWindow = rangeInputData.getRecordsPerWindow();
+        final ExecutorService executor = AsyncUtils.createExecutor("zowe-sdk-dsn-range",
+                rangeInputData.getMaxConcurrentRequests());
+        final Deque<CompletableFuture<byte[]>> windows = new ArrayDeque<>();
+        long nextStart = 0;
+        long records = 0;
+        // whether the content written so far ends in the middle of a record line
+        boolean lineOpen = false;
+        try {
+            for (int i = 0; i < rangeInputData.getMaxConcurrentRequests(); i++) {
+                windows.add(fetchAsync(targetName, nextStart, rangeInputData, executor));
+                nextStart += recordsPerWindow;
+            }
+            while (!windows.isEmpty()) {
+                final byte[] content = AsyncUtils.join(windows.poll());
+                if (content.length > 0) {
+                    // a window may not end with a line separator, its last record must not be glued to the next one
+                    if (lineOpen) {
+                        outputStream.write('\n');
+                    }
+                    outputStream.write(content);
+                    lineOpen = content[content.length - 1] != '\n';
+                }
+                final int count = countRecords(content);
+                records += count;
+                if (count < recordsPerWindow) {
+                    break;
+                }
+                windows.add(fetchAsync(targetName, nextStart, rangeInputData, executor));
+                nextStart += recordsPerWindow;
+            }
+        } catch (IOException e) {
+            throw new ZosmfRequestException(e.getMessage(), e);
+        } finally {
+            windows.forEach(window -> window.cancel(true));
+            executor.shutdownNow();
+        }
+        LOG.debug("downloaded {} records of {}", records, targetName);
+        return records;
+    }
+
+    /**
+     * Download the content of a sequential dataset or dataset member to the given file, the file is created or
+     * replaced. The content is written to a temporary file first and renamed once complete.
+     *
+     * @param targetName     name of a sequential dataset e.g., DATASET.SEQ.DATA
+     *                       or a dataset member e.g., DATASET.LIB(MEMBER)
+     * @param path           file the content is written to
+     * @param rangeInputData ranged download parameters, see DsnRangeDownloadInputData object
+     * @return number of records written
+     * @throws ZosmfRequestException request error state, or error writing the file
+     * @author Frank Giordano
+     */
+    public long download(final String targetName, final Path path, final DsnRangeDownloadInputData rangeInputData)
+            throws ZosmfRequestException {
+        ValidateUtils.checkNullParameter(path, "path");
+        return FileUtils.writeAtomically(path, outputStream -> download(targetName, outputStream, rangeInputData));
+    }
+
+    /**
+     * Request a window of records on the executor
+     *
+     * @param targetName     name of the dataset or member
+     * @param start          zero-based number of the first record of the window
+     * @param rangeInputData ranged download parameters
+     * @param executor       executor the request runs on
+     * @return CompletableFuture of the content of the window, empty past the last record
+     */
+    private CompletableFuture<byte[]> fetchAsync(final String targetName, final long start,
+                                                 final DsnRangeDownloadInputData rangeInputData,
+                                                 final ExecutorService executor) {
+        return AsyncUtils.supplyAsync(() -> fetch(targetName, start, rangeInputData.getRecordsPerWindow(),
+                rangeInputData.getDownloadInputData()), executor);
+    }
+
+    /**
+     * Request a window of records. z/OSMF fails with status code 500 when a range holds no record, so a failing
+     * window is probed with a range of a single record: when it fails the same way, the window starts past the
+     * last record, otherwise the window failure is reported.
+     *
+     * @param targetName        name of the dataset or member
+     * @param start             zero-based number of the first record of the window
+     * @param count             number of records of the window
+     * @param downloadInputData parameters of the request
+     * @return content of the window, empty past the last record
+     * @throws ZosmfRequestException request error state
+     */
+    private byte[] fetch(final String targetName, final long start, final int count,
+                         final DsnDownloadInputData downloadInputData) throws ZosmfRequestException {
+        try {
+            return read(targetName, start, count, downloadInputData);
+        } catch (ZosmfRequestException e) {
+            if (!isNoRecord(e)) {
+                throw e;
+            }
+            try {
+                read(targetName, start, 1, downloadInputData);
+            } catch (ZosmfRequestException probe) {
+                if (isNoRecord(probe)) {
+                    return new byte[0];
+                }
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Read the content of a range of records
+     *
+     * @param targetName        name of the dataset or member
+     * @param start             zero-based number of the first record
+     * @param count             number of records
+     * @param downloadInputData parameters of the request
+     * @return content of the records
+     * @throws ZosmfRequestException request error state, or error reading the content
+     */
+    private byte[] read(final String targetName, final long start, final int count,
+                        final DsnDownloadInputData downloadInputData) throws ZosmfRequestException {
+        try (InputStream content = dsnGet.getRange(targetName, start, count, downloadInputData)) {
+            return content.readAllBytes();
+        } catch (IOException e) {
+            throw new ZosmfRequestException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Whether a request failed because its range holds no record
+     *
+     * @param e request error
+     * @return boolean true or false
+     */
+    private static boolean isNoRecord(final ZosmfRequestException e) {
+        return e.getResponse() != null && e.getResponse().getStatusCode().orElse(0) == NO_RECORD_STATUS;
+    }
+
+    /**
+     * Count the records of a window, each one ends with a line break except possibly the last one
+     *
+     * @param content content of the window
+     * @return number of records
+     */
+    private static int countRecords(final byte[] content) {
+        int count = 0;
+        for (final byte b : content) {
+            if (b == '\n') {
+                count++;
+            }
+        }
+        if (content.length > 0 && content[content.length - 1] != '\n') {
+            count++;
+        }
+        return count;
+    }
+
+}
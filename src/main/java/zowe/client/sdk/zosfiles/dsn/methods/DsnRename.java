@@ -21,6 +21,7 @@ import zowe.client.sdk.rest.type.ZosmfRequestType;
 import zowe.client.sdk.utility.EncodeUtils;
 import zowe.client.sdk.utility.ValidateUtils;
 import zowe.client.sdk.zosfiles.ZosFilesConstants;
+import zowe.client.sdk.zosfiles.dsn.cache.DsnInfoCache;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -34,8 +35,8 @@ import java.util.Map;
 public class DsnRename {
 
     private final ZosConnection connection;
-    private ZosmfRequest request;
-    private String url;
+    private final ZosmfRequest request;
+    private final DsnInfoCache dsnInfoCache;
 
     /**
      * DsnRename Constructor
@@ -46,6 +47,24 @@ public class DsnRename {
     public DsnRename(final ZosConnection connection) {
         ValidateUtils.checkNullParameter(connection, "connection");
         this.connection = connection;
+        this.request = null;
+        this.dsnInfoCache = null;
+    }
+
+    /**
+     * Alternative DsnRename constructor invalidating the cached attributes of a renamed dataset under its old and
+     * new names, and of a dataset whose member is renamed, see DsnInfoCache.
+     *
+     * @param connection   for connection information, see ZosConnection object
+     * @param dsnInfoCache dataset attribute cache, see DsnInfoCache object
+     * @author Frank Giordano
+     */
+    public DsnRename(final ZosConnection connection, final DsnInfoCache dsnInfoCache) {
+        ValidateUtils.checkNullParameter(connection, "connection");
+        ValidateUtils.checkNullParameter(dsnInfoCache, "dsnInfoCache");
+        this.connection = connection;
+        this.request = null;
+        this.dsnInfoCache = dsnInfoCache;
     }
 
     /**
@@ -66,6 +85,7 @@ public class DsnRename {
             throw new IllegalStateException("PUT_JSON request type required");
         }
         this.request = request;
+        this.dsnInfoCache = null;
     }
 
     /**
@@ -81,8 +101,13 @@ public class DsnRename {
         ValidateUtils.checkIllegalParameter(dataSetName, "dataSetName");
         ValidateUtils.checkIllegalParameter(newDataSetName, "newDataSetName");
 
-        setUrl(newDataSetName);
-        return executeCommon(dataSetName);
+        try {
+            return executeCommon(buildUrl(newDataSetName), dataSetName);
+        } finally {
+            if (dsnInfoCache != null) {
+                dsnInfoCache.invalidate(connection, dataSetName, newDataSetName);
+            }
+        }
     }
 
     /**
@@ -101,28 +126,36 @@ public class DsnRename {
         ValidateUtils.checkIllegalParameter(fromDataSetName, "fromDataSetName");
         ValidateUtils.checkIllegalParameter(memberName, "memberName");
 
-        setUrl(fromDataSetName, newMemberName);
-        return executeCommon(fromDataSetName, memberName);
+        try {
+            return executeCommon(buildUrl(fromDataSetName, newMemberName), fromDataSetName, memberName);
+        } finally {
+            if (dsnInfoCache != null) {
+                dsnInfoCache.invalidate(connection, fromDataSetName);
+            }
+        }
     }
 
     /**
-     * Set the global url value
+     * Build the url of the rename request
      *
      * @param args new or current dataset name and/or new member name
+     * @return url string value
      * @author Frank Giordano
      */
-    private void setUrl(final String... args) {
-        url = connection.getZosmfUrl() +
+    private String buildUrl(final String... args) {
+        String url = connection.getZosmfUrl() +
                 ZosFilesConstants.RESOURCE + ZosFilesConstants.RES_DS_FILES + "/" +
                 EncodeUtils.encodeURIComponent(args[0]);
         if (args.length > 1) {
             url += "(" + EncodeUtils.encodeURIComponent(args[1]) + ")";
         }
+        return url;
     }
 
     /**
      * Build and execute the request and return the response
      *
+     * @param url  url of the rename request
      * @param args at most two string arguments:
      *             one given source dataSet name to be renamed or
      *             one given source dataSet name where the member to be renamed exists, second member name to rename
@@ -130,7 +163,7 @@ public class DsnRename {
      * @throws ZosmfRequestException request error state
      * @author Frank Giordano
      */
-    private Response executeCommon(final String... args) throws ZosmfRequestException {
+    private Response executeCommon(final String url, final String... args) throws ZosmfRequestException {
         final Map<String, Object> renameMap = new HashMap<>();
         renameMap.put("request", "rename");
 
@@ -143,9 +176,8 @@ public class DsnRename {
         final JSONObject fromDataSetObj = new JSONObject(fromDataSetReq);
         renameMap.put("from-dataset", fromDataSetObj);
 
-        if (request == null) {
-            request = ZosmfRequestFactory.buildRequest(connection, ZosmfRequestType.PUT_JSON);
-        }
+        final ZosmfRequest request = this.request != null ?
+                this.request : ZosmfRequestFactory.buildRequest(connection, ZosmfRequestType.PUT_JSON);
         request.setUrl(url);
         request.setBody(new JSONObject(renameMap).toString());
 
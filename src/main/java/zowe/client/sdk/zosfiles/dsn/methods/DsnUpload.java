@@ -0,0 +1,393 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosfiles.dsn.methods;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import zowe.client.sdk.core.ZosConnection;
+import zowe.client.sdk.rest.Response;
+import zowe.client.sdk.rest.ZosmfStreamBody;
+import zowe.client.sdk.rest.exception.ZosmfRequestException;
+import zowe.client.sdk.utility.AsyncUtils;
+import zowe.client.sdk.utility.FileUtils;
+import zowe.client.sdk.utility.JsonUtils;
+import zowe.client.sdk.utility.ValidateUtils;
+import zowe.client.sdk.zosfiles.dsn.input.DsnDownloadInputData;
+import zowe.client.sdk.zosfiles.dsn.input.DsnListInputData;
+import zowe.client.sdk.zosfiles.dsn.input.DsnUploadInputData;
+import zowe.client.sdk.zosfiles.dsn.model.Member;
+import zowe.client.sdk.zosfiles.dsn.response.DsnUploadResponse;
+import zowe.client.sdk.zosfiles.dsn.types.AttributeType;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Upload the files of a local directory to the members of a partitioned dataset (PDS or PDSE), sending only the
+ * members that changed.
+ * <p>
+ * Each regular file of the directory is uploaded to the member named after the file name without its extension,
+ * in upper case, e.g. "payroll.cbl" to PAYROLL. Files whose name does not map to a valid member name, or maps to the
+ * same member as another file, are ignored.
+ * <p>
+ * A state file records, for each member uploaded, the SHA-256 hash of the local file, the ETag returned by z/OSMF
+ * and the ISPF statistics of the member afterward. On the next upload, a member is skipped when the hash of its
+ * local file is unchanged and the remote member is unchanged too: its statistics, listed with a single member list
+ * request, still match, or when it has no statistics, a conditional request with its ETag returns not modified.
+ * The changed members are uploaded concurrently, up to the maximum number of concurrent requests given, streaming
+ * each file as it is read.
+ *
+ * @author Frank Giordano
+ * @version 6.0
+ */
+public class DsnUpload {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DsnUpload.class);
+    private static final Pattern MEMBER_NAME = Pattern.compile("[A-Z@#$][A-Z0-9@#$]{0,7}");
+    private static final String HASH = "hash";
+    private static final String ETAG = "etag";
+    private static final String STATS = "stats";
+    private final DsnList dsnList;
+    private final DsnGet dsnGet;
+    private final DsnWrite dsnWrite;
+
+    /**
+     * DsnUpload constructor
+     *
+     * @param connection for connection information, see ZosConnection object
+     * @author Frank Giordano
+     */
+    public DsnUpload(final ZosConnection connection) {
+        ValidateUtils.checkNullParameter(connection, "connection");
+        this.dsnList = new DsnList(connection);
+        this.dsnGet = new DsnGet(connection);
+        this.dsnWrite = new DsnWrite(connection);
+    }
+
+    /**
+     * Upload the files of a local directory to the members of a partitioned dataset.
+     * <p>
+     * Every member is attempted, the failures are reported in the response and their members are uploaded again
+     * by the next run. With dryRun, the members to upload are reported and nothing is uploaded or recorded.
+     *
+     * @param dataSetName     name of a partitioned dataset (e.g. 'DATASET.LIB')
+     * @param uploadInputData upload parameters, see DsnUploadInputData object
+     * @return DsnUploadResponse object
+     * @throws ZosmfRequestException request error state of the member list, or error reading the directory
+     * @author Frank Giordano
+     */
+    public DsnUploadResponse uploadDirectory(final String dataSetName, final DsnUploadInputData uploadInputData)
+            throws ZosmfRequestException {
+        ValidateUtils.checkIllegalParameter(dataSetName, "dataSetName");
+        ValidateUtils.checkNullParameter(uploadInputData, "uploadInputData");
+
+        final long start = System.nanoTime();
+        final Upload upload = new Upload(dataSetName, uploadInputData);
+        final Map<String, Path> files = scan(uploadInputData, upload.ignored);
+        upload.previous.putAll(readState(uploadInputData.getStateFile()));
+        upload.remote.putAll(listMembers(dataSetName));
+
+        final ExecutorService executor = AsyncUtils.createExecutor("zowe-sdk-dsn-upload",
+                uploadInputData.getMaxConcurrentRequests());
+        try {
+            CompletableFuture.allOf(files.entrySet().stream()
+                    .map(file -> CompletableFuture.runAsync(() -> uploadMember(file.getKey(), file.getValue(),
+                            upload), executor))
+                    .toArray(CompletableFuture[]::new)).join();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        final List<String> uploaded = files.keySet().stream()
+                .filter(upload.uploaded::containsKey).collect(Collectors.toList());
+        final List<String> unchanged = files.keySet().stream()
+                .filter(upload.unchanged::containsKey).collect(Collectors.toList());
+        if (!uploadInputData.isDryRun()) {
+            writeState(uploadInputData.getStateFile(), upload, uploaded, unchanged);
+        }
+
+        final DsnUploadResponse response = new DsnUploadResponse(uploadInputData.isDryRun(), uploaded, unchanged,
+                upload.ignored, upload.failures, upload.bytes.get(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        LOG.info("{} {} members to {}, {} bytes, {} unchanged, {} ignored, {} failed",
+                uploadInputData.isDryRun() ? "would upload" : "uploaded", uploaded.size(), dataSetName,
+                response.getBytes(), unchanged.size(), upload.ignored.size(), upload.failures.size());
+        return response;
+    }
+
+    /**
+     * Map the regular files of the directory to member names
+     *
+     * @param uploadInputData upload parameters
+     * @param ignored         receives the files whose name does not map to a valid member name
+     * @return files by member name, in name order
+     * @throws ZosmfRequestException error reading the directory
+     */
+    private static Map<String, Path> scan(final DsnUploadInputData uploadInputData, final List<Path> ignored)
+            throws ZosmfRequestException {
+        final Map<String, List<Path>> candidates = new TreeMap<>();
+        try (Stream<Path> paths = Files.list(uploadInputData.getDirectory())) {
+            paths.filter(Files::isRegularFile)
+                    .filter(path -> !path.equals(uploadInputData.getStateFile()))
+                    .sorted()
+                    .forEach(path -> {
+                        final String member = toMemberName(path);
+                        if (MEMBER_NAME.matcher(member).matches()) {
+                            candidates.computeIfAbsent(member, name -> new ArrayList<>()).add(path);
+                        } else {
+                            ignored.add(path);
+                        }
+                    });
+        } catch (IOException e) {
+            throw new ZosmfRequestException(e.getMessage(), e);
+        }
+
+        final Map<String, Path> files = new TreeMap<>();
+        candidates.forEach((member, paths) -> {
+            if (paths.size() == 1) {
+                files.put(member, paths.get(0));
+            } else {
+                LOG.warn("files {} map to the same member {}, ignored", paths, member);
+                ignored.addAll(paths);
+            }
+        });
+        return files;
+    }
+
+    /**
+     * Retrieve the member name of a file: its name without extension, in upper case
+     *
+     * @param path file path
+     * @return member name, possibly invalid
+     */
+    private static String toMemberName(final Path path) {
+        final String name = path.getFileName().toString();
+        final int dot = name.indexOf('.');
+        return (dot < 0 ? name : name.substring(0, dot)).toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * List the members of the dataset with their statistics
+     *
+     * @param dataSetName name of a partitioned dataset
+     * @return members by name
+     * @throws ZosmfRequestException request error state
+     */
+    private Map<String, Member> listMembers(final String dataSetName) throws ZosmfRequestException {
+        return dsnList.getMembers(dataSetName, new DsnListInputData.Builder().attribute(AttributeType.BASE).build())
+                .stream().collect(Collectors.toMap(Member::getMember, Function.identity(), (a, b) -> a));
+    }
+
+    /**
+     * Upload a member unless neither its file nor the remote member changed
+     *
+     * @param member member name
+     * @param file   local file of the member
+     * @param upload state of the upload
+     */
+    private void uploadMember(final String member, final Path file, final Upload upload) {
+        try {
+            final String hash = hash(file);
+            final Map<String, String> previous = upload.previous.get(member);
+            if (!upload.uploadInputData.isForce() && previous != null && hash.equals(previous.get(HASH)) &&
+                    isRemoteUnchanged(member, previous, upload)) {
+                upload.unchanged.put(member, previous);
+                return;
+            }
+
+            final long size = Files.size(file);
+            if (!upload.uploadInputData.isDryRun()) {
+                final Response response = dsnWrite.write(upload.dataSetName, member, ZosmfStreamBody.of(file),
+                        upload.uploadInputData.isBinary());
+                final Map<String, String> entry = new HashMap<>();
+                entry.put(HASH, hash);
+                response.getHeader("ETag").ifPresent(etag -> entry.put(ETAG, etag));
+                upload.uploaded.put(member, entry);
+            } else {
+                upload.uploaded.put(member, Map.of(HASH, hash));
+            }
+            upload.bytes.addAndGet(size);
+        } catch (ZosmfRequestException | IOException | RuntimeException e) {
+            final ZosmfRequestException failure = AsyncUtils.toRequestException(e);
+            LOG.debug("error uploading {}({})", upload.dataSetName, member, failure);
+            upload.failures.put(member, failure);
+        }
+    }
+
+    /**
+     * Whether the remote member is still the one recorded after the previous upload
+     *
+     * @param member   member name
+     * @param previous state recorded by the previous upload
+     * @param upload   state of the upload
+     * @return boolean true or false
+     * @throws ZosmfRequestException request error state of the conditional request
+     */
+    private boolean isRemoteUnchanged(final String member, final Map<String, String> previous, final Upload upload)
+            throws ZosmfRequestException {
+        final Member remote = upload.remote.get(member);
+        if (remote == null) {
+            return false;
+        }
+        final String stats = getStats(remote);
+        if (stats != null) {
+            return stats.equals(previous.get(STATS));
+        }
+        final String etag = previous.get(ETAG);
+        return etag != null && !dsnGet.isModified(upload.dataSetName + "(" + member + ")", etag,
+                new DsnDownloadInputData.Builder().binary(upload.uploadInputData.isBinary()).build());
+    }
+
+    /**
+     * Retrieve the ISPF statistics of a member as a single value
+     *
+     * @param member member object
+     * @return statistics string value, null when the member has no statistics
+     */
+    private static String getStats(final Member member) {
+        if (member.getM4date().isEmpty()) {
+            return null;
+        }
+        return member.getM4date() + " " + member.getMtime() + ":" + member.getMsec() + " " +
+                member.getVers() + "." + member.getMod() + " " + member.getMnorc() + " " + member.getUser();
+    }
+
+    /**
+     * Compute the SHA-256 hash of a file
+     *
+     * @param file file path
+     * @return hexadecimal hash value
+     * @throws IOException error reading the file
+     */
+    private static String hash(final Path file) throws IOException {
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        try (InputStream inputStream = new DigestInputStream(Files.newInputStream(file), digest)) {
+            inputStream.transferTo(OutputStream.nullOutputStream());
+        }
+        final StringBuilder value = new StringBuilder();
+        for (final byte b : digest.digest()) {
+            value.append(String.format("%02x", b));
+        }
+        return value.toString();
+    }
+
+    /**
+     * Read the state recorded by the previous upload
+     *
+     * @param stateFile state file path
+     * @return state by member name, empty when the state file does not exist or cannot be read
+     */
+    private static Map<String, Map<String, String>> readState(final Path stateFile) {
+        if (!Files.exists(stateFile)) {
+            return Map.of();
+        }
+        try {
+            return JsonUtils.getObjectMapper().readValue(stateFile.toFile(),
+                    new TypeReference<Map<String, Map<String, String>>>() {
+                    });
+        } catch (IOException e) {
+            LOG.warn("error reading {}, every member is uploaded", stateFile, e);
+            return Map.of();
+        }
+    }
+
+    /**
+     * Record the state of the uploaded and unchanged members. The statistics of the uploaded members are listed
+     * again, as the upload may change them. The members that failed are left out, so they are uploaded again.
+     *
+     * @param stateFile state file path
+     * @param upload    state of the upload
+     * @param uploaded  members uploaded
+     * @param unchanged members unchanged
+     */
+    private void writeState(final Path stateFile, final Upload upload, final List<String> uploaded,
+                            final List<String> unchanged) {
+        final Map<String, Map<String, String>> state = new TreeMap<>();
+        unchanged.forEach(member -> state.put(member, upload.unchanged.get(member)));
+        if (!uploaded.isEmpty()) {
+            Map<String, Member> remote;
+            try {
+                remote = listMembers(upload.dataSetName);
+            } catch (ZosmfRequestException | RuntimeException e) {
+                LOG.debug("error listing the members of {}, statistics not recorded", upload.dataSetName, e);
+                remote = Map.of();
+            }
+            for (final String member : uploaded) {
+                final Map<String, String> entry = new HashMap<>(upload.uploaded.get(member));
+                final Member remoteMember = remote.get(member);
+                final String stats = remoteMember != null ? getStats(remoteMember) : null;
+                if (stats != null) {
+                    entry.put(STATS, stats);
+                }
+                state.put(member, entry);
+            }
+        }
+
+        try {
+            Files.createDirectories(stateFile.toAbsolutePath().getParent());
+            FileUtils.writeAtomically(stateFile, out -> {
+                JsonUtils.getObjectMapper().writeValue(out, state);
+                return state.size();
+            });
+        } catch (IOException | ZosmfRequestException e) {
+            LOG.warn("error writing {}, the next upload sends every member", stateFile, e);
+        }
+    }
+
+    /**
+     * State of an upload shared by its requests
+     */
+    private static final class Upload {
+
+        private final String dataSetName;
+        private final DsnUploadInputData uploadInputData;
+        private final Map<String, Map<String, String>> previous = new HashMap<>();
+        private final Map<String, Member> remote = new HashMap<>();
+        private final List<Path> ignored = new ArrayList<>();
+        private final Map<String, Map<String, String>> uploaded = new ConcurrentHashMap<>();
+        private final Map<String, Map<String, String>> unchanged = new ConcurrentHashMap<>();
+        private final Map<String, ZosmfRequestException> failures = new ConcurrentHashMap<>();
+        private final AtomicLong bytes = new AtomicLong();
+
+        private Upload(final String dataSetName, final DsnUploadInputData uploadInputData) {
+            this.dataSetName = dataSetName;
+            this.uploadInputData = uploadInputData;
+        }
+
+    }
+
+}
@@ -10,16 +10,16 @@
 package zowe.client.sdk.zosfiles.dsn.methods;
 
 import zowe.client.sdk.core.ZosConnection;
-import zowe.client.sdk.rest.PutTextZosmfRequest;
-import zowe.client.sdk.rest.Response;
-import zowe.client.sdk.rest.ZosmfRequest;
-import zowe.client.sdk.rest.ZosmfRequestFactory;
+import zowe.client.sdk.rest.*;
 import zowe.client.sdk.rest.exception.ZosmfRequestException;
 import zowe.client.sdk.rest.type.ZosmfRequestType;
 import zowe.client.sdk.utility.EncodeUtils;
 import zowe.client.sdk.utility.ValidateUtils;
 import zowe.client.sdk.zosfiles.ZosFilesConstants;
 
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Provides write dataset and member functionality
  *
@@ -30,7 +30,7 @@ import zowe.client.sdk.zosfiles.ZosFilesConstants;
 public class DsnWrite {
 
     private final ZosConnection connection;
-    private ZosmfRequest request;
+    private final ZosmfRequest request;
 
     /**
      * DsnWrite Constructor
@@ -41,6 +41,7 @@ public class DsnWrite {
     public DsnWrite(final ZosConnection connection) {
         ValidateUtils.checkNullParameter(connection, "connection");
         this.connection = connection;
+        this.request = null;
     }
 
     /**
@@ -57,8 +58,8 @@ public class DsnWrite {
         ValidateUtils.checkNullParameter(connection, "connection");
         ValidateUtils.checkNullParameter(request, "request");
         this.connection = connection;
-        if (!(request instanceof PutTextZosmfRequest)) {
-            throw new IllegalStateException("PUT_TEXT request type required");
+        if (!(request instanceof PutTextZosmfRequest) && !(request instanceof PutStreamZosmfRequest)) {
+            throw new IllegalStateException("PUT_TEXT or PUT_STREAM request type required");
         }
         this.request = request;
     }
@@ -100,9 +101,71 @@ public class DsnWrite {
                 ZosFilesConstants.RES_DS_FILES + "/" +
                 EncodeUtils.encodeURIComponent(dataSetName);
 
-        if (request == null) {
-            request = ZosmfRequestFactory.buildRequest(connection, ZosmfRequestType.PUT_TEXT);
+        final ZosmfRequest request = this.request instanceof PutTextZosmfRequest ?
+                this.request : ZosmfRequestFactory.buildRequest(connection, ZosmfRequestType.PUT_TEXT);
+        request.setUrl(url);
+        request.setBody(content);
+
+        return request.executeRequest();
+    }
+
+    /**
+     * Replaces the content of a member of a partitioned data set (PDS or PDSE) with content read from a stream.
+     * A new dataset member will be created if the specified dataset member does not exist.
+     *
+     * @param dataSetName dataset name of where the member is located (e.g. 'DATASET.LIB')
+     * @param memberName  name of member to add new content
+     * @param content     new content, see ZosmfStreamBody object
+     * @param binary      true to write the content in binary mode, false for text mode
+     * @return http response object
+     * @throws ZosmfRequestException request error state
+     * @author Frank Giordano
+     */
+    public Response write(final String dataSetName, final String memberName, final ZosmfStreamBody content,
+                          final boolean binary) throws ZosmfRequestException {
+        ValidateUtils.checkIllegalParameter(dataSetName, "dataSetName");
+        ValidateUtils.checkIllegalParameter(memberName, "memberName");
+
+        return write(String.format("%s(%s)", dataSetName, memberName), content, binary);
+    }
+
+    /**
+     * Replaces the content of an existing sequential data set with content read from a stream.
+     * The content is sent while it is read, so it is never held in memory as a whole.
+     *
+     * @param dataSetName sequential dataset (e.g. 'DATASET.LIB')
+     * @param content     new content, see ZosmfStreamBody object
+     * @param binary      true to write the content in binary mode, false for text mode
+     * @return http response object
+     * @throws ZosmfRequestException request error state
+     * @author Frank Giordano
+     */
+    public Response write(final String dataSetName, final ZosmfStreamBody content, final boolean binary)
+            throws ZosmfRequestException {
+        ValidateUtils.checkIllegalParameter(dataSetName, "dataSetName");
+        ValidateUtils.checkNullParameter(content, "content");
+
+        final String url = connection.getZosmfUrl() +
+                ZosFilesConstants.RESOURCE +
+                ZosFilesConstants.RES_DS_FILES + "/" +
+                EncodeUtils.encodeURIComponent(dataSetName);
+
+        final Map<String, String> headers = new HashMap<>();
+        if (binary) {
+            headers.put(ZosmfHeaders.HEADERS.get(ZosmfHeaders.X_IBM_BINARY).get(0),
+                    ZosmfHeaders.HEADERS.get(ZosmfHeaders.X_IBM_BINARY).get(1));
+            headers.put(ZosmfHeaders.HEADERS.get(ZosmfHeaders.OCTET_STREAM).get(0),
+                    ZosmfHeaders.HEADERS.get(ZosmfHeaders.OCTET_STREAM).get(1));
+        } else {
+            headers.put(ZosmfHeaders.HEADERS.get(ZosmfHeaders.X_IBM_TEXT).get(0),
+                    ZosmfHeaders.HEADERS.get(ZosmfHeaders.X_IBM_TEXT).get(1));
+            headers.put(ZosmfHeaders.HEADERS.get(ZosmfHeaders.TEXT_PLAIN).get(0),
+                    ZosmfHeaders.HEADERS.get(ZosmfHeaders.TEXT_PLAIN).get(1));
         }
+
+        final ZosmfRequest request = this.request instanceof PutStreamZosmfRequest ?
+                this.request : ZosmfRequestFactory.buildRequest(connection, ZosmfRequestType.PUT_STREAM);
+        request.setHeaders(headers);
         request.setUrl(url);
         request.setBody(content);
 
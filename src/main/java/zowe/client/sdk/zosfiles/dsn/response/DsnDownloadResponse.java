@@ -0,0 +1,152 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ *
+ */
+package zowe.client.sdk.zosfiles.dsn.response;
+
+import zowe.client.sdk.rest.exception.ZosmfRequestException;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Result of the download of all the members of a partitioned dataset, see DsnDownload
+ *
+ * @author Frank Giordano
+ * @version 6.0
+ */
+public class DsnDownloadResponse {
+
+    /**
+     * Local directory the members are written to
+     */
+    private final Path directory;
+
+    /**
+     * Members written, in member list order
+     */
+    private final List<DsnMemberDownloadResult> downloaded;
+
+    /**
+     * Members matching an exclude pattern, in member list order
+     */
+    private final List<String> excluded;
+
+    /**
+     * Error of each member that failed, by member name
+     */
+    private final Map<String, ZosmfRequestException> failures;
+
+    /**
+     * Duration of the download in milliseconds, the member list included
+     */
+    private final long elapsedMillis;
+
+    /**
+     * DsnDownloadResponse constructor
+     *
+     * @param directory     local directory the members are written to
+     * @param downloaded    members written, in member list order
+     * @param excluded      members matching an exclude pattern
+     * @param failures      error of each member that failed, by member name
+     * @param elapsedMillis duration of the download in milliseconds
+     * @author Frank Giordano
+     */
+    public DsnDownloadResponse(final Path directory, final List<DsnMemberDownloadResult> downloaded,
+                               final List<String> excluded, final Map<String, ZosmfRequestException> failures,
+                               final long elapsedMillis) {
+        this.directory = directory;
+        this.downloaded = List.copyOf(downloaded);
+        this.excluded = List.copyOf(excluded);
+        this.failures = Map.copyOf(failures);
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    /**
+     * Retrieve the local directory the members are written to
+     *
+     * @return directory value
+     */
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Retrieve the members written with their timing, in member list order
+     *
+     * @return downloaded value
+     */
+    public List<DsnMemberDownloadResult> getDownloaded() {
+        return downloaded;
+    }
+
+    /**
+     * Retrieve the members skipped because they match an exclude pattern
+     *
+     * @return excluded value
+     */
+    public List<String> getExcluded() {
+        return excluded;
+    }
+
+    /**
+     * Retrieve the error of each member that failed, by member name
+     *
+     * @return failures value, empty when every member was downloaded
+     */
+    public Map<String, ZosmfRequestException> getFailures() {
+        return failures;
+    }
+
+    /**
+     * Retrieve the duration of the download in milliseconds
+     *
+     * @return elapsedMillis value
+     */
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    /**
+     * Retrieve the number of bytes written
+     *
+     * @return total number of bytes of the members written
+     */
+    public long getBytes() {
+        return downloaded.stream().mapToLong(DsnMemberDownloadResult::getBytes).sum();
+    }
+
+    /**
+     * Retrieve the throughput of the download
+     *
+     * @return number of bytes written per second
+     */
+    public long getBytesPerSecond() {
+        final long bytes = getBytes();
+        return elapsedMillis == 0 ? bytes * 1000 : bytes * 1000 / elapsedMillis;
+    }
+
+    /**
+     * Return string value representing DsnDownloadResponse object
+     *
+     * @return string representation of DsnDownloadResponse
+     */
+    @Override
+    public String toString() {
+        return "DsnDownloadResponse{" +
+                "directory=" + directory +
+                ", downloaded=" + downloaded.size() +
+                ", excluded=" + excluded.size() +
+                ", failures=" + failures.size() +
+                ", elapsedMillis=" + elapsedMillis +
+                '}';
+    }
+
+}
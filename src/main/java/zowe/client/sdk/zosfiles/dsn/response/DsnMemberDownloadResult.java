@@ -0,0 +1,111 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ *
+ */
+package zowe.client.sdk.zosfiles.dsn.response;
+
+import java.nio.file.Path;
+
+/**
+ * Member written to a local file by a DsnDownload
+ *
+ * @author Frank Giordano
+ * @version 6.0
+ */
+public class DsnMemberDownloadResult {
+
+    /**
+     * Member name
+     */
+    private final String member;
+
+    /**
+     * Local file the member is written to
+     */
+    private final Path path;
+
+    /**
+     * Number of bytes written
+     */
+    private final long bytes;
+
+    /**
+     * Duration of the member download in milliseconds
+     */
+    private final long elapsedMillis;
+
+    /**
+     * DsnMemberDownloadResult constructor
+     *
+     * @param member        member name
+     * @param path          local file the member is written to
+     * @param bytes         number of bytes written
+     * @param elapsedMillis duration of the member download in milliseconds
+     * @author Frank Giordano
+     */
+    public DsnMemberDownloadResult(final String member, final Path path, final long bytes,
+                                   final long elapsedMillis) {
+        this.member = member;
+        this.path = path;
+        this.bytes = bytes;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    /**
+     * Retrieve the member name
+     *
+     * @return member value
+     */
+    public String getMember() {
+        return member;
+    }
+
+    /**
+     * Retrieve the local file the member is written to
+     *
+     * @return path value
+     */
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * Retrieve the number of bytes written
+     *
+     * @return bytes value
+     */
+    public long getBytes() {
+        return bytes;
+    }
+
+    /**
+     * Retrieve the duration of the member download in milliseconds, from the request to the file being complete
+     *
+     * @return elapsedMillis value
+     */
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    /**
+     * Return string value representing DsnMemberDownloadResult object
+     *
+     * @return string representation of DsnMemberDownloadResult
+     */
+    @Override
+    public String toString() {
+        return "DsnMemberDownloadResult{" +
+                "member='" + member + '\'' +
+                ", path=" + path +
+                ", bytes=" + bytes +
+                ", elapsedMillis=" + elapsedMillis +
+                '}';
+    }
+
+}
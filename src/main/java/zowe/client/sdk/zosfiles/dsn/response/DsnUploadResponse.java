@@ -0,0 +1,167 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ *
+ */
+package zowe.client.sdk.zosfiles.dsn.response;
+
+import zowe.client.sdk.rest.exception.ZosmfRequestException;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Result of the upload of a local directory to a partitioned dataset, see DsnUpload
+ *
+ * @author Frank Giordano
+ * @version 6.0
+ */
+public class DsnUploadResponse {
+
+    /**
+     * Whether nothing was uploaded, the uploaded members are the ones a real run would upload
+     */
+    private final boolean dryRun;
+
+    /**
+     * Members uploaded, in name order
+     */
+    private final List<String> uploaded;
+
+    /**
+     * Members skipped because neither the local file nor the remote member changed, in name order
+     */
+    private final List<String> unchanged;
+
+    /**
+     * Local files skipped because their name does not map to a valid member name
+     */
+    private final List<Path> ignored;
+
+    /**
+     * Error of each member that failed, by member name
+     */
+    private final Map<String, ZosmfRequestException> failures;
+
+    /**
+     * Number of bytes uploaded
+     */
+    private final long bytes;
+
+    /**
+     * Duration of the upload in milliseconds
+     */
+    private final long elapsedMillis;
+
+    /**
+     * DsnUploadResponse constructor
+     *
+     * @param dryRun        whether nothing was uploaded
+     * @param uploaded      members uploaded
+     * @param unchanged     members skipped because unchanged
+     * @param ignored       local files skipped because of their name
+     * @param failures      error of each member that failed, by member name
+     * @param bytes         number of bytes uploaded
+     * @param elapsedMillis duration of the upload in milliseconds
+     * @author Frank Giordano
+     */
+    public DsnUploadResponse(final boolean dryRun, final List<String> uploaded, final List<String> unchanged,
+                             final List<Path> ignored, final Map<String, ZosmfRequestException> failures,
+                             final long bytes, final long elapsedMillis) {
+        this.dryRun = dryRun;
+        this.uploaded = List.copyOf(uploaded);
+        this.unchanged = List.copyOf(unchanged);
+        this.ignored = List.copyOf(ignored);
+        this.failures = Map.copyOf(failures);
+        this.bytes = bytes;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    /**
+     * Retrieve whether nothing was uploaded
+     *
+     * @return boolean true or false
+     */
+    public boolean isDryRun() {
+        return dryRun;
+    }
+
+    /**
+     * Retrieve the members uploaded, or to upload on a dry run
+     *
+     * @return uploaded value
+     */
+    public List<String> getUploaded() {
+        return uploaded;
+    }
+
+    /**
+     * Retrieve the members skipped because neither the local file nor the remote member changed
+     *
+     * @return unchanged value
+     */
+    public List<String> getUnchanged() {
+        return unchanged;
+    }
+
+    /**
+     * Retrieve the local files skipped because their name does not map to a valid member name
+     *
+     * @return ignored value
+     */
+    public List<Path> getIgnored() {
+        return ignored;
+    }
+
+    /**
+     * Retrieve the error of each member that failed, by member name
+     *
+     * @return failures value, empty when every member was handled
+     */
+    public Map<String, ZosmfRequestException> getFailures() {
+        return failures;
+    }
+
+    /**
+     * Retrieve the number of bytes uploaded, or to upload on a dry run
+     *
+     * @return bytes value
+     */
+    public long getBytes() {
+        return bytes;
+    }
+
+    /**
+     * Retrieve the duration of the upload in milliseconds
+     *
+     * @return elapsedMillis value
+     */
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    /**
+     * Return string value representing DsnUploadResponse object
+     *
+     * @return string representation of DsnUploadResponse
+     */
+    @Override
+    public String toString() {
+        return "DsnUploadResponse{" +
+                "dryRun=" + dryRun +
+                ", uploaded=" + uploaded.size() +
+                ", unchanged=" + unchanged.size() +
+                ", ignored=" + ignored.size() +
+                ", failures=" + failures.size() +
+                ", bytes=" + bytes +
+                ", elapsedMillis=" + elapsedMillis +
+                '}';
+    }
+
+}
@@ -9,6 +9,8 @@
  */
 package zowe.client.sdk.zosfiles.uss.input;
 
+import zowe.client.sdk.rest.cache.ContentCache;
+
 import java.util.Optional;
 import java.util.OptionalInt;
 
@@ -78,6 +80,12 @@ public class UssGetInputData {
      */
     private final String recordsRange;
 
+    /**
+     * Cache of the retrieved content. When set, the content is requested conditionally with its ETag and
+     * served from the cache when not modified.
+     */
+    private final ContentCache contentCache;
+
     /**
      * UssGetInputData constructor
      *
@@ -92,6 +100,7 @@ public class UssGetInputData {
         this.queryCount = builder.queryCount;
         this.binary = builder.binary;
         this.recordsRange = builder.recordsRange;
+        this.contentCache = builder.contentCache;
     }
 
     /**
@@ -157,6 +166,15 @@ public class UssGetInputData {
         return Optional.ofNullable(recordsRange);
     }
 
+    /**
+     * Retrieve contentCache value
+     *
+     * @return contentCache value
+     */
+    public Optional<ContentCache> getContentCache() {
+        return Optional.ofNullable(contentCache);
+    }
+
     /**
      * Return string value representing UssGetInputData object
      *
@@ -173,6 +191,7 @@ public class UssGetInputData {
                 ", binary=" + binary +
                 ", queryCount=" + queryCount +
                 ", recordsRange=" + recordsRange +
+                ", contentCache=" + contentCache +
                 '}';
     }
 
@@ -236,6 +255,12 @@ public class UssGetInputData {
          */
         private String recordsRange;
 
+        /**
+         * Cache of the retrieved content. When set, the content is requested conditionally with its ETag and
+         * served from the cache when not modified.
+         */
+        private ContentCache contentCache;
+
         /**
          * Builder constructor
          */
@@ -318,6 +343,17 @@ public class UssGetInputData {
             return this;
         }
 
+        /**
+         * Set contentCache object
+         *
+         * @param contentCache ContentCache object
+         * @return Builder this object
+         */
+        public Builder contentCache(final ContentCache contentCache) {
+            this.contentCache = contentCache;
+            return this;
+        }
+
         /**
          * Return UssGetInputData object based on Builder this object
          *
@@ -9,6 +9,8 @@
  */
 package zowe.client.sdk.zosfiles.uss.input;
 
+import zowe.client.sdk.rest.ZosmfStreamBody;
+
 import java.util.Arrays;
 import java.util.Optional;
 
@@ -32,6 +34,11 @@ public class UssWriteInputData {
      */
     private final byte[] binaryContent;
 
+    /**
+     * Content read from a stream while it is sent, used instead of textContent or binaryContent
+     */
+    private final ZosmfStreamBody streamContent;
+
     /**
      * Can be used to specify an alternate EBCDIC code page. The default code page is IBM-1047.
      */
@@ -57,6 +64,7 @@ public class UssWriteInputData {
     public UssWriteInputData(final UssWriteInputData.Builder builder) {
         this.textContent = builder.textContent;
         this.binaryContent = builder.binaryContent;
+        this.streamContent = builder.streamContent;
         this.fileEncoding = builder.fileEncoding;
         this.crlf = builder.crlf;
         this.binary = builder.binary;
@@ -80,6 +88,15 @@ public class UssWriteInputData {
         return Optional.ofNullable(binaryContent);
     }
 
+    /**
+     * Retrieve streamContent value
+     *
+     * @return streamContent value
+     */
+    public Optional<ZosmfStreamBody> getStreamContent() {
+        return Optional.ofNullable(streamContent);
+    }
+
     /**
      * Retrieve fileEncoding value
      *
@@ -117,6 +134,7 @@ public class UssWriteInputData {
         return "UssWriteInputData{" +
                 "textContent=" + textContent +
                 ", binaryContent=" + Arrays.toString(binaryContent) +
+                ", streamContent=" + streamContent +
                 ", fileEncoding=" + fileEncoding +
                 ", crlf=" + crlf +
                 ", binary=" + binary +
@@ -138,6 +156,11 @@ public class UssWriteInputData {
          */
         private byte[] binaryContent;
 
+        /**
+         * Content read from a stream while it is sent, used instead of textContent or binaryContent
+         */
+        private ZosmfStreamBody streamContent;
+
         /**
          * Can be used to specify an alternate EBCDIC code page. The default code page is IBM-1047.
          */
@@ -182,6 +205,17 @@ public class UssWriteInputData {
             return this;
         }
 
+        /**
+         * Set streamContent ZosmfStreamBody value
+         *
+         * @param streamContent ZosmfStreamBody object
+         * @return Builder this object
+         */
+        public Builder streamContent(final ZosmfStreamBody streamContent) {
+            this.streamContent = streamContent;
+            return this;
+        }
+
         /**
          * Set fileEncoding string value
          *
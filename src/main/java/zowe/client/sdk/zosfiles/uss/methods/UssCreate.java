@@ -40,7 +40,7 @@ import java.util.Map;
 public class UssCreate {
 
     private final ZosConnection connection;
-    private ZosmfRequest request;
+    private final ZosmfRequest request;
 
     /**
      * UssCreate Constructor
@@ -51,6 +51,7 @@ public class UssCreate {
     public UssCreate(final ZosConnection connection) {
         ValidateUtils.checkNullParameter(connection, "connection");
         this.connection = connection;
+        this.request = null;
     }
 
     /**
@@ -96,9 +97,8 @@ public class UssCreate {
         createMap.put("type", createInputData.getType().getValue());
         createMap.put("mode", createInputData.getMode());
 
-        if (request == null) {
-            request = ZosmfRequestFactory.buildRequest(connection, ZosmfRequestType.POST_JSON);
-        }
+        final ZosmfRequest request = this.request != null ?
+                this.request : ZosmfRequestFactory.buildRequest(connection, ZosmfRequestType.POST_JSON);
         request.setUrl(url);
         request.setBody(new JSONObject(createMap).toString());
 
@@ -156,9 +156,8 @@ public class UssCreate {
         }
         createZfsMap.put("JSONversion", 1);
 
-        if (request == null) {
-            request = ZosmfRequestFactory.buildRequest(connection, ZosmfRequestType.POST_JSON);
-        }
+        final ZosmfRequest request = this.request != null ?
+                this.request : ZosmfRequestFactory.buildRequest(connection, ZosmfRequestType.POST_JSON);
 
         request.setUrl(url.toString());
         request.setBody(new JSONObject(createZfsMap).toString());
@@ -13,6 +13,7 @@ import zowe.client.sdk.core.ZosConnection;
 import zowe.client.sdk.rest.*;
 import zowe.client.sdk.rest.exception.ZosmfRequestException;
 import zowe.client.sdk.rest.type.ZosmfRequestType;
+import zowe.client.sdk.utility.AsyncUtils;
 import zowe.client.sdk.utility.EncodeUtils;
 import zowe.client.sdk.utility.FileUtils;
 import zowe.client.sdk.utility.ValidateUtils;
@@ -21,6 +22,8 @@ import zowe.client.sdk.zosfiles.uss.input.UssGetInputData;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * Provides Unix System Services (USS) read from object functionality
@@ -34,7 +37,7 @@ import java.util.Map;
 public class UssGet {
 
     private final ZosConnection connection;
-    private ZosmfRequest request;
+    private final ZosmfRequest request;
 
     /**
      * UssGet Constructor
@@ -46,6 +49,7 @@ public class UssGet {
     public UssGet(final ZosConnection connection) {
         ValidateUtils.checkNullParameter(connection, "connection");
         this.connection = connection;
+        this.request = null;
     }
 
     /**
@@ -80,6 +84,20 @@ public class UssGet {
         return (byte[]) response.getResponsePhrase().orElse(new byte[0]);
     }
 
+    /**
+     * Get the binary contents of a UNIX file asynchronously
+     *
+     * @param fileNamePath UNIX path that resolves to the target file
+     * @param executor     executor the response is processed on
+     * @return CompletableFuture of the byte array contents of the file
+     * @author Frank Giordano
+     */
+    public CompletableFuture<byte[]> getBinaryAsync(final String fileNamePath, final Executor executor) {
+        UssGetInputData getInputData = new UssGetInputData.Builder().binary(true).build();
+        return getCommonAsync(fileNamePath, getInputData, executor)
+                .thenApply(response -> (byte[]) response.getResponsePhrase().orElse(new byte[0]));
+    }
+
     /**
      * Get the text contents of a UNIX file
      *
@@ -95,8 +113,25 @@ public class UssGet {
         return (String) response.getResponsePhrase().orElse("");
     }
 
+    /**
+     * Get the text contents of a UNIX file asynchronously
+     *
+     * @param fileNamePath UNIX path that resolves to the target file
+     * @param executor     executor the response is processed on
+     * @return CompletableFuture of the text contents of a file
+     * @author Frank Giordano
+     */
+    public CompletableFuture<String> getTextAsync(final String fileNamePath, final Executor executor) {
+        UssGetInputData getInputData = new UssGetInputData.Builder().build();
+        return getCommonAsync(fileNamePath, getInputData, executor)
+                .thenApply(response -> (String) response.getResponsePhrase().orElse(""));
+    }
+
     /**
      * Get the contents of a UNIX file driven by the UssGetInputData object settings
+     * <p>
+     * When a content cache is specified, the content is served from the cache unless modified, the
+     * returned Response then has the 304 status code.
      *
      * @param fileNamePath UNIX path that resolves to the target
      * @param getInputData UssGetInputData object to drive the request
@@ -106,6 +141,40 @@ public class UssGet {
      * @author James Kostrewski
      */
     public Response getCommon(final String fileNamePath, final UssGetInputData getInputData) throws ZosmfRequestException {
+        final ZosmfRequest getRequest = prepareRequest(fileNamePath, getInputData);
+        if (getInputData.getContentCache().isPresent()) {
+            return getInputData.getContentCache().get().execute(getRequest);
+        }
+        return getRequest.executeRequest();
+    }
+
+    /**
+     * Get the contents of a UNIX file driven by the UssGetInputData object settings asynchronously
+     *
+     * @param fileNamePath UNIX path that resolves to the target
+     * @param getInputData UssGetInputData object to drive the request
+     * @param executor     executor the response is processed on
+     * @return CompletableFuture of the Response object
+     * @author Frank Giordano
+     */
+    public CompletableFuture<Response> getCommonAsync(final String fileNamePath, final UssGetInputData getInputData,
+                                                      final Executor executor) {
+        ValidateUtils.checkNullParameter(executor, "executor");
+        if (getInputData != null && getInputData.getContentCache().isPresent()) {
+            return AsyncUtils.supplyAsync(() -> getCommon(fileNamePath, getInputData), executor);
+        }
+        return prepareRequest(fileNamePath, getInputData).executeRequestAsync(executor);
+    }
+
+    /**
+     * Prepare the request retrieving the contents of a UNIX file
+     *
+     * @param fileNamePath UNIX path that resolves to the target
+     * @param getInputData UssGetInputData object to drive the request
+     * @return ZosmfRequest object
+     * @author Frank Giordano
+     */
+    private ZosmfRequest prepareRequest(final String fileNamePath, final UssGetInputData getInputData) {
         ValidateUtils.checkIllegalParameter(fileNamePath, "fileNamePath");
         ValidateUtils.checkNullParameter(getInputData, "getInputData");
 
@@ -131,23 +200,21 @@ public class UssGet {
 
         final Map<String, String> headers = new HashMap<>();
 
+        final ZosmfRequest request;
         if (getInputData.isBinary()) {
             headers.put("X-IBM-Data-Type", "binary");
-            if (request == null || !(request instanceof GetStreamZosmfRequest)) {
-                request = ZosmfRequestFactory.buildRequest(connection, ZosmfRequestType.GET_STREAM);
-            }
+            request = this.request instanceof GetStreamZosmfRequest ?
+                    this.request : ZosmfRequestFactory.buildRequest(connection, ZosmfRequestType.GET_STREAM);
         } else {
             headers.put("X-IBM-Data-Type", "text");
-            if (request == null || !(request instanceof GetTextZosmfRequest)) {
-                request = ZosmfRequestFactory.buildRequest(connection, ZosmfRequestType.GET_TEXT);
-            }
+            request = this.request instanceof GetTextZosmfRequest ?
+                    this.request : ZosmfRequestFactory.buildRequest(connection, ZosmfRequestType.GET_TEXT);
         }
         getInputData.getRecordsRange().ifPresent(range -> headers.put("X-IBM-Record-Range", range));
 
         request.setHeaders(headers);
         request.setUrl(url.toString());
-
-        return request.executeRequest();
+        return request;
     }
 
 }
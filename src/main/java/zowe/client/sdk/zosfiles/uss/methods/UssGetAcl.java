@@ -39,7 +39,7 @@ import java.util.Map;
 public class UssGetAcl {
 
     private final ZosConnection connection;
-    private ZosmfRequest request;
+    private final ZosmfRequest request;
 
     /**
      * UssGetAcl Constructor
@@ -50,6 +50,7 @@ public class UssGetAcl {
     public UssGetAcl(final ZosConnection connection) {
         ValidateUtils.checkNullParameter(connection, "connection");
         this.connection = connection;
+        this.request = null;
     }
 
     /**
@@ -128,9 +129,8 @@ public class UssGetAcl {
             getAclMap.put("suppress-baseacl", getAclInputData.getSuppressBaseAcl());
         }
 
-        if (request == null) {
-            request = ZosmfRequestFactory.buildRequest(connection, ZosmfRequestType.PUT_JSON);
-        }
+        final ZosmfRequest request = this.request != null ?
+                this.request : ZosmfRequestFactory.buildRequest(connection, ZosmfRequestType.PUT_JSON);
         request.setUrl(url);
         request.setBody(new JSONObject(getAclMap).toString());
 
@@ -11,10 +11,12 @@ package zowe.client.sdk.zosfiles.uss.methods;
 
 import zowe.client.sdk.core.ZosConnection;
 import zowe.client.sdk.rest.GetJsonZosmfRequest;
+import zowe.client.sdk.rest.Response;
 import zowe.client.sdk.rest.ZosmfRequest;
 import zowe.client.sdk.rest.ZosmfRequestFactory;
 import zowe.client.sdk.rest.exception.ZosmfRequestException;
 import zowe.client.sdk.rest.type.ZosmfRequestType;
+import zowe.client.sdk.utility.AsyncUtils;
 import zowe.client.sdk.utility.EncodeUtils;
 import zowe.client.sdk.utility.FileUtils;
 import zowe.client.sdk.utility.JsonUtils;
@@ -29,6 +31,8 @@ import zowe.client.sdk.zosfiles.uss.reaponse.UnixZfsListResponse;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * Provides Unix System Services (USS) list object functionality
@@ -42,7 +46,7 @@ import java.util.Map;
 public class UssList {
 
     private final ZosConnection connection;
-    private ZosmfRequest request;
+    private final ZosmfRequest request;
 
     /**
      * UssList Constructor
@@ -53,6 +57,7 @@ public class UssList {
     public UssList(final ZosConnection connection) {
         ValidateUtils.checkNullParameter(connection, "connection");
         this.connection = connection;
+        this.request = null;
     }
 
     /**
@@ -81,8 +86,34 @@ public class UssList {
      * @throws ZosmfRequestException request error state
      * @author Frank Giordano
      */
-    @SuppressWarnings("DuplicatedCode")
     public List<UnixFile> getFiles(final UssListInputData listInputData) throws ZosmfRequestException {
+        return parseFiles(prepareFilesRequest(listInputData).executeRequest());
+    }
+
+    /**
+     * Perform a list of UNIX files operation asynchronously
+     *
+     * @param listInputData UssListInputData object
+     * @param executor      executor the response is processed on
+     * @return CompletableFuture of the list of UssItem objects
+     * @author Frank Giordano
+     */
+    public CompletableFuture<List<UnixFile>> getFilesAsync(final UssListInputData listInputData,
+                                                           final Executor executor) {
+        ValidateUtils.checkNullParameter(executor, "executor");
+        return prepareFilesRequest(listInputData).executeRequestAsync(executor)
+                .thenApply(AsyncUtils.unchecked(UssList::parseFiles));
+    }
+
+    /**
+     * Prepare the request listing UNIX files
+     *
+     * @param listInputData UssListInputData object
+     * @return ZosmfRequest object
+     * @author Frank Giordano
+     */
+    @SuppressWarnings("DuplicatedCode")
+    private ZosmfRequest prepareFilesRequest(final UssListInputData listInputData) {
         ValidateUtils.checkNullParameter(listInputData, "listInputData");
 
         final String urlStart = connection.getZosmfUrl() + ZosFilesConstants.RESOURCE + ZosFilesConstants.RES_USS_FILES;
@@ -117,24 +148,34 @@ public class UssList {
             url.append("&symlinks=report");
         }
 
-        if (request == null) {
-            request = ZosmfRequestFactory.buildRequest(connection, ZosmfRequestType.GET_JSON);
-        }
+        final ZosmfRequest request = this.request != null ?
+                this.request : ZosmfRequestFactory.buildRequest(connection, ZosmfRequestType.GET_JSON);
 
         final int maxLength = listInputData.getMaxLength().orElse(0);
         if (maxLength > 0) {
             request.setHeaders(Map.of("X-IBM-Max-Items", String.valueOf(maxLength)));
         }
         request.setUrl(url.toString());
+        return request;
+    }
 
-        final String responsePhrase = request.executeRequest()
-                .getResponsePhrase()
-                .orElseThrow(() -> new IllegalStateException(ZosFilesConstants.RESPONSE_PHRASE_ERROR))
-                .toString();
+    /**
+     * Retrieve the list of UNIX files from the response
+     *
+     * @param response Response object
+     * @return list of UssItem objects
+     * @throws ZosmfRequestException request error state
+     * @author Frank Giordano
+     */
+    private static List<UnixFile> parseFiles(final Response response) throws ZosmfRequestException {
+        if (!response.hasResponsePhrase()) {
+            throw new IllegalStateException(ZosFilesConstants.RESPONSE_PHRASE_ERROR);
+        }
 
         final String context = "getFiles";
-        UnixFileListResponse response = JsonUtils.parseResponse(responsePhrase, UnixFileListResponse.class, context);
-        return response.getItems() == null ? List.of() : response.getItems();
+        final UnixFileListResponse listResponse =
+                JsonUtils.parseResponse(response, UnixFileListResponse.class, context);
+        return listResponse.getItems() == null ? List.of() : listResponse.getItems();
     }
 
     /**
@@ -145,8 +186,34 @@ public class UssList {
      * @throws ZosmfRequestException request error state
      * @author Frank Giordano
      */
-    @SuppressWarnings("DuplicatedCode")
     public List<UnixZfs> getZfsSystems(final UssListZfsInputData listZfsInputData) throws ZosmfRequestException {
+        return parseZfsSystems(prepareZfsSystemsRequest(listZfsInputData).executeRequest());
+    }
+
+    /**
+     * Perform a list of UNIX filesystems operation asynchronously
+     *
+     * @param listZfsInputData UssListZfsInputData parameter object
+     * @param executor         executor the response is processed on
+     * @return CompletableFuture of the list of UssZfs objects
+     * @author Frank Giordano
+     */
+    public CompletableFuture<List<UnixZfs>> getZfsSystemsAsync(final UssListZfsInputData listZfsInputData,
+                                                               final Executor executor) {
+        ValidateUtils.checkNullParameter(executor, "executor");
+        return prepareZfsSystemsRequest(listZfsInputData).executeRequestAsync(executor)
+                .thenApply(AsyncUtils.unchecked(UssList::parseZfsSystems));
+    }
+
+    /**
+     * Prepare the request listing UNIX filesystems
+     *
+     * @param listZfsInputData UssListZfsInputData parameter object
+     * @return ZosmfRequest object
+     * @author Frank Giordano
+     */
+    @SuppressWarnings("DuplicatedCode")
+    private ZosmfRequest prepareZfsSystemsRequest(final UssListZfsInputData listZfsInputData) {
         ValidateUtils.checkNullParameter(listZfsInputData, "listZfsInputData");
         ValidateUtils.checkIllegalParameter(
                 listZfsInputData.getPath().isEmpty() && listZfsInputData.getFsname().isEmpty(),
@@ -162,24 +229,34 @@ public class UssList {
         listZfsInputData.getFsname().ifPresent(fsname ->
                 url.append("?fsname=").append(EncodeUtils.encodeURIComponent(fsname)));
 
-        if (request == null) {
-            request = ZosmfRequestFactory.buildRequest(connection, ZosmfRequestType.GET_JSON);
-        }
+        final ZosmfRequest request = this.request != null ?
+                this.request : ZosmfRequestFactory.buildRequest(connection, ZosmfRequestType.GET_JSON);
 
         final int maxLength = listZfsInputData.getMaxLength().orElse(0);
         if (maxLength > 0) {
             request.setHeaders(Map.of("X-IBM-Max-Items", String.valueOf(maxLength)));
         }
         request.setUrl(url.toString());
+        return request;
+    }
 
-        final String responsePhrase = request.executeRequest()
-                .getResponsePhrase()
-                .orElseThrow(() -> new IllegalStateException(ZosFilesConstants.RESPONSE_PHRASE_ERROR))
-                .toString();
+    /**
+     * Retrieve the list of UNIX filesystems from the response
+     *
+     * @param response Response object
+     * @return list of UssZfs objects
+     * @throws ZosmfRequestException request error state
+     * @author Frank Giordano
+     */
+    private static List<UnixZfs> parseZfsSystems(final Response response) throws ZosmfRequestException {
+        if (!response.hasResponsePhrase()) {
+            throw new IllegalStateException(ZosFilesConstants.RESPONSE_PHRASE_ERROR);
+        }
 
         final String context = "getZfsSystems";
-        UnixZfsListResponse response = JsonUtils.parseResponse(responsePhrase, UnixZfsListResponse.class, context);
-        return response.getItems() == null ? List.of() : response.getItems();
+        final UnixZfsListResponse listResponse =
+                JsonUtils.parseResponse(response, UnixZfsListResponse.class, context);
+        return listResponse.getItems() == null ? List.of() : listResponse.getItems();
     }
 
 }
@@ -39,7 +39,7 @@ import java.util.Map;
 public class UssMount {
 
     private final ZosConnection connection;
-    private ZosmfRequest request;
+    private final ZosmfRequest request;
 
     /**
      * UssMount Constructor
@@ -50,6 +50,7 @@ public class UssMount {
     public UssMount(final ZosConnection connection) {
         ValidateUtils.checkNullParameter(connection, "connection");
         this.connection = connection;
+        this.request = null;
     }
 
     /**
@@ -135,9 +136,8 @@ public class UssMount {
         mountInputData.getFsType().ifPresent(str -> mountMap.put("fs-type", str));
         mountInputData.getMode().ifPresent(str -> mountMap.put("mode", str.getValue()));
 
-        if (request == null) {
-            request = ZosmfRequestFactory.buildRequest(connection, ZosmfRequestType.PUT_JSON);
-        }
+        final ZosmfRequest request = this.request != null ?
+                this.request : ZosmfRequestFactory.buildRequest(connection, ZosmfRequestType.PUT_JSON);
         request.setUrl(url);
         request.setBody(new JSONObject(mountMap).toString());
 
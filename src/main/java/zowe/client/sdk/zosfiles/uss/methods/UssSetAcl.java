@@ -38,7 +38,7 @@ import java.util.Map;
 public class UssSetAcl {
 
     private final ZosConnection connection;
-    private ZosmfRequest request;
+    private final ZosmfRequest request;
 
     /**
      * UssSetAcl Constructor
@@ -49,6 +49,7 @@ public class UssSetAcl {
     public UssSetAcl(final ZosConnection connection) {
         ValidateUtils.checkNullParameter(connection, "connection");
         this.connection = connection;
+        this.request = null;
     }
 
     /**
@@ -154,9 +155,8 @@ public class UssSetAcl {
         setAclInputData.getModify().ifPresent(modify -> setAclMap.put("modify", modify));
         setAclInputData.getDelete().ifPresent(delete -> setAclMap.put("delete", delete));
 
-        if (request == null) {
-            request = ZosmfRequestFactory.buildRequest(connection, ZosmfRequestType.PUT_JSON);
-        }
+        final ZosmfRequest request = this.request != null ?
+                this.request : ZosmfRequestFactory.buildRequest(connection, ZosmfRequestType.PUT_JSON);
         request.setUrl(url);
         request.setBody(new JSONObject(setAclMap).toString());
 
@@ -37,7 +37,7 @@ public class UssWrite {
 
     private static final Logger LOG = LoggerFactory.getLogger(UssWrite.class);
     private final ZosConnection connection;
-    private ZosmfRequest request;
+    private final ZosmfRequest request;
 
     /**
      * UssWrite Constructor
@@ -48,6 +48,7 @@ public class UssWrite {
     public UssWrite(final ZosConnection connection) {
         ValidateUtils.checkNullParameter(connection, "connection");
         this.connection = connection;
+        this.request = null;
     }
 
     /**
@@ -94,6 +95,23 @@ public class UssWrite {
         return writeCommon(fileNamePath, new UssWriteInputData.Builder().binaryContent(content).binary(true).build());
     }
 
+    /**
+     * Perform UNIX write request sending content read from a stream. The content is sent while it is read,
+     * so it is never held in memory as a whole.
+     *
+     * @param fileNamePath UNIX path that resolves to the target file
+     * @param content      content to write to file, see ZosmfStreamBody object
+     * @param binary       true to write the content in binary mode, false for text mode
+     * @return Response object
+     * @throws ZosmfRequestException request error state
+     * @author Frank Giordano
+     */
+    public Response writeStream(final String fileNamePath, final ZosmfStreamBody content, final boolean binary)
+            throws ZosmfRequestException {
+        ValidateUtils.checkNullParameter(content, "content");
+        return writeCommon(fileNamePath, new UssWriteInputData.Builder().streamContent(content).binary(binary).build());
+    }
+
     /**
      * Perform UNIX write request driven by UssWriteInputData settings
      *
@@ -115,15 +133,16 @@ public class UssWrite {
                 EncodeUtils.encodeURIComponent(FileUtils.validatePath(fileNamePath));
 
         final Map<String, String> headers = new HashMap<>();
+        final ZosmfRequest request;
         if (writeInputData.isBinary()) {
             headers.put("X-IBM-Data-Type", "binary;");
-            if (writeInputData.getBinaryContent().isEmpty()) {
+            if (writeInputData.getStreamContent().isEmpty() && writeInputData.getBinaryContent().isEmpty()) {
                 LOG.debug("binaryContent is empty");
             }
-            if (request == null || !(request instanceof PutStreamZosmfRequest)) {
-                request = ZosmfRequestFactory.buildRequest(connection, ZosmfRequestType.PUT_STREAM);
-            }
-            request.setBody(writeInputData.getBinaryContent().orElse(new byte[0]));
+            request = this.request instanceof PutStreamZosmfRequest ?
+                    this.request : ZosmfRequestFactory.buildRequest(connection, ZosmfRequestType.PUT_STREAM);
+            request.setBody(writeInputData.getStreamContent().isPresent() ?
+                    writeInputData.getStreamContent().get() : writeInputData.getBinaryContent().orElse(new byte[0]));
         } else {
             final StringBuilder textHeader = new StringBuilder("text");
             writeInputData.getFileEncoding().ifPresent(encoding -> textHeader.append(";fileEncoding=").append(encoding));
@@ -133,13 +152,19 @@ public class UssWrite {
             // end with semicolon
             textHeader.append(";");
             headers.put("X-IBM-Data-Type", textHeader.toString());
-            if (writeInputData.getTextContent().isEmpty()) {
-                LOG.debug("textContent is empty");
-            }
-            if (request == null || !(request instanceof PutTextZosmfRequest)) {
-                request = ZosmfRequestFactory.buildRequest(connection, ZosmfRequestType.PUT_TEXT);
+            if (writeInputData.getStreamContent().isPresent()) {
+                // text sent from a stream is converted by z/OSMF the same way as a text body
+                request = this.request instanceof PutStreamZosmfRequest ?
+                        this.request : ZosmfRequestFactory.buildRequest(connection, ZosmfRequestType.PUT_STREAM);
+                request.setBody(writeInputData.getStreamContent().get());
+            } else {
+                if (writeInputData.getTextContent().isEmpty()) {
+                    LOG.debug("textContent is empty");
+                }
+                request = this.request instanceof PutTextZosmfRequest ?
+                        this.request : ZosmfRequestFactory.buildRequest(connection, ZosmfRequestType.PUT_TEXT);
+                request.setBody(writeInputData.getTextContent().orElse(""));
             }
-            request.setBody(writeInputData.getTextContent().orElse(""));
         }
 
         request.setHeaders(headers);
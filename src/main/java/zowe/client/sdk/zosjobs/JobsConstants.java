@@ -64,6 +64,11 @@ public final class JobsConstants {
      */
     public static final String QUERY_ID = "?";
 
+    /**
+     * Query id for a case-sensitive spool file search
+     */
+    public static final String QUERY_INSENSITIVE = "insensitive=";
+
     /**
      * Query id for getting a specific job id
      */
@@ -74,6 +79,11 @@ public final class JobsConstants {
      */
     public static final String QUERY_MAX_JOBS = "max-jobs=";
 
+    /**
+     * Query id for the maximum number of records returned by a spool file search
+     */
+    public static final String QUERY_MAX_RETURN_SIZE = "maxreturnsize=";
+
     /**
      * Query id for getting a job by an owner
      */
@@ -84,6 +94,16 @@ public final class JobsConstants {
      */
     public static final String QUERY_PREFIX = "prefix=";
 
+    /**
+     * Query id for searching a spool file with an extended regular expression
+     */
+    public static final String QUERY_RESEARCH = "research=";
+
+    /**
+     * Query id for searching a spool file with a string
+     */
+    public static final String QUERY_SEARCH = "search=";
+
     /**
      * Cancel request constant
      */
@@ -0,0 +1,212 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ *
+ */
+package zowe.client.sdk.zosjobs.input;
+
+import zowe.client.sdk.utility.ValidateUtils;
+
+/**
+ * Parameters for purging or cancelling many jobs at once, see JobBatch
+ *
+ * @author Frank Giordano
+ * @version 6.0
+ */
+public class JobBatchInputData {
+
+    /**
+     * Default maximum number of job requests performed at once
+     */
+    public static final int DEFAULT_MAX_CONCURRENT_REQUESTS = 8;
+
+    /**
+     * Default delay in milliseconds between two completion checks of asynchronous requests
+     */
+    public static final int DEFAULT_WATCH_DELAY = 3000;
+
+    /**
+     * Default number of completion checks of asynchronous requests
+     */
+    public static final int DEFAULT_ATTEMPTS = 100;
+
+    /**
+     * Maximum number of job requests performed at once
+     */
+    private final int maxConcurrentRequests;
+
+    /**
+     * Whether the completion of the asynchronous (version 1.0) requests is verified
+     */
+    private final boolean verify;
+
+    /**
+     * Delay in milliseconds between two completion checks of asynchronous requests
+     */
+    private final int watchDelay;
+
+    /**
+     * Maximum number of completion checks of asynchronous requests
+     */
+    private final int attempts;
+
+    /**
+     * JobBatchInputData constructor
+     *
+     * @param builder JobBatchInputData.Builder object
+     * @author Frank Giordano
+     */
+    private JobBatchInputData(final JobBatchInputData.Builder builder) {
+        this.maxConcurrentRequests = builder.maxConcurrentRequests;
+        this.verify = builder.verify;
+        this.watchDelay = builder.watchDelay;
+        this.attempts = builder.attempts;
+    }
+
+    /**
+     * Retrieve the maximum number of job requests performed at once
+     *
+     * @return maxConcurrentRequests value
+     */
+    public int getMaxConcurrentRequests() {
+        return maxConcurrentRequests;
+    }
+
+    /**
+     * Retrieve whether the completion of the asynchronous requests is verified
+     *
+     * @return boolean true or false
+     */
+    public boolean isVerify() {
+        return verify;
+    }
+
+    /**
+     * Retrieve the delay in milliseconds between two completion checks
+     *
+     * @return watchDelay value
+     */
+    public int getWatchDelay() {
+        return watchDelay;
+    }
+
+    /**
+     * Retrieve the maximum number of completion checks
+     *
+     * @return attempts value
+     */
+    public int getAttempts() {
+        return attempts;
+    }
+
+    /**
+     * Return string value representing JobBatchInputData object
+     *
+     * @return string representation of JobBatchInputData
+     */
+    @Override
+    public String toString() {
+        return "JobBatchInputData{" +
+                "maxConcurrentRequests=" + maxConcurrentRequests +
+                ", verify=" + verify +
+                ", watchDelay=" + watchDelay +
+                ", attempts=" + attempts +
+                '}';
+    }
+
+    /**
+     * Builder class for JobBatchInputData
+     */
+    public static class Builder {
+
+        /**
+         * Maximum number of job requests performed at once
+         */
+        private int maxConcurrentRequests = DEFAULT_MAX_CONCURRENT_REQUESTS;
+
+        /**
+         * Whether the completion of the asynchronous requests is verified
+         */
+        private boolean verify = true;
+
+        /**
+         * Delay in milliseconds between two completion checks
+         */
+        private int watchDelay = DEFAULT_WATCH_DELAY;
+
+        /**
+         * Maximum number of completion checks
+         */
+        private int attempts = DEFAULT_ATTEMPTS;
+
+        /**
+         * Builder constructor
+         */
+        public Builder() {
+        }
+
+        /**
+         * Set the maximum number of job requests performed at once
+         *
+         * @param maxConcurrentRequests number of requests, greater than zero
+         * @return Builder object
+         */
+        public JobBatchInputData.Builder maxConcurrentRequests(final int maxConcurrentRequests) {
+            ValidateUtils.checkIllegalParameter(maxConcurrentRequests <= 0,
+                    "maxConcurrentRequests must be greater than zero");
+            this.maxConcurrentRequests = maxConcurrentRequests;
+            return this;
+        }
+
+        /**
+         * Set whether the completion of the asynchronous (version 1.0) requests is verified, true by default
+         *
+         * @param verify false to return as soon as the requests are accepted
+         * @return Builder object
+         */
+        public JobBatchInputData.Builder verify(final boolean verify) {
+            this.verify = verify;
+            return this;
+        }
+
+        /**
+         * Set the delay in milliseconds between two completion checks
+         *
+         * @param watchDelay delay in milliseconds
+         * @return Builder object
+         */
+        public JobBatchInputData.Builder watchDelay(final int watchDelay) {
+            ValidateUtils.checkIllegalParameter(watchDelay < 0, "watchDelay must not be negative");
+            this.watchDelay = watchDelay;
+            return this;
+        }
+
+        /**
+         * Set the maximum number of completion checks
+         *
+         * @param attempts number of checks, greater than zero
+         * @return Builder object
+         */
+        public JobBatchInputData.Builder attempts(final int attempts) {
+            ValidateUtils.checkIllegalParameter(attempts <= 0, "attempts must be greater than zero");
+            this.attempts = attempts;
+            return this;
+        }
+
+        /**
+         * Return JobBatchInputData object based on Builder this object
+         *
+         * @return JobBatchInputData object
+         */
+        public JobBatchInputData build() {
+            return new JobBatchInputData(this);
+        }
+
+    }
+
+}
@@ -66,6 +66,14 @@ public class JobMonitorInputData {
      */
     private Integer lineLimit;
 
+    /**
+     * Tail mode of the message polling. When true, each poll retrieves only the records written to the job output
+     * since the previous poll and every one of them is inspected; "lineLimit" is then the number of records
+     * requested at once. The job and its spool file are looked up once, on the first poll.
+     * Default: false.
+     */
+    private final boolean tail;
+
     /**
      * JobMonitorInputData constructor
      *
@@ -79,6 +87,7 @@ public class JobMonitorInputData {
         this.jobStatus = builder.jobStatus;
         this.attempts = builder.attempts;
         this.lineLimit = builder.lineLimit;
+        this.tail = builder.tail;
     }
 
     /**
@@ -159,6 +168,15 @@ public class JobMonitorInputData {
         this.lineLimit = lineLimit;
     }
 
+    /**
+     * Retrieve tail mode
+     *
+     * @return true if only the new job output records are retrieved at each poll
+     */
+    public boolean isTail() {
+        return tail;
+    }
+
     /**
      * Retrieve watch delay
      *
@@ -191,6 +209,7 @@ public class JobMonitorInputData {
                 ", jobStatus=" + jobStatus +
                 ", attempts=" + attempts +
                 ", lineLimit=" + lineLimit +
+                ", tail=" + tail +
                 '}';
     }
 
@@ -242,6 +261,12 @@ public class JobMonitorInputData {
          */
         private Integer lineLimit;
 
+        /**
+         * Tail mode of the message polling, only the new job output records are retrieved at each poll.
+         * Default: false.
+         */
+        private boolean tail;
+
         /**
          * Builder constructor
          *
@@ -286,6 +311,17 @@ public class JobMonitorInputData {
             return this;
         }
 
+        /**
+         * Set tail mode of the message polling
+         *
+         * @param tail true to retrieve only the new job output records at each poll
+         * @return Builder object
+         */
+        public JobMonitorInputData.Builder tail(final boolean tail) {
+            this.tail = tail;
+            return this;
+        }
+
         /**
          * Set watch delay int value
          *
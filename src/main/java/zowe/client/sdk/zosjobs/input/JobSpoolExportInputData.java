@@ -0,0 +1,229 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ *
+ */
+package zowe.client.sdk.zosjobs.input;
+
+import zowe.client.sdk.rest.ProgressListener;
+import zowe.client.sdk.utility.ValidateUtils;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * Parameters for exporting the spool files of jobs to a local directory
+ *
+ * @author Frank Giordano
+ * @version 6.0
+ */
+public class JobSpoolExportInputData {
+
+    /**
+     * Default maximum number of spool requests performed at once
+     */
+    public static final int DEFAULT_MAX_CONCURRENT_REQUESTS = 4;
+
+    /**
+     * Local directory the spool files are written to, as directory/jobname/jobid/ddname.txt
+     */
+    private final Path directory;
+
+    /**
+     * Maximum number of spool requests performed at once
+     */
+    private final int maxConcurrentRequests;
+
+    /**
+     * Skip the spool files already exported by a previous run
+     */
+    private final boolean resume;
+
+    /**
+     * Export the remaining spool files when one fails instead of stopping at the first failure
+     */
+    private final boolean continueOnError;
+
+    /**
+     * Callback reporting the number of bytes exported so far
+     */
+    private final ProgressListener progressListener;
+
+    /**
+     * JobSpoolExportInputData constructor
+     *
+     * @param builder JobSpoolExportInputData.Builder object
+     * @author Frank Giordano
+     */
+    private JobSpoolExportInputData(final JobSpoolExportInputData.Builder builder) {
+        this.directory = builder.directory;
+        this.maxConcurrentRequests = builder.maxConcurrentRequests;
+        this.resume = builder.resume;
+        this.continueOnError = builder.continueOnError;
+        this.progressListener = builder.progressListener;
+    }
+
+    /**
+     * Retrieve the local directory the spool files are written to
+     *
+     * @return directory value
+     */
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Retrieve the maximum number of spool requests performed at once
+     *
+     * @return maxConcurrentRequests value
+     */
+    public int getMaxConcurrentRequests() {
+        return maxConcurrentRequests;
+    }
+
+    /**
+     * Retrieve whether the spool files already exported by a previous run are skipped
+     *
+     * @return boolean true or false
+     */
+    public boolean isResume() {
+        return resume;
+    }
+
+    /**
+     * Retrieve whether the export continues when a spool file fails
+     *
+     * @return boolean true or false
+     */
+    public boolean isContinueOnError() {
+        return continueOnError;
+    }
+
+    /**
+     * Retrieve the callback reporting the number of bytes exported so far
+     *
+     * @return ProgressListener value
+     */
+    public Optional<ProgressListener> getProgressListener() {
+        return Optional.ofNullable(progressListener);
+    }
+
+    /**
+     * Return string value representing JobSpoolExportInputData object
+     *
+     * @return string representation of JobSpoolExportInputData
+     */
+    @Override
+    public String toString() {
+        return "JobSpoolExportInputData{" +
+                "directory=" + directory +
+                ", maxConcurrentRequests=" + maxConcurrentRequests +
+                ", resume=" + resume +
+                ", continueOnError=" + continueOnError +
+                '}';
+    }
+
+    /**
+     * Builder class for JobSpoolExportInputData
+     */
+    public static class Builder {
+
+        /**
+         * Local directory the spool files are written to
+         */
+        private final Path directory;
+
+        /**
+         * Maximum number of spool requests performed at once
+         */
+        private int maxConcurrentRequests = DEFAULT_MAX_CONCURRENT_REQUESTS;
+
+        /**
+         * Skip the spool files already exported by a previous run
+         */
+        private boolean resume;
+
+        /**
+         * Export the remaining spool files when one fails
+         */
+        private boolean continueOnError;
+
+        /**
+         * Callback reporting the number of bytes exported so far
+         */
+        private ProgressListener progressListener;
+
+        /**
+         * Builder constructor
+         *
+         * @param directory local directory the spool files are written to
+         */
+        public Builder(final Path directory) {
+            ValidateUtils.checkNullParameter(directory, "directory");
+            this.directory = directory;
+        }
+
+        /**
+         * Set the maximum number of spool requests performed at once
+         *
+         * @param maxConcurrentRequests number of requests, greater than zero
+         * @return Builder object
+         */
+        public JobSpoolExportInputData.Builder maxConcurrentRequests(final int maxConcurrentRequests) {
+            ValidateUtils.checkIllegalParameter(maxConcurrentRequests <= 0,
+                    "maxConcurrentRequests must be greater than zero");
+            this.maxConcurrentRequests = maxConcurrentRequests;
+            return this;
+        }
+
+        /**
+         * Set resume mode, the spool files already exported by a previous run are skipped
+         *
+         * @param resume true to skip the spool files already exported
+         * @return Builder object
+         */
+        public JobSpoolExportInputData.Builder resume(final boolean resume) {
+            this.resume = resume;
+            return this;
+        }
+
+        /**
+         * Set whether the export continues when a spool file fails, by default it stops at the first failure
+         *
+         * @param continueOnError true to export the remaining spool files on failure
+         * @return Builder object
+         */
+        public JobSpoolExportInputData.Builder continueOnError(final boolean continueOnError) {
+            this.continueOnError = continueOnError;
+            return this;
+        }
+
+        /**
+         * Set the callback reporting the number of bytes exported so far. It is called each time a spool file
+         * is written, from the thread that wrote it.
+         *
+         * @param progressListener progress callback
+         * @return Builder object
+         */
+        public JobSpoolExportInputData.Builder progressListener(final ProgressListener progressListener) {
+            this.progressListener = progressListener;
+            return this;
+        }
+
+        /**
+         * Return JobSpoolExportInputData object based on Builder this object
+         *
+         * @return JobSpoolExportInputData object
+         */
+        public JobSpoolExportInputData build() {
+            return new JobSpoolExportInputData(this);
+        }
+
+    }
+
+}
@@ -0,0 +1,238 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ *
+ */
+package zowe.client.sdk.zosjobs.input;
+
+import zowe.client.sdk.utility.ValidateUtils;
+
+import java.util.List;
+
+/**
+ * Parameters for searching the spool files of many jobs, see JobSpoolSearch
+ *
+ * @author Frank Giordano
+ * @version 6.0
+ */
+public class JobSpoolSearchInputData {
+
+    /**
+     * Default maximum number of spool file requests performed at once
+     */
+    public static final int DEFAULT_MAX_CONCURRENT_REQUESTS = 4;
+
+    /**
+     * Strings or regular expressions searched, a record matching any of them is a hit
+     */
+    private final List<String> patterns;
+
+    /**
+     * Whether the patterns are regular expressions rather than strings
+     */
+    private final boolean regex;
+
+    /**
+     * Whether the search is case-insensitive
+     */
+    private final boolean insensitive;
+
+    /**
+     * Whether z/OSMF is asked first if a spool file holds a hit, so spool files without hit are not downloaded
+     */
+    private final boolean serverSearch;
+
+    /**
+     * Maximum number of spool file requests performed at once
+     */
+    private final int maxConcurrentRequests;
+
+    /**
+     * JobSpoolSearchInputData constructor
+     *
+     * @param builder JobSpoolSearchInputData.Builder object
+     * @author Frank Giordano
+     */
+    private JobSpoolSearchInputData(final JobSpoolSearchInputData.Builder builder) {
+        this.patterns = builder.patterns;
+        this.regex = builder.regex;
+        this.insensitive = builder.insensitive;
+        this.serverSearch = builder.serverSearch;
+        this.maxConcurrentRequests = builder.maxConcurrentRequests;
+    }
+
+    /**
+     * Retrieve the strings or regular expressions searched
+     *
+     * @return patterns value
+     */
+    public List<String> getPatterns() {
+        return patterns;
+    }
+
+    /**
+     * Retrieve whether the patterns are regular expressions
+     *
+     * @return boolean true or false
+     */
+    public boolean isRegex() {
+        return regex;
+    }
+
+    /**
+     * Retrieve whether the search is case-insensitive
+     *
+     * @return boolean true or false
+     */
+    public boolean isInsensitive() {
+        return insensitive;
+    }
+
+    /**
+     * Retrieve whether z/OSMF is asked first if a spool file holds a hit
+     *
+     * @return boolean true or false
+     */
+    public boolean isServerSearch() {
+        return serverSearch;
+    }
+
+    /**
+     * Retrieve the maximum number of spool file requests performed at once
+     *
+     * @return maxConcurrentRequests value
+     */
+    public int getMaxConcurrentRequests() {
+        return maxConcurrentRequests;
+    }
+
+    /**
+     * Return string value representing JobSpoolSearchInputData object
+     *
+     * @return string representation of JobSpoolSearchInputData
+     */
+    @Override
+    public String toString() {
+        return "JobSpoolSearchInputData{" +
+                "patterns=" + patterns +
+                ", regex=" + regex +
+                ", insensitive=" + insensitive +
+                ", serverSearch=" + serverSearch +
+                ", maxConcurrentRequests=" + maxConcurrentRequests +
+                '}';
+    }
+
+    /**
+     * Builder class for JobSpoolSearchInputData
+     */
+    public static class Builder {
+
+        /**
+         * Strings or regular expressions searched
+         */
+        private final List<String> patterns;
+
+        /**
+         * Whether the patterns are regular expressions
+         */
+        private boolean regex;
+
+        /**
+         * Whether the search is case-insensitive
+         */
+        private boolean insensitive = true;
+
+        /**
+         * Whether z/OSMF is asked first if a spool file holds a hit
+         */
+        private boolean serverSearch = true;
+
+        /**
+         * Maximum number of spool file requests performed at once
+         */
+        private int maxConcurrentRequests = DEFAULT_MAX_CONCURRENT_REQUESTS;
+
+        /**
+         * Builder constructor
+         *
+         * @param patterns strings searched, e.g. message ids, a record holding any of them is a hit
+         */
+        public Builder(final String... patterns) {
+            ValidateUtils.checkNullParameter(patterns, "patterns");
+            ValidateUtils.checkIllegalParameter(patterns.length == 0, "at least one pattern is required");
+            for (final String pattern : patterns) {
+                ValidateUtils.checkIllegalParameter(pattern, "pattern");
+            }
+            this.patterns = List.of(patterns);
+        }
+
+        /**
+         * Set whether the patterns are regular expressions, false by default.
+         * <p>
+         * Regular expressions are Java regular expressions and are never given to z/OSMF, whose spool search only
+         * knows POSIX extended regular expressions: every spool file is downloaded and scanned, see serverSearch.
+         *
+         * @param regex true when the patterns are regular expressions
+         * @return Builder object
+         */
+        public JobSpoolSearchInputData.Builder regex(final boolean regex) {
+            this.regex = regex;
+            return this;
+        }
+
+        /**
+         * Set whether the search is case-insensitive, true by default as for z/OSMF
+         *
+         * @param insensitive false for a case-sensitive search
+         * @return Builder object
+         */
+        public JobSpoolSearchInputData.Builder insensitive(final boolean insensitive) {
+            this.insensitive = insensitive;
+            return this;
+        }
+
+        /**
+         * Set whether z/OSMF is asked first if a spool file holds a hit, true by default. It applies to the search
+         * of strings only, not of regular expressions.
+         * <p>
+         * Only the spool files z/OSMF finds a hit in are downloaded and scanned. Set it to false for a z/OSMF
+         * release that does not support the search of spool files, every spool file is then downloaded.
+         *
+         * @param serverSearch false to download and scan every spool file
+         * @return Builder object
+         */
+        public JobSpoolSearchInputData.Builder serverSearch(final boolean serverSearch) {
+            this.serverSearch = serverSearch;
+            return this;
+        }
+
+        /**
+         * Set the maximum number of spool file requests performed at once
+         *
+         * @param maxConcurrentRequests number of requests, greater than zero
+         * @return Builder object
+         */
+        public JobSpoolSearchInputData.Builder maxConcurrentRequests(final int maxConcurrentRequests) {
+            ValidateUtils.checkIllegalParameter(maxConcurrentRequests <= 0,
+                    "maxConcurrentRequests must be greater than zero");
+            this.maxConcurrentRequests = maxConcurrentRequests;
+            return this;
+        }
+
+        /**
+         * Return JobSpoolSearchInputData object based on Builder this object
+         *
+         * @return JobSpoolSearchInputData object
+         */
+        public JobSpoolSearchInputData build() {
+            return new JobSpoolSearchInputData(this);
+        }
+
+    }
+
+}
@@ -0,0 +1,247 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ *
+ */
+package zowe.client.sdk.zosjobs.input;
+
+import zowe.client.sdk.utility.ValidateUtils;
+
+/**
+ * Parameters for submitting many jobs and tracking their completion, see JobSubmitPipeline
+ *
+ * @author Frank Giordano
+ * @version 6.0
+ */
+public class JobSubmitPipelineInputData {
+
+    /**
+     * Default maximum number of requests performed at once
+     */
+    public static final int DEFAULT_MAX_CONCURRENT_REQUESTS = 4;
+
+    /**
+     * Default maximum number of jobs submitted whose result is not consumed yet
+     */
+    public static final int DEFAULT_MAX_PENDING_JOBS = 500;
+
+    /**
+     * Default delay in milliseconds between two status polls of the submitted jobs
+     */
+    public static final int DEFAULT_WATCH_DELAY = 3000;
+
+    /**
+     * Maximum number of requests performed at once
+     */
+    private final int maxConcurrentRequests;
+
+    /**
+     * Maximum number of jobs submitted per second, zero for no limit
+     */
+    private final double maxSubmitsPerSecond;
+
+    /**
+     * Maximum number of jobs submitted whose result is not consumed yet
+     */
+    private final int maxPendingJobs;
+
+    /**
+     * Delay in milliseconds between two status polls of the submitted jobs
+     */
+    private final int watchDelay;
+
+    /**
+     * Whether the completed jobs are retrieved with their step data
+     */
+    private final boolean stepData;
+
+    /**
+     * JobSubmitPipelineInputData constructor
+     *
+     * @param builder JobSubmitPipelineInputData.Builder object
+     * @author Frank Giordano
+     */
+    private JobSubmitPipelineInputData(final JobSubmitPipelineInputData.Builder builder) {
+        this.maxConcurrentRequests = builder.maxConcurrentRequests;
+        this.maxSubmitsPerSecond = builder.maxSubmitsPerSecond;
+        this.maxPendingJobs = builder.maxPendingJobs;
+        this.watchDelay = builder.watchDelay;
+        this.stepData = builder.stepData;
+    }
+
+    /**
+     * Retrieve the maximum number of requests performed at once
+     *
+     * @return maxConcurrentRequests value
+     */
+    public int getMaxConcurrentRequests() {
+        return maxConcurrentRequests;
+    }
+
+    /**
+     * Retrieve the maximum number of jobs submitted per second
+     *
+     * @return maxSubmitsPerSecond value, zero for no limit
+     */
+    public double getMaxSubmitsPerSecond() {
+        return maxSubmitsPerSecond;
+    }
+
+    /**
+     * Retrieve the maximum number of jobs submitted whose result is not consumed yet
+     *
+     * @return maxPendingJobs value
+     */
+    public int getMaxPendingJobs() {
+        return maxPendingJobs;
+    }
+
+    /**
+     * Retrieve the delay in milliseconds between two status polls of the submitted jobs
+     *
+     * @return watchDelay value
+     */
+    public int getWatchDelay() {
+        return watchDelay;
+    }
+
+    /**
+     * Retrieve whether the completed jobs are retrieved with their step data
+     *
+     * @return boolean true or false
+     */
+    public boolean isStepData() {
+        return stepData;
+    }
+
+    /**
+     * Return string value representing JobSubmitPipelineInputData object
+     *
+     * @return string representation of JobSubmitPipelineInputData
+     */
+    @Override
+    public String toString() {
+        return "JobSubmitPipelineInputData{" +
+                "maxConcurrentRequests=" + maxConcurrentRequests +
+                ", maxSubmitsPerSecond=" + maxSubmitsPerSecond +
+                ", maxPendingJobs=" + maxPendingJobs +
+                ", watchDelay=" + watchDelay +
+                ", stepData=" + stepData +
+                '}';
+    }
+
+    /**
+     * Builder class for JobSubmitPipelineInputData
+     */
+    public static class Builder {
+
+        /**
+         * Maximum number of requests performed at once
+         */
+        private int maxConcurrentRequests = DEFAULT_MAX_CONCURRENT_REQUESTS;
+
+        /**
+         * Maximum number of jobs submitted per second, zero for no limit
+         */
+        private double maxSubmitsPerSecond;
+
+        /**
+         * Maximum number of jobs submitted whose result is not consumed yet
+         */
+        private int maxPendingJobs = DEFAULT_MAX_PENDING_JOBS;
+
+        /**
+         * Delay in milliseconds between two status polls
+         */
+        private int watchDelay = DEFAULT_WATCH_DELAY;
+
+        /**
+         * Whether the completed jobs are retrieved with their step data
+         */
+        private boolean stepData = true;
+
+        /**
+         * Builder constructor
+         */
+        public Builder() {
+        }
+
+        /**
+         * Set the maximum number of requests performed at once, submits and status polls together
+         *
+         * @param maxConcurrentRequests number of requests, greater than zero
+         * @return Builder object
+         */
+        public JobSubmitPipelineInputData.Builder maxConcurrentRequests(final int maxConcurrentRequests) {
+            ValidateUtils.checkIllegalParameter(maxConcurrentRequests <= 0,
+                    "maxConcurrentRequests must be greater than zero");
+            this.maxConcurrentRequests = maxConcurrentRequests;
+            return this;
+        }
+
+        /**
+         * Set the maximum number of jobs submitted per second, no limit by default
+         *
+         * @param maxSubmitsPerSecond number of jobs per second, zero for no limit
+         * @return Builder object
+         */
+        public JobSubmitPipelineInputData.Builder maxSubmitsPerSecond(final double maxSubmitsPerSecond) {
+            ValidateUtils.checkIllegalParameter(maxSubmitsPerSecond < 0 || Double.isNaN(maxSubmitsPerSecond),
+                    "maxSubmitsPerSecond must not be negative");
+            this.maxSubmitsPerSecond = maxSubmitsPerSecond;
+            return this;
+        }
+
+        /**
+         * Set the maximum number of jobs submitted whose result is not consumed yet. Submission pauses when it is
+         * reached, so a slow consumer of the results slows down the submission.
+         *
+         * @param maxPendingJobs number of jobs, greater than zero
+         * @return Builder object
+         */
+        public JobSubmitPipelineInputData.Builder maxPendingJobs(final int maxPendingJobs) {
+            ValidateUtils.checkIllegalParameter(maxPendingJobs <= 0, "maxPendingJobs must be greater than zero");
+            this.maxPendingJobs = maxPendingJobs;
+            return this;
+        }
+
+        /**
+         * Set the delay in milliseconds between two status polls of the submitted jobs
+         *
+         * @param watchDelay delay in milliseconds
+         * @return Builder object
+         */
+        public JobSubmitPipelineInputData.Builder watchDelay(final int watchDelay) {
+            ValidateUtils.checkIllegalParameter(watchDelay < 0, "watchDelay must not be negative");
+            this.watchDelay = watchDelay;
+            return this;
+        }
+
+        /**
+         * Set whether the completed jobs are retrieved with their step data, true by default
+         *
+         * @param stepData false to skip the step data request of each completed job
+         * @return Builder object
+         */
+        public JobSubmitPipelineInputData.Builder stepData(final boolean stepData) {
+            this.stepData = stepData;
+            return this;
+        }
+
+        /**
+         * Return JobSubmitPipelineInputData object based on Builder this object
+         *
+         * @return JobSubmitPipelineInputData object
+         */
+        public JobSubmitPipelineInputData build() {
+            return new JobSubmitPipelineInputData(this);
+        }
+
+    }
+
+}
@@ -0,0 +1,298 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ *
+ */
+package zowe.client.sdk.zosjobs.methods;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import zowe.client.sdk.core.ZosConnection;
+import zowe.client.sdk.rest.Response;
+import zowe.client.sdk.rest.exception.ZosmfRequestException;
+import zowe.client.sdk.utility.AsyncUtils;
+import zowe.client.sdk.utility.JsonUtils;
+import zowe.client.sdk.utility.ValidateUtils;
+import zowe.client.sdk.utility.timer.WaitUtil;
+import zowe.client.sdk.zosjobs.JobsConstants;
+import zowe.client.sdk.zosjobs.input.CommonJobInputData;
+import zowe.client.sdk.zosjobs.input.JobBatchInputData;
+import zowe.client.sdk.zosjobs.input.JobGetInputData;
+import zowe.client.sdk.zosjobs.input.JobModifyInputData;
+import zowe.client.sdk.zosjobs.model.Job;
+import zowe.client.sdk.zosjobs.response.JobBatchResponse;
+import zowe.client.sdk.zosjobs.response.JobFeedback;
+import zowe.client.sdk.zosjobs.types.JobStatus;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Collectors;
+
+/**
+ * Purge or cancel many jobs at once.
+ * <p>
+ * The requests are sent concurrently, up to the maximum number of concurrent requests given. A request of
+ * version 2.0 is processed synchronously by z/OSMF, its feedback tells the outcome. A request of version 1.0
+ * is only queued by z/OSMF; when verify is set, the completion of the queued requests is then checked with job
+ * list queries, each covering up to the maximum number of jobs listed under the longest common prefix of their
+ * job names, at every watch delay instead of one status query per job.
+ *
+ * @author Frank Giordano
+ * @version 6.0
+ */
+public class JobBatch {
+
+    private static final Logger LOG = LoggerFactory.getLogger(JobBatch.class);
+    private static final int NOT_FOUND = 404;
+    private final JobDelete jobDelete;
+    private final JobCancel jobCancel;
+    private final JobGet jobGet;
+
+    /**
+     * JobBatch constructor
+     *
+     * @param connection for connection information, see ZosConnection object
+     * @author Frank Giordano
+     */
+    public JobBatch(final ZosConnection connection) {
+        ValidateUtils.checkNullParameter(connection, "connection");
+        this.jobDelete = new JobDelete(connection);
+        this.jobCancel = new JobCancel(connection);
+        this.jobGet = new JobGet(connection);
+    }
+
+    /**
+     * Cancel and purge the given jobs and their output.
+     *
+     * @param modifyInputDataList purge parameters of each job, see JobModifyInputData object
+     * @param batchInputData      batch parameters, see JobBatchInputData object
+     * @return JobBatchResponse object
+     * @author Frank Giordano
+     */
+    public JobBatchResponse purge(final List<JobModifyInputData> modifyInputDataList,
+                                  final JobBatchInputData batchInputData) {
+        return this.process(modifyInputDataList, batchInputData, true);
+    }
+
+    /**
+     * Cancel the given jobs.
+     *
+     * @param modifyInputDataList cancel parameters of each job, see JobModifyInputData object
+     * @param batchInputData      batch parameters, see JobBatchInputData object
+     * @return JobBatchResponse object
+     * @author Frank Giordano
+     */
+    public JobBatchResponse cancel(final List<JobModifyInputData> modifyInputDataList,
+                                   final JobBatchInputData batchInputData) {
+        return this.process(modifyInputDataList, batchInputData, false);
+    }
+
+    /**
+     * Send the requests, then check the completion of the queued ones
+     *
+     * @param modifyInputDataList parameters of each job
+     * @param batchInputData      batch parameters
+     * @param purge               true to purge the jobs, false to cancel them
+     * @return JobBatchResponse object
+     */
+    private JobBatchResponse process(final List<JobModifyInputData> modifyInputDataList,
+                                     final JobBatchInputData batchInputData, final boolean purge) {
+        ValidateUtils.checkNullParameter(modifyInputDataList, "modifyInputDataList");
+        ValidateUtils.checkNullParameter(batchInputData, "batchInputData");
+        modifyInputDataList.forEach(JobBatch::validate);
+
+        final ExecutorService executor = AsyncUtils.createExecutor("zowe-sdk-job-batch",
+                batchInputData.getMaxConcurrentRequests());
+        try {
+            final List<CompletableFuture<Response>> requests = modifyInputDataList.stream()
+                    .map(modifyInputData -> AsyncUtils.supplyAsync(() -> purge ?
+                            jobDelete.deleteCommon(modifyInputData) :
+                            jobCancel.cancelCommon(modifyInputData), executor))
+                    .collect(Collectors.toList());
+
+            final List<JobFeedback> feedbacks = new ArrayList<>();
+            final Map<JobModifyInputData, ZosmfRequestException> failures = new HashMap<>();
+            final List<JobModifyInputData> queued = new ArrayList<>();
+            for (int i = 0; i < modifyInputDataList.size(); i++) {
+                final JobModifyInputData modifyInputData = modifyInputDataList.get(i);
+                try {
+                    feedbacks.add(getFeedback(AsyncUtils.join(requests.get(i)), modifyInputData));
+                    if (isQueued(modifyInputData)) {
+                        queued.add(modifyInputData);
+                    }
+                } catch (ZosmfRequestException e) {
+                    LOG.debug("error modifying job {}", modifyInputData, e);
+                    failures.put(modifyInputData, e);
+                }
+            }
+
+            final List<JobModifyInputData> unverified = batchInputData.isVerify() && !queued.isEmpty() ?
+                    verify(queued, batchInputData, purge, executor) : List.of();
+            LOG.debug("{} jobs processed, {} failed, {} unverified", modifyInputDataList.size(), failures.size(),
+                    unverified.size());
+            return new JobBatchResponse(feedbacks, failures, unverified);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Check the completion of the queued requests until they are all complete or the attempts are exhausted
+     *
+     * @param queued         requests queued by z/OSMF
+     * @param batchInputData batch parameters
+     * @param purge          true when the jobs are purged, false when they are cancelled
+     * @param executor       executor the job list queries run on
+     * @return requests whose completion was not seen
+     */
+    private List<JobModifyInputData> verify(final List<JobModifyInputData> queued,
+                                            final JobBatchInputData batchInputData, final boolean purge,
+                                            final ExecutorService executor) {
+        List<JobModifyInputData> pending = queued;
+        for (int attempt = 0; attempt < batchInputData.getAttempts() && !pending.isEmpty(); attempt++) {
+            WaitUtil.wait(batchInputData.getWatchDelay());
+
+            // sorted by job name, the requests of a group share the longest job name prefix possible
+            final List<JobModifyInputData> sorted = new ArrayList<>(pending);
+            sorted.sort(Comparator.comparing(modifyInputData -> modifyInputData.getJobName().get()));
+            final List<CompletableFuture<List<JobModifyInputData>>> checks = new ArrayList<>();
+            for (int start = 0; start < sorted.size(); start += JobsConstants.DEFAULT_MAX_JOBS) {
+                final List<JobModifyInputData> group =
+                        sorted.subList(start, Math.min(start + JobsConstants.DEFAULT_MAX_JOBS, sorted.size()));
+                checks.add(CompletableFuture.supplyAsync(() -> checkGroup(group, purge), executor));
+            }
+            pending = checks.stream()
+                    .flatMap(check -> check.join().stream())
+                    .collect(Collectors.toList());
+        }
+        return pending;
+    }
+
+    /**
+     * Check the completion of a group of requests with a single job list query, of any owner as the requests
+     * do not tell the owner of their job
+     *
+     * @param group requests still pending, sorted by job name
+     * @param purge true when the jobs are purged, false when they are cancelled
+     * @return requests still pending, all of them when the query fails
+     */
+    private List<JobModifyInputData> checkGroup(final List<JobModifyInputData> group, final boolean purge) {
+        final String prefix = JobGet.prefixOf(group.stream()
+                .map(modifyInputData -> modifyInputData.getJobName().get())
+                .collect(Collectors.toList()));
+        final List<Job> jobs;
+        try {
+            jobs = jobGet.getCommon(new JobGetInputData.Builder("*").prefix(prefix)
+                    .maxJobs(JobsConstants.DEFAULT_MAX_JOBS).build());
+        } catch (ZosmfRequestException e) {
+            LOG.debug("error listing jobs {}", prefix, e);
+            return group;
+        }
+        final Map<String, Job> jobsById = jobs.stream()
+                .collect(Collectors.toMap(Job::getJobId, job -> job, (first, second) -> first));
+        // the list is cut at maxJobs, a job missing from a full list may still exist
+        final boolean truncated = jobs.size() >= JobsConstants.DEFAULT_MAX_JOBS;
+
+        return group.stream()
+                .filter(modifyInputData -> {
+                    final String jobId = modifyInputData.getJobId().get();
+                    final Job job = jobsById.get(jobId);
+                    if (job != null) {
+                        return !isComplete(job, purge);
+                    }
+                    return truncated && !isCompleteByStatus(modifyInputData.getJobName().get(), jobId, purge);
+                })
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Whether the request on a job missing from a truncated job list is complete, by querying its status
+     *
+     * @param jobName job name
+     * @param jobId   job id
+     * @param purge   true when the job is purged, false when it is cancelled
+     * @return boolean true or false, false when the status query fails
+     */
+    private boolean isCompleteByStatus(final String jobName, final String jobId, final boolean purge) {
+        try {
+            return isComplete(jobGet.getStatusCommon(new CommonJobInputData(jobId, jobName)), purge);
+        } catch (ZosmfRequestException e) {
+            if (e.getResponse() != null && e.getResponse().getStatusCode().orElse(0) == NOT_FOUND) {
+                return true;
+            }
+            LOG.debug("error retrieving status of job {} {}", jobName, jobId, e);
+            return false;
+        }
+    }
+
+    /**
+     * Whether the request on a job that still exists is complete, a cancelled job reaches the OUTPUT status
+     *
+     * @param job   job
+     * @param purge true when the job is purged, false when it is cancelled
+     * @return boolean true or false
+     */
+    private static boolean isComplete(final Job job, final boolean purge) {
+        return !purge && JobStatus.Type.OUTPUT.toString().equals(job.getStatus());
+    }
+
+    /**
+     * Retrieve the feedback of an accepted request. When z/OSMF returns none or a body that cannot be parsed, the
+     * feedback is built from the job parameters and its status is left empty.
+     *
+     * @param response        http response of the request
+     * @param modifyInputData job parameters
+     * @return JobFeedback object
+     */
+    private static JobFeedback getFeedback(final Response response, final JobModifyInputData modifyInputData) {
+        final Optional<Object> responsePhrase = response.getResponsePhrase();
+        if (responsePhrase.isPresent()) {
+            final String body = String.valueOf(responsePhrase.get());
+            try {
+                return JsonUtils.parseResponse(body, JobFeedback.class, "JobBatch");
+            } catch (ZosmfRequestException e) {
+                LOG.debug("unparsable job feedback for {}: {}", modifyInputData, body, e);
+            }
+        } else {
+            LOG.debug("no job feedback for {}", modifyInputData);
+        }
+        return new JobFeedback(modifyInputData.getJobId().get(), modifyInputData.getJobName().get(),
+                null, null, null, null, null, null, null, null);
+    }
+
+    /**
+     * Whether a request is queued by z/OSMF rather than processed synchronously
+     *
+     * @param modifyInputData job parameters
+     * @return boolean true or false
+     */
+    private static boolean isQueued(final JobModifyInputData modifyInputData) {
+        return "1.0".equals(modifyInputData.getVersion().orElse(JobsConstants.DEFAULT_VERSION));
+    }
+
+    /**
+     * Validate the job parameters before any request is sent
+     *
+     * @param modifyInputData job parameters
+     */
+    private static void validate(final JobModifyInputData modifyInputData) {
+        ValidateUtils.checkNullParameter(modifyInputData, "modifyInputData");
+        ValidateUtils.checkIllegalParameter(modifyInputData.getJobName().isEmpty(), JobsConstants.JOB_NAME_ILLEGAL_MSG);
+        ValidateUtils.checkIllegalParameter(modifyInputData.getJobId().isEmpty(), JobsConstants.JOB_ID_ILLEGAL_MSG);
+        final String version = modifyInputData.getVersion().orElse(JobsConstants.DEFAULT_VERSION);
+        ValidateUtils.checkIllegalParameter(!"1.0".equals(version) && !"2.0".equals(version),
+                "invalid version specified");
+    }
+
+}
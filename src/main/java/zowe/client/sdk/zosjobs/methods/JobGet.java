@@ -9,12 +9,11 @@
  */
 package zowe.client.sdk.zosjobs.methods;
 
-import org.json.simple.JSONArray;
-import org.json.simple.JSONObject;
 import zowe.client.sdk.core.ZosConnection;
 import zowe.client.sdk.rest.*;
 import zowe.client.sdk.rest.exception.ZosmfRequestException;
 import zowe.client.sdk.rest.type.ZosmfRequestType;
+import zowe.client.sdk.utility.AsyncUtils;
 import zowe.client.sdk.utility.EncodeUtils;
 import zowe.client.sdk.utility.JsonUtils;
 import zowe.client.sdk.utility.ValidateUtils;
@@ -24,8 +23,22 @@ import zowe.client.sdk.zosjobs.input.JobGetInputData;
 import zowe.client.sdk.zosjobs.model.Job;
 import zowe.client.sdk.zosjobs.model.JobFile;
 
-import java.util.ArrayList;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 /**
  * Class to handle getting a job and started task information
@@ -36,8 +49,8 @@ import java.util.List;
 public class JobGet {
 
     private final ZosConnection connection;
-    private ZosmfRequest request;
-    private String url;
+    private final ZosmfRequest request;
+    private volatile String url;
 
     /**
      * GetJobs Constructor.
@@ -48,6 +61,7 @@ public class JobGet {
     public JobGet(final ZosConnection connection) {
         ValidateUtils.checkNullParameter(connection, "connection");
         this.connection = connection;
+        this.request = null;
     }
 
     /**
@@ -107,11 +121,36 @@ public class JobGet {
      * @author Frank Giordano
      */
     public String getJclCommon(final CommonJobInputData commonInputData) throws ZosmfRequestException {
+        return parseJcl(prepareJclRequest(commonInputData).executeRequest());
+    }
+
+    /**
+     * Get the JCL that was used to submit a job asynchronously.
+     *
+     * @param commonInputData for common job parameters, see CommonJobInputData object
+     * @param executor        executor the response is processed on
+     * @return CompletableFuture of the JCL content
+     * @author Frank Giordano
+     */
+    public CompletableFuture<String> getJclCommonAsync(final CommonJobInputData commonInputData,
+                                                       final Executor executor) {
+        ValidateUtils.checkNullParameter(executor, "executor");
+        return prepareJclRequest(commonInputData).executeRequestAsync(executor).thenApply(this::parseJcl);
+    }
+
+    /**
+     * Prepare the request retrieving the JCL of a job
+     *
+     * @param commonInputData for common job parameters, see CommonJobInputData object
+     * @return ZosmfRequest object
+     * @author Frank Giordano
+     */
+    private ZosmfRequest prepareJclRequest(final CommonJobInputData commonInputData) {
         ValidateUtils.checkNullParameter(commonInputData, "commonInputData");
         ValidateUtils.checkIllegalParameter(commonInputData.getJobName().isEmpty(), JobsConstants.JOB_NAME_ILLEGAL_MSG);
         ValidateUtils.checkIllegalParameter(commonInputData.getJobId().isEmpty(), JobsConstants.JOB_ID_ILLEGAL_MSG);
 
-        url = connection.getZosmfUrl() +
+        String url = connection.getZosmfUrl() +
                 JobsConstants.RESOURCE +
                 JobsConstants.FILE_DELIM +
                 EncodeUtils.encodeURIComponent(commonInputData.getJobName().get()) +
@@ -121,12 +160,22 @@ public class JobGet {
                 JobsConstants.RESOURCE_JCL_CONTENT +
                 JobsConstants.RESOURCE_SPOOL_CONTENT;
 
-        if (request == null || !(request instanceof GetTextZosmfRequest)) {
-            request = ZosmfRequestFactory.buildRequest(connection, ZosmfRequestType.GET_TEXT);
-        }
+        final ZosmfRequest request = this.request instanceof GetTextZosmfRequest ?
+                this.request : ZosmfRequestFactory.buildRequest(connection, ZosmfRequestType.GET_TEXT);
         request.setUrl(url);
+        this.url = url;
+        return request;
+    }
 
-        return (String) request.executeRequest().getResponsePhrase()
+    /**
+     * Retrieve the JCL content from the response
+     *
+     * @param response Response object
+     * @return JCL content
+     * @author Frank Giordano
+     */
+    private String parseJcl(final Response response) {
+        return (String) response.getResponsePhrase()
                 .orElseThrow(() -> new IllegalStateException("no job jcl response phrase"));
     }
 
@@ -214,9 +263,48 @@ public class JobGet {
      * @author Frank Giordano
      */
     public List<Job> getCommon(final JobGetInputData getInputData) throws ZosmfRequestException {
-        List<Job> jobs = new ArrayList<>();
+        return parseJobs(prepareGetRequest(getInputData).executeRequest());
+    }
 
-        url = connection.getZosmfUrl() +
+    /**
+     * Get jobs filtered by owner and prefix asynchronously.
+     *
+     * @param getInputData to get job parameters, see JobGetInputData object
+     * @param executor     executor the response is processed on
+     * @return CompletableFuture of the list of job objects (matching jobs), without step-data
+     * @author Frank Giordano
+     */
+    public CompletableFuture<List<Job>> getCommonAsync(final JobGetInputData getInputData, final Executor executor) {
+        ValidateUtils.checkNullParameter(executor, "executor");
+        return prepareGetRequest(getInputData).executeRequestAsync(executor)
+                .thenApply(AsyncUtils.unchecked(this::parseJobs));
+    }
+
+    /**
+     * Prepare the request retrieving jobs filtered by owner and prefix
+     *
+     * @param getInputData to get job parameters, see JobGetInputData object
+     * @return ZosmfRequest object
+     * @author Frank Giordano
+     */
+    private ZosmfRequest prepareGetRequest(final JobGetInputData getInputData) {
+        final String url = getJobsUrl(getInputData);
+        final ZosmfRequest request = this.request instanceof GetJsonZosmfRequest ?
+                this.request : ZosmfRequestFactory.buildRequest(connection, ZosmfRequestType.GET_JSON);
+        request.setUrl(url);
+        this.url = url;
+        return request;
+    }
+
+    /**
+     * Build the url of a job list request
+     *
+     * @param getInputData to get job parameters, see JobGetInputData object
+     * @return url string value
+     * @author Frank Giordano
+     */
+    private String getJobsUrl(final JobGetInputData getInputData) {
+        String url = connection.getZosmfUrl() +
                 JobsConstants.RESOURCE + QueryConstants.QUERY_ID;
 
         if (getInputData != null) {
@@ -251,24 +339,71 @@ public class JobGet {
                 url += JobsConstants.QUERY_OWNER + connection.getUser();
             }
         }
+        return url;
+    }
 
-        if (request == null || !(request instanceof GetJsonZosmfRequest)) {
-            request = ZosmfRequestFactory.buildRequest(connection, ZosmfRequestType.GET_JSON);
-        }
-        request.setUrl(url);
+    /**
+     * Stream the jobs filtered by owner and prefix, past the max-jobs cap of a single request.
+     * <p>
+     * The job list is requested in windows of at most maxJobs jobs, DEFAULT_MAX_JOBS when not given. A window
+     * that comes back full is split by job name prefix and requested again in narrower windows, so every job
+     * is returned once however many jobs match, see JobListIterator. Jobs are parsed one at a time while a
+     * window is read, and at most one window of jobs is held in memory.
+     * <p>
+     * The returned stream should be closed, preferably with try-with-resources. An error requesting a later
+     * window is thrown as an unchecked exception while iterating.
+     *
+     * @param getInputData to get job parameters, see JobGetInputData object
+     * @return Stream of job objects (matching jobs), without step-data
+     * @throws ZosmfRequestException request error state of the first window
+     * @author Frank Giordano
+     */
+    public Stream<Job> streamJobs(final JobGetInputData getInputData) throws ZosmfRequestException {
+        ValidateUtils.checkNullParameter(getInputData, "getInputData");
+        final int pageSize = getInputData.getMaxJobs().orElse(JobsConstants.DEFAULT_MAX_JOBS);
+        ValidateUtils.checkIllegalParameter(pageSize <= 0, "maxJobs must be greater than zero");
+
+        // a list filtered by job id holds one job, it is never split
+        return new JobListIterator(getInputData.getPrefix().orElse(JobsConstants.DEFAULT_PREFIX),
+                getInputData.getJobId().isEmpty(), pageSize,
+                prefix -> openJobsPage(new JobGetInputData.Builder(getInputData.getOwner().orElse(null))
+                        .prefix(prefix)
+                        .maxJobs(pageSize)
+                        .jobId(getInputData.getJobId().orElse(null))
+                        .build())).stream();
+    }
 
-        final String responsePhrase = request.executeRequest()
-                .getResponsePhrase()
-                .orElseThrow(() -> new IllegalStateException("no get job response phrase"))
-                .toString();
+    /**
+     * Open the content of a job list request
+     *
+     * @param getInputData to get job parameters, see JobGetInputData object
+     * @return job list content, it must be closed
+     * @throws ZosmfRequestException request error state
+     * @author Frank Giordano
+     */
+    private ZosmfInputStream openJobsPage(final JobGetInputData getInputData) throws ZosmfRequestException {
+        final GetStreamZosmfRequest pageRequest = this.request instanceof GetStreamZosmfRequest ?
+                (GetStreamZosmfRequest) this.request :
+                (GetStreamZosmfRequest) ZosmfRequestFactory.buildRequest(connection, ZosmfRequestType.GET_STREAM);
+        pageRequest.setUrl(getJobsUrl(getInputData));
+        return pageRequest.executeStreamRequest(ZosmfInputStream.DEFAULT_BUFFER_SIZE);
+    }
 
-        final String context = "getCommon";
-        final JSONArray results = JsonUtils.parseArray(responsePhrase);
-        for (final Object jsonObj : results) {
-            jobs.add(JsonUtils.parseResponse(String.valueOf(jsonObj), Job.class, context));
+    /**
+     * Retrieve the list of jobs from the response
+     *
+     * @param response Response object
+     * @return list of job objects
+     * @throws ZosmfRequestException request error state
+     * @author Frank Giordano
+     */
+    private List<Job> parseJobs(final Response response) throws ZosmfRequestException {
+        if (!response.hasResponsePhrase()) {
+            throw new IllegalStateException("no get job response phrase");
         }
 
-        return jobs;
+        final String context = "getCommon";
+        return JsonUtils.parseResponseList(response, Job.class, context);
     }
 
     /**
@@ -309,11 +444,212 @@ public class JobGet {
      * @author Frank Giordano
      */
     public String getSpoolContentCommon(final JobFile jobFile) throws ZosmfRequestException {
+        return parseSpoolContent(prepareSpoolContentRequest(jobFile).executeRequest());
+    }
+
+    /**
+     * Get spool file content from a job file definition asynchronously.
+     *
+     * @param jobFile  spool file for which you want to retrieve the content
+     * @param executor executor the response is processed on
+     * @return CompletableFuture of the spool content
+     * @author Frank Giordano
+     */
+    public CompletableFuture<String> getSpoolContentCommonAsync(final JobFile jobFile, final Executor executor) {
+        ValidateUtils.checkNullParameter(executor, "executor");
+        return prepareSpoolContentRequest(jobFile).executeRequestAsync(executor)
+                .thenApply(this::parseSpoolContent);
+    }
+
+    /**
+     * Get a range of records from a spool file. Only the requested records are transferred, which makes it
+     * possible to follow the output of a running job without reading its spool file again and again.
+     *
+     * @param jobFile spool file for which you want to retrieve the content
+     * @param start   zero-based number of the first record to retrieve
+     * @param count   maximum number of records to retrieve
+     * @return spool content of the records, empty when the spool file has no record from start
+     * @throws ZosmfRequestException request error state
+     * @author Frank Giordano
+     */
+    public String getSpoolContentRange(final JobFile jobFile, final long start, final int count)
+            throws ZosmfRequestException {
+        return parseSpoolContent(prepareSpoolContentRequest(jobFile, getRecordRange(start, count)).executeRequest());
+    }
+
+    /**
+     * Get a range of records from a spool file asynchronously, see getSpoolContentRange.
+     *
+     * @param jobFile  spool file for which you want to retrieve the content
+     * @param start    zero-based number of the first record to retrieve
+     * @param count    maximum number of records to retrieve
+     * @param executor executor the response is processed on
+     * @return CompletableFuture of the spool content of the records
+     * @author Frank Giordano
+     */
+    public CompletableFuture<String> getSpoolContentRangeAsync(final JobFile jobFile, final long start,
+                                                               final int count, final Executor executor) {
+        ValidateUtils.checkNullParameter(executor, "executor");
+        return prepareSpoolContentRequest(jobFile, getRecordRange(start, count)).executeRequestAsync(executor)
+                .thenApply(this::parseSpoolContent);
+    }
+
+    /**
+     * Get spool file content as a stream read directly from the connection, so that the content is never held in
+     * memory as a whole. The stream holds a connection slot until it is closed, it must be closed by the caller,
+     * preferably with try-with-resources. Closing it before the end of the content stops the transfer.
+     *
+     * @param jobFile spool file for which you want to retrieve the content
+     * @return spool content stream, encoded in UTF-8
+     * @throws ZosmfRequestException request error state
+     * @author Frank Giordano
+     */
+    public ZosmfInputStream getSpoolContentStream(final JobFile jobFile) throws ZosmfRequestException {
+        final String url = getSpoolContentUrl(jobFile);
+        final GetStreamZosmfRequest request = this.request instanceof GetStreamZosmfRequest ?
+                (GetStreamZosmfRequest) this.request :
+                (GetStreamZosmfRequest) ZosmfRequestFactory.buildRequest(connection, ZosmfRequestType.GET_STREAM);
+        request.setUrl(url);
+        this.url = url;
+        return request.executeStreamRequest(ZosmfInputStream.DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Get spool file content as a reader, see getSpoolContentStream. The reader must be closed by the caller.
+     *
+     * @param jobFile spool file for which you want to retrieve the content
+     * @return spool content reader
+     * @throws ZosmfRequestException request error state
+     * @author Frank Giordano
+     */
+    public BufferedReader getSpoolContentReader(final JobFile jobFile) throws ZosmfRequestException {
+        return new BufferedReader(new InputStreamReader(getSpoolContentStream(jobFile), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Write spool file content to the given output stream as it is received. The output stream is not closed.
+     *
+     * @param jobFile      spool file for which you want to retrieve the content
+     * @param outputStream output stream the content is written to
+     * @return number of bytes written
+     * @throws ZosmfRequestException request error state, or error writing the content
+     * @author Frank Giordano
+     */
+    public long downloadSpoolContent(final JobFile jobFile, final OutputStream outputStream)
+            throws ZosmfRequestException {
+        ValidateUtils.checkNullParameter(outputStream, "outputStream");
+        try (ZosmfInputStream content = getSpoolContentStream(jobFile)) {
+            return content.transferTo(outputStream);
+        } catch (IOException e) {
+            throw new ZosmfRequestException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Write spool file content to the given file as it is received, the file is created or replaced.
+     *
+     * @param jobFile spool file for which you want to retrieve the content
+     * @param path    file the content is written to
+     * @return number of bytes written
+     * @throws ZosmfRequestException request error state, or error writing the file
+     * @author Frank Giordano
+     */
+    public long downloadSpoolContent(final JobFile jobFile, final Path path) throws ZosmfRequestException {
+        ValidateUtils.checkNullParameter(path, "path");
+        try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(path))) {
+            return downloadSpoolContent(jobFile, outputStream);
+        } catch (IOException e) {
+            throw new ZosmfRequestException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Pass each line of spool file content to the given line processor as it is received. Only one line is held
+     * in memory at a time. Reading stops, and the transfer of the remaining content is abandoned, as soon as the
+     * line processor returns false.
+     *
+     * @param jobFile       spool file for which you want to retrieve the content
+     * @param lineProcessor called with each line, returns true to continue reading and false to stop
+     * @return number of lines passed to the line processor
+     * @throws ZosmfRequestException request error state, or error reading the content
+     * @author Frank Giordano
+     */
+    public long processSpoolContent(final JobFile jobFile, final Predicate<String> lineProcessor)
+            throws ZosmfRequestException {
+        ValidateUtils.checkNullParameter(lineProcessor, "lineProcessor");
+        long count = 0;
+        try (BufferedReader reader = getSpoolContentReader(jobFile)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                count++;
+                if (!lineProcessor.test(line)) {
+                    break;
+                }
+            }
+        } catch (IOException e) {
+            throw new ZosmfRequestException(e.getMessage(), e);
+        }
+        return count;
+    }
+
+    /**
+     * Retrieve the value of the record range header selecting count records from the start record
+     *
+     * @param start zero-based number of the first record
+     * @param count number of records
+     * @return record range header value
+     */
+    private static String getRecordRange(final long start, final int count) {
+        ValidateUtils.checkIllegalParameter(start < 0, "start must not be negative");
+        ValidateUtils.checkIllegalParameter(count <= 0, "count must be greater than zero");
+        return start + "," + count;
+    }
+
+    /**
+     * Prepare the request retrieving the content of a spool file
+     *
+     * @param jobFile spool file for which you want to retrieve the content
+     * @return ZosmfRequest object
+     * @author Frank Giordano
+     */
+    private ZosmfRequest prepareSpoolContentRequest(final JobFile jobFile) {
+        return prepareSpoolContentRequest(jobFile, null);
+    }
+
+    /**
+     * Prepare the request retrieving the content of a spool file, optionally limited to a range of records
+     *
+     * @param jobFile     spool file for which you want to retrieve the content
+     * @param recordRange X-IBM-Record-Range header value, null for the whole content
+     * @return ZosmfRequest object
+     * @author Frank Giordano
+     */
+    private ZosmfRequest prepareSpoolContentRequest(final JobFile jobFile, final String recordRange) {
+        final String url = getSpoolContentUrl(jobFile);
+
+        final ZosmfRequest request = this.request instanceof GetTextZosmfRequest ?
+                this.request : ZosmfRequestFactory.buildRequest(connection, ZosmfRequestType.GET_TEXT);
+        if (recordRange != null) {
+            request.setHeaders(Map.of("X-IBM-Record-Range", recordRange));
+        }
+        request.setUrl(url);
+        this.url = url;
+        return request;
+    }
+
+    /**
+     * Build the url retrieving the content of a spool file
+     *
+     * @param jobFile spool file for which you want to retrieve the content
+     * @return url string value
+     * @author Frank Giordano
+     */
+    String getSpoolContentUrl(final JobFile jobFile) {
         ValidateUtils.checkNullParameter(jobFile, "jobFile");
         ValidateUtils.checkIllegalParameter(jobFile.getJobName(), "jobName");
         ValidateUtils.checkIllegalParameter(jobFile.getJobId(), "jobId");
 
-        url = connection.getZosmfUrl() +
+        return connection.getZosmfUrl() +
                 JobsConstants.RESOURCE +
                 JobsConstants.FILE_DELIM +
                 EncodeUtils.encodeURIComponent(jobFile.getJobName()) +
@@ -323,14 +659,18 @@ public class JobGet {
                 JobsConstants.FILE_DELIM +
                 jobFile.getId() +
                 JobsConstants.RESOURCE_SPOOL_CONTENT;
+    }
 
-        if (request == null || !(request instanceof GetTextZosmfRequest)) {
-            request = ZosmfRequestFactory.buildRequest(connection, ZosmfRequestType.GET_TEXT);
-        }
-        request.setUrl(url);
-
+    /**
+     * Retrieve the spool content from the response
+     *
+     * @param response Response object
+     * @return spool content
+     * @author Frank Giordano
+     */
+    private String parseSpoolContent(final Response response) {
         final String spoolErrMsg = "no job spool file content response phrase";
-        return request.executeRequest()
+        return response
                 .getResponsePhrase()
                 .orElseThrow(() -> new IllegalStateException(spoolErrMsg))
                 .toString();
@@ -373,11 +713,37 @@ public class JobGet {
      * @author Frank Giordano
      */
     public List<JobFile> getSpoolFilesCommon(final CommonJobInputData commonInputData) throws ZosmfRequestException {
+        return parseSpoolFiles(prepareSpoolFilesRequest(commonInputData).executeRequest());
+    }
+
+    /**
+     * Get a list of all job spool files for a job asynchronously.
+     *
+     * @param commonInputData for common job parameters, see CommonJobInputData object
+     * @param executor        executor the response is processed on
+     * @return CompletableFuture of the list of JobFile objects
+     * @author Frank Giordano
+     */
+    public CompletableFuture<List<JobFile>> getSpoolFilesCommonAsync(final CommonJobInputData commonInputData,
+                                                                     final Executor executor) {
+        ValidateUtils.checkNullParameter(executor, "executor");
+        return prepareSpoolFilesRequest(commonInputData).executeRequestAsync(executor)
+                .thenApply(AsyncUtils.unchecked(this::parseSpoolFiles));
+    }
+
+    /**
+     * Prepare the request retrieving the spool files of a job
+     *
+     * @param commonInputData for common job parameters, see CommonJobInputData object
+     * @return ZosmfRequest object
+     * @author Frank Giordano
+     */
+    private ZosmfRequest prepareSpoolFilesRequest(final CommonJobInputData commonInputData) {
         ValidateUtils.checkNullParameter(commonInputData, "commonInputData");
         ValidateUtils.checkIllegalParameter(commonInputData.getJobName().isEmpty(), JobsConstants.JOB_NAME_ILLEGAL_MSG);
         ValidateUtils.checkIllegalParameter(commonInputData.getJobId().isEmpty(), JobsConstants.JOB_ID_ILLEGAL_MSG);
 
-        url = connection.getZosmfUrl() +
+        String url = connection.getZosmfUrl() +
                 JobsConstants.RESOURCE +
                 JobsConstants.FILE_DELIM +
                 EncodeUtils.encodeURIComponent(commonInputData.getJobName().get()) +
@@ -385,26 +751,28 @@ public class JobGet {
                 commonInputData.getJobId().get() +
                 "/files";
 
-        if (request == null || !(request instanceof GetJsonZosmfRequest)) {
-            request = ZosmfRequestFactory.buildRequest(connection, ZosmfRequestType.GET_JSON);
-        }
+        final ZosmfRequest request = this.request instanceof GetJsonZosmfRequest ?
+                this.request : ZosmfRequestFactory.buildRequest(connection, ZosmfRequestType.GET_JSON);
         request.setUrl(url);
+        this.url = url;
+        return request;
+    }
 
-        final List<JobFile> files = new ArrayList<>();
-        final String spoolErrMsg = "no job spool files phrase";
-        final String responsePhrase = request.executeRequest()
-                .getResponsePhrase()
-                .orElseThrow(() -> new IllegalStateException(spoolErrMsg))
-                .toString();
-
-        final String context = "getSpoolFilesCommon";
-        final JSONArray results = JsonUtils.parseArray(responsePhrase);
-        for (final Object obj : results) {
-            final JSONObject jsonObj = (JSONObject) obj;
-            files.add(JsonUtils.parseResponse(jsonObj.toJSONString(), JobFile.class, context));
+    /**
+     * Retrieve the list of spool files from the response
+     *
+     * @param response Response object
+     * @return list of JobFile objects
+     * @throws ZosmfRequestException request error state
+     * @author Frank Giordano
+     */
+    private List<JobFile> parseSpoolFiles(final Response response) throws ZosmfRequestException {
+        if (!response.hasResponsePhrase()) {
+            throw new IllegalStateException("no job spool files phrase");
         }
 
-        return files;
+        final String context = "getSpoolFilesCommon";
+        return JsonUtils.parseResponseList(response, JobFile.class, context);
     }
 
     /**
@@ -473,11 +841,37 @@ public class JobGet {
      * @author Frank Giordano
      */
     public Job getStatusCommon(final CommonJobInputData commonInputData) throws ZosmfRequestException {
+        return parseStatus(prepareStatusRequest(commonInputData).executeRequest());
+    }
+
+    /**
+     * Get the status and other details (e.g., owner, return code) for a job asynchronously.
+     *
+     * @param commonInputData for common job parameters, see CommonJobInputData object
+     * @param executor        executor the response is processed on
+     * @return CompletableFuture of the job document (matching job)
+     * @author Frank Giordano
+     */
+    public CompletableFuture<Job> getStatusCommonAsync(final CommonJobInputData commonInputData,
+                                                       final Executor executor) {
+        ValidateUtils.checkNullParameter(executor, "executor");
+        return prepareStatusRequest(commonInputData).executeRequestAsync(executor)
+                .thenApply(AsyncUtils.unchecked(this::parseStatus));
+    }
+
+    /**
+     * Prepare the request retrieving the status of a job
+     *
+     * @param commonInputData for common job parameters, see CommonJobInputData object
+     * @return ZosmfRequest object
+     * @author Frank Giordano
+     */
+    private ZosmfRequest prepareStatusRequest(final CommonJobInputData commonInputData) {
         ValidateUtils.checkNullParameter(commonInputData, "commonInputData");
         ValidateUtils.checkIllegalParameter(commonInputData.getJobName().isEmpty(), JobsConstants.JOB_NAME_ILLEGAL_MSG);
         ValidateUtils.checkIllegalParameter(commonInputData.getJobId().isEmpty(), JobsConstants.JOB_ID_ILLEGAL_MSG);
 
-        url = connection.getZosmfUrl() + JobsConstants.RESOURCE + "/" +
+        String url = connection.getZosmfUrl() + JobsConstants.RESOURCE + "/" +
                 EncodeUtils.encodeURIComponent(commonInputData.getJobName().get()) + "/" +
                 commonInputData.getJobId().get();
 
@@ -485,22 +879,59 @@ public class JobGet {
             url += JobsConstants.QUERY_ID + JobsConstants.STEP_DATA;
         }
 
-        if (request == null || !(request instanceof GetJsonZosmfRequest)) {
-            request = ZosmfRequestFactory.buildRequest(connection, ZosmfRequestType.GET_JSON);
-        }
+        final ZosmfRequest request = this.request instanceof GetJsonZosmfRequest ?
+                this.request : ZosmfRequestFactory.buildRequest(connection, ZosmfRequestType.GET_JSON);
         request.setUrl(url);
+        this.url = url;
+        return request;
+    }
 
-        final String responsePhrase = request.executeRequest()
-                .getResponsePhrase()
-                .orElseThrow(() -> new IllegalStateException("no get job response phrase"))
-                .toString();
+    /**
+     * Retrieve the job document from the response
+     *
+     * @param response Response object
+     * @return job document
+     * @throws ZosmfRequestException request error state
+     * @author Frank Giordano
+     */
+    private Job parseStatus(final Response response) throws ZosmfRequestException {
+        if (!response.hasResponsePhrase()) {
+            throw new IllegalStateException("no get job response phrase");
+        }
 
         final String context = "getStatusCommon";
-        return JsonUtils.parseResponse(responsePhrase, Job.class, context);
+        return JsonUtils.parseResponse(response, Job.class, context);
+    }
+
+    /**
+     * Retrieve the job name prefix listing every job of the given names: the job name when they all share it,
+     * otherwise their longest common prefix followed by a wildcard, '*' alone when they have none.
+     * <p>
+     * This method is package-private
+     *
+     * @param jobNames job names, at least one
+     * @return prefix string
+     * @author Frank Giordano
+     */
+    static String prefixOf(final Collection<String> jobNames) {
+        // the common prefix of the lowest and highest names is common to all the names
+        final String first = Collections.min(jobNames);
+        final String last = Collections.max(jobNames);
+        if (first.equals(last)) {
+            return first;
+        }
+        int length = 0;
+        while (length < first.length() && length < last.length() && first.charAt(length) == last.charAt(length)) {
+            length++;
+        }
+        return first.substring(0, length) + JobsConstants.DEFAULT_PREFIX;
     }
 
     /**
      * Get url specified for rest processing.
+     * <p>
+     * When this instance is shared by several threads, the url is the one of the latest request prepared by any
+     * of them.
      *
      * @return url
      * @author Frank Giordano
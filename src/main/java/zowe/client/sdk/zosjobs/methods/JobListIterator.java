@@ -0,0 +1,239 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosjobs.methods;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import zowe.client.sdk.rest.exception.ZosmfRequestException;
+import zowe.client.sdk.utility.AsyncUtils;
+import zowe.client.sdk.utility.JsonUtils;
+import zowe.client.sdk.zosjobs.model.Job;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Iterator over the jobs of a job list, walking the job name space in windows of at most one page.
+ * <p>
+ * z/OSMF cuts a job list at max-jobs without any way to continue past it. Each window is a job name prefix
+ * listed with max-jobs set to the page size; when a window comes back full, it may hold more jobs, so it is
+ * discarded and split into narrower windows: the exact name of the prefix, then the prefix followed by each
+ * character a job name may hold. The windows are disjoint, so each job is returned once. A full window that
+ * cannot be split, an 8 character name or a prefix holding other wildcards, is returned as is.
+ * <p>
+ * Jobs are parsed one at a time while a page is read, and at most one page of jobs is held in memory.
+ *
+ * @author Frank Giordano
+ * @version 6.0
+ */
+final class JobListIterator implements Iterator<Job>, AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(JobListIterator.class);
+    private static final String FIRST_CHARACTERS = "ABCDEFGHIJKLMNOPQRSTUVWXYZ@#$";
+    private static final String NEXT_CHARACTERS = FIRST_CHARACTERS + "0123456789";
+    private static final int JOB_NAME_LENGTH = 8;
+    private static final String WILDCARD = "*";
+
+    private final int pageSize;
+    private final AsyncUtils.RequestFunction<String, InputStream> pageSource;
+    private final Deque<Window> windows = new ArrayDeque<>();
+    private Iterator<Job> page = Collections.emptyIterator();
+    private boolean closed;
+
+    /**
+     * JobListIterator constructor, the first window is requested right away
+     *
+     * @param prefix     job name prefix of the list, e.g. * or TEST*
+     * @param splittable false when the list must not be split, e.g. when it is filtered by job id
+     * @param pageSize   max-jobs of each request
+     * @param pageSource function opening the content of the job list of the given prefix
+     * @throws ZosmfRequestException request error state
+     * @author Frank Giordano
+     */
+    JobListIterator(final String prefix, final boolean splittable, final int pageSize,
+                    final AsyncUtils.RequestFunction<String, InputStream> pageSource) throws ZosmfRequestException {
+        this.pageSize = pageSize;
+        this.pageSource = pageSource;
+        windows.push(splittable ? Window.of(prefix) : new Window(prefix, null));
+        try {
+            nextPage();
+        } catch (IOException e) {
+            close();
+            throw new ZosmfRequestException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Return a sequential stream over the jobs. Closing the stream closes this iterator.
+     *
+     * @return Stream object
+     * @author Frank Giordano
+     */
+    Stream<Job> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this,
+                Spliterator.ORDERED | Spliterator.NONNULL), false).onClose(this::close);
+    }
+
+    /**
+     * Return whether another job is available, requesting the next windows when needed
+     *
+     * @return boolean true or false
+     * @throws UncheckedIOException error reading the response content
+     * @throws IllegalStateException error requesting a window, with the ZosmfRequestException as cause
+     */
+    @Override
+    public boolean hasNext() {
+        while (!closed && !page.hasNext() && !windows.isEmpty()) {
+            try {
+                nextPage();
+            } catch (IOException e) {
+                close();
+                throw new UncheckedIOException(e);
+            } catch (ZosmfRequestException e) {
+                close();
+                throw new IllegalStateException(e.getMessage(), e);
+            }
+        }
+        return !closed && page.hasNext();
+    }
+
+    /**
+     * Return the next job
+     *
+     * @return Job object
+     */
+    @Override
+    public Job next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return page.next();
+    }
+
+    /**
+     * Request the next window, splitting it when it comes back full
+     *
+     * @throws IOException           error reading the response content
+     * @throws ZosmfRequestException request error state
+     */
+    private void nextPage() throws IOException, ZosmfRequestException {
+        final Window window = windows.pop();
+        final List<Job> jobs = readPage(window.prefix);
+        if (jobs.size() < pageSize) {
+            page = jobs.iterator();
+        } else if (window.stem != null) {
+            LOG.debug("job list {} is full, splitting it", window.prefix);
+            page = Collections.emptyIterator();
+            final List<Window> children = window.split();
+            for (int i = children.size() - 1; i >= 0; i--) {
+                windows.push(children.get(i));
+            }
+        } else {
+            LOG.warn("job list {} holds {} jobs or more, only the first {} are returned", window.prefix, pageSize,
+                    pageSize);
+            page = jobs.iterator();
+        }
+    }
+
+    /**
+     * Read the job list of a prefix, parsing the jobs one at a time
+     *
+     * @param prefix job name prefix
+     * @return list of Job objects
+     * @throws IOException           error reading the response content
+     * @throws ZosmfRequestException request error state
+     */
+    private List<Job> readPage(final String prefix) throws IOException, ZosmfRequestException {
+        final List<Job> jobs = new ArrayList<>();
+        try (InputStream content = pageSource.apply(prefix);
+             JsonParser parser = JsonUtils.getObjectMapper().createParser(content)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IOException("json array expected in job list response");
+            }
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                jobs.add(JsonUtils.getObjectMapper().readValue(parser, Job.class));
+            }
+        }
+        return jobs;
+    }
+
+    /**
+     * Stop the iteration
+     */
+    @Override
+    public void close() {
+        closed = true;
+        windows.clear();
+        page = Collections.emptyIterator();
+    }
+
+    /**
+     * Job name prefix listed in one request
+     */
+    private static final class Window {
+
+        private final String prefix;
+        // job name start of a prefix ending with the wildcard, null when the window cannot be split
+        private final String stem;
+
+        private Window(final String prefix, final String stem) {
+            this.prefix = prefix;
+            this.stem = stem;
+        }
+
+        /**
+         * Create the window of a prefix, splittable when it is a job name start followed by the wildcard
+         *
+         * @param prefix job name prefix
+         * @return Window object
+         */
+        private static Window of(final String prefix) {
+            final String stem = prefix.substring(0, prefix.length() - 1);
+            if (prefix.endsWith(WILDCARD) && !stem.contains(WILDCARD) && !stem.contains("%")
+                    && stem.length() < JOB_NAME_LENGTH) {
+                return new Window(prefix, stem);
+            }
+            return new Window(prefix, null);
+        }
+
+        /**
+         * Split the window into the exact name of its stem and the stem followed by each job name character
+         *
+         * @return list of Window objects
+         */
+        private List<Window> split() {
+            final List<Window> children = new ArrayList<>();
+            if (!stem.isEmpty()) {
+                children.add(new Window(stem, null));
+            }
+            final String characters = stem.isEmpty() ? FIRST_CHARACTERS : NEXT_CHARACTERS;
+            for (final char character : characters.toCharArray()) {
+                children.add(Window.of(stem + character + WILDCARD));
+            }
+            return children;
+        }
+
+    }
+
+}
@@ -24,11 +24,21 @@ import zowe.client.sdk.zosjobs.model.JobFile;
 import zowe.client.sdk.zosjobs.response.CheckStatusResponse;
 import zowe.client.sdk.zosjobs.types.JobStatus;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * APIs for monitoring the status of a job. Use these APIs to wait for a job to enter the specified status. All APIs
  * in MonitorJobs invoke z/OSMF jobs REST endpoints to collect job status information.
+ * <p>
+ * The asynchronous variants hold no thread between two polls: each poll is an asynchronous request, and the
+ * watch delay runs on the timer shared by the SDK, see WaitUtil.delay. Many jobs can be monitored at once with
+ * a small executor.
+ * <p>
+ * When waiting for a message of a long-running job, use the tail mode of JobMonitorInputData: each poll then
+ * retrieves only the new records of the job output with a record range request instead of its whole content.
  *
  * @author Frank Giordano
  * @version 6.0
@@ -52,11 +62,12 @@ public class JobMonitor {
      * The default amount of time (in 3000 milliseconds is 3 seconds) to wait until the next job status poll.
      */
     public static final int DEFAULT_WATCH_DELAY = 3000;
-    private final ZosConnection connection;
+    private static final String MAX_ATTEMPTS_MSG = "Desired status not seen. The number of maximum attempts reached.";
+    private final JobGet jobGet;
     // double settings from DEFAULTS variables to allow constructor to control them also
-    private int attempts = DEFAULT_ATTEMPTS;
-    private int watchDelay = DEFAULT_WATCH_DELAY;
-    private int lineLimit = DEFAULT_LINE_LIMIT;
+    private final int attempts;
+    private final int watchDelay;
+    private final int lineLimit;
 
     /**
      * MonitorJobs constructor.
@@ -65,8 +76,7 @@ public class JobMonitor {
      * @author Frank Giordano
      */
     public JobMonitor(final ZosConnection connection) {
-        ValidateUtils.checkNullParameter(connection, "connection");
-        this.connection = connection;
+        this(connection, DEFAULT_ATTEMPTS, DEFAULT_WATCH_DELAY, DEFAULT_LINE_LIMIT);
     }
 
     /**
@@ -77,9 +87,7 @@ public class JobMonitor {
      * @author Frank Giordano
      */
     public JobMonitor(final ZosConnection connection, final int attempts) {
-        ValidateUtils.checkNullParameter(connection, "connection");
-        this.connection = connection;
-        this.attempts = attempts;
+        this(connection, attempts, DEFAULT_WATCH_DELAY, DEFAULT_LINE_LIMIT);
     }
 
     /**
@@ -91,10 +99,7 @@ public class JobMonitor {
      * @author Frank Giordano
      */
     public JobMonitor(final ZosConnection connection, final int attempts, final int watchDelay) {
-        ValidateUtils.checkNullParameter(connection, "connection");
-        this.connection = connection;
-        this.attempts = attempts;
-        this.watchDelay = watchDelay;
+        this(connection, attempts, watchDelay, DEFAULT_LINE_LIMIT);
     }
 
     /**
@@ -108,35 +113,161 @@ public class JobMonitor {
      */
     public JobMonitor(final ZosConnection connection, final int attempts, final int watchDelay, final int lineLimit) {
         ValidateUtils.checkNullParameter(connection, "connection");
-        this.connection = connection;
+        this.jobGet = new JobGet(connection);
         this.attempts = attempts;
         this.watchDelay = watchDelay;
         this.lineLimit = lineLimit;
     }
 
     /**
-     * Check if the given message is within the job output line limit.
+     * Check if the given message is within the job output line limit. In tail mode, only the records written since
+     * the previous check are retrieved and inspected.
      *
      * @param monitorInputData monitor jobs parameters, see JobMonitorInputData
      * @param message          message string
+     * @param spoolTail        position in the job output of the previous check, null when not in tail mode
      * @return boolean message found status
      * @throws ZosmfRequestException request error state
      * @author Frank Giordano
      */
-    private boolean checkMessage(final JobMonitorInputData monitorInputData, final String message)
-            throws ZosmfRequestException {
-        final JobGet getJobs = new JobGet(connection);
-        final JobGetInputData filter =
-                new JobGetInputData.Builder("*")
-                        .jobId(monitorInputData.getJobId().orElse(""))
-                        .prefix(monitorInputData.getJobName().orElse(""))
-                        .build();
-        final List<Job> jobs = getJobs.getCommon(filter);
+    private boolean checkMessage(final JobMonitorInputData monitorInputData, final String message,
+                                 final SpoolTail spoolTail) throws ZosmfRequestException {
+        if (spoolTail == null) {
+            return containsMessage(monitorInputData, jobGet.getSpoolContent(getMessageFile(monitorInputData)),
+                    message);
+        }
+
+        if (spoolTail.jobFile == null) {
+            spoolTail.jobFile = getMessageFile(monitorInputData);
+        }
+        final int count = monitorInputData.getLineLimit().orElse(DEFAULT_LINE_LIMIT);
+        String[] records;
+        do {
+            records = toRecords(jobGet.getSpoolContentRange(spoolTail.jobFile, spoolTail.offset, count));
+            spoolTail.offset += records.length;
+            if (containsMessage(records, 0, message)) {
+                return true;
+            }
+        } while (records.length == count);
+        return false;
+    }
+
+    /**
+     * Check asynchronously if the given message is within the job output line limit, see checkMessage.
+     *
+     * @param monitorInputData monitor jobs parameters, see JobMonitorInputData
+     * @param message          message string
+     * @param spoolTail        position in the job output of the previous check, null when not in tail mode
+     * @param executor         executor the responses are processed on
+     * @return CompletableFuture of the message found status
+     * @author Frank Giordano
+     */
+    private CompletableFuture<Boolean> checkMessageAsync(final JobMonitorInputData monitorInputData,
+                                                         final String message, final SpoolTail spoolTail,
+                                                         final Executor executor) {
+        if (spoolTail == null) {
+            return getMessageFileAsync(monitorInputData, executor)
+                    .thenCompose(file -> jobGet.getSpoolContentCommonAsync(file, executor))
+                    .thenApply(content -> containsMessage(monitorInputData, content, message));
+        }
+
+        final CompletableFuture<JobFile> file = spoolTail.jobFile != null ?
+                CompletableFuture.completedFuture(spoolTail.jobFile) :
+                getMessageFileAsync(monitorInputData, executor);
+        return file.thenCompose(jobFile -> {
+            spoolTail.jobFile = jobFile;
+            return checkNewRecordsAsync(monitorInputData, message, spoolTail, executor);
+        });
+    }
+
+    /**
+     * Retrieve asynchronously the records written to the job output since the previous check, and check if the
+     * given message is within them.
+     *
+     * @param monitorInputData monitor jobs parameters, see JobMonitorInputData
+     * @param message          message string
+     * @param spoolTail        position in the job output of the previous check
+     * @param executor         executor the responses are processed on
+     * @return CompletableFuture of the message found status
+     */
+    private CompletableFuture<Boolean> checkNewRecordsAsync(final JobMonitorInputData monitorInputData,
+                                                            final String message, final SpoolTail spoolTail,
+                                                            final Executor executor) {
+        final int count = monitorInputData.getLineLimit().orElse(DEFAULT_LINE_LIMIT);
+        return jobGet.getSpoolContentRangeAsync(spoolTail.jobFile, spoolTail.offset, count, executor)
+                .thenCompose(content -> {
+                    final String[] records = toRecords(content);
+                    spoolTail.offset += records.length;
+                    if (containsMessage(records, 0, message)) {
+                        return CompletableFuture.completedFuture(true);
+                    }
+                    if (records.length < count) {
+                        return CompletableFuture.completedFuture(false);
+                    }
+                    return checkNewRecordsAsync(monitorInputData, message, spoolTail, executor);
+                });
+    }
+
+    /**
+     * Retrieve the spool file searched for a message, the first spool file of the monitored job
+     *
+     * @param monitorInputData monitor jobs parameters, see JobMonitorInputData
+     * @return JobFile object
+     * @throws ZosmfRequestException request error state
+     */
+    private JobFile getMessageFile(final JobMonitorInputData monitorInputData) throws ZosmfRequestException {
+        final List<Job> jobs = jobGet.getCommon(getMessageFilter(monitorInputData));
         if (jobs.isEmpty()) {
             throw new IllegalStateException("job does not exist");
         }
-        final List<JobFile> files = getJobs.getSpoolFilesByJob(jobs.get(0));
-        final String[] output = getJobs.getSpoolContent(files.get(0)).split("\n");
+        return jobGet.getSpoolFilesByJob(jobs.get(0)).get(0);
+    }
+
+    /**
+     * Retrieve asynchronously the spool file searched for a message, see getMessageFile.
+     *
+     * @param monitorInputData monitor jobs parameters, see JobMonitorInputData
+     * @param executor         executor the responses are processed on
+     * @return CompletableFuture of the JobFile object
+     */
+    private CompletableFuture<JobFile> getMessageFileAsync(final JobMonitorInputData monitorInputData,
+                                                           final Executor executor) {
+        return jobGet.getCommonAsync(getMessageFilter(monitorInputData), executor)
+                .thenCompose(jobs -> {
+                    if (jobs.isEmpty()) {
+                        throw new IllegalStateException("job does not exist");
+                    }
+                    final Job job = jobs.get(0);
+                    return jobGet.getSpoolFilesCommonAsync(
+                            new CommonJobInputData(job.getJobId(), job.getJobName()), executor);
+                })
+                .thenApply(files -> files.get(0));
+    }
+
+    /**
+     * Retrieve the filter selecting the job whose output is searched for a message
+     *
+     * @param monitorInputData monitor jobs parameters, see JobMonitorInputData
+     * @return JobGetInputData object
+     */
+    private static JobGetInputData getMessageFilter(final JobMonitorInputData monitorInputData) {
+        return new JobGetInputData.Builder("*")
+                .jobId(monitorInputData.getJobId().orElse(""))
+                .prefix(monitorInputData.getJobName().orElse(""))
+                .build();
+    }
+
+    /**
+     * Check if the given message is within the last line limit lines of the given job output.
+     *
+     * @param monitorInputData monitor jobs parameters, see JobMonitorInputData
+     * @param content          spool file content
+     * @param message          message string
+     * @return boolean message found status
+     */
+    private static boolean containsMessage(final JobMonitorInputData monitorInputData, final String content,
+                                           final String message) {
+        final String[] output = content.split("\n");
 
         final int lineLimit = monitorInputData.getLineLimit().orElse(DEFAULT_LINE_LIMIT);
         final int size = output.length, start;
@@ -147,15 +278,42 @@ public class JobMonitor {
             start = size - lineLimit;
         }
 
-        for (int i = start; i < size; i++) {
-            LOG.debug(output[i]);
-            if (output[i].contains(message)) {
+        return containsMessage(output, start, message);
+    }
+
+    /**
+     * Check if the given message is within the given lines from the start line.
+     *
+     * @param lines   job output lines
+     * @param start   index of the first line inspected
+     * @param message message string
+     * @return boolean message found status
+     */
+    private static boolean containsMessage(final String[] lines, final int start, final String message) {
+        for (int i = start; i < lines.length; i++) {
+            LOG.debug(lines[i]);
+            if (lines[i].contains(message)) {
                 return true;
             }
         }
         return false;
     }
 
+    /**
+     * Split the content of a record range into its records. Empty records are kept, so that the number of
+     * records matches the number of records retrieved.
+     *
+     * @param content spool content of a record range
+     * @return records of the content
+     */
+    private static String[] toRecords(final String content) {
+        if (content.isEmpty()) {
+            return new String[0];
+        }
+        final String[] records = content.split("\n", -1);
+        return records[records.length - 1].isEmpty() ? Arrays.copyOf(records, records.length - 1) : records;
+    }
+
     /**
      * Check the status of the job for the expected status, or that the job has progressed and passed the expected status.
      *
@@ -178,14 +336,65 @@ public class JobMonitor {
      */
     private CheckStatusResponse checkStatus(final JobMonitorInputData monitorInputData, final boolean isStepData)
             throws ZosmfRequestException {
-        final JobGet getJobs = new JobGet(connection);
-        final String statusNameCheck = monitorInputData.getJobStatus().orElse(DEFAULT_STATUS).toString();
+        return evaluateStatus(monitorInputData, jobGet.getStatusCommon(getStatusInput(monitorInputData, isStepData)));
+    }
 
-        final Job job = getJobs.getStatusCommon(new CommonJobInputData(
-                monitorInputData.getJobId().orElse(""), monitorInputData.getJobName().orElse(""), isStepData));
+    /**
+     * Check asynchronously the status of the job for the expected status, or that the job has progressed and
+     * passed the expected status.
+     *
+     * @param monitorInputData monitor jobs parameters, see JobMonitorInputData
+     * @param isStepData       whether the step data of the job is retrieved
+     * @param executor         executor the response is processed on
+     * @return CompletableFuture of the CheckStatusResponse object
+     * @author Frank Giordano
+     */
+    private CompletableFuture<CheckStatusResponse> checkStatusAsync(final JobMonitorInputData monitorInputData,
+                                                                    final boolean isStepData,
+                                                                    final Executor executor) {
+        return jobGet.getStatusCommonAsync(getStatusInput(monitorInputData, isStepData), executor)
+                .thenApply(job -> evaluateStatus(monitorInputData, job));
+    }
+
+    /**
+     * Retrieve the parameters of the status request of the monitored job
+     *
+     * @param monitorInputData monitor jobs parameters, see JobMonitorInputData
+     * @param isStepData       whether the step data of the job is retrieved
+     * @return CommonJobInputData object
+     */
+    private static CommonJobInputData getStatusInput(final JobMonitorInputData monitorInputData,
+                                                     final boolean isStepData) {
+        return new CommonJobInputData(monitorInputData.getJobId().orElse(""),
+                monitorInputData.getJobName().orElse(""), isStepData);
+    }
+
+    /**
+     * Compare the status of the given job with the expected status.
+     *
+     * @param monitorInputData monitor jobs parameters, see JobMonitorInputData
+     * @param job              job document
+     * @return CheckStatusResponse object
+     */
+    private CheckStatusResponse evaluateStatus(final JobMonitorInputData monitorInputData, final Job job) {
+        return new CheckStatusResponse(
+                isStatusReached(monitorInputData.getJobStatus().orElse(DEFAULT_STATUS), job.getStatus()), job);
+    }
+
+    /**
+     * Check if the given job status is the expected status, or that the job has progressed and passed the
+     * expected status.
+     *
+     * @param statusType expected status
+     * @param status     current status of the job, a blank value is seen as the default status
+     * @return true if the expected status is reached or passed
+     * @author Frank Giordano
+     */
+    static boolean isStatusReached(final JobStatus.Type statusType, final String status) {
+        final String statusNameCheck = statusType.toString();
 
-        if (statusNameCheck.equals(job.getStatus().isBlank() ? DEFAULT_STATUS.toString() : job.getStatus())) {
-            return new CheckStatusResponse(true, job);
+        if (statusNameCheck.equals(status.isBlank() ? DEFAULT_STATUS.toString() : status)) {
+            return true;
         }
 
         final String invalidStatusMsg = "Invalid status when checking for status ordering.";
@@ -194,16 +403,12 @@ public class JobMonitor {
             throw new IllegalStateException(invalidStatusMsg);
         }
 
-        final int orderIndexOfCurrRunningJobStatus = getOrderIndexOfStatus(job.getStatus());
+        final int orderIndexOfCurrRunningJobStatus = getOrderIndexOfStatus(status);
         if (orderIndexOfCurrRunningJobStatus == -1) {  // this should never happen, but let's check for it.
             throw new IllegalStateException(invalidStatusMsg);
         }
 
-        if (orderIndexOfCurrRunningJobStatus > orderIndexOfDesiredJobStatus) {
-            return new CheckStatusResponse(true, job);
-        }
-
-        return new CheckStatusResponse(false, job);
+        return orderIndexOfCurrRunningJobStatus > orderIndexOfDesiredJobStatus;
     }
 
     /**
@@ -213,7 +418,7 @@ public class JobMonitor {
      * @return int index of status order or -1 if none found
      * @author Frank Giordano
      */
-    private int getOrderIndexOfStatus(final String statusName) {
+    private static int getOrderIndexOfStatus(final String statusName) {
         for (int i = 0; i < JobStatus.Order.length; i++) {
             if (statusName.equals(JobStatus.Order[i])) {
                 return i;
@@ -232,10 +437,33 @@ public class JobMonitor {
      */
     public boolean isRunning(final JobMonitorInputData monitorInputData) throws ZosmfRequestException {
         ValidateUtils.checkNullParameter(monitorInputData, "monitorInputData");
-        final JobGet getJobs = new JobGet(connection);
         final String jobName = monitorInputData.getJobName().orElse("");
         final String jobId = monitorInputData.getJobId().orElse("");
-        final String status = getJobs.getStatusValue(jobName, jobId);
+        return isRunningStatus(jobGet.getStatusValue(jobName, jobId));
+    }
+
+    /**
+     * Determines asynchronously if a given job is in a running state or not.
+     *
+     * @param monitorInputData monitor jobs parameters, see JobMonitorInputData
+     * @param executor         executor the response is processed on
+     * @return CompletableFuture of the running state
+     * @author Frank Giordano
+     */
+    public CompletableFuture<Boolean> isRunningAsync(final JobMonitorInputData monitorInputData,
+                                                     final Executor executor) {
+        ValidateUtils.checkNullParameter(monitorInputData, "monitorInputData");
+        return jobGet.getStatusCommonAsync(getStatusInput(monitorInputData, false), executor)
+                .thenApply(job -> isRunningStatus(job.getStatus()));
+    }
+
+    /**
+     * Determines if the given job status is a running state.
+     *
+     * @param status job status value
+     * @return true if in a running state
+     */
+    private static boolean isRunningStatus(final String status) {
         return !JobStatus.Type.INPUT.toString().equals(status) && !JobStatus.Type.OUTPUT.toString().equals(status);
     }
 
@@ -256,11 +484,13 @@ public class JobMonitor {
         int numOfAttempts = 0;
         final int maxAttempts = monitorInputData.getAttempts().orElse(DEFAULT_ATTEMPTS);
 
+        final SpoolTail spoolTail = monitorInputData.isTail() ? new SpoolTail() : null;
+
         LOG.info("Waiting for message \"{}\"", message);
 
         do {
             numOfAttempts++;
-            messageFound = checkMessage(monitorInputData, message);
+            messageFound = checkMessage(monitorInputData, message, spoolTail);
             shouldContinue = !messageFound && (maxAttempts > 0 && numOfAttempts < maxAttempts);
 
             if (shouldContinue) {
@@ -275,6 +505,41 @@ public class JobMonitor {
         return numOfAttempts != maxAttempts;
     }
 
+    /**
+     * "Polls" asynchronously for the given message within the job output, see pollByMessage.
+     *
+     * @param monitorInputData monitor jobs parameters, see JobMonitorInputData
+     * @param message          message string
+     * @param spoolTail        position in the job output of the previous poll, null when not in tail mode
+     * @param executor         executor the responses are processed on
+     * @param numOfAttempts    number of attempts already done
+     * @return CompletableFuture of the message found status
+     * @author Frank Giordano
+     */
+    private CompletableFuture<Boolean> pollByMessageAsync(final JobMonitorInputData monitorInputData,
+                                                          final String message, final SpoolTail spoolTail,
+                                                          final Executor executor, final int numOfAttempts) {
+        final int timeoutVal = monitorInputData.getWatchDelay().orElse(DEFAULT_WATCH_DELAY);
+        final int maxAttempts = monitorInputData.getAttempts().orElse(DEFAULT_ATTEMPTS);
+        final int attempt = numOfAttempts + 1;
+
+        return checkMessageAsync(monitorInputData, message, spoolTail, executor).thenCompose(messageFound -> {
+            final boolean shouldContinue = !messageFound && (maxAttempts > 0 && attempt < maxAttempts);
+            if (!shouldContinue) {
+                return CompletableFuture.completedFuture(attempt != maxAttempts);
+            }
+            return WaitUtil.delay(timeoutVal)
+                    .thenComposeAsync(ignore -> isRunningAsync(monitorInputData, executor), executor)
+                    .thenCompose(running -> {
+                        if (!running) {
+                            return CompletableFuture.completedFuture(false);
+                        }
+                        LOG.info("Waiting for message \"{}\"", message);
+                        return pollByMessageAsync(monitorInputData, message, spoolTail, executor, attempt);
+                    });
+        });
+    }
+
     /**
      * "Polls" (sets timeouts and continuously checks) for the status of the job to match the desired status.
      *
@@ -314,12 +579,48 @@ public class JobMonitor {
         } while (shouldContinue);
 
         if (numOfAttempts == maxAttempts) {
-            throw new IllegalStateException("Desired status not seen. The number of maximum attempts reached.");
+            throw new IllegalStateException(MAX_ATTEMPTS_MSG);
         }
 
         return checkJobStatus.getJob();
     }
 
+    /**
+     * "Polls" asynchronously for the status of the job to match the desired status, see pollByStatus.
+     *
+     * @param monitorInputData monitor jobs parameters, see JobMonitorInputData
+     * @param executor         executor the responses are processed on
+     * @param numOfAttempts    number of attempts already done
+     * @return CompletableFuture of the job document
+     * @author Frank Giordano
+     */
+    private CompletableFuture<Job> pollByStatusAsync(final JobMonitorInputData monitorInputData,
+                                                     final Executor executor, final int numOfAttempts) {
+        final int timeoutVal = monitorInputData.getWatchDelay().orElse(DEFAULT_WATCH_DELAY);
+        final int maxAttempts = monitorInputData.getAttempts().orElse(DEFAULT_ATTEMPTS);
+        final int attempt = numOfAttempts + 1;
+
+        return checkStatusAsync(monitorInputData, false, executor).thenCompose(checkJobStatus -> {
+            final boolean shouldContinue = !checkJobStatus.isStatusFound() &&
+                    (maxAttempts > 0 && attempt < maxAttempts);
+            if (shouldContinue) {
+                LOG.info("Waiting for status \"{}\"",
+                        monitorInputData.getJobStatus().orElse(DEFAULT_STATUS).toString());
+                return WaitUtil.delay(timeoutVal)
+                        .thenComposeAsync(ignore -> pollByStatusAsync(monitorInputData, executor, attempt), executor);
+            }
+            // Get the stepData, on a JCL error return without stepData
+            return checkStatusAsync(monitorInputData, true, executor)
+                    .exceptionally(ignore -> checkJobStatus)
+                    .thenApply(response -> {
+                        if (attempt == maxAttempts) {
+                            throw new IllegalStateException(MAX_ATTEMPTS_MSG);
+                        }
+                        return response.getJob();
+                    });
+        });
+    }
+
     /**
      * Given a Job document (has jobname/jobid), wait for the given message from the job. This API will poll for
      * the given message once every 3 seconds for at least 1000 times. If the polling interval/duration is NOT
@@ -472,7 +773,37 @@ public class JobMonitor {
             throws ZosmfRequestException {
         ValidateUtils.checkNullParameter(monitorInputData, "monitorInputData");
         ValidateUtils.checkIllegalParameter(message, "message");
+        applyMessageDefaults(monitorInputData);
+        return pollByMessage(monitorInputData, message);
+    }
+
+    /**
+     * Given jobname/jobid, check for the desired message continuously (based on the interval and attempts specified)
+     * asynchronously, see waitMessageCommon. No thread is held while waiting between two polls.
+     *
+     * @param monitorInputData to monitor jobs parameters, see JobMonitorInputData object
+     * @param message          message string
+     * @param executor         executor the responses are processed on
+     * @return CompletableFuture of the message found status
+     * @author Frank Giordano
+     */
+    public CompletableFuture<Boolean> waitMessageCommonAsync(final JobMonitorInputData monitorInputData,
+                                                             final String message, final Executor executor) {
+        ValidateUtils.checkNullParameter(monitorInputData, "monitorInputData");
+        ValidateUtils.checkIllegalParameter(message, "message");
+        ValidateUtils.checkNullParameter(executor, "executor");
+        applyMessageDefaults(monitorInputData);
+        LOG.info("Waiting for message \"{}\"", message);
+        return pollByMessageAsync(monitorInputData, message,
+                monitorInputData.isTail() ? new SpoolTail() : null, executor, 0);
+    }
 
+    /**
+     * Set the settings of this monitor for the message polling parameters not specified
+     *
+     * @param monitorInputData to monitor jobs parameters, see JobMonitorInputData object
+     */
+    private void applyMessageDefaults(final JobMonitorInputData monitorInputData) {
         if (monitorInputData.getAttempts().isEmpty()) {
             monitorInputData.setAttempts(attempts);
         }
@@ -482,8 +813,6 @@ public class JobMonitor {
         if (monitorInputData.getLineLimit().isEmpty()) {
             monitorInputData.setLineLimit(lineLimit);
         }
-
-        return pollByMessage(monitorInputData, message);
     }
 
     /**
@@ -501,7 +830,72 @@ public class JobMonitor {
      */
     public Job waitStatusCommon(final JobMonitorInputData monitorInputData) throws ZosmfRequestException {
         ValidateUtils.checkNullParameter(monitorInputData, "monitorInputData");
+        applyStatusDefaults(monitorInputData);
+        return pollByStatus(monitorInputData);
+    }
 
+    /**
+     * Given jobname/jobid, check for the desired "status" (default is "OUTPUT") continuously (based on the interval
+     * and attempts specified) asynchronously, see waitStatusCommon. No thread is held while waiting between two
+     * polls.
+     * <p>
+     * The CompletableFuture completes exceptionally with an IllegalStateException when the maximum number of
+     * attempts is reached, as waitStatusCommon throws.
+     *
+     * @param monitorInputData to monitor jobs parameters, see JobMonitorInputData object
+     * @param executor         executor the responses are processed on
+     * @return CompletableFuture of the job document
+     * @author Frank Giordano
+     */
+    public CompletableFuture<Job> waitStatusCommonAsync(final JobMonitorInputData monitorInputData,
+                                                        final Executor executor) {
+        ValidateUtils.checkNullParameter(monitorInputData, "monitorInputData");
+        ValidateUtils.checkNullParameter(executor, "executor");
+        applyStatusDefaults(monitorInputData);
+        LOG.info("Waiting for status \"{}\"", monitorInputData.getJobStatus().orElse(DEFAULT_STATUS).toString());
+        return pollByStatusAsync(monitorInputData, executor, 0);
+    }
+
+    /**
+     * Given a Job document (has jobname/jobid), wait asynchronously for the given status of the job, see
+     * waitByStatus.
+     *
+     * @param job        document of the z/OS job to wait for (see z/OSMF Jobs APIs for details)
+     * @param statusType status type, see JobStatus.Type object
+     * @param executor   executor the responses are processed on
+     * @return CompletableFuture of the job document
+     * @author Frank Giordano
+     */
+    public CompletableFuture<Job> waitByStatusAsync(final Job job, final JobStatus.Type statusType,
+                                                    final Executor executor) {
+        ValidateUtils.checkNullParameter(job, "job");
+        return waitStatusCommonAsync(
+                new JobMonitorInputData.Builder(job.getJobName(), job.getJobId())
+                        .jobStatus(statusType)
+                        .attempts(attempts)
+                        .watchDelay(watchDelay)
+                        .build(), executor);
+    }
+
+    /**
+     * Given a Job document (has jobname/jobid), wait asynchronously for the status of the job to be "OUTPUT", see
+     * waitByOutputStatus.
+     *
+     * @param job      document of the z/OS job to wait for (see z/OSMF Jobs APIs for details)
+     * @param executor executor the responses are processed on
+     * @return CompletableFuture of the job document
+     * @author Frank Giordano
+     */
+    public CompletableFuture<Job> waitByOutputStatusAsync(final Job job, final Executor executor) {
+        return waitByStatusAsync(job, JobStatus.Type.OUTPUT, executor);
+    }
+
+    /**
+     * Set the settings of this monitor for the status polling parameters not specified
+     *
+     * @param monitorInputData to monitor jobs parameters, see JobMonitorInputData object
+     */
+    private void applyStatusDefaults(final JobMonitorInputData monitorInputData) {
         if (monitorInputData.getJobStatus().isEmpty()) {
             monitorInputData.setJobStatus(DEFAULT_STATUS);
         }
@@ -511,8 +905,23 @@ public class JobMonitor {
         if (monitorInputData.getWatchDelay().isEmpty()) {
             monitorInputData.setWatchDelay(watchDelay);
         }
+    }
+
+    /**
+     * Position reached in the job output by the message polling in tail mode
+     */
+    private static final class SpoolTail {
+
+        /**
+         * Spool file searched, looked up on the first poll
+         */
+        private JobFile jobFile;
+
+        /**
+         * Number of records already inspected
+         */
+        private long offset;
 
-        return pollByStatus(monitorInputData);
     }
 
 }
@@ -0,0 +1,239 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ *
+ */
+package zowe.client.sdk.zosjobs.methods;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import zowe.client.sdk.core.ZosConnection;
+import zowe.client.sdk.rest.exception.ZosmfRequestException;
+import zowe.client.sdk.utility.AsyncUtils;
+import zowe.client.sdk.utility.FileUtils;
+import zowe.client.sdk.utility.ValidateUtils;
+import zowe.client.sdk.zosjobs.input.JobSpoolExportInputData;
+import zowe.client.sdk.zosjobs.model.Job;
+import zowe.client.sdk.zosjobs.model.JobFile;
+import zowe.client.sdk.zosjobs.response.JobSpoolExportResponse;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Export the spool files of many jobs to a local directory.
+ * <p>
+ * The spool file lists and contents of the jobs are requested concurrently, up to the maximum number of
+ * concurrent requests given. Each spool file is streamed straight to disk as directory/jobname/jobid/ddname.txt,
+ * it is written to a temporary file first and renamed once complete, so an interrupted export never leaves a
+ * partial spool file behind. When a job holds several spool files of the same ddname, the spool file id is added
+ * to the name of the next ones, e.g. SYSPRINT-105.txt.
+ *
+ * @author Frank Giordano
+ * @version 6.0
+ */
+public class JobSpoolExport {
+
+    private static final Logger LOG = LoggerFactory.getLogger(JobSpoolExport.class);
+    private static final String FILE_EXTENSION = ".txt";
+    private final JobGet jobGet;
+
+    /**
+     * JobSpoolExport constructor
+     *
+     * @param connection for connection information, see ZosConnection object
+     * @author Frank Giordano
+     */
+    public JobSpoolExport(final ZosConnection connection) {
+        ValidateUtils.checkNullParameter(connection, "connection");
+        this.jobGet = new JobGet(connection);
+    }
+
+    /**
+     * Export the spool files of the given jobs.
+     * <p>
+     * By default, the export stops at the first failure and throws it: the spool files in progress are completed
+     * and no other one is started. With continueOnError, every spool file is attempted and the failures are
+     * reported in the response. With resume, the spool files already exported by a previous run are skipped.
+     *
+     * @param jobs            jobs whose spool files are exported
+     * @param exportInputData export parameters, see JobSpoolExportInputData object
+     * @return JobSpoolExportResponse object
+     * @throws ZosmfRequestException first failure when continueOnError is not set
+     * @author Frank Giordano
+     */
+    public JobSpoolExportResponse export(final List<Job> jobs, final JobSpoolExportInputData exportInputData)
+            throws ZosmfRequestException {
+        ValidateUtils.checkNullParameter(jobs, "jobs");
+        ValidateUtils.checkNullParameter(exportInputData, "exportInputData");
+
+        final long start = System.nanoTime();
+        final Export export = new Export(exportInputData);
+        final ExecutorService executor = AsyncUtils.createExecutor("zowe-sdk-spool-export",
+                exportInputData.getMaxConcurrentRequests());
+        try {
+            CompletableFuture.allOf(jobs.stream()
+                    .map(job -> exportJob(job, export, executor))
+                    .toArray(CompletableFuture[]::new)).join();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        final JobSpoolExportResponse response = new JobSpoolExportResponse(export.exported.get(),
+                export.skipped.get(), export.bytes.get(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), export.failures);
+        LOG.info("exported {} spool files, {} bytes at {} bytes/s, {} skipped, {} failed",
+                response.getExportedFiles(), response.getBytes(), response.getBytesPerSecond(),
+                response.getSkippedFiles(), response.getFailures().size());
+
+        if (!exportInputData.isContinueOnError() && export.firstFailure.get() != null) {
+            throw export.firstFailure.get();
+        }
+        return response;
+    }
+
+    /**
+     * Request the spool file list of a job, then export each of its spool files
+     *
+     * @param job      job whose spool files are exported
+     * @param export   state of the export
+     * @param executor executor the requests run on
+     * @return CompletableFuture completed once every spool file of the job is handled, never exceptionally
+     */
+    private CompletableFuture<Void> exportJob(final Job job, final Export export, final ExecutorService executor) {
+        final Path jobDirectory = export.directory.resolve(job.getJobName()).resolve(job.getJobId());
+        return AsyncUtils.supplyAsync(() -> export.isStopped() ? List.<JobFile>of() :
+                        jobGet.getSpoolFilesByJob(job), executor)
+                .thenCompose(files -> {
+                    final Set<String> names = new HashSet<>();
+                    return CompletableFuture.allOf(files.stream()
+                            .map(file -> {
+                                final Path target = jobDirectory.resolve(getFileName(file, names));
+                                return CompletableFuture.runAsync(() -> exportFile(file, target, export), executor);
+                            })
+                            .toArray(CompletableFuture[]::new));
+                })
+                .exceptionally(error -> {
+                    export.fail(jobDirectory, error);
+                    return null;
+                });
+    }
+
+    /**
+     * Write a spool file to its local path
+     *
+     * @param file   spool file
+     * @param target local path of the spool file
+     * @param export state of the export
+     */
+    private void exportFile(final JobFile file, final Path target, final Export export) {
+        if (export.isStopped()) {
+            return;
+        }
+        if (export.resume && Files.exists(target)) {
+            export.skipped.incrementAndGet();
+            return;
+        }
+
+        try {
+            Files.createDirectories(target.getParent());
+            export.written(FileUtils.writeAtomically(target,
+                    outputStream -> jobGet.downloadSpoolContent(file, outputStream)));
+        } catch (ZosmfRequestException | IOException | RuntimeException e) {
+            export.fail(target, e);
+        }
+    }
+
+    /**
+     * Retrieve the local file name of a spool file, unique within its job
+     *
+     * @param file  spool file
+     * @param names file names already given within the job
+     * @return file name
+     */
+    private static String getFileName(final JobFile file, final Set<String> names) {
+        final String ddName = file.getDdName() == null || file.getDdName().isBlank() ? "SPOOL" : file.getDdName();
+        final String name = ddName + FILE_EXTENSION;
+        if (names.add(name)) {
+            return name;
+        }
+        final String uniqueName = ddName + "-" + file.getId() + FILE_EXTENSION;
+        names.add(uniqueName);
+        return uniqueName;
+    }
+
+    /**
+     * State of an export shared by its requests
+     */
+    private static final class Export {
+
+        private final Path directory;
+        private final boolean resume;
+        private final boolean continueOnError;
+        private final JobSpoolExportInputData exportInputData;
+        private final AtomicInteger exported = new AtomicInteger();
+        private final AtomicInteger skipped = new AtomicInteger();
+        private final AtomicLong bytes = new AtomicLong();
+        private final Map<Path, ZosmfRequestException> failures = new ConcurrentHashMap<>();
+        private final AtomicReference<ZosmfRequestException> firstFailure = new AtomicReference<>();
+
+        private Export(final JobSpoolExportInputData exportInputData) {
+            this.directory = exportInputData.getDirectory();
+            this.resume = exportInputData.isResume();
+            this.continueOnError = exportInputData.isContinueOnError();
+            this.exportInputData = exportInputData;
+        }
+
+        /**
+         * Whether no more spool file is started, after a failure when continueOnError is not set
+         *
+         * @return boolean true or false
+         */
+        private boolean isStopped() {
+            return !continueOnError && firstFailure.get() != null;
+        }
+
+        /**
+         * Record a written spool file and report the progress
+         *
+         * @param size number of bytes written
+         */
+        private void written(final long size) {
+            exported.incrementAndGet();
+            final long total = bytes.addAndGet(size);
+            exportInputData.getProgressListener().ifPresent(listener -> listener.progress(total, -1));
+        }
+
+        /**
+         * Record the failure of a spool file or job
+         *
+         * @param path  local path of the spool file or job
+         * @param error failure
+         */
+        private void fail(final Path path, final Throwable error) {
+            final ZosmfRequestException failure = AsyncUtils.toRequestException(error);
+            LOG.debug("error exporting {}", path, failure);
+            failures.put(path, failure);
+            firstFailure.compareAndSet(null, failure);
+        }
+
+    }
+
+}
@@ -0,0 +1,273 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ *
+ */
+package zowe.client.sdk.zosjobs.methods;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import zowe.client.sdk.core.ZosConnection;
+import zowe.client.sdk.rest.QueryConstants;
+import zowe.client.sdk.rest.ZosmfRequest;
+import zowe.client.sdk.rest.ZosmfRequestFactory;
+import zowe.client.sdk.rest.exception.ZosmfRequestException;
+import zowe.client.sdk.rest.type.ZosmfRequestType;
+import zowe.client.sdk.utility.AsyncUtils;
+import zowe.client.sdk.utility.EncodeUtils;
+import zowe.client.sdk.utility.ValidateUtils;
+import zowe.client.sdk.zosjobs.JobsConstants;
+import zowe.client.sdk.zosjobs.input.JobSpoolSearchInputData;
+import zowe.client.sdk.zosjobs.model.Job;
+import zowe.client.sdk.zosjobs.model.JobFile;
+import zowe.client.sdk.zosjobs.response.JobSpoolHit;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Search the spool files of many jobs for records matching any of a set of strings or regular expressions,
+ * e.g. to find which job issued a message id.
+ * <p>
+ * By default, when searching strings, z/OSMF is asked first with its search or research query parameter whether
+ * a spool file holds a match; only one record is returned for that. The spool files holding a match are then
+ * streamed and scanned locally to report every hit with its record number, the other ones are never downloaded.
+ * Regular expressions are always scanned locally, z/OSMF only knows POSIX extended regular expressions, where
+ * e.g. '\d' or '(?i)' match nothing. The spool files are handled concurrently, up to the maximum number of
+ * concurrent requests given.
+ *
+ * @author Frank Giordano
+ * @version 6.0
+ */
+public class JobSpoolSearch {
+
+    private static final Logger LOG = LoggerFactory.getLogger(JobSpoolSearch.class);
+    private static final String ERE_SPECIAL_CHARACTERS = "\\^$.|?*+()[]{}";
+    private final ZosConnection connection;
+    private final JobGet jobGet;
+
+    /**
+     * JobSpoolSearch constructor
+     *
+     * @param connection for connection information, see ZosConnection object
+     * @author Frank Giordano
+     */
+    public JobSpoolSearch(final ZosConnection connection) {
+        ValidateUtils.checkNullParameter(connection, "connection");
+        this.connection = connection;
+        this.jobGet = new JobGet(connection);
+    }
+
+    /**
+     * Search the spool files of the given jobs
+     *
+     * @param jobs            jobs whose spool files are searched
+     * @param searchInputData search parameters, see JobSpoolSearchInputData object
+     * @return hits, grouped by spool file in the order of the jobs and spool files
+     * @throws ZosmfRequestException request error state
+     * @author Frank Giordano
+     */
+    public List<JobSpoolHit> searchJobs(final List<Job> jobs, final JobSpoolSearchInputData searchInputData)
+            throws ZosmfRequestException {
+        ValidateUtils.checkNullParameter(jobs, "jobs");
+        ValidateUtils.checkNullParameter(searchInputData, "searchInputData");
+
+        final Search search = new Search(searchInputData);
+        final ExecutorService executor = AsyncUtils.createExecutor("zowe-sdk-spool-search",
+                searchInputData.getMaxConcurrentRequests());
+        try {
+            final List<CompletableFuture<List<JobSpoolHit>>> results = jobs.stream()
+                    .map(job -> AsyncUtils.supplyAsync(() -> jobGet.getSpoolFilesByJob(job), executor)
+                            .thenCompose(files -> searchFilesAsync(files, search, executor)))
+                    .collect(Collectors.toList());
+            return collect(results);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Search the given spool files
+     *
+     * @param files           spool files searched
+     * @param searchInputData search parameters, see JobSpoolSearchInputData object
+     * @return hits, grouped by spool file in the order of the spool files
+     * @throws ZosmfRequestException request error state
+     * @author Frank Giordano
+     */
+    public List<JobSpoolHit> search(final List<JobFile> files, final JobSpoolSearchInputData searchInputData)
+            throws ZosmfRequestException {
+        ValidateUtils.checkNullParameter(files, "files");
+        ValidateUtils.checkNullParameter(searchInputData, "searchInputData");
+
+        final Search search = new Search(searchInputData);
+        final ExecutorService executor = AsyncUtils.createExecutor("zowe-sdk-spool-search",
+                searchInputData.getMaxConcurrentRequests());
+        try {
+            return collect(List.of(searchFilesAsync(files, search, executor)));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Search spool files concurrently
+     *
+     * @param files    spool files searched
+     * @param search   compiled search parameters
+     * @param executor executor the requests run on
+     * @return CompletableFuture of the hits, in the order of the spool files
+     */
+    private CompletableFuture<List<JobSpoolHit>> searchFilesAsync(final List<JobFile> files, final Search search,
+                                                                  final ExecutorService executor) {
+        final List<CompletableFuture<List<JobSpoolHit>>> results = files.stream()
+                .map(file -> AsyncUtils.supplyAsync(() -> searchFile(file, search), executor))
+                .collect(Collectors.toList());
+        return CompletableFuture.allOf(results.toArray(CompletableFuture[]::new))
+                .thenApply(done -> results.stream()
+                        .flatMap(result -> result.join().stream())
+                        .collect(Collectors.toList()));
+    }
+
+    /**
+     * Wait for the searches and gather their hits in order
+     *
+     * @param results CompletableFuture of the hits of each search
+     * @return hits
+     * @throws ZosmfRequestException first failure of a search
+     */
+    private static List<JobSpoolHit> collect(final List<CompletableFuture<List<JobSpoolHit>>> results)
+            throws ZosmfRequestException {
+        AsyncUtils.join(CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)));
+        final List<JobSpoolHit> hits = new ArrayList<>();
+        results.forEach(result -> hits.addAll(result.join()));
+        return hits;
+    }
+
+    /**
+     * Search a spool file, asking z/OSMF first whether it holds a match when serverSearch is set
+     *
+     * @param file   spool file searched
+     * @param search compiled search parameters
+     * @return hits of the spool file
+     * @throws ZosmfRequestException request error state, or error reading the spool content
+     */
+    private List<JobSpoolHit> searchFile(final JobFile file, final Search search) throws ZosmfRequestException {
+        if (search.serverQuery != null && !hasServerMatch(file, search.serverQuery)) {
+            LOG.debug("no match in {} {} {}", file.getJobName(), file.getJobId(), file.getDdName());
+            return List.of();
+        }
+
+        final List<JobSpoolHit> hits = new ArrayList<>();
+        try (BufferedReader reader = jobGet.getSpoolContentReader(file)) {
+            long record = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (search.pattern.matcher(line).find()) {
+                    hits.add(new JobSpoolHit(file, record, line));
+                }
+                record++;
+            }
+        } catch (IOException e) {
+            throw new ZosmfRequestException(e.getMessage(), e);
+        }
+        return hits;
+    }
+
+    /**
+     * Ask z/OSMF whether a spool file holds a match, only the first matching record is returned.
+     * A failing search, e.g. on a z/OSMF release without spool search, is seen as a possible match, so the
+     * spool file is scanned locally.
+     *
+     * @param file        spool file searched
+     * @param serverQuery search query parameters
+     * @return boolean true or false
+     */
+    private boolean hasServerMatch(final JobFile file, final String serverQuery) {
+        final ZosmfRequest request = ZosmfRequestFactory.buildRequest(connection, ZosmfRequestType.GET_TEXT);
+        request.setUrl(jobGet.getSpoolContentUrl(file) + QueryConstants.QUERY_ID + serverQuery);
+        try {
+            return request.executeRequest().getResponsePhrase()
+                    .map(phrase -> !String.valueOf(phrase).isEmpty())
+                    .orElse(false);
+        } catch (ZosmfRequestException e) {
+            LOG.debug("spool search failed, scanning {} {} {}", file.getJobName(), file.getJobId(),
+                    file.getDdName(), e);
+            return true;
+        }
+    }
+
+    /**
+     * Search parameters compiled once for all the spool files
+     */
+    private static final class Search {
+
+        private final Pattern pattern;
+        // query parameters of the z/OSMF search, null when the spool files are scanned locally only
+        private final String serverQuery;
+
+        private Search(final JobSpoolSearchInputData searchInputData) {
+            final List<String> patterns = searchInputData.getPatterns();
+            final boolean regex = searchInputData.isRegex();
+            this.pattern = Pattern.compile(patterns.stream()
+                            .map(value -> regex ? "(?:" + value + ")" : Pattern.quote(value))
+                            .collect(Collectors.joining("|")),
+                    searchInputData.isInsensitive() ? Pattern.CASE_INSENSITIVE : 0);
+            // a Java regular expression may mean something else, or nothing, as a POSIX extended one
+            this.serverQuery = searchInputData.isServerSearch() && !regex ? getServerQuery(searchInputData) : null;
+        }
+
+        /**
+         * Build the query parameters of the z/OSMF search of strings: a single string is searched as is, several
+         * strings are escaped and searched as one extended regular expression
+         *
+         * @param searchInputData search parameters
+         * @return query parameters
+         */
+        private static String getServerQuery(final JobSpoolSearchInputData searchInputData) {
+            final List<String> patterns = searchInputData.getPatterns();
+            final String query;
+            if (patterns.size() == 1) {
+                query = JobsConstants.QUERY_SEARCH + EncodeUtils.encodeURIComponent(patterns.get(0));
+            } else {
+                final String expression = patterns.stream()
+                        .map(Search::escape)
+                        .collect(Collectors.joining("|"));
+                query = JobsConstants.QUERY_RESEARCH + EncodeUtils.encodeURIComponent(expression);
+            }
+            return query + (searchInputData.isInsensitive() ? "" :
+                    QueryConstants.COMBO_ID + JobsConstants.QUERY_INSENSITIVE + false) +
+                    QueryConstants.COMBO_ID + JobsConstants.QUERY_MAX_RETURN_SIZE + 1;
+        }
+
+        /**
+         * Escape the special characters of a string searched as part of an extended regular expression
+         *
+         * @param value string searched
+         * @return escaped string
+         */
+        private static String escape(final String value) {
+            final StringBuilder escaped = new StringBuilder();
+            for (final char character : value.toCharArray()) {
+                if (ERE_SPECIAL_CHARACTERS.indexOf(character) >= 0) {
+                    escaped.append('\\');
+                }
+                escaped.append(character);
+            }
+            return escaped.toString();
+        }
+
+    }
+
+}
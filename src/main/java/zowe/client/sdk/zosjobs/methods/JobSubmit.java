@@ -41,7 +41,7 @@ public class JobSubmit {
 
     private static final Logger LOG = LoggerFactory.getLogger(JobSubmit.class);
     private final ZosConnection connection;
-    private ZosmfRequest request;
+    private final ZosmfRequest request;
 
     /**
      * SubmitJobs Constructor.
@@ -52,6 +52,7 @@ public class JobSubmit {
     public JobSubmit(final ZosConnection connection) {
         ValidateUtils.checkNullParameter(connection, "connection");
         this.connection = connection;
+        this.request = null;
     }
 
     /**
@@ -161,9 +162,8 @@ public class JobSubmit {
 
         final String url = connection.getZosmfUrl() + JobsConstants.RESOURCE;
 
-        if (request == null || !(request instanceof PutTextZosmfRequest)) {
-            request = ZosmfRequestFactory.buildRequest(connection, ZosmfRequestType.PUT_TEXT);
-        }
+        final ZosmfRequest request = this.request instanceof PutTextZosmfRequest ?
+                this.request : ZosmfRequestFactory.buildRequest(connection, ZosmfRequestType.PUT_TEXT);
         request.setHeaders(headers);
         request.setUrl(url);
         request.setBody(submitJclInputData.getJcl()
@@ -208,9 +208,8 @@ public class JobSubmit {
         final Map<String, String> submitMap = new HashMap<>();
         submitMap.put("file", fullyQualifiedDataset);
 
-        if (request == null || !(request instanceof PutJsonZosmfRequest)) {
-            request = ZosmfRequestFactory.buildRequest(connection, ZosmfRequestType.PUT_JSON);
-        }
+        final ZosmfRequest request = this.request instanceof PutJsonZosmfRequest ?
+                this.request : ZosmfRequestFactory.buildRequest(connection, ZosmfRequestType.PUT_JSON);
         if (submitInputData.getJclSymbols().isPresent()) {
             request.setHeaders(getSubstitutionHeaders(submitInputData.getJclSymbols().get()));
         }
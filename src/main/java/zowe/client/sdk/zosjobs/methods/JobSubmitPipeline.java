@@ -0,0 +1,267 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ *
+ */
+package zowe.client.sdk.zosjobs.methods;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import zowe.client.sdk.core.ZosConnection;
+import zowe.client.sdk.utility.AsyncUtils;
+import zowe.client.sdk.utility.ValidateUtils;
+import zowe.client.sdk.zosjobs.input.CommonJobInputData;
+import zowe.client.sdk.zosjobs.input.JobSubmitJclInputData;
+import zowe.client.sdk.zosjobs.input.JobSubmitPipelineInputData;
+import zowe.client.sdk.zosjobs.response.JobSubmitResult;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Submit many jobs and stream them back as they complete.
+ * <p>
+ * The JCL is read lazily from the given stream and submitted with at most the maximum number of concurrent
+ * requests, optionally paced to a maximum number of submits per second. The submitted jobs are tracked by one
+ * JobWatcher, so all the jobs of the same name are polled with a single job list request per interval. Each job
+ * reaching the output status is retrieved with its step data and delivered to the result stream right away, in
+ * completion order, so downstream processing starts as soon as a job finishes.
+ * <p>
+ * Submission pauses while the maximum number of pending jobs, submitted but not consumed from the result stream,
+ * is reached. The result stream must be closed, preferably with try-with-resources: closing it stops the
+ * submission and the tracking of the pending jobs.
+ *
+ * @author Frank Giordano
+ * @version 6.0
+ */
+public class JobSubmitPipeline {
+
+    private static final Logger LOG = LoggerFactory.getLogger(JobSubmitPipeline.class);
+    private final ZosConnection connection;
+    private final JobSubmit jobSubmit;
+    private final JobGet jobGet;
+
+    /**
+     * JobSubmitPipeline constructor
+     *
+     * @param connection for connection information, see ZosConnection object
+     * @author Frank Giordano
+     */
+    public JobSubmitPipeline(final ZosConnection connection) {
+        ValidateUtils.checkNullParameter(connection, "connection");
+        this.connection = connection;
+        this.jobSubmit = new JobSubmit(connection);
+        this.jobGet = new JobGet(connection);
+    }
+
+    /**
+     * Submit the JCL of the given stream and return the outcome of each job as it completes.
+     * <p>
+     * A job failing to submit or to be tracked is delivered with its error, the other jobs carry on. An error
+     * reading the JCL stream stops the submission and is thrown once the jobs already submitted are delivered.
+     *
+     * @param jclStream         submit jcl parameters of each job, see JobSubmitJclInputData object
+     * @param pipelineInputData pipeline parameters, see JobSubmitPipelineInputData object
+     * @return Stream of JobSubmitResult objects in completion order, it must be closed
+     * @author Frank Giordano
+     */
+    public Stream<JobSubmitResult> submit(final Stream<JobSubmitJclInputData> jclStream,
+                                          final JobSubmitPipelineInputData pipelineInputData) {
+        ValidateUtils.checkNullParameter(jclStream, "jclStream");
+        ValidateUtils.checkNullParameter(pipelineInputData, "pipelineInputData");
+
+        final Run run = new Run(jclStream, pipelineInputData);
+        run.start();
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(run,
+                Spliterator.ORDERED | Spliterator.NONNULL), false).onClose(run::close);
+    }
+
+    /**
+     * One run of the pipeline: a feeder thread submits the jobs, the results are consumed through this iterator
+     */
+    private final class Run implements Iterator<JobSubmitResult> {
+
+        private final Stream<JobSubmitJclInputData> jclStream;
+        private final boolean stepData;
+        private final long submitIntervalNanos;
+        private final ExecutorService executor;
+        private final JobWatcher watcher;
+        private final Semaphore submitSlots;
+        private final Semaphore pendingSlots;
+        // an empty element marks the end of the results
+        private final BlockingQueue<Optional<JobSubmitResult>> results = new LinkedBlockingQueue<>();
+        // jobs submitted and not delivered yet, plus one while the feeder runs
+        private final AtomicInteger outstanding = new AtomicInteger(1);
+        private final Thread feeder;
+        private volatile boolean closed;
+        private volatile RuntimeException inputError;
+        private boolean finished;
+        private JobSubmitResult next;
+        private long nextSubmit = System.nanoTime();
+
+        private Run(final Stream<JobSubmitJclInputData> jclStream,
+                    final JobSubmitPipelineInputData pipelineInputData) {
+            this.jclStream = jclStream;
+            this.stepData = pipelineInputData.isStepData();
+            this.submitIntervalNanos = pipelineInputData.getMaxSubmitsPerSecond() == 0 ? 0 :
+                    (long) (TimeUnit.SECONDS.toNanos(1) / pipelineInputData.getMaxSubmitsPerSecond());
+            this.executor = AsyncUtils.createExecutor("zowe-sdk-submit-pipeline",
+                    pipelineInputData.getMaxConcurrentRequests());
+            this.watcher = new JobWatcher(connection, executor, pipelineInputData.getWatchDelay());
+            this.submitSlots = new Semaphore(pipelineInputData.getMaxConcurrentRequests());
+            this.pendingSlots = new Semaphore(pipelineInputData.getMaxPendingJobs());
+            this.feeder = new Thread(this::feed, "zowe-sdk-submit-pipeline-feeder");
+            this.feeder.setDaemon(true);
+        }
+
+        /**
+         * Start the submission
+         */
+        private void start() {
+            feeder.start();
+        }
+
+        /**
+         * Submit the jobs of the JCL stream, waiting for a free request and pending slot before each one
+         */
+        private void feed() {
+            try {
+                final Iterator<JobSubmitJclInputData> jcls = jclStream.iterator();
+                while (!closed && jcls.hasNext()) {
+                    final JobSubmitJclInputData submitJclInputData = jcls.next();
+                    pendingSlots.acquire();
+                    submitSlots.acquire();
+                    pace();
+                    outstanding.incrementAndGet();
+                    track(submitJclInputData);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                LOG.debug("error reading the jcl stream", e);
+                inputError = e;
+            } finally {
+                jclStream.close();
+                delivered();
+            }
+        }
+
+        /**
+         * Wait until the next submit is allowed by the maximum number of submits per second
+         *
+         * @throws InterruptedException the pipeline is closed
+         */
+        private void pace() throws InterruptedException {
+            if (submitIntervalNanos == 0) {
+                return;
+            }
+            final long now = System.nanoTime();
+            if (nextSubmit > now) {
+                TimeUnit.NANOSECONDS.sleep(nextSubmit - now);
+            }
+            nextSubmit = Math.max(now, nextSubmit) + submitIntervalNanos;
+        }
+
+        /**
+         * Submit a job, watch it until it reaches the output status, then deliver it with its step data
+         *
+         * @param submitJclInputData submit jcl parameters of the job
+         */
+        private void track(final JobSubmitJclInputData submitJclInputData) {
+            AsyncUtils.supplyAsync(() -> jobSubmit.submitJclCommon(submitJclInputData), executor)
+                    .whenComplete((job, error) -> submitSlots.release())
+                    .thenCompose(watcher::watchOutput)
+                    .thenCompose(job -> stepData ? jobGet.getStatusCommonAsync(
+                            new CommonJobInputData(job.getJobId(), job.getJobName(), true), executor) :
+                            CompletableFuture.completedFuture(job))
+                    .whenComplete((job, error) -> {
+                        results.add(Optional.of(new JobSubmitResult(submitJclInputData, job,
+                                error == null ? null : AsyncUtils.toRequestException(error))));
+                        delivered();
+                    });
+        }
+
+        /**
+         * Record a delivered job, the end of the results is marked once the feeder is done and every job delivered
+         */
+        private void delivered() {
+            if (outstanding.decrementAndGet() == 0) {
+                results.add(Optional.empty());
+            }
+        }
+
+        /**
+         * Return whether another result is available, waiting for the next job to complete
+         *
+         * @return boolean true or false
+         */
+        @Override
+        public boolean hasNext() {
+            if (next == null && !finished && !closed) {
+                final Optional<JobSubmitResult> result;
+                try {
+                    result = results.take();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    close();
+                    throw new IllegalStateException("interrupted waiting for a submitted job", e);
+                }
+                if (result.isPresent()) {
+                    next = result.get();
+                    pendingSlots.release();
+                } else {
+                    finished = true;
+                    close();
+                    if (inputError != null) {
+                        throw inputError;
+                    }
+                }
+            }
+            return next != null;
+        }
+
+        /**
+         * Return the next result
+         *
+         * @return JobSubmitResult object
+         */
+        @Override
+        public JobSubmitResult next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final JobSubmitResult result = next;
+            next = null;
+            return result;
+        }
+
+        /**
+         * Stop the submission and the tracking of the pending jobs
+         */
+        private void close() {
+            closed = true;
+            feeder.interrupt();
+            watcher.close();
+            executor.shutdownNow();
+        }
+
+    }
+
+}
@@ -0,0 +1,330 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ *
+ */
+package zowe.client.sdk.zosjobs.methods;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import zowe.client.sdk.core.ZosConnection;
+import zowe.client.sdk.utility.ValidateUtils;
+import zowe.client.sdk.utility.timer.WaitUtil;
+import zowe.client.sdk.zosjobs.JobsConstants;
+import zowe.client.sdk.zosjobs.input.CommonJobInputData;
+import zowe.client.sdk.zosjobs.input.JobGetInputData;
+import zowe.client.sdk.zosjobs.model.Job;
+import zowe.client.sdk.zosjobs.types.JobStatus;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * Watch many jobs at once until each one reaches its expected status.
+ * <p>
+ * Unlike JobMonitor, which polls the status of every job on its own, a JobWatcher shares one poll loop between all
+ * the watched jobs. At each interval, the watched jobs are grouped by owner, up to the maximum number of jobs
+ * per group, and each group is refreshed with a single job list request, see JobGet.getCommon, whose prefix is
+ * the longest common prefix of their job names. Watching hundreds of jobs of one owner costs a few z/OSMF
+ * requests per interval. A watched job missing from the list response, e.g. because the list was cut by the
+ * maximum number of jobs, is refreshed with a job status request.
+ * <p>
+ * Each watch is a CompletableFuture completed with the job document (without step-data) once the expected status
+ * is reached or passed. Cancelling the future, or bounding it with orTimeout, ends the watch. A failed request
+ * completes the watches it refreshes exceptionally. No thread is held between two intervals, the requests
+ * are processed on the given executor.
+ *
+ * @author Frank Giordano
+ * @version 6.0
+ */
+public class JobWatcher implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(JobWatcher.class);
+    private final JobGet jobGet;
+    private final Executor executor;
+    private final int watchDelay;
+    private final int maxJobs;
+    private final Set<Watch> watches = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean polling = new AtomicBoolean();
+    private volatile boolean closed;
+
+    /**
+     * JobWatcher constructor.
+     *
+     * @param connection for connection information, see ZosConnection object
+     * @param executor   executor the requests are processed on
+     * @author Frank Giordano
+     */
+    public JobWatcher(final ZosConnection connection, final Executor executor) {
+        this(connection, executor, JobMonitor.DEFAULT_WATCH_DELAY);
+    }
+
+    /**
+     * JobWatcher constructor.
+     *
+     * @param connection for connection information, see ZosConnection object
+     * @param executor   executor the requests are processed on
+     * @param watchDelay delay in milliseconds between two polls of the watched jobs
+     * @author Frank Giordano
+     */
+    public JobWatcher(final ZosConnection connection, final Executor executor, final int watchDelay) {
+        this(connection, executor, watchDelay, JobsConstants.DEFAULT_MAX_JOBS);
+    }
+
+    /**
+     * JobWatcher constructor.
+     *
+     * @param connection for connection information, see ZosConnection object
+     * @param executor   executor the requests are processed on
+     * @param watchDelay delay in milliseconds between two polls of the watched jobs
+     * @param maxJobs    maximum number of jobs returned by each job list request, and of watched jobs it refreshes
+     * @author Frank Giordano
+     */
+    public JobWatcher(final ZosConnection connection, final Executor executor, final int watchDelay,
+                      final int maxJobs) {
+        ValidateUtils.checkNullParameter(connection, "connection");
+        ValidateUtils.checkNullParameter(executor, "executor");
+        ValidateUtils.checkIllegalParameter(watchDelay < 0, "watchDelay must not be negative");
+        ValidateUtils.checkIllegalParameter(maxJobs <= 0, "maxJobs must be greater than zero");
+        this.jobGet = new JobGet(connection);
+        this.executor = executor;
+        this.watchDelay = watchDelay;
+        this.maxJobs = maxJobs;
+    }
+
+    /**
+     * Watch the given job until it reaches the given status, the owner of the job narrows its job list request.
+     *
+     * @param job        job document to watch
+     * @param statusType status type, see JobStatus.Type object
+     * @return CompletableFuture of the job document once the status is reached or passed
+     * @author Frank Giordano
+     */
+    public CompletableFuture<Job> watch(final Job job, final JobStatus.Type statusType) {
+        ValidateUtils.checkNullParameter(job, "job");
+        return watchCommon(job.getOwner(), job.getJobName(), job.getJobId(), statusType);
+    }
+
+    /**
+     * Watch the given job until it reaches the given status.
+     *
+     * @param jobName    job name
+     * @param jobId      job id
+     * @param statusType status type, see JobStatus.Type object
+     * @return CompletableFuture of the job document once the status is reached or passed
+     * @author Frank Giordano
+     */
+    public CompletableFuture<Job> watch(final String jobName, final String jobId, final JobStatus.Type statusType) {
+        return watchCommon(null, jobName, jobId, statusType);
+    }
+
+    /**
+     * Watch the given job until it reaches the output status.
+     *
+     * @param job job document to watch
+     * @return CompletableFuture of the job document once the output status is reached
+     * @author Frank Giordano
+     */
+    public CompletableFuture<Job> watchOutput(final Job job) {
+        return watch(job, JobStatus.Type.OUTPUT);
+    }
+
+    /**
+     * Register a watch and start the poll loop when needed
+     *
+     * @param owner      owner of the job, null or blank to list the jobs of any owner
+     * @param jobName    job name
+     * @param jobId      job id
+     * @param statusType status type, see JobStatus.Type object
+     * @return CompletableFuture of the job document once the status is reached or passed
+     */
+    private CompletableFuture<Job> watchCommon(final String owner, final String jobName, final String jobId,
+                                               final JobStatus.Type statusType) {
+        ValidateUtils.checkIllegalParameter(jobName, "jobName");
+        ValidateUtils.checkIllegalParameter(jobId, "jobId");
+        ValidateUtils.checkNullParameter(statusType, "statusType");
+        if (closed) {
+            throw new IllegalStateException("job watcher is closed");
+        }
+
+        final Watch watch = new Watch(owner == null || owner.isBlank() ? "*" : owner, jobName, jobId, statusType);
+        watches.add(watch);
+        watch.future.whenComplete((job, error) -> watches.remove(watch));
+        if (closed) {
+            watch.future.cancel(false);
+        }
+        schedule();
+        return watch.future;
+    }
+
+    /**
+     * Retrieve the number of jobs currently watched
+     *
+     * @return number of pending watches
+     * @author Frank Giordano
+     */
+    public int getWatchCount() {
+        return watches.size();
+    }
+
+    /**
+     * Stop the poll loop, the pending watches are cancelled.
+     *
+     * @author Frank Giordano
+     */
+    @Override
+    public void close() {
+        closed = true;
+        watches.forEach(watch -> watch.future.cancel(false));
+    }
+
+    /**
+     * Schedule the next poll when jobs are watched and no poll is pending
+     */
+    private void schedule() {
+        if (closed || watches.isEmpty() || !polling.compareAndSet(false, true)) {
+            return;
+        }
+        WaitUtil.delay(watchDelay)
+                .thenComposeAsync(ignored -> poll(), executor)
+                .whenComplete((ignored, error) -> {
+                    if (error != null) {
+                        LOG.debug("job watcher poll failed", error);
+                    }
+                    polling.set(false);
+                    schedule();
+                });
+    }
+
+    /**
+     * Refresh all the watched jobs with one job list request per owner, for at most maxJobs jobs each. The jobs
+     * of an owner are sorted by name, so the jobs of a request share the longest name prefix possible.
+     *
+     * @return CompletableFuture completed once every group is refreshed
+     */
+    private CompletableFuture<Void> poll() {
+        final List<List<Watch>> groups = new ArrayList<>();
+        for (final List<Watch> owned : watches.stream()
+                .collect(Collectors.groupingBy(watch -> watch.owner)).values()) {
+            owned.sort(Comparator.comparing(watch -> watch.jobName));
+            for (int start = 0; start < owned.size(); start += maxJobs) {
+                groups.add(owned.subList(start, Math.min(start + maxJobs, owned.size())));
+            }
+        }
+        LOG.debug("job watcher polling {} jobs with {} requests", watches.size(), groups.size());
+
+        return CompletableFuture.allOf(groups.stream()
+                .map(this::refresh)
+                .toArray(CompletableFuture[]::new));
+    }
+
+    /**
+     * Refresh a group of watched jobs of the same owner, sorted by job name
+     *
+     * @param group watches of the same owner
+     * @return CompletableFuture completed once the group is refreshed
+     */
+    private CompletableFuture<Void> refresh(final List<Watch> group) {
+        final JobGetInputData getInputData = new JobGetInputData.Builder(group.get(0).owner)
+                .prefix(JobGet.prefixOf(group.stream().map(watch -> watch.jobName).collect(Collectors.toList())))
+                .maxJobs(maxJobs).build();
+
+        return jobGet.getCommonAsync(getInputData, executor)
+                .thenCompose(jobs -> {
+                    final Map<String, Job> jobsById = new HashMap<>();
+                    jobs.forEach(job -> jobsById.putIfAbsent(job.getJobId(), job));
+
+                    final List<CompletableFuture<Void>> fallbacks = new ArrayList<>();
+                    for (final Watch watch : group) {
+                        final Job job = jobsById.get(watch.jobId);
+                        if (job != null) {
+                            watch.update(job);
+                        } else {
+                            fallbacks.add(refreshStatus(watch));
+                        }
+                    }
+                    return CompletableFuture.allOf(fallbacks.toArray(new CompletableFuture<?>[0]));
+                })
+                .exceptionally(error -> {
+                    group.forEach(watch -> watch.fail(error));
+                    return null;
+                });
+    }
+
+    /**
+     * Refresh a watched job missing from its job list response with a job status request
+     *
+     * @param watch watch to refresh
+     * @return CompletableFuture completed once the watch is refreshed
+     */
+    private CompletableFuture<Void> refreshStatus(final Watch watch) {
+        return jobGet.getStatusCommonAsync(new CommonJobInputData(watch.jobId, watch.jobName), executor)
+                .thenAccept(watch::update)
+                .exceptionally(error -> {
+                    watch.fail(error);
+                    return null;
+                });
+    }
+
+    /**
+     * A watched job and the future completed once its expected status is reached
+     */
+    private static final class Watch {
+
+        private final String owner;
+        private final String jobName;
+        private final String jobId;
+        private final JobStatus.Type statusType;
+        private final CompletableFuture<Job> future = new CompletableFuture<>();
+
+        private Watch(final String owner, final String jobName, final String jobId,
+                      final JobStatus.Type statusType) {
+            this.owner = owner;
+            this.jobName = jobName;
+            this.jobId = jobId;
+            this.statusType = statusType;
+        }
+
+        /**
+         * Complete the watch when the given job document shows the expected status
+         *
+         * @param job latest job document
+         */
+        private void update(final Job job) {
+            try {
+                if (JobMonitor.isStatusReached(statusType, job.getStatus())) {
+                    future.complete(job);
+                }
+            } catch (IllegalStateException e) {
+                future.completeExceptionally(e);
+            }
+        }
+
+        /**
+         * Complete the watch with the error of its refresh request
+         *
+         * @param error refresh error
+         */
+        private void fail(final Throwable error) {
+            future.completeExceptionally(error instanceof CompletionException && error.getCause() != null ?
+                    error.getCause() : error);
+        }
+
+    }
+
+}
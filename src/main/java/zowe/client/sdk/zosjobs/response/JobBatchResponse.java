@@ -0,0 +1,109 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ *
+ */
+package zowe.client.sdk.zosjobs.response;
+
+import zowe.client.sdk.rest.exception.ZosmfRequestException;
+import zowe.client.sdk.zosjobs.input.JobModifyInputData;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Result of a purge or cancel of many jobs, see JobBatch
+ *
+ * @author Frank Giordano
+ * @version 6.0
+ */
+public class JobBatchResponse {
+
+    /**
+     * Feedback of every request accepted by z/OSMF, in the order of the requests
+     */
+    private final List<JobFeedback> feedbacks;
+
+    /**
+     * Error of every request that failed, by request
+     */
+    private final Map<JobModifyInputData, ZosmfRequestException> failures;
+
+    /**
+     * Asynchronous requests accepted whose completion was not seen within the completion checks
+     */
+    private final List<JobModifyInputData> unverified;
+
+    /**
+     * JobBatchResponse constructor
+     *
+     * @param feedbacks  feedback of every request accepted, in the order of the requests
+     * @param failures   error of every request that failed
+     * @param unverified asynchronous requests whose completion was not seen
+     * @author Frank Giordano
+     */
+    public JobBatchResponse(final List<JobFeedback> feedbacks,
+                            final Map<JobModifyInputData, ZosmfRequestException> failures,
+                            final List<JobModifyInputData> unverified) {
+        this.feedbacks = List.copyOf(feedbacks);
+        this.failures = Map.copyOf(failures);
+        this.unverified = List.copyOf(unverified);
+    }
+
+    /**
+     * Retrieve the feedback of every request accepted by z/OSMF, in the order of the requests
+     *
+     * @return list of JobFeedback objects
+     */
+    public List<JobFeedback> getFeedbacks() {
+        return feedbacks;
+    }
+
+    /**
+     * Retrieve the error of every request that failed
+     *
+     * @return failures value, empty when every request was accepted
+     */
+    public Map<JobModifyInputData, ZosmfRequestException> getFailures() {
+        return failures;
+    }
+
+    /**
+     * Retrieve the asynchronous requests accepted whose completion was not seen within the completion checks
+     *
+     * @return list of JobModifyInputData objects
+     */
+    public List<JobModifyInputData> getUnverified() {
+        return unverified;
+    }
+
+    /**
+     * Retrieve whether every request was accepted, completed and reported a zero status
+     *
+     * @return boolean true or false
+     */
+    public boolean isSuccess() {
+        return failures.isEmpty() && unverified.isEmpty() && feedbacks.stream()
+                .allMatch(feedback -> feedback.getStatus().isEmpty() || "0".equals(feedback.getStatus()));
+    }
+
+    /**
+     * Return string value representing JobBatchResponse object
+     *
+     * @return string representation of JobBatchResponse
+     */
+    @Override
+    public String toString() {
+        return "JobBatchResponse{" +
+                "feedbacks=" + feedbacks.size() +
+                ", failures=" + failures.size() +
+                ", unverified=" + unverified.size() +
+                '}';
+    }
+
+}
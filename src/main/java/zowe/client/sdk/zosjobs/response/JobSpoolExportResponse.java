@@ -0,0 +1,140 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ *
+ */
+package zowe.client.sdk.zosjobs.response;
+
+import zowe.client.sdk.rest.exception.ZosmfRequestException;
+
+import java.nio.file.Path;
+import java.util.Map;
+
+/**
+ * Result of a spool export, see JobSpoolExport
+ *
+ * @author Frank Giordano
+ * @version 6.0
+ */
+public class JobSpoolExportResponse {
+
+    /**
+     * Number of spool files written
+     */
+    private final int exportedFiles;
+
+    /**
+     * Number of spool files skipped because a previous run already exported them
+     */
+    private final int skippedFiles;
+
+    /**
+     * Number of bytes written
+     */
+    private final long bytes;
+
+    /**
+     * Duration of the export in milliseconds
+     */
+    private final long elapsedMillis;
+
+    /**
+     * Error of each spool file or job that failed, by local path
+     */
+    private final Map<Path, ZosmfRequestException> failures;
+
+    /**
+     * JobSpoolExportResponse constructor
+     *
+     * @param exportedFiles number of spool files written
+     * @param skippedFiles  number of spool files skipped
+     * @param bytes         number of bytes written
+     * @param elapsedMillis duration of the export in milliseconds
+     * @param failures      error of each spool file or job that failed, by local path
+     * @author Frank Giordano
+     */
+    public JobSpoolExportResponse(final int exportedFiles, final int skippedFiles, final long bytes,
+                                  final long elapsedMillis, final Map<Path, ZosmfRequestException> failures) {
+        this.exportedFiles = exportedFiles;
+        this.skippedFiles = skippedFiles;
+        this.bytes = bytes;
+        this.elapsedMillis = elapsedMillis;
+        this.failures = Map.copyOf(failures);
+    }
+
+    /**
+     * Retrieve the number of spool files written
+     *
+     * @return exportedFiles value
+     */
+    public int getExportedFiles() {
+        return exportedFiles;
+    }
+
+    /**
+     * Retrieve the number of spool files skipped because a previous run already exported them
+     *
+     * @return skippedFiles value
+     */
+    public int getSkippedFiles() {
+        return skippedFiles;
+    }
+
+    /**
+     * Retrieve the number of bytes written
+     *
+     * @return bytes value
+     */
+    public long getBytes() {
+        return bytes;
+    }
+
+    /**
+     * Retrieve the duration of the export in milliseconds
+     *
+     * @return elapsedMillis value
+     */
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    /**
+     * Retrieve the throughput of the export
+     *
+     * @return number of bytes written per second
+     */
+    public long getBytesPerSecond() {
+        return elapsedMillis == 0 ? bytes * 1000 : bytes * 1000 / elapsedMillis;
+    }
+
+    /**
+     * Retrieve the error of each spool file or job that failed, by local path
+     *
+     * @return failures value, empty when every spool file was exported
+     */
+    public Map<Path, ZosmfRequestException> getFailures() {
+        return failures;
+    }
+
+    /**
+     * Return string value representing JobSpoolExportResponse object
+     *
+     * @return string representation of JobSpoolExportResponse
+     */
+    @Override
+    public String toString() {
+        return "JobSpoolExportResponse{" +
+                "exportedFiles=" + exportedFiles +
+                ", skippedFiles=" + skippedFiles +
+                ", bytes=" + bytes +
+                ", elapsedMillis=" + elapsedMillis +
+                ", failures=" + failures.size() +
+                '}';
+    }
+
+}
@@ -0,0 +1,95 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ *
+ */
+package zowe.client.sdk.zosjobs.response;
+
+import zowe.client.sdk.zosjobs.model.JobFile;
+
+/**
+ * Spool record matching a spool search, see JobSpoolSearch
+ *
+ * @author Frank Giordano
+ * @version 6.0
+ */
+public class JobSpoolHit {
+
+    /**
+     * Spool file holding the record
+     */
+    private final JobFile jobFile;
+
+    /**
+     * Zero-based number of the record within the spool file
+     */
+    private final long record;
+
+    /**
+     * Content of the record
+     */
+    private final String line;
+
+    /**
+     * JobSpoolHit constructor
+     *
+     * @param jobFile spool file holding the record
+     * @param record  zero-based number of the record within the spool file
+     * @param line    content of the record
+     * @author Frank Giordano
+     */
+    public JobSpoolHit(final JobFile jobFile, final long record, final String line) {
+        this.jobFile = jobFile;
+        this.record = record;
+        this.line = line;
+    }
+
+    /**
+     * Retrieve the spool file holding the record
+     *
+     * @return JobFile object
+     */
+    public JobFile getJobFile() {
+        return jobFile;
+    }
+
+    /**
+     * Retrieve the zero-based number of the record, as given to JobGet.getSpoolContentRange
+     *
+     * @return record value
+     */
+    public long getRecord() {
+        return record;
+    }
+
+    /**
+     * Retrieve the content of the record
+     *
+     * @return line value
+     */
+    public String getLine() {
+        return line;
+    }
+
+    /**
+     * Return string value representing JobSpoolHit object
+     *
+     * @return string representation of JobSpoolHit
+     */
+    @Override
+    public String toString() {
+        return "JobSpoolHit{" +
+                "jobName=" + jobFile.getJobName() +
+                ", jobId=" + jobFile.getJobId() +
+                ", ddName=" + jobFile.getDdName() +
+                ", record=" + record +
+                ", line=" + line +
+                '}';
+    }
+
+}
@@ -0,0 +1,97 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ *
+ */
+package zowe.client.sdk.zosjobs.response;
+
+import zowe.client.sdk.rest.exception.ZosmfRequestException;
+import zowe.client.sdk.zosjobs.input.JobSubmitJclInputData;
+import zowe.client.sdk.zosjobs.model.Job;
+
+import java.util.Optional;
+
+/**
+ * Outcome of a job submitted by a JobSubmitPipeline: the completed job, or the error that stopped it
+ *
+ * @author Frank Giordano
+ * @version 6.0
+ */
+public class JobSubmitResult {
+
+    /**
+     * Submit parameters of the job
+     */
+    private final JobSubmitJclInputData submitJclInputData;
+
+    /**
+     * Completed job document, null on failure
+     */
+    private final Job job;
+
+    /**
+     * Error submitting or tracking the job, null on success
+     */
+    private final ZosmfRequestException failure;
+
+    /**
+     * JobSubmitResult constructor
+     *
+     * @param submitJclInputData submit parameters of the job
+     * @param job                completed job document, null on failure
+     * @param failure            error submitting or tracking the job, null on success
+     * @author Frank Giordano
+     */
+    public JobSubmitResult(final JobSubmitJclInputData submitJclInputData, final Job job,
+                           final ZosmfRequestException failure) {
+        this.submitJclInputData = submitJclInputData;
+        this.job = job;
+        this.failure = failure;
+    }
+
+    /**
+     * Retrieve the submit parameters of the job
+     *
+     * @return JobSubmitJclInputData object
+     */
+    public JobSubmitJclInputData getSubmitJclInputData() {
+        return submitJclInputData;
+    }
+
+    /**
+     * Retrieve the completed job document, with its step data when requested
+     *
+     * @return job document, empty on failure
+     */
+    public Optional<Job> getJob() {
+        return Optional.ofNullable(job);
+    }
+
+    /**
+     * Retrieve the error submitting or tracking the job
+     *
+     * @return ZosmfRequestException object, empty on success
+     */
+    public Optional<ZosmfRequestException> getFailure() {
+        return Optional.ofNullable(failure);
+    }
+
+    /**
+     * Return string value representing JobSubmitResult object
+     *
+     * @return string representation of JobSubmitResult
+     */
+    @Override
+    public String toString() {
+        return "JobSubmitResult{" +
+                "job=" + job +
+                ", failure=" + failure +
+                '}';
+    }
+
+}
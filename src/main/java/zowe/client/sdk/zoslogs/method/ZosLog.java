@@ -12,10 +12,12 @@ package zowe.client.sdk.zoslogs.method;
 
 import zowe.client.sdk.core.ZosConnection;
 import zowe.client.sdk.rest.GetJsonZosmfRequest;
+import zowe.client.sdk.rest.Response;
 import zowe.client.sdk.rest.ZosmfRequest;
 import zowe.client.sdk.rest.ZosmfRequestFactory;
 import zowe.client.sdk.rest.exception.ZosmfRequestException;
 import zowe.client.sdk.rest.type.ZosmfRequestType;
+import zowe.client.sdk.utility.AsyncUtils;
 import zowe.client.sdk.utility.JsonUtils;
 import zowe.client.sdk.utility.ValidateUtils;
 import zowe.client.sdk.zoslogs.input.ZosLogInputData;
@@ -23,6 +25,8 @@ import zowe.client.sdk.zoslogs.response.ZosLogResponse;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * Get z/OS log via z/OSMF restful api
@@ -34,7 +38,7 @@ public class ZosLog {
 
     private static final String RESOURCE = "/restconsoles/v1/log";
     private final ZosConnection connection;
-    private ZosmfRequest request;
+    private final ZosmfRequest request;
 
     /**
      * GetZosLog constructor
@@ -45,6 +49,7 @@ public class ZosLog {
     public ZosLog(final ZosConnection connection) {
         ValidateUtils.checkNullParameter(connection, "connection");
         this.connection = connection;
+        this.request = null;
     }
 
     /**
@@ -78,6 +83,34 @@ public class ZosLog {
      * @author Frank Giordano
      */
     public ZosLogResponse issueCommand(final ZosLogInputData logInputData) throws ZosmfRequestException {
+        return parseResponse(prepareRequest(logInputData).executeRequest());
+    }
+
+    /**
+     * Issue a z/OSMF log command asynchronously and return log data.
+     * <p>
+     * If the API fails, you may be missing APAR see PH35930 required for log operations.
+     *
+     * @param logInputData ZosLogInputData object
+     * @param executor     executor the response is processed on
+     * @return CompletableFuture of the ZosLogReply object with log messages/items
+     * @author Frank Giordano
+     */
+    public CompletableFuture<ZosLogResponse> issueCommandAsync(final ZosLogInputData logInputData,
+                                                               final Executor executor) {
+        ValidateUtils.checkNullParameter(executor, "executor");
+        return prepareRequest(logInputData).executeRequestAsync(executor)
+                .thenApply(AsyncUtils.unchecked(ZosLog::parseResponse));
+    }
+
+    /**
+     * Prepare the request issuing a z/OSMF log command
+     *
+     * @param logInputData ZosLogInputData object
+     * @return ZosmfRequest object
+     * @author Frank Giordano
+     */
+    private ZosmfRequest prepareRequest(final ZosLogInputData logInputData) {
         ValidateUtils.checkNullParameter(logInputData, "logInputData");
 
         final String defaultUrl = connection.getZosmfUrl() + RESOURCE;
@@ -109,12 +142,22 @@ public class ZosLog {
             }
         });
 
-        if (request == null) {
-            request = ZosmfRequestFactory.buildRequest(connection, ZosmfRequestType.GET_JSON);
-        }
+        final ZosmfRequest request = this.request != null ?
+                this.request : ZosmfRequestFactory.buildRequest(connection, ZosmfRequestType.GET_JSON);
         request.setUrl(url.toString().replace("?&", "?"));
+        return request;
+    }
 
-        final String responsePhrase = request.executeRequest()
+    /**
+     * Retrieve the ZosLogReply object from the response
+     *
+     * @param response Response object
+     * @return ZosLogReply object with log messages/items
+     * @throws ZosmfRequestException request error state
+     * @author Frank Giordano
+     */
+    private static ZosLogResponse parseResponse(final Response response) throws ZosmfRequestException {
+        final String responsePhrase = response
                 .getResponsePhrase()
                 .orElseThrow(() -> new IllegalStateException("no zos log response phrase"))
                 .toString();
@@ -30,16 +30,13 @@ import java.util.List;
  */
 public class TsoCmd {
 
-    private final List<String> msgLst = new ArrayList<>();
-    private final List<String> promptLst = new ArrayList<>();
     private final ObjectMapper objectMapper = new ObjectMapper();
-    private final ZosConnection connection;
     private final String accountNumber;
-    private TsoStart tsoStart;
-    private TsoStop tsoStop;
-    private TsoSend tsoSend;
-    private TsoReply tsoReply;
-    private StartTsoInputData inputData;
+    private final TsoStart tsoStart;
+    private final TsoStop tsoStop;
+    private final TsoSend tsoSend;
+    private final TsoReply tsoReply;
+    private volatile StartTsoInputData inputData;
 
     /**
      * TsoCmd constructor
@@ -51,8 +48,11 @@ public class TsoCmd {
     public TsoCmd(final ZosConnection connection, final String accountNumber) {
         ValidateUtils.checkNullParameter(connection, "connection");
         ValidateUtils.checkIllegalParameter(accountNumber, "accountNumber");
-        this.connection = connection;
         this.accountNumber = accountNumber;
+        this.tsoStart = new TsoStart(connection);
+        this.tsoStop = new TsoStop(connection);
+        this.tsoSend = new TsoSend(connection);
+        this.tsoReply = new TsoReply(connection);
     }
 
     /**
@@ -76,12 +76,11 @@ public class TsoCmd {
            final TsoSend tsoSend,
            final TsoReply tsoReply) {
         ValidateUtils.checkNullParameter(connection, "connection");
-        this.connection = connection;
         this.accountNumber = accountNumber;
-        this.tsoStart = tsoStart;
-        this.tsoStop = tsoStop;
-        this.tsoSend = tsoSend;
-        this.tsoReply = tsoReply;
+        this.tsoStart = tsoStart != null ? tsoStart : new TsoStart(connection);
+        this.tsoStop = tsoStop != null ? tsoStop : new TsoStop(connection);
+        this.tsoSend = tsoSend != null ? tsoSend : new TsoSend(connection);
+        this.tsoReply = tsoReply != null ? tsoReply : new TsoReply(connection);
     }
 
     /**
@@ -109,28 +108,28 @@ public class TsoCmd {
     public List<String> issueCommand(final String command, final StartTsoInputData inputData)
             throws ZosmfRequestException {
         ValidateUtils.checkIllegalParameter(command, "command");
-        this.msgLst.clear();
-        this.promptLst.clear();
+        final List<String> msgLst = new ArrayList<>();
+        final List<String> promptLst = new ArrayList<>();
 
         // send tso start call and return the session id
         final TsoStartResponse tsoStartResponse = this.startTso(inputData);
         if (!tsoStartResponse.isSuccess()) {
             final JsonNode tsoData = this.getJsonNode(tsoStartResponse.getResponse()).get("tsoData");
-            this.processTsoData(tsoData);
+            this.processTsoData(tsoData, msgLst, promptLst);
             return msgLst;
         }
 
         // send tso command to execute with session id
         String responseStr = this.sendTsoCommand(tsoStartResponse.getSessionId(), command);
         JsonNode tsoData = this.getJsonNode(responseStr).get("tsoData");
-        this.processTsoData(tsoData);
+        this.processTsoData(tsoData, msgLst, promptLst);
 
         boolean tsoMessagesReceived = false;
         while (!tsoMessagesReceived) {
             // retrieve additional tso messages for the command
             responseStr = this.sendTsoForReply(tsoStartResponse.getSessionId());
             tsoData = this.getJsonNode(responseStr).get("tsoData");
-            this.processTsoData(tsoData);
+            this.processTsoData(tsoData, msgLst, promptLst);
 
             // check for tso prompt message - indicates the end of the command
             if (!promptLst.isEmpty()) {
@@ -152,15 +151,10 @@ public class TsoCmd {
      * @author Frank Giordano
      */
     private TsoStartResponse startTso(final StartTsoInputData inputData) throws ZosmfRequestException {
-        if (tsoStart == null) {
-            tsoStart = new TsoStart(connection);
-        }
-        this.inputData = inputData;
-        if (this.inputData == null) {
-            this.inputData = new StartTsoInputData();
-        }
-        this.inputData.setAccount(accountNumber);
-        return tsoStart.start(this.inputData);
+        final StartTsoInputData startInputData = inputData != null ? inputData : new StartTsoInputData();
+        startInputData.setAccount(accountNumber);
+        this.inputData = startInputData;
+        return tsoStart.start(startInputData);
     }
 
     /**
@@ -173,9 +167,6 @@ public class TsoCmd {
      * @author Frank Giordano
      */
     private String sendTsoCommand(final String sessionId, final String command) throws ZosmfRequestException {
-        if (tsoSend == null) {
-            tsoSend = new TsoSend(connection);
-        }
         return tsoSend.sendCommand(sessionId, command);
     }
 
@@ -188,9 +179,6 @@ public class TsoCmd {
      * @author Frank Giordano
      */
     private String sendTsoForReply(final String sessionId) throws ZosmfRequestException {
-        if (tsoReply == null) {
-            tsoReply = new TsoReply(connection);
-        }
         return tsoReply.reply(sessionId);
     }
 
@@ -202,19 +190,18 @@ public class TsoCmd {
      * @author Frank Giordano
      */
     private void stopTso(final String sessionId) throws ZosmfRequestException {
-        if (tsoStop == null) {
-            tsoStop = new TsoStop(connection);
-        }
         tsoStop.stop(sessionId);
     }
 
     /**
      * Transform the JSON response payload for its TSO message types
      *
-     * @param tsoData JsonNode object
+     * @param tsoData   JsonNode object
+     * @param msgLst    list receiving the TSO messages of the command
+     * @param promptLst list receiving the TSO prompts of the command
      * @author Frank Giordano
      */
-    private void processTsoData(final JsonNode tsoData) {
+    private void processTsoData(final JsonNode tsoData, final List<String> msgLst, final List<String> promptLst) {
         if (tsoData == null || !tsoData.isArray()) {
             return;
         }
@@ -222,12 +209,12 @@ public class TsoCmd {
             // extract message text if present
             final JsonNode messageNode = tsoDataItem.get(TsoConstants.TSO_MESSAGE);
             if (messageNode != null && messageNode.hasNonNull("DATA")) {
-                this.msgLst.add(messageNode.get("DATA").asText());
+                msgLst.add(messageNode.get("DATA").asText());
             }
             // extract prompt hidden text if present (signals the end of conversation)
             final JsonNode promptNode = tsoDataItem.get(TsoConstants.TSO_PROMPT);
             if (promptNode != null && promptNode.hasNonNull("HIDDEN")) {
-                this.promptLst.add(promptNode.get("HIDDEN").asText());
+                promptLst.add(promptNode.get("HIDDEN").asText());
             }
         });
     }
@@ -252,7 +239,7 @@ public class TsoCmd {
     }
 
     /**
-     * Returns the input data for the start TSO session call
+     * Returns the input data for the latest start TSO session call
      * <p>
      * This is private-package
      *
@@ -28,7 +28,7 @@ import zowe.client.sdk.zostso.TsoConstants;
 public class TsoReply {
 
     private final ZosConnection connection;
-    private ZosmfRequest request;
+    private final ZosmfRequest request;
 
     /**
      * TsoReply constructor
@@ -39,6 +39,7 @@ public class TsoReply {
     public TsoReply(final ZosConnection connection) {
         ValidateUtils.checkNullParameter(connection, "connection");
         this.connection = connection;
+        this.request = null;
     }
 
     /**
@@ -76,9 +77,8 @@ public class TsoReply {
                 TsoConstants.RES_START_TSO + "/" +
                 sessionId;
 
-        if (request == null || !(request instanceof PutJsonZosmfRequest)) {
-            request = ZosmfRequestFactory.buildRequest(connection, ZosmfRequestType.PUT_JSON);
-        }
+        final ZosmfRequest request = this.request instanceof PutJsonZosmfRequest ?
+                this.request : ZosmfRequestFactory.buildRequest(connection, ZosmfRequestType.PUT_JSON);
         request.setUrl(url);
         request.setBody("");
 
@@ -31,7 +31,7 @@ import zowe.client.sdk.zostso.response.TsoCommonResponse;
 public class TsoStop {
 
     private final ZosConnection connection;
-    private ZosmfRequest request;
+    private final ZosmfRequest request;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     /**
@@ -43,6 +43,7 @@ public class TsoStop {
     public TsoStop(final ZosConnection connection) {
         ValidateUtils.checkNullParameter(connection, "connection");
         this.connection = connection;
+        this.request = null;
     }
 
     /**
@@ -81,9 +82,8 @@ public class TsoStop {
                 TsoConstants.RES_START_TSO + "/" +
                 sessionId;
 
-        if (request == null) {
-            request = ZosmfRequestFactory.buildRequest(connection, ZosmfRequestType.DELETE_JSON);
-        }
+        final ZosmfRequest request = this.request != null ?
+                this.request : ZosmfRequestFactory.buildRequest(connection, ZosmfRequestType.DELETE_JSON);
         request.setUrl(url);
 
         final String responseStr = TsoUtils.getResponseStr(request);
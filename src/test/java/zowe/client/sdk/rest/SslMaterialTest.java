@@ -0,0 +1,121 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.rest;
+
+import kong.unirest.core.UnirestConfigException;
+import kong.unirest.core.UnirestInstance;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import zowe.client.sdk.core.ZosConnection;
+import zowe.client.sdk.core.ZosConnectionFactory;
+import zowe.client.sdk.rest.exception.ZosmfRequestException;
+import zowe.client.sdk.utility.timer.WaitUtil;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Class containing unit tests for SslMaterial.
+ *
+ * @author Frank Giordano
+ * @version 6.0
+ */
+public class SslMaterialTest {
+
+    private static final String PASSWORD = "badssl.com";
+
+    @TempDir
+    Path tempDir;
+
+    private String certFile;
+
+    @BeforeEach
+    public void init() throws IOException {
+        final Path file = tempDir.resolve("client.p12");
+        Files.copy(Paths.get("src/test/resources/certs/badssl.com-client.p12"), file);
+        certFile = file.toString();
+    }
+
+    @Test
+    public void tstSslMaterialUnchangedSuccess() {
+        final SslMaterial material = SslMaterial.load(certFile, PASSWORD, false, 0);
+        assertTrue(material.reload(0).isEmpty());
+        assertTrue(material.reload(SslMaterial.CHECK_INTERVAL * 2).isEmpty());
+    }
+
+    @Test
+    public void tstSslMaterialHeldByTransportSuccess() throws ZosmfRequestException {
+        final ZosConnection connection1 = ZosConnectionFactory.createSslConnection("host", 443, certFile, PASSWORD);
+        final ZosConnection connection2 = ZosConnectionFactory.createSslConnection("host", 443, certFile, PASSWORD);
+        try (ZosmfTransport.Lease lease1 = connection1.getTransport().lease();
+             ZosmfTransport.Lease lease2 = connection1.getTransport().lease();
+             ZosmfTransport.Lease lease3 = connection2.getTransport().lease()) {
+            assertNotNull(lease1.getClient().config().getSslContext());
+            assertSame(lease1.getClient().config().getSslContext(), lease2.getClient().config().getSslContext());
+            // nothing is shared between the transports of different connections
+            assertNotSame(lease1.getClient().config().getSslContext(), lease3.getClient().config().getSslContext());
+        }
+    }
+
+    @Test
+    public void tstSslMaterialTransportReloadSuccess() throws ZosmfRequestException, IOException {
+        final ZosConnection connection = ZosConnectionFactory.createSslConnection("host", 443, certFile, PASSWORD);
+        final ZosmfTransport transport = connection.getTransport();
+        final UnirestInstance client;
+        try (ZosmfTransport.Lease lease = transport.lease()) {
+            client = lease.getClient();
+        }
+        Files.setLastModifiedTime(Paths.get(certFile), FileTime.fromMillis(System.currentTimeMillis() + 60_000));
+        WaitUtil.wait((int) TimeUnit.NANOSECONDS.toMillis(SslMaterial.CHECK_INTERVAL) + 100);
+
+        // the next call runs on a new client built with the new SSLContext
+        try (ZosmfTransport.Lease lease = transport.lease()) {
+            assertNotSame(client, lease.getClient());
+            assertNotSame(client.config().getSslContext(), lease.getClient().config().getSslContext());
+        }
+    }
+
+    @Test
+    public void tstSslMaterialReloadOnChangeSuccess() throws IOException {
+        final SslMaterial material = SslMaterial.load(certFile, PASSWORD, false, 0);
+        Files.setLastModifiedTime(Paths.get(certFile), FileTime.fromMillis(System.currentTimeMillis() + 60_000));
+
+        // the file is not checked again before the check interval elapsed
+        assertTrue(material.reload(1).isEmpty());
+        final SslMaterial reloaded = material.reload(SslMaterial.CHECK_INTERVAL).orElseThrow();
+        assertNotSame(material.getSslContext(), reloaded.getSslContext());
+        assertTrue(reloaded.reload(SslMaterial.CHECK_INTERVAL * 2).isEmpty());
+    }
+
+    @Test
+    public void tstSslMaterialKeepMaterialOnBadReloadSuccess() throws IOException {
+        final SslMaterial material = SslMaterial.load(certFile, PASSWORD, false, 0);
+        Files.write(Paths.get(certFile), new byte[]{1, 2, 3});
+        assertTrue(material.reload(SslMaterial.CHECK_INTERVAL).isEmpty());
+    }
+
+    @Test
+    public void tstSslMaterialPasswordFailure() {
+        final UnirestConfigException e = assertThrows(UnirestConfigException.class,
+                () -> SslMaterial.load(certFile, "dummy", false));
+        assertEquals("java.io.IOException: keystore password was incorrect", e.getMessage());
+        final IllegalStateException e2 = assertThrows(IllegalStateException.class,
+                () -> SslMaterial.load(certFile, "dummy", true));
+        assertEquals("java.io.IOException: keystore password was incorrect", e2.getMessage());
+    }
+
+}
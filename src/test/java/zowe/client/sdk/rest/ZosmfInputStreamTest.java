@@ -0,0 +1,145 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.rest;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import zowe.client.sdk.core.ZosConnection;
+import zowe.client.sdk.core.ZosConnectionFactory;
+import zowe.client.sdk.rest.exception.ZosmfRequestException;
+import zowe.client.sdk.rest.type.ZosmfRequestType;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Class containing unit tests for ZosmfInputStream and streamed GetStreamZosmfRequest requests.
+ *
+ * @author Frank Giordano
+ * @version 6.0
+ */
+public class ZosmfInputStreamTest {
+
+    private static final int CHUNK_COUNT = 64;
+    private static final byte[] CHUNK = new byte[64 * 1024];
+
+    private HttpServer server;
+    private String baseUrl;
+
+    @BeforeEach
+    public void init() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/data", exchange -> {
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream out = exchange.getResponseBody()) {
+                for (int i = 0; i < CHUNK_COUNT; i++) {
+                    out.write(CHUNK);
+                }
+            } catch (IOException ignored) {
+                // client closed the stream early
+            }
+        });
+        server.createContext("/missing", exchange -> {
+            final byte[] body = "{\"rc\":4,\"message\":\"data set not found\"}".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(404, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        baseUrl = "http://localhost:" + server.getAddress().getPort();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    public void tstZosmfInputStreamCloseReleasesOnceSuccess() throws IOException {
+        final AtomicInteger released = new AtomicInteger();
+        final ZosmfInputStream stream = new ZosmfInputStream(
+                new ByteArrayInputStream("data".getBytes()), 2, released::incrementAndGet);
+        assertEquals("data", new String(stream.readAllBytes()));
+        assertFalse(stream.isClosed());
+        stream.close();
+        stream.close();
+        stream.abort();
+        assertTrue(stream.isClosed());
+        assertEquals(1, released.get());
+    }
+
+    @Test
+    public void tstZosmfInputStreamStreamedRequestSuccess() throws ZosmfRequestException, IOException {
+        final ZosConnection connection = newConnection();
+        final GetStreamZosmfRequest request = (GetStreamZosmfRequest) ZosmfRequestFactory
+                .buildRequest(connection, ZosmfRequestType.GET_STREAM);
+        request.setUrl(baseUrl + "/data");
+
+        long total = 0;
+        try (ZosmfInputStream stream = request.executeStreamRequest(8192)) {
+            assertEquals(1, connection.getTransport().getInFlight());
+            final byte[] buffer = new byte[8192];
+            int count;
+            while ((count = stream.read(buffer)) != -1) {
+                total += count;
+            }
+        }
+        assertEquals((long) CHUNK_COUNT * CHUNK.length, total);
+        assertEquals(0, connection.getTransport().getInFlight());
+    }
+
+    @Test
+    public void tstZosmfInputStreamAbortReleasesSlotSuccess() throws ZosmfRequestException, IOException {
+        final ZosConnection connection = newConnection();
+        final GetStreamZosmfRequest request = (GetStreamZosmfRequest) ZosmfRequestFactory
+                .buildRequest(connection, ZosmfRequestType.GET_STREAM);
+        request.setUrl(baseUrl + "/data");
+
+        final ZosmfInputStream stream = request.executeStreamRequest(1024);
+        assertTrue(stream.read(new byte[1024]) > 0);
+        stream.abort();
+        assertTrue(stream.isClosed());
+        assertEquals(0, connection.getTransport().getInFlight());
+
+        // the single slot must be usable again
+        request.executeStreamRequest(1024).close();
+    }
+
+    @Test
+    public void tstZosmfInputStreamErrorStatusFailure() {
+        final ZosConnection connection = newConnection();
+        final GetStreamZosmfRequest request = (GetStreamZosmfRequest) ZosmfRequestFactory
+                .buildRequest(connection, ZosmfRequestType.GET_STREAM);
+        request.setUrl(baseUrl + "/missing");
+
+        final ZosmfRequestException e = assertThrows(ZosmfRequestException.class,
+                () -> request.executeStreamRequest(1024));
+        assertTrue(e.getMessage().contains("http status error code: 404"));
+        assertTrue(e.getMessage().contains("data set not found"));
+        assertEquals(0, connection.getTransport().getInFlight());
+    }
+
+    private static ZosConnection newConnection() {
+        final ZosConnection connection = ZosConnectionFactory
+                .createBasicConnection("localhost", 443, "user", "password");
+        connection.setTransportOptions(new ZosmfTransportOptions.Builder().maxRequestsPerRoute(1).build());
+        return connection;
+    }
+
+}
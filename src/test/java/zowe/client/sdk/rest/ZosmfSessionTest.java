@@ -0,0 +1,187 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.rest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpsServer;
+import kong.unirest.core.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import zowe.client.sdk.core.ZosConnection;
+import zowe.client.sdk.core.ZosConnectionFactory;
+import zowe.client.sdk.rest.exception.ZosmfRequestException;
+import zowe.client.sdk.rest.type.ZosmfRequestType;
+import zowe.client.sdk.utility.AsyncUtils;
+import zowe.client.sdk.utility.UtilsTestHelper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Class containing unit tests for ZosmfSession.
+ *
+ * @author Frank Giordano
+ * @version 6.0
+ */
+public class ZosmfSessionTest {
+
+    private static final String USER = "user";
+    private static final String PASSWORD = "password";
+
+    private final AtomicInteger logins = new AtomicInteger();
+    private final AtomicReference<String> validToken = new AtomicReference<>();
+    private final AtomicBoolean authorizationSeen = new AtomicBoolean();
+    private volatile String cookieAttributes = "";
+    private HttpsServer server;
+    private int port;
+
+    @BeforeEach
+    public void init() throws Exception {
+        server = UtilsTestHelper.startHttpsServer("/zosmf/services/authenticate", this::authenticate);
+        server.createContext("/zosmf/data", exchange -> {
+            if (exchange.getRequestHeaders().containsKey("Authorization")) {
+                authorizationSeen.set(true);
+            }
+            final String cookie = exchange.getRequestHeaders().getFirst("Cookie");
+            if (cookie != null && cookie.contains(ZosmfSession.LTPA_TOKEN + "=" + validToken.get())) {
+                UtilsTestHelper.send(exchange, 200, "{\"data\":\"value\"}");
+            } else {
+                UtilsTestHelper.send(exchange, 401, "{\"message\":\"unauthorized\"}");
+            }
+        });
+        port = server.getAddress().getPort();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    public void tstZosmfSessionLoginOnceSuccess() throws ZosmfRequestException {
+        final ZosConnection connection = newConnection(PASSWORD);
+        final ZosmfSession session = connection.enableSession();
+        assertSame(session, connection.enableSession());
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(200, newRequest(connection).executeRequest().getStatusCode().orElse(-1));
+        }
+        assertEquals(1, logins.get());
+        assertEquals(1, session.getLoginCount());
+        assertEquals(validToken.get(), session.getCurrentToken().map(Cookie::getValue).orElse(null));
+        assertFalse(authorizationSeen.get());
+    }
+
+    @Test
+    public void tstZosmfSessionMaxAgeSuccess() throws ZosmfRequestException {
+        // a token expiring within the renewal margin is renewed before each request
+        cookieAttributes = "; Max-Age=10";
+        final ZosConnection connection = newConnection(PASSWORD);
+        connection.enableSession();
+        for (int i = 0; i < 3; i++) {
+            assertEquals(200, newRequest(connection).executeRequest().getStatusCode().orElse(-1));
+        }
+        assertEquals(3, logins.get());
+    }
+
+    @Test
+    public void tstZosmfSessionRefreshOnUnauthorizedSuccess() throws ZosmfRequestException {
+        final ZosConnection connection = newConnection(PASSWORD);
+        connection.enableSession();
+        newRequest(connection).executeRequest();
+
+        // the server drops the token, the next request is rejected and performed again after a new login
+        validToken.set("expired");
+        assertEquals(200, newRequest(connection).executeRequest().getStatusCode().orElse(-1));
+        assertEquals(2, logins.get());
+    }
+
+    @Test
+    public void tstZosmfSessionConcurrentRefreshSuccess() throws ZosmfRequestException {
+        final ZosConnection connection = newConnection(PASSWORD);
+        connection.enableSession();
+        newRequest(connection).executeRequest();
+        validToken.set("expired");
+
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<CompletableFuture<Response>> futures = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                futures.add(newRequest(connection).executeRequestAsync(executor));
+            }
+            for (final CompletableFuture<Response> future : futures) {
+                assertEquals(200, AsyncUtils.join(future).getStatusCode().orElse(-1));
+            }
+        } finally {
+            executor.shutdown();
+        }
+        // all rejected requests shared a single new login
+        assertEquals(2, logins.get());
+    }
+
+    @Test
+    public void tstZosmfSessionLoginFailure() {
+        final ZosConnection connection = newConnection("wrong");
+        connection.enableSession();
+        final ZosmfRequestException e = assertThrows(ZosmfRequestException.class,
+                () -> newRequest(connection).executeRequest());
+        assertEquals("login failed, http status error code: 401", e.getMessage());
+    }
+
+    @Test
+    public void tstZosmfSessionTokenConnectionFailure() {
+        final ZosConnection connection = ZosConnectionFactory.createTokenConnection("localhost", port,
+                new Cookie("hello=hello"));
+        final IllegalStateException e = assertThrows(IllegalStateException.class, connection::enableSession);
+        assertEquals("BASIC authentication type required for a token session", e.getMessage());
+    }
+
+    private void authenticate(final HttpExchange exchange) throws IOException {
+        final String expected = "Basic " + Base64.getEncoder()
+                .encodeToString((USER + ":" + PASSWORD).getBytes(StandardCharsets.UTF_8));
+        if (!"POST".equals(exchange.getRequestMethod()) ||
+                !expected.equals(exchange.getRequestHeaders().getFirst("Authorization"))) {
+            UtilsTestHelper.send(exchange, 401, "");
+            return;
+        }
+        final String token = "token" + logins.incrementAndGet();
+        validToken.set(token);
+        exchange.getResponseHeaders().add("Set-Cookie", "jwtToken=jwt" + token + "; Secure; HttpOnly");
+        exchange.getResponseHeaders().add("Set-Cookie", ZosmfSession.LTPA_TOKEN + "=" + token +
+                "; Secure; HttpOnly" + cookieAttributes);
+        UtilsTestHelper.send(exchange, 200, "");
+    }
+
+    private ZosConnection newConnection(final String password) {
+        final ZosConnection connection = ZosConnectionFactory.createBasicConnection("localhost", port, USER, password);
+        connection.setTransportOptions(new ZosmfTransportOptions.Builder()
+                .httpVersion(java.net.http.HttpClient.Version.HTTP_1_1).build());
+        return connection;
+    }
+
+    private ZosmfRequest newRequest(final ZosConnection connection) {
+        final ZosmfRequest request = ZosmfRequestFactory.buildRequest(connection, ZosmfRequestType.GET_JSON);
+        request.setUrl("https://localhost:" + port + "/zosmf/data");
+        return request;
+    }
+
+}
@@ -0,0 +1,158 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.rest;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import zowe.client.sdk.core.ZosConnection;
+import zowe.client.sdk.core.ZosConnectionFactory;
+import zowe.client.sdk.rest.exception.ZosmfRequestException;
+import zowe.client.sdk.rest.type.ZosmfRequestType;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Class containing unit tests for ZosmfStreamBody and streamed PutStreamZosmfRequest requests.
+ *
+ * @author Frank Giordano
+ * @version 6.0
+ */
+public class ZosmfStreamBodyTest {
+
+    private static final byte[] CONTENT = new byte[512 * 1024];
+
+    static {
+        Arrays.fill(CONTENT, (byte) 'x');
+    }
+
+    private final AtomicLong received = new AtomicLong();
+    private final AtomicReference<String> transferEncoding = new AtomicReference<>();
+    private HttpServer server;
+    private String baseUrl;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    public void init() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/upload", exchange -> {
+            transferEncoding.set(exchange.getRequestHeaders().getFirst("Transfer-Encoding"));
+            long total = 0;
+            try (InputStream in = exchange.getRequestBody()) {
+                final byte[] buffer = new byte[8192];
+                int count;
+                while ((count = in.read(buffer)) != -1) {
+                    total += count;
+                }
+            }
+            received.set(total);
+            exchange.sendResponseHeaders(204, -1);
+            exchange.close();
+        });
+        server.start();
+        baseUrl = "http://localhost:" + server.getAddress().getPort();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    public void tstZosmfStreamBodyInputStreamProgressSuccess() throws IOException {
+        final AtomicLong reported = new AtomicLong();
+        final AtomicLong reportedTotal = new AtomicLong();
+        final ZosmfStreamBody body = ZosmfStreamBody.of(new ByteArrayInputStream(CONTENT))
+                .withProgressListener((transferred, total) -> {
+                    reported.set(transferred);
+                    reportedTotal.set(total);
+                });
+        try (InputStream in = body.open()) {
+            assertEquals(CONTENT.length, in.readAllBytes().length);
+        }
+        assertEquals(CONTENT.length, reported.get());
+        assertEquals(-1, reportedTotal.get());
+        assertEquals(-1, body.getLength());
+    }
+
+    @Test
+    public void tstZosmfStreamBodyPathLengthSuccess() throws IOException {
+        final Path file = Files.write(tempDir.resolve("content.bin"), CONTENT);
+        final ZosmfStreamBody body = ZosmfStreamBody.of(file);
+        assertEquals(CONTENT.length, body.getLength());
+        // a path body may be opened again for each send
+        for (int i = 0; i < 2; i++) {
+            try (InputStream in = body.open()) {
+                assertArrayEquals(CONTENT, in.readAllBytes());
+            }
+        }
+    }
+
+    @Test
+    public void tstZosmfStreamBodyChunkedRequestSuccess() throws IOException, ZosmfRequestException {
+        final Path file = Files.write(tempDir.resolve("content.bin"), CONTENT);
+        final AtomicLong reported = new AtomicLong();
+        final ZosConnection connection = newConnection();
+        final PutStreamZosmfRequest request = (PutStreamZosmfRequest) ZosmfRequestFactory
+                .buildRequest(connection, ZosmfRequestType.PUT_STREAM);
+        request.setUrl(baseUrl + "/upload");
+        request.setBody(ZosmfStreamBody.of(file).withProgressListener((transferred, total) -> {
+            assertEquals(CONTENT.length, total);
+            reported.set(transferred);
+        }));
+
+        final Response response = request.executeRequest();
+        assertEquals(204, response.getStatusCode().orElse(-1));
+        assertEquals(CONTENT.length, received.get());
+        assertEquals(CONTENT.length, reported.get());
+        assertEquals("chunked", transferEncoding.get());
+        assertEquals(0, connection.getTransport().getInFlight());
+    }
+
+    @Test
+    public void tstZosmfStreamBodyChannelAsyncRequestSuccess() {
+        final ZosConnection connection = newConnection();
+        final PutStreamZosmfRequest request = (PutStreamZosmfRequest) ZosmfRequestFactory
+                .buildRequest(connection, ZosmfRequestType.PUT_STREAM);
+        request.setUrl(baseUrl + "/upload");
+        request.setBody(ZosmfStreamBody.of(Channels.newChannel(new ByteArrayInputStream(CONTENT))));
+
+        final Response response = request.executeRequestAsync(Runnable::run).join();
+        assertEquals(204, response.getStatusCode().orElse(-1));
+        assertEquals(CONTENT.length, received.get());
+    }
+
+    @Test
+    public void tstZosmfStreamBodyNullSourceFailure() {
+        final NullPointerException e = assertThrows(NullPointerException.class,
+                () -> ZosmfStreamBody.of((InputStream) null));
+        assertEquals("inputStream is null", e.getMessage());
+    }
+
+    private static ZosConnection newConnection() {
+        return ZosConnectionFactory.createBasicConnection("localhost", 443, "user", "password");
+    }
+
+}
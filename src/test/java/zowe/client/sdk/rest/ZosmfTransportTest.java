@@ -0,0 +1,158 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.rest;
+
+import kong.unirest.core.Cookie;
+import kong.unirest.core.HttpResponse;
+import org.junit.jupiter.api.Test;
+import zowe.client.sdk.core.ZosConnection;
+import zowe.client.sdk.core.ZosConnectionFactory;
+import zowe.client.sdk.rest.exception.ZosmfRequestException;
+import zowe.client.sdk.rest.type.ZosmfRequestType;
+
+import java.net.http.HttpClient;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Class containing unit tests for ZosmfTransport.
+ *
+ * @author Frank Giordano
+ * @version 6.0
+ */
+public class ZosmfTransportTest {
+
+    @Test
+    public void tstZosmfTransportSameConnectionSharesTransportSuccess() {
+        final ZosConnection connection = ZosConnectionFactory
+                .createBasicConnection("host", 443, "user", "password");
+        final ZosmfRequest request1 = ZosmfRequestFactory.buildRequest(connection, ZosmfRequestType.GET_JSON);
+        final ZosmfRequest request2 = ZosmfRequestFactory.buildRequest(connection, ZosmfRequestType.PUT_TEXT);
+        assertSame(request1.getTransport(), request2.getTransport());
+        assertSame(connection.getTransport(), request1.getTransport());
+    }
+
+    @Test
+    public void tstZosmfTransportDifferentConnectionsOwnTransportSuccess() {
+        final ZosConnection basicConnection = ZosConnectionFactory
+                .createBasicConnection("host", 443, "user", "password");
+        final ZosConnection tokenConnection = ZosConnectionFactory
+                .createTokenConnection("host", 443, new Cookie("hello", "world"));
+        assertNotSame(basicConnection.getTransport(), tokenConnection.getTransport());
+    }
+
+    @Test
+    public void tstZosmfTransportSetOptionsReplacesTransportSuccess() {
+        final ZosConnection connection = ZosConnectionFactory
+                .createBasicConnection("host", 443, "user", "password");
+        final ZosmfTransport transport = connection.getTransport();
+        assertSame(ZosmfTransportOptions.DEFAULT, transport.getOptions());
+
+        final ZosmfTransportOptions options = new ZosmfTransportOptions.Builder()
+                .maxRequestsPerRoute(4)
+                .build();
+        connection.setTransportOptions(options);
+
+        assertNotSame(transport, connection.getTransport());
+        assertSame(options, connection.getTransport().getOptions());
+        assertSame(options, connection.getTransportOptions());
+    }
+
+    @Test
+    public void tstZosmfTransportExecuteReleasesSlotSuccess() throws ZosmfRequestException {
+        final ZosConnection connection = ZosConnectionFactory
+                .createBasicConnection("host", 443, "user", "password");
+        connection.setTransportOptions(new ZosmfTransportOptions.Builder().maxRequestsPerRoute(1).build());
+        final ZosmfTransport transport = connection.getTransport();
+
+        transport.execute(client -> {
+            assertEquals(1, transport.getInFlight());
+            return null;
+        });
+        assertEquals(0, transport.getInFlight());
+
+        // the single slot must be free again after a failed call
+        assertThrows(IllegalStateException.class, () -> transport.execute(client -> {
+            throw new IllegalStateException("failed");
+        }));
+        transport.execute(client -> null);
+        assertEquals(0, transport.getInFlight());
+    }
+
+    @Test
+    public void tstZosmfTransportExecuteAsyncQueuesWithoutBlockingSuccess() {
+        final ZosConnection connection = ZosConnectionFactory
+                .createBasicConnection("host", 443, "user", "password");
+        connection.setTransportOptions(new ZosmfTransportOptions.Builder().maxRequestsPerRoute(1).build());
+        final ZosmfTransport transport = connection.getTransport();
+
+        final CompletableFuture<HttpResponse<String>> reply1 = new CompletableFuture<>();
+        final CompletableFuture<HttpResponse<String>> reply2 = new CompletableFuture<>();
+        final CompletableFuture<HttpResponse<String>> result1 = transport.executeAsync(client -> reply1);
+        final CompletableFuture<HttpResponse<String>> result2 = transport.executeAsync(client -> reply2);
+
+        // the second call waits in the queue until the first one completes
+        assertEquals(1, transport.getInFlight());
+        assertEquals(1, transport.getPending());
+
+        reply1.complete(null);
+        assertTrue(result1.isDone());
+        assertEquals(1, transport.getInFlight());
+        assertEquals(0, transport.getPending());
+
+        reply2.completeExceptionally(new IllegalStateException("failed"));
+        assertTrue(result2.isCompletedExceptionally());
+        assertEquals(0, transport.getInFlight());
+    }
+
+    @Test
+    public void tstZosmfTransportOptionsDefaultsSuccess() {
+        final ZosmfTransportOptions options = new ZosmfTransportOptions.Builder().build();
+        assertEquals(ZosmfTransportOptions.DEFAULT_MAX_REQUESTS_PER_ROUTE, options.getMaxRequestsPerRoute());
+        assertEquals(ZosmfTransportOptions.DEFAULT_CONNECT_TIMEOUT, options.getConnectTimeout());
+        assertTrue(options.getRequestTimeout().isEmpty());
+        assertEquals(HttpClient.Version.HTTP_2, options.getHttpVersion());
+    }
+
+    @Test
+    public void tstZosmfTransportHttpVersionSuccess() throws ZosmfRequestException {
+        final ZosConnection connection = ZosConnectionFactory
+                .createBasicConnection("host", 443, "user", "password");
+        try (ZosmfTransport.Lease lease = connection.getTransport().lease()) {
+            assertEquals(HttpClient.Version.HTTP_2, lease.getClient().config().getVersion());
+        }
+        connection.setTransportOptions(new ZosmfTransportOptions.Builder()
+                .httpVersion(HttpClient.Version.HTTP_1_1).build());
+        try (ZosmfTransport.Lease lease = connection.getTransport().lease()) {
+            assertEquals(HttpClient.Version.HTTP_1_1, lease.getClient().config().getVersion());
+        }
+    }
+
+    @Test
+    public void tstZosmfTransportOptionsInvalidValuesFailure() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new ZosmfTransportOptions.Builder().maxRequestsPerRoute(-1));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ZosmfTransportOptions.Builder().connectTimeout(0));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ZosmfTransportOptions.Builder().requestTimeout(0));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ZosmfTransportOptions.Builder().httpVersion(null));
+    }
+
+    @Test
+    public void tstZosmfTransportNullOptionsFailure() {
+        final ZosConnection connection = ZosConnectionFactory
+                .createBasicConnection("host", 443, "user", "password");
+        assertThrows(NullPointerException.class, () -> connection.setTransportOptions(null));
+    }
+
+}
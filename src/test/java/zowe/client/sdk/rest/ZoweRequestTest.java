@@ -76,6 +76,35 @@ public class ZoweRequestTest {
         assertEquals(expectedErrMsg, errMsg);
     }
 
+    @SuppressWarnings("unchecked")
+    @Test
+    public void tstZoweRequestBuildResponseJsonContentSuccess() throws ZosmfRequestException {
+        final HttpResponse<byte[]> mockBytesReply = Mockito.mock(HttpResponse.class);
+        Mockito.when(mockBytesReply.getStatusText()).thenReturn("OK");
+        Mockito.when(mockBytesReply.getStatus()).thenReturn(200);
+        Mockito.when(mockBytesReply.getBody()).thenReturn("[{\"jobid\":\"JOB1\"}]".getBytes());
+
+        final ZosmfRequest request = ZosmfRequestFactory.buildRequest(connection, ZosmfRequestType.GET_JSON);
+        final Response response = request.buildResponse(mockBytesReply);
+        assertTrue(response.hasResponsePhrase());
+        assertArrayEquals("[{\"jobid\":\"JOB1\"}]".getBytes(), response.getContent().orElse(null));
+        assertEquals("[{\"jobid\":\"JOB1\"}]", response.getResponsePhrase().orElse("").toString());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void tstZoweRequestBuildResponseJsonContentFailure() {
+        final HttpResponse<byte[]> mockBytesReply = Mockito.mock(HttpResponse.class);
+        Mockito.when(mockBytesReply.getStatusText()).thenReturn("error");
+        Mockito.when(mockBytesReply.getStatus()).thenReturn(404);
+        Mockito.when(mockBytesReply.getBody()).thenReturn("{\"rc\":4}".getBytes());
+
+        final ZosmfRequest request = ZosmfRequestFactory.buildRequest(connection, ZosmfRequestType.GET_JSON);
+        final ZosmfRequestException e = assertThrows(ZosmfRequestException.class,
+                () -> request.buildResponse(mockBytesReply));
+        assertEquals("http status error code: 404, status text: error, response phrase: {\"rc\":4}", e.getMessage());
+    }
+
     @Test
     public void tstZoweRequestBuildResponseWithStatusTextAndPhraseSameValueFailure() {
         Mockito.when(mockReply.getStatusText()).thenReturn("{\"error\":\"error\"}");
@@ -0,0 +1,248 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.rest.cache;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import zowe.client.sdk.core.ZosConnection;
+import zowe.client.sdk.core.ZosConnectionFactory;
+import zowe.client.sdk.rest.Response;
+import zowe.client.sdk.rest.ZosmfRequest;
+import zowe.client.sdk.rest.ZosmfRequestFactory;
+import zowe.client.sdk.rest.exception.ZosmfRequestException;
+import zowe.client.sdk.rest.type.ZosmfRequestType;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Class containing unit tests for ContentCache.
+ *
+ * @author Frank Giordano
+ * @version 6.0
+ */
+public class ContentCacheTest {
+
+    private final Map<String, String> contents = new ConcurrentHashMap<>();
+    private final List<String> conditions = new CopyOnWriteArrayList<>();
+    private HttpServer server;
+    private String baseUrl;
+    private ZosConnection connection;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    public void init() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            final String name = exchange.getRequestURI().getPath();
+            final String content = contents.get(name);
+            final String etag = "\"" + Integer.toHexString(content.hashCode()) + "\"";
+            final String condition = exchange.getRequestHeaders().getFirst("If-None-Match");
+            conditions.add(String.valueOf(condition));
+            if (!name.startsWith("/noetag")) {
+                exchange.getResponseHeaders().add("ETag", etag);
+            }
+            if (etag.equals(condition)) {
+                exchange.sendResponseHeaders(304, -1);
+            } else {
+                final byte[] body = content.getBytes(StandardCharsets.UTF_8);
+                exchange.sendResponseHeaders(200, body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            }
+            exchange.close();
+        });
+        server.start();
+        baseUrl = "http://localhost:" + server.getAddress().getPort();
+        connection = ZosConnectionFactory.createBasicConnection("localhost", 443, "user", "password");
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    public void tstContentCacheHitSuccess() throws ZosmfRequestException {
+        contents.put("/file", "content");
+        final ContentCache cache = new ContentCache.Builder().build();
+
+        final Response first = cache.execute(newRequest(ZosmfRequestType.GET_STREAM, "/file"));
+        assertEquals(200, first.getStatusCode().orElse(-1));
+        final Response second = cache.execute(newRequest(ZosmfRequestType.GET_STREAM, "/file"));
+        assertEquals(ZosmfRequest.NOT_MODIFIED, second.getStatusCode().orElse(-1));
+        assertArrayEquals("content".getBytes(StandardCharsets.UTF_8),
+                (byte[]) second.getResponsePhrase().orElseThrow());
+
+        assertEquals(List.of("null", conditions.get(1)), conditions);
+        assertTrue(conditions.get(1).startsWith("\""));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.getEntryCount());
+        assertEquals(7, cache.getSize());
+    }
+
+    @Test
+    public void tstContentCacheTextModifiedSuccess() throws ZosmfRequestException {
+        contents.put("/file", "content");
+        final ContentCache cache = new ContentCache.Builder().build();
+        final ZosmfRequest request = newRequest(ZosmfRequestType.GET_TEXT, "/file");
+
+        assertEquals("content", cache.execute(request).getResponsePhrase().orElseThrow());
+        assertEquals("content", cache.execute(request).getResponsePhrase().orElseThrow());
+        contents.put("/file", "changed content");
+        final Response response = cache.execute(request);
+        assertEquals(200, response.getStatusCode().orElse(-1));
+        assertEquals("changed content", response.getResponsePhrase().orElseThrow());
+        assertFalse(request.getHeaders().containsKey("If-None-Match"));
+
+        assertEquals(1, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+        assertEquals(15, cache.getSize());
+    }
+
+    @Test
+    public void tstContentCacheNoEtagNotCachedSuccess() throws ZosmfRequestException {
+        contents.put("/noetag", "content");
+        final ContentCache cache = new ContentCache.Builder().build();
+
+        cache.execute(newRequest(ZosmfRequestType.GET_STREAM, "/noetag"));
+        cache.execute(newRequest(ZosmfRequestType.GET_STREAM, "/noetag"));
+        assertEquals(List.of("null", "null"), conditions);
+        assertEquals(0, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+        assertEquals(0, cache.getEntryCount());
+    }
+
+    @Test
+    public void tstContentCacheLruEvictionSuccess() throws ZosmfRequestException {
+        contents.put("/a", "aaaa");
+        contents.put("/b", "bbbb");
+        contents.put("/c", "cccc");
+        final ContentCache cache = new ContentCache.Builder().maxSize(8).storage(new OffHeapContentCacheStorage()).build();
+
+        cache.execute(newRequest(ZosmfRequestType.GET_STREAM, "/a"));
+        cache.execute(newRequest(ZosmfRequestType.GET_STREAM, "/b"));
+        // use /a again so /b is the least recently used entry
+        cache.execute(newRequest(ZosmfRequestType.GET_STREAM, "/a"));
+        cache.execute(newRequest(ZosmfRequestType.GET_STREAM, "/c"));
+        assertEquals(1, cache.getEvictionCount());
+        assertEquals(2, cache.getEntryCount());
+        assertEquals(8, cache.getSize());
+
+        cache.execute(newRequest(ZosmfRequestType.GET_STREAM, "/a"));
+        cache.execute(newRequest(ZosmfRequestType.GET_STREAM, "/b"));
+        assertEquals(2, cache.getHitCount());
+        assertEquals("null", conditions.get(conditions.size() - 1));
+    }
+
+    @Test
+    public void tstContentCacheDiskStorageSuccess() throws IOException, ZosmfRequestException {
+        contents.put("/file", "content");
+        final Path directory = tempDir.resolve("cache");
+        final ContentCache cache = new ContentCache.Builder().storage(new DiskContentCacheStorage(directory)).build();
+
+        cache.execute(newRequest(ZosmfRequestType.GET_STREAM, "/file"));
+        assertArrayEquals("content".getBytes(StandardCharsets.UTF_8),
+                (byte[]) cache.execute(newRequest(ZosmfRequestType.GET_STREAM, "/file"))
+                        .getResponsePhrase().orElseThrow());
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(1, files.count());
+        }
+
+        cache.clear();
+        assertEquals(0, cache.getEntryCount());
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    public void tstContentCacheDiskStorageLeftoverFilesSuccess() throws IOException, ZosmfRequestException {
+        contents.put("/file", "content");
+        final Path directory = tempDir.resolve("cache");
+        new ContentCache.Builder().storage(new DiskContentCacheStorage(directory)).build()
+                .execute(newRequest(ZosmfRequestType.GET_STREAM, "/file"));
+        Files.write(directory.resolve("leftover.tmp"), new byte[1]);
+
+        // the ETag of the files of a previous cache is unknown, a new storage starts empty
+        final ContentCache cache = new ContentCache.Builder().storage(new DiskContentCacheStorage(directory)).build();
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(0, files.count());
+        }
+        cache.execute(newRequest(ZosmfRequestType.GET_STREAM, "/file"));
+        assertEquals(List.of("null", "null"), conditions);
+    }
+
+    @Test
+    public void tstContentCacheLostContentSuccess() throws IOException, ZosmfRequestException {
+        contents.put("/file", "content");
+        final Path directory = tempDir.resolve("cache");
+        final ContentCache cache = new ContentCache.Builder().storage(new DiskContentCacheStorage(directory)).build();
+
+        cache.execute(newRequest(ZosmfRequestType.GET_STREAM, "/file"));
+        try (Stream<Path> files = Files.list(directory)) {
+            for (final Path file : (Iterable<Path>) files::iterator) {
+                Files.delete(file);
+            }
+        }
+        final Response response = cache.execute(newRequest(ZosmfRequestType.GET_STREAM, "/file"));
+        assertEquals(200, response.getStatusCode().orElse(-1));
+        assertEquals(3, conditions.size());
+        assertEquals(0, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+        assertEquals(1, cache.getEntryCount());
+    }
+
+    @Test
+    public void tstContentCacheNotModifiedOutsideCacheFailure() throws ZosmfRequestException {
+        contents.put("/file", "content");
+
+        // a 304 reply is only expected by a conditional request, a plain request fails on it
+        final ZosmfRequest request = newRequest(ZosmfRequestType.GET_STREAM, "/file");
+        request.getHeaders().put("If-None-Match", "\"" + Integer.toHexString("content".hashCode()) + "\"");
+        final ZosmfRequestException e = assertThrows(ZosmfRequestException.class, request::executeRequest);
+        assertEquals(ZosmfRequest.NOT_MODIFIED, e.getResponse().getStatusCode().orElse(-1));
+        assertEquals(ZosmfRequest.NOT_MODIFIED,
+                request.executeConditionalRequest().getStatusCode().orElse(-1));
+    }
+
+    @Test
+    public void tstContentCacheInvalidMaxSizeFailure() {
+        final IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> new ContentCache.Builder().maxSize(0));
+        assertEquals("maxSize must be greater than zero", e.getMessage());
+    }
+
+    private ZosmfRequest newRequest(final ZosmfRequestType type, final String name) {
+        final ZosmfRequest request = ZosmfRequestFactory.buildRequest(connection, type);
+        request.setHeaders(Map.of("X-IBM-Data-Type", "text"));
+        request.setUrl(baseUrl + name);
+        return request;
+    }
+
+}
@@ -0,0 +1,90 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.utility;
+
+import org.junit.jupiter.api.Test;
+import zowe.client.sdk.rest.exception.ZosmfRequestException;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Class containing unit tests for AsyncUtils.
+ *
+ * @author Frank Giordano
+ * @version 6.0
+ */
+public class AsyncUtilsTest {
+
+    @Test
+    public void tstAsyncUtilsUncheckedSuccess() {
+        final Function<String, String> function = AsyncUtils.unchecked(String::toUpperCase);
+        assertEquals("VALUE", function.apply("value"));
+    }
+
+    @Test
+    public void tstAsyncUtilsUncheckedWrapsExceptionFailure() {
+        final ZosmfRequestException error = new ZosmfRequestException("error");
+        final Function<String, String> function = AsyncUtils.unchecked(value -> {
+            throw error;
+        });
+        final CompletionException e = assertThrows(CompletionException.class, () -> function.apply("value"));
+        assertSame(error, e.getCause());
+    }
+
+    @Test
+    public void tstAsyncUtilsJoinSuccess() throws ZosmfRequestException {
+        assertEquals("value", AsyncUtils.join(CompletableFuture.completedFuture("value")));
+    }
+
+    @Test
+    public void tstAsyncUtilsJoinFailure() {
+        final ZosmfRequestException error = new ZosmfRequestException("error");
+        final ZosmfRequestException e = assertThrows(ZosmfRequestException.class,
+                () -> AsyncUtils.join(CompletableFuture.failedFuture(error)));
+        assertSame(error, e);
+    }
+
+    @Test
+    public void tstAsyncUtilsJoinCancelledFailure() {
+        final CompletableFuture<String> future = new CompletableFuture<>();
+        future.cancel(false);
+        final ZosmfRequestException e = assertThrows(ZosmfRequestException.class, () -> AsyncUtils.join(future));
+        assertEquals("request cancelled", e.getMessage());
+        assertInstanceOf(CancellationException.class, e.getCause());
+    }
+
+    @Test
+    public void tstAsyncUtilsToRequestExceptionWrapsOtherCauseSuccess() {
+        final IllegalStateException cause = new IllegalStateException("io error");
+        final ZosmfRequestException e = AsyncUtils.toRequestException(new CompletionException(cause));
+        assertEquals("io error", e.getMessage());
+        assertSame(cause, e.getCause());
+    }
+
+    @Test
+    public void tstAsyncUtilsCreateExecutorSuccess() throws Exception {
+        final ExecutorService executor = AsyncUtils.createExecutor("zowe-sdk-test", 2);
+        try {
+            final Thread thread = executor.submit(Thread::currentThread).get();
+            assertEquals("zowe-sdk-test-1", thread.getName());
+            assertTrue(thread.isDaemon());
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThrows(IllegalArgumentException.class, () -> AsyncUtils.createExecutor("zowe-sdk-test", 0));
+    }
+
+}
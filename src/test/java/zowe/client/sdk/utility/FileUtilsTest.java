@@ -10,8 +10,15 @@
 package zowe.client.sdk.utility;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import zowe.client.sdk.rest.exception.ZosmfRequestException;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
 
 /**
  * Class containing unit tests for FileUtils.
@@ -22,6 +29,9 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 @SuppressWarnings("DataFlowIssue")
 public class FileUtilsTest {
 
+    @TempDir
+    Path tempDir;
+
     /**
      * Validate class structure
      */
@@ -124,4 +134,32 @@ public class FileUtilsTest {
         assertEquals("", errMsg);
     }
 
+    @Test
+    public void tstWriteAtomicallySuccess() throws ZosmfRequestException, IOException {
+        final Path target = tempDir.resolve("file.txt");
+        Files.writeString(target, "old");
+        assertEquals(3, FileUtils.writeAtomically(target, outputStream -> {
+            outputStream.write("new".getBytes(StandardCharsets.UTF_8));
+            // the target is only replaced once the content is complete
+            assertEquals("old", Files.readString(target));
+            return 3;
+        }));
+        assertEquals("new", Files.readString(target));
+        assertFalse(Files.exists(tempDir.resolve("file.txt" + FileUtils.PART_EXTENSION)));
+    }
+
+    @Test
+    public void tstWriteAtomicallyFailure() throws IOException {
+        final Path target = tempDir.resolve("file.txt");
+        Files.writeString(target, "old");
+        final ZosmfRequestException e = assertThrows(ZosmfRequestException.class,
+                () -> FileUtils.writeAtomically(target, outputStream -> {
+                    outputStream.write("partial".getBytes(StandardCharsets.UTF_8));
+                    throw new IOException("connection reset");
+                }));
+        assertEquals("connection reset", e.getMessage());
+        assertEquals("old", Files.readString(target));
+        assertFalse(Files.exists(tempDir.resolve("file.txt" + FileUtils.PART_EXTENSION)));
+    }
+
 }
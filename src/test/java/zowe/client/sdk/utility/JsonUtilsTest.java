@@ -9,7 +9,22 @@
  */
 package zowe.client.sdk.utility;
 
+import kong.unirest.core.HttpResponse;
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
 import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import zowe.client.sdk.core.ZosConnectionFactory;
+import zowe.client.sdk.rest.Response;
+import zowe.client.sdk.rest.ZosmfRequestFactory;
+import zowe.client.sdk.rest.exception.ZosmfRequestException;
+import zowe.client.sdk.rest.type.ZosmfRequestType;
+import zowe.client.sdk.zosfiles.dsn.model.Member;
+import zowe.client.sdk.zosjobs.model.Job;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
 
 /**
  * Class containing unit test for JsonParserUtils.
@@ -28,4 +43,55 @@ public class JsonUtilsTest {
         UtilsTestHelper.validateClass(JsonUtils.class, privateConstructorExceptionMsg);
     }
 
+    @SuppressWarnings("unchecked")
+    @Test
+    public void tstJsonUtilsParseResponseListFromContentSuccess() throws ZosmfRequestException {
+        final HttpResponse<byte[]> reply = Mockito.mock(HttpResponse.class);
+        Mockito.when(reply.getStatus()).thenReturn(200);
+        Mockito.when(reply.getStatusText()).thenReturn("OK");
+        Mockito.when(reply.getBody()).thenReturn(
+                "[{\"jobid\":\"JOB1\",\"jobname\":\"A\"},{\"jobid\":\"JOB2\",\"jobname\":\"B\"}]".getBytes());
+        final Response response = ZosmfRequestFactory.buildRequest(
+                ZosConnectionFactory.createBasicConnection("1", 443, "1", "1"), ZosmfRequestType.GET_JSON)
+                .buildResponse(reply);
+
+        final List<Job> jobs = JsonUtils.parseResponseList(response, Job.class, "test");
+        assertEquals(2, jobs.size());
+        assertEquals("JOB2", jobs.get(1).getJobId());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void tstJsonUtilsParseResponseListFromPhraseSuccess() throws ZosmfRequestException {
+        final JSONObject job = new JSONObject();
+        job.put("jobid", "JOB1");
+        final JSONArray jobs = new JSONArray();
+        jobs.add(job);
+
+        final List<Job> result = JsonUtils.parseResponseList(new Response(jobs, 200, "OK"), Job.class, "test");
+        assertEquals(1, result.size());
+        assertEquals("JOB1", result.get(0).getJobId());
+    }
+
+    @Test
+    public void tstJsonUtilsParseResponseListFieldSuccess() throws ZosmfRequestException {
+        final String json = "{\"returnedRows\":2,\"meta\":{\"items\":[]},\"items\":[{\"member\":\"M1\"}," +
+                "{\"member\":\"M2\"}],\"moreRows\":false}";
+        final List<Member> members = JsonUtils.parseResponseList(
+                new Response(json, 200, "OK"), "items", Member.class, "test");
+        assertEquals(2, members.size());
+        assertEquals("M2", members.get(1).getMember());
+
+        assertTrue(JsonUtils.parseResponseList(new Response("{}", 200, "OK"), "items", Member.class, "test")
+                .isEmpty());
+    }
+
+    @Test
+    public void tstJsonUtilsParseResponseListFieldFailure() {
+        final ZosmfRequestException e = assertThrows(ZosmfRequestException.class,
+                () -> JsonUtils.parseResponseList(new Response("{\"items\":[{]}", 200, "OK"), "items",
+                        Member.class, "test"));
+        assertEquals("Failed to parse JSON response for [test] into Member", e.getMessage());
+    }
+
 }
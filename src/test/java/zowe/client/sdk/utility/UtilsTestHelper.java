@@ -9,13 +9,29 @@
  */
 package zowe.client.sdk.utility;
 
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpsConfigurator;
+import com.sun.net.httpserver.HttpsServer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import zowe.client.sdk.core.ZosConnection;
+import zowe.client.sdk.core.ZosConnectionFactory;
 
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLContext;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyStore;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.fail;
@@ -91,6 +107,93 @@ public final class UtilsTestHelper {
         constructor.setAccessible(false);
     }
 
+    /**
+     * Build the SSLContext of a local https test server from the test client certificate.
+     *
+     * @return SSLContext object
+     * @throws Exception error loading the certificate
+     */
+    public static SSLContext serverSslContext() throws Exception {
+        final char[] password = "badssl.com".toCharArray();
+        final KeyStore keyStore = KeyStore.getInstance("PKCS12");
+        try (FileInputStream in = new FileInputStream("src/test/resources/certs/badssl.com-client.p12")) {
+            keyStore.load(in, password);
+        }
+        final KeyManagerFactory keyManagerFactory = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+        keyManagerFactory.init(keyStore, password);
+        final SSLContext sslContext = SSLContext.getInstance("TLS");
+        sslContext.init(keyManagerFactory.getKeyManagers(), null, null);
+        return sslContext;
+    }
+
+    /**
+     * Start a local https test server answering the requests of the given context path with the given handler.
+     * Further contexts may be added with HttpsServer.createContext. The requests are handled concurrently.
+     *
+     * @param path    context path, e.g. '/zosmf/restjobs/jobs'
+     * @param handler handler of the requests of the context
+     * @return started HttpsServer object, stopped by the caller
+     * @throws Exception error creating the server
+     */
+    public static HttpsServer startHttpsServer(final String path, final HttpHandler handler) throws Exception {
+        final HttpsServer server = HttpsServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setHttpsConfigurator(new HttpsConfigurator(serverSslContext()));
+        server.setExecutor(Executors.newCachedThreadPool(runnable -> {
+            final Thread thread = new Thread(runnable, "test-https-server");
+            thread.setDaemon(true);
+            return thread;
+        }));
+        server.createContext(path, handler);
+        server.start();
+        return server;
+    }
+
+    /**
+     * Create a basic authentication connection to a local https test server.
+     *
+     * @param server HttpsServer object
+     * @return ZosConnection object
+     */
+    public static ZosConnection createConnection(final HttpsServer server) {
+        return ZosConnectionFactory.createBasicConnection("localhost", server.getAddress().getPort(),
+                "user", "password");
+    }
+
+    /**
+     * Wrap the handler of a local test server to record the largest number of requests handled at the same time.
+     *
+     * @param handler     handler of the requests
+     * @param maxInFlight updated with the largest number of concurrent requests seen
+     * @return HttpHandler object
+     */
+    public static HttpHandler countConcurrency(final HttpHandler handler, final AtomicInteger maxInFlight) {
+        final AtomicInteger inFlight = new AtomicInteger();
+        return exchange -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                handler.handle(exchange);
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        };
+    }
+
+    /**
+     * Send the response of a local test server request, without body when empty.
+     *
+     * @param exchange HttpExchange object
+     * @param code     http status code
+     * @param body     response body
+     * @throws IOException error writing the response
+     */
+    public static void send(final HttpExchange exchange, final int code, final String body) throws IOException {
+        final byte[] content = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(code, content.length == 0 ? -1 : content.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(content);
+        }
+    }
+
     /**
      * Helper method to mark the test as failed.
      *
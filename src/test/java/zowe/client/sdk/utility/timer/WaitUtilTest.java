@@ -0,0 +1,67 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.utility.timer;
+
+import org.junit.jupiter.api.Test;
+import zowe.client.sdk.utility.UtilsTestHelper;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Class containing unit tests for WaitUtil.
+ *
+ * @author Frank Giordano
+ * @version 6.0
+ */
+public class WaitUtilTest {
+
+    @Test
+    public void tstWaitUtilClassStructureSuccess() {
+        UtilsTestHelper.validateClass(WaitUtil.class, "Utility class");
+    }
+
+    @Test
+    public void tstWaitUtilWaitNoBusySpinSuccess() {
+        final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        final long startCpu = threads.getCurrentThreadCpuTime();
+        final long start = System.nanoTime();
+
+        WaitUtil.wait(300);
+
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 300);
+        // a busy wait would use about 300 ms of cpu time
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(threads.getCurrentThreadCpuTime() - startCpu) < 100);
+    }
+
+    @Test
+    public void tstWaitUtilWaitInterruptedSuccess() {
+        Thread.currentThread().interrupt();
+        final long start = System.nanoTime();
+        WaitUtil.wait(5000);
+        assertTrue(Thread.interrupted());
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 1000);
+    }
+
+    @Test
+    public void tstWaitUtilDelaySuccess() {
+        final long start = System.nanoTime();
+        final CompletableFuture<Void> delay = WaitUtil.delay(200);
+        assertFalse(delay.isDone());
+        delay.join();
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 200);
+        assertTrue(WaitUtil.delay(0).isDone());
+    }
+
+}
@@ -0,0 +1,139 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosfiles.dsn.cache;
+
+import org.junit.jupiter.api.Test;
+import zowe.client.sdk.core.ZosConnection;
+import zowe.client.sdk.core.ZosConnectionFactory;
+import zowe.client.sdk.rest.exception.ZosmfRequestException;
+import zowe.client.sdk.zosfiles.dsn.input.DsnCreateInputData;
+import zowe.client.sdk.zosfiles.dsn.methods.DsnCreate;
+import zowe.client.sdk.zosfiles.dsn.methods.DsnDelete;
+import zowe.client.sdk.zosfiles.dsn.methods.DsnRename;
+import zowe.client.sdk.zosfiles.dsn.model.Dataset;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Class containing unit tests for DsnInfoCache.
+ *
+ * @author Frank Giordano
+ * @version 6.0
+ */
+public class DsnInfoCacheTest {
+
+    private final ZosConnection connection = ZosConnectionFactory
+            .createBasicConnection("1", 443, "1", "1");
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    public void tstDsnInfoCacheTtlSuccess() {
+        final DsnInfoCache cache = new DsnInfoCache.Builder().ttl(Duration.ofSeconds(10)).ticker(now::get).build();
+        cache.put(connection, dataset("TEST.DATA"));
+
+        now.set(Duration.ofSeconds(9).toNanos());
+        assertEquals("TEST.DATA", cache.get(connection, "TEST.DATA").map(Dataset::getDsname).orElse(""));
+        now.set(Duration.ofSeconds(10).toNanos());
+        assertTrue(cache.get(connection, "TEST.DATA").isEmpty());
+        assertEquals(0, cache.getEntryCount());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    public void tstDsnInfoCacheMaxEntriesSuccess() {
+        final DsnInfoCache cache = new DsnInfoCache.Builder().maxEntries(2).build();
+        cache.put(connection, dataset("TEST.ONE"));
+        cache.put(connection, dataset("TEST.TWO"));
+        cache.get(connection, "TEST.ONE");
+        cache.put(connection, dataset("TEST.THREE"));
+
+        // the least recently used entry is evicted
+        assertTrue(cache.get(connection, "TEST.TWO").isEmpty());
+        assertTrue(cache.get(connection, "TEST.ONE").isPresent());
+        assertEquals(2, cache.getEntryCount());
+        assertEquals(1, cache.getEvictionCount());
+    }
+
+    @Test
+    public void tstDsnInfoCacheInvalidateSuccess() {
+        final DsnInfoCache cache = new DsnInfoCache.Builder().build();
+        final ZosConnection otherUser = ZosConnectionFactory.createBasicConnection("1", 443, "2", "2");
+        cache.put(connection, dataset("TEST.LIB"));
+        cache.put(otherUser, dataset("TEST.LIB"));
+
+        cache.invalidate(connection, "TEST.LIB(MEMBER)");
+        assertTrue(cache.get(connection, "TEST.LIB").isEmpty());
+        assertTrue(cache.get(otherUser, "TEST.LIB").isPresent());
+
+        cache.clear();
+        assertEquals(0, cache.getEntryCount());
+    }
+
+    @Test
+    public void tstDsnInfoCacheCaseInsensitiveSuccess() {
+        final DsnInfoCache cache = new DsnInfoCache.Builder().build();
+        cache.put(connection, dataset("IBMUSER.TEST"));
+        cache.put(connection, dataset("IBMUSER.LIB"));
+        cache.put(connection, dataset("IBMUSER.KEEP"));
+
+        // z/OSMF returns upper case names, the names given by the caller may be lower case or quoted
+        assertTrue(cache.get(connection, "ibmuser.test").isPresent());
+        assertTrue(cache.get(connection, "'IBMUSER.TEST'").isPresent());
+        cache.invalidate(connection, "ibmuser.test", null, "'ibmuser.lib(member)'");
+        assertTrue(cache.get(connection, "IBMUSER.TEST").isEmpty());
+        assertTrue(cache.get(connection, "IBMUSER.LIB").isEmpty());
+        assertEquals(1, cache.getEntryCount());
+    }
+
+    @Test
+    public void tstDsnInfoCacheInvalidatedByMethodsSuccess() throws IOException {
+        final int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        // the requests fail, the datasets may still have changed, so their entries are invalidated anyway
+        final ZosConnection closed = ZosConnectionFactory.createBasicConnection("localhost", port, "1", "1");
+        final DsnInfoCache cache = new DsnInfoCache.Builder().build();
+        cache.put(closed, dataset("TEST.CREATE"));
+        cache.put(closed, dataset("TEST.DELETE"));
+        cache.put(closed, dataset("TEST.FROM"));
+        cache.put(closed, dataset("TEST.TO"));
+        cache.put(closed, dataset("TEST.KEEP"));
+
+        assertThrows(ZosmfRequestException.class, () -> new DsnCreate(closed, cache)
+                .create("TEST.CREATE", new DsnCreateInputData.Builder().build()));
+        assertThrows(ZosmfRequestException.class, () -> new DsnDelete(closed, cache)
+                .delete("test.delete", "MEMBER"));
+        assertThrows(ZosmfRequestException.class, () -> new DsnRename(closed, cache)
+                .dataSetName("TEST.FROM", "TEST.TO"));
+
+        assertEquals(1, cache.getEntryCount());
+        assertTrue(cache.get(closed, "TEST.KEEP").isPresent());
+    }
+
+    @Test
+    public void tstDsnInfoCacheFailure() {
+        assertThrows(IllegalArgumentException.class, () -> new DsnInfoCache.Builder().ttl(Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> new DsnInfoCache.Builder().maxEntries(0));
+        assertThrows(NullPointerException.class, () -> new DsnDelete(connection, (DsnInfoCache) null));
+    }
+
+    private static Dataset dataset(final String name) {
+        return new Dataset(name, "", "", "", "", "", "", "", "", "", "", "", "", "", "",
+                "", "", "", "");
+    }
+
+}
@@ -0,0 +1,204 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosfiles.dsn.methods;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpsServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import zowe.client.sdk.core.ZosConnection;
+import zowe.client.sdk.rest.exception.ZosmfRequestException;
+import zowe.client.sdk.utility.UtilsTestHelper;
+import zowe.client.sdk.zosfiles.dsn.input.DsnCatalogSearchInputData;
+import zowe.client.sdk.zosfiles.dsn.model.Dataset;
+
+import java.io.IOException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Class containing unit tests for DsnCatalogIndex.
+ *
+ * @author Frank Giordano
+ * @version 6.0
+ */
+public class DsnCatalogIndexTest {
+
+    // dataset name -> dsorg, recfm, migrated, sizex, used, volume
+    private final Map<String, List<String>> catalog = new ConcurrentHashMap<>();
+    private final AtomicInteger requests = new AtomicInteger();
+    private volatile boolean failing;
+    private HttpsServer server;
+    private ZosConnection connection;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    public void init() throws Exception {
+        server = UtilsTestHelper.startHttpsServer("/zosmf/restfiles/ds", this::handle);
+        connection = UtilsTestHelper.createConnection(server);
+
+        catalog.put("TEST.COBOL", List.of("PO", "FB", "NO", "15", "80", "VOL001"));
+        catalog.put("TEST.PROJ.COBOL", List.of("PO", "FB", "NO", "150", "20", "VOL002"));
+        catalog.put("TEST.PROJ.LOAD", List.of("PO-E", "U", "NO", "300", "95", "VOL002"));
+        catalog.put("TEST.PROJ.DATA", List.of("PS", "VB", "NO", "45", "50", "VOL001"));
+        catalog.put("TEST.OLD.DATA", List.of("", "", "YES", "", "", "MIGRAT"));
+        catalog.put("OTHER.DATA", List.of("PS", "FB", "NO", "1", "0", "VOL003"));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    public void tstDsnCatalogIndexSearchSuccess() throws ZosmfRequestException {
+        final DsnCatalogIndex index = new DsnCatalogIndex(connection);
+        assertEquals(5, index.refresh("test"));
+        assertEquals(Set.of("TEST"), index.getLevels());
+        assertTrue(index.getRefreshTime("TEST").isPresent());
+
+        assertEquals(List.of("TEST.PROJ.COBOL", "TEST.PROJ.DATA", "TEST.PROJ.LOAD"),
+                names(index, new DsnCatalogSearchInputData.Builder().prefix("TEST.PROJ").build()));
+        assertEquals(List.of("TEST.COBOL", "TEST.PROJ.COBOL"),
+                names(index, new DsnCatalogSearchInputData.Builder().pattern("TEST.**.COBOL").build()));
+        assertEquals(List.of("TEST.OLD.DATA", "TEST.PROJ.DATA"),
+                names(index, new DsnCatalogSearchInputData.Builder().pattern("TEST.%%%*.DATA").build()));
+        assertEquals(List.of("TEST.COBOL", "TEST.PROJ.DATA"),
+                names(index, new DsnCatalogSearchInputData.Builder().volume("vol001").build()));
+        assertEquals(List.of("TEST.PROJ.LOAD"), names(index, new DsnCatalogSearchInputData.Builder()
+                .prefix("TEST").minUsed(90).minSize(100).build()));
+        assertEquals(List.of("TEST.OLD.DATA"),
+                names(index, new DsnCatalogSearchInputData.Builder().migrated(true).build()));
+        assertEquals(List.of("TEST.COBOL"), names(index, new DsnCatalogSearchInputData.Builder()
+                .dsorg("PO").recfm("FB").limit(1).build()));
+        assertTrue(names(index, new DsnCatalogSearchInputData.Builder().volume("NOVOL").build()).isEmpty());
+
+        final Dataset dataset = index.get("TEST.PROJ.LOAD").orElseThrow();
+        assertEquals("VOL002", dataset.getVol());
+        assertEquals("300", dataset.getSizex());
+        assertTrue(index.get("OTHER.DATA").isEmpty());
+        assertEquals(1, requests.get());
+    }
+
+    @Test
+    public void tstDsnCatalogIndexPersistSuccess() throws IOException, ZosmfRequestException {
+        final Path indexDirectory = tempDir.resolve("index");
+        final DsnCatalogIndex index = new DsnCatalogIndex(connection, indexDirectory);
+        index.refresh("TEST");
+        final Path testFile = indexDirectory.resolve("TEST.json");
+        final FileTime testWritten = FileTime.fromMillis(0);
+        Files.setLastModifiedTime(testFile, testWritten);
+        index.refresh("OTHER");
+        assertEquals(6, index.size());
+        assertTrue(Files.exists(indexDirectory.resolve("OTHER.json")));
+        // refreshing a level writes the file of that level only
+        assertEquals(testWritten, Files.getLastModifiedTime(testFile));
+
+        // the levels are read back without any request
+        final DsnCatalogIndex reloaded = new DsnCatalogIndex(connection, indexDirectory);
+        assertEquals(Set.of("OTHER", "TEST"), reloaded.getLevels());
+        assertEquals(index.get("TEST.PROJ.DATA").map(Dataset::toString),
+                reloaded.get("TEST.PROJ.DATA").map(Dataset::toString));
+        assertEquals(2, requests.get());
+
+        reloaded.remove("OTHER");
+        assertFalse(Files.exists(indexDirectory.resolve("OTHER.json")));
+        assertEquals(Set.of("TEST"), new DsnCatalogIndex(connection, indexDirectory).getLevels());
+    }
+
+    @Test
+    public void tstDsnCatalogIndexBackgroundRefreshSuccess() throws ZosmfRequestException, InterruptedException {
+        final ExecutorService pool = Executors.newSingleThreadExecutor();
+        final CountDownLatch refreshed = new CountDownLatch(1);
+        try (DsnCatalogIndex index = new DsnCatalogIndex(connection)) {
+            // each background refresh runs as one task, the latch is released by the first one seeing the new dataset
+            final Executor executor = task -> pool.execute(() -> {
+                task.run();
+                if (index.get("TEST.NEW.DATA").isPresent()) {
+                    refreshed.countDown();
+                }
+            });
+            index.refresh("TEST");
+            catalog.put("TEST.NEW.DATA", List.of("PS", "FB", "NO", "1", "0", "VOL001"));
+            index.startRefresh(50, executor);
+            assertThrows(IllegalStateException.class, () -> index.startRefresh(50, executor));
+
+            assertTrue(refreshed.await(5, TimeUnit.SECONDS));
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    public void tstDsnCatalogIndexFailure() throws ZosmfRequestException {
+        final DsnCatalogIndex index = new DsnCatalogIndex(connection);
+        index.refresh("TEST");
+        failing = true;
+
+        // the previous content of the level is kept
+        assertThrows(ZosmfRequestException.class, () -> index.refresh("TEST"));
+        assertEquals(5, index.size());
+        assertThrows(IllegalArgumentException.class, () -> index.refresh(""));
+        assertThrows(IllegalArgumentException.class, () -> new DsnCatalogSearchInputData.Builder().minUsed(101));
+    }
+
+    private static List<String> names(final DsnCatalogIndex index, final DsnCatalogSearchInputData input) {
+        return index.search(input).stream().map(Dataset::getDsname).collect(Collectors.toList());
+    }
+
+    private void handle(final HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        if (failing) {
+            send(exchange, 500, "{}");
+            return;
+        }
+        final String query = URLDecoder.decode(exchange.getRequestURI().getRawQuery(), StandardCharsets.UTF_8);
+        final String level = query.substring(query.indexOf("dslevel=") + "dslevel=".length()).split("&")[0];
+        final List<String> items = catalog.entrySet().stream()
+                .filter(entry -> entry.getKey().startsWith(level + "."))
+                .sorted(Map.Entry.comparingByKey())
+                .map(entry -> {
+                    final List<String> values = entry.getValue();
+                    return "{\"dsname\":\"" + entry.getKey() + "\",\"dsorg\":\"" + values.get(0) +
+                            "\",\"recfm\":\"" + values.get(1) + "\",\"migr\":\"" + values.get(2) +
+                            "\",\"sizex\":\"" + values.get(3) + "\",\"used\":\"" + values.get(4) +
+                            "\",\"vol\":\"" + values.get(5) + "\",\"spacu\":\"TRACKS\"}";
+                })
+                .collect(Collectors.toList());
+        send(exchange, 200, "{\"items\":[" + String.join(",", items) + "],\"returnedRows\":" + items.size() +
+                ",\"moreRows\":false}");
+    }
+
+    private static void send(final HttpExchange exchange, final int code, final String body) throws IOException {
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        UtilsTestHelper.send(exchange, code, body);
+    }
+
+}
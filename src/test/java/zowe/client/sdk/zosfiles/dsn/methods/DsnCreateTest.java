@@ -165,7 +165,7 @@ public class DsnCreateTest {
         ZosConnection connection = Mockito.mock(ZosConnection.class);
         NullPointerException exception = assertThrows(
                 NullPointerException.class,
-                () -> new DsnCreate(connection, null)
+                () -> new DsnCreate(connection, (ZosmfRequest) null)
         );
         assertEquals("request is null", exception.getMessage());
     }
@@ -121,7 +121,7 @@ public class DsnDeleteTest {
         ZosConnection connection = Mockito.mock(ZosConnection.class);
         NullPointerException exception = assertThrows(
                 NullPointerException.class,
-                () -> new DsnDelete(connection, null)
+                () -> new DsnDelete(connection, (ZosmfRequest) null)
         );
         assertEquals("request is null", exception.getMessage());
     }
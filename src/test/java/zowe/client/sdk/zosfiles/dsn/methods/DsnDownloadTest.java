@@ -0,0 +1,162 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosfiles.dsn.methods;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpsServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import zowe.client.sdk.rest.exception.ZosmfRequestException;
+import zowe.client.sdk.utility.UtilsTestHelper;
+import zowe.client.sdk.zosfiles.dsn.input.DsnDownloadInputData;
+import zowe.client.sdk.zosfiles.dsn.response.DsnDownloadResponse;
+import zowe.client.sdk.zosfiles.dsn.response.DsnMemberDownloadResult;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Class containing unit tests for DsnDownload.
+ *
+ * @author Frank Giordano
+ * @version 6.0
+ */
+public class DsnDownloadTest {
+
+    private static final List<String> MEMBERS = List.of("MEM1", "MEM2", "MEM3", "MEM4", "TEMP1", "TEMP2");
+
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private final AtomicInteger contentRequests = new AtomicInteger();
+    private volatile String failingMember = "";
+    private HttpsServer server;
+    private DsnDownload dsnDownload;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    public void init() throws Exception {
+        server = UtilsTestHelper.startHttpsServer("/zosmf/restfiles/ds",
+                UtilsTestHelper.countConcurrency(this::handle, maxInFlight));
+        dsnDownload = new DsnDownload(UtilsTestHelper.createConnection(server));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    public void tstDsnDownloadAllMembersSuccess() throws ZosmfRequestException, IOException {
+        final HashMap<String, String> extensionMap = new HashMap<>();
+        extensionMap.put("mem2", "jcl");
+        final DsnDownloadResponse response = dsnDownload.downloadAllMembers("TEST.CNTL",
+                new DsnDownloadInputData.Builder().directory(tempDir.toString()).maxConcurrentRequests(3L)
+                        .extension("c").extensionMap(extensionMap).excludePatterns(new String[]{"temp*"})
+                        .build());
+
+        assertEquals(List.of("MEM1", "MEM2", "MEM3", "MEM4"), response.getDownloaded().stream()
+                .map(DsnMemberDownloadResult::getMember).collect(Collectors.toList()));
+        assertEquals(List.of("TEMP1", "TEMP2"), response.getExcluded());
+        assertTrue(response.getFailures().isEmpty());
+        assertEquals(4, contentRequests.get());
+        assertTrue(maxInFlight.get() <= 3);
+
+        assertEquals("TEST.CNTL(MEM1)\n", Files.readString(tempDir.resolve("mem1.c")));
+        assertEquals("TEST.CNTL(MEM2)\n", Files.readString(tempDir.resolve("mem2.jcl")));
+        assertEquals(tempDir.resolve("mem1.c"), response.getDownloaded().get(0).getPath());
+        assertEquals(16, response.getDownloaded().get(0).getBytes());
+        assertTrue(response.getDownloaded().get(0).getElapsedMillis() >= 20);
+        assertEquals(64, response.getBytes());
+        try (var files = Files.list(tempDir)) {
+            assertEquals(4, files.count());
+        }
+    }
+
+    @Test
+    public void tstDsnDownloadAllMembersGeneratedDirectorySuccess() throws ZosmfRequestException {
+        final String userDir = System.getProperty("user.dir");
+        final DsnDownloadResponse response = dsnDownload.downloadAllMembers("TEST.CNTL",
+                new DsnDownloadInputData.Builder().preserveOriginalLetterCase(true)
+                        .excludePatterns(new String[]{"MEM%, TEMP2"}).build());
+        try {
+            assertEquals(Path.of("TEST", "CNTL"), response.getDirectory());
+            assertEquals(List.of("TEMP1"), response.getDownloaded().stream()
+                    .map(DsnMemberDownloadResult::getMember).collect(Collectors.toList()));
+            assertTrue(Files.exists(Path.of(userDir, "TEST", "CNTL", "TEMP1.txt")));
+        } finally {
+            deleteTree(Path.of(userDir, "TEST"));
+        }
+    }
+
+    @Test
+    public void tstDsnDownloadAllMembersContinueOnErrorSuccess() throws ZosmfRequestException {
+        failingMember = "MEM2";
+        final DsnDownloadResponse response = dsnDownload.downloadAllMembers("TEST.CNTL",
+                new DsnDownloadInputData.Builder().directory(tempDir.toString()).failFast(false).build());
+
+        assertEquals(5, response.getDownloaded().size());
+        assertEquals(1, response.getFailures().size());
+        assertTrue(response.getFailures().containsKey("MEM2"));
+        assertFalse(Files.exists(tempDir.resolve("mem2.txt")));
+        assertFalse(Files.exists(tempDir.resolve("mem2.txt.part")));
+    }
+
+    @Test
+    public void tstDsnDownloadAllMembersFailFastFailure() {
+        failingMember = "MEM1";
+        assertThrows(ZosmfRequestException.class, () -> dsnDownload.downloadAllMembers("TEST.CNTL",
+                new DsnDownloadInputData.Builder().directory(tempDir.toString()).build()));
+        // the first member failed, no other one was started
+        assertEquals(1, contentRequests.get());
+        assertThrows(IllegalArgumentException.class, () -> dsnDownload.downloadAllMembers("TEST.CNTL",
+                new DsnDownloadInputData.Builder().maxConcurrentRequests(0L).build()));
+    }
+
+    private static void deleteTree(final Path root) {
+        try (var paths = Files.walk(root)) {
+            paths.sorted((a, b) -> b.compareTo(a)).forEach(path -> path.toFile().delete());
+        } catch (IOException ignored) {
+        }
+    }
+
+    private void handle(final HttpExchange exchange) throws IOException {
+        try {
+            // /zosmf/restfiles/ds/<dsname>/member or /zosmf/restfiles/ds/<dsname>(<member>)
+            final String target = exchange.getRequestURI().getPath().split("/")[4];
+            if (exchange.getRequestURI().getPath().endsWith("/member")) {
+                UtilsTestHelper.send(exchange, 200, "{\"items\":[" + MEMBERS.stream()
+                        .map(member -> "{\"member\":\"" + member + "\"}")
+                        .collect(Collectors.joining(",")) + "],\"returnedRows\":" + MEMBERS.size() + "}");
+                return;
+            }
+            contentRequests.incrementAndGet();
+            Thread.sleep(20);
+            if (target.endsWith("(" + failingMember + ")")) {
+                UtilsTestHelper.send(exchange, 500, "{}");
+            } else {
+                UtilsTestHelper.send(exchange, 200, target + "\n");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+
+}
@@ -12,15 +12,20 @@ package zowe.client.sdk.zosfiles.dsn.methods;
 import kong.unirest.core.Cookie;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.MockedConstruction;
 import org.mockito.Mockito;
 import zowe.client.sdk.core.ZosConnection;
 import zowe.client.sdk.core.ZosConnectionFactory;
 import zowe.client.sdk.rest.GetStreamZosmfRequest;
 import zowe.client.sdk.rest.Response;
+import zowe.client.sdk.rest.ZosmfInputStream;
 import zowe.client.sdk.rest.ZosmfRequest;
+import zowe.client.sdk.rest.cache.ContentCache;
 import zowe.client.sdk.rest.exception.ZosmfRequestException;
+import zowe.client.sdk.zosfiles.dsn.cache.DsnInfoCache;
 import zowe.client.sdk.zosfiles.dsn.input.DsnDownloadInputData;
+import zowe.client.sdk.zosfiles.dsn.input.DsnListInputData;
 import zowe.client.sdk.zosfiles.dsn.model.Dataset;
 
 import java.io.IOException;
@@ -77,6 +82,47 @@ public class DsnGetTest {
         assertEquals("https://1:443/zosmf/restfiles/ds/TEST.DATASET", mockGetRequest.getUrl());
     }
 
+    @Test
+    public void tstDsnGetContentCacheSuccess() throws ZosmfRequestException, IOException {
+        final ContentCache cache = new ContentCache.Builder().build();
+        final DsnGet dsnGet = new DsnGet(tokenConnection, mockGetRequestToken);
+        final DsnDownloadInputData downloadInputData = new DsnDownloadInputData.Builder()
+                .contentCache(cache).build();
+        final InputStream inputStream = dsnGet.get("TEST.DATASET", downloadInputData);
+        assertEquals("test data", new String(inputStream.readAllBytes()));
+        assertEquals(1, cache.getMissCount());
+        // no ETag returned, nothing cached
+        assertEquals(0, cache.getEntryCount());
+    }
+
+    @Test
+    public void tstDsnGetStreamSuccess() throws ZosmfRequestException {
+        final ZosmfInputStream mockStream = Mockito.mock(ZosmfInputStream.class);
+        Mockito.when(mockGetRequest.executeStreamRequest(ZosmfInputStream.DEFAULT_BUFFER_SIZE))
+                .thenReturn(mockStream);
+        final DsnGet dsnGet = new DsnGet(connection, mockGetRequest);
+        final DsnDownloadInputData downloadInputData = new DsnDownloadInputData.Builder()
+                .binary(true).stream(true).build();
+        assertSame(mockStream, dsnGet.get("TEST.DATASET", downloadInputData));
+        assertEquals("https://1:443/zosmf/restfiles/ds/TEST.DATASET", mockGetRequest.getUrl());
+        Mockito.verify(mockGetRequest, Mockito.never()).executeRequest();
+    }
+
+    @Test
+    public void tstDsnGetStreamWithBufferSizeSuccess() throws ZosmfRequestException {
+        final ZosmfInputStream mockStream = Mockito.mock(ZosmfInputStream.class);
+        Mockito.when(mockGetRequest.executeStreamRequest(1024)).thenReturn(mockStream);
+        final DsnGet dsnGet = new DsnGet(connection, mockGetRequest);
+        final DsnDownloadInputData downloadInputData = new DsnDownloadInputData.Builder()
+                .stream(true).bufferSize(1024).build();
+        assertSame(mockStream, dsnGet.get("TEST.DATASET", downloadInputData));
+    }
+
+    @Test
+    public void tstDsnGetInvalidBufferSizeFailure() {
+        assertThrows(IllegalArgumentException.class, () -> new DsnDownloadInputData.Builder().bufferSize(0));
+    }
+
     @Test
     public void tstDsnGetTokenSuccess() throws ZosmfRequestException, IOException {
         final DsnGet dsnGet = new DsnGet(connection, mockGetRequestToken);
@@ -208,7 +254,7 @@ public class DsnGetTest {
         final ZosConnection connection = Mockito.mock(ZosConnection.class);
         NullPointerException exception = assertThrows(
                 NullPointerException.class,
-                () -> new DsnGet(connection, null)
+                () -> new DsnGet(connection, (ZosmfRequest) null)
         );
         assertEquals("request is null", exception.getMessage());
     }
@@ -261,6 +307,31 @@ public class DsnGetTest {
         }
     }
 
+    @Test
+    public void tstGetDsnInfoWithCacheSuccess() throws Exception {
+        final Dataset mockDataset = new Dataset("TEST.DATA", "", "", "", "",
+                "", "", "", "", "", "", "", "", "", "",
+                "", "", "", "");
+        final DsnInfoCache dsnInfoCache = new DsnInfoCache.Builder().build();
+
+        try (MockedConstruction<DsnList> mocked = Mockito.mockConstruction(DsnList.class,
+                (mock, context) ->
+                        Mockito.when(mock.getDatasets(Mockito.anyString(), Mockito.any()))
+                                .thenReturn(Collections.singletonList(mockDataset)))) {
+
+            final DsnGet dsnGet = new DsnGet(connection, dsnInfoCache);
+            assertEquals("TEST.DATA", dsnGet.getDsnInfo("TEST.DATA").getDsname());
+            assertEquals("TEST.DATA", dsnGet.getDsnInfoAsync("TEST.DATA", Runnable::run).join().getDsname());
+
+            // the exact name is listed, a single item, once
+            assertEquals(1, mocked.constructed().size());
+            final ArgumentCaptor<DsnListInputData> captor = ArgumentCaptor.forClass(DsnListInputData.class);
+            Mockito.verify(mocked.constructed().get(0)).getDatasets(Mockito.eq("TEST.DATA"), captor.capture());
+            assertEquals("1", captor.getValue().getMaxLength().orElse(""));
+            assertEquals(1, dsnInfoCache.getHitCount());
+        }
+    }
+
     @Test
     public void tstGetDsnInfoDatasetNotFoundFailure() {
         try (MockedConstruction<DsnList> ignored = Mockito.mockConstruction(DsnList.class,
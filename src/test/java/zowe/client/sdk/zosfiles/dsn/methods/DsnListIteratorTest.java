@@ -0,0 +1,118 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosfiles.dsn.methods;
+
+import org.junit.jupiter.api.Test;
+import zowe.client.sdk.rest.exception.ZosmfRequestException;
+import zowe.client.sdk.zosfiles.dsn.model.Dataset;
+import zowe.client.sdk.zosfiles.dsn.model.Member;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Class containing unit tests for DsnListIterator.
+ *
+ * @author Frank Giordano
+ * @version 6.0
+ */
+public class DsnListIteratorTest {
+
+    @Test
+    public void tstDsnListIteratorSinglePageSuccess() throws ZosmfRequestException {
+        final List<String> starts = new ArrayList<>();
+        final String page = "{\"items\":[{\"dsname\":\"A.A\"},{\"dsname\":\"A.B\"}],\"returnedRows\":2," +
+                "\"JSONversion\":1}";
+        try (Stream<Dataset> stream = new DsnListIterator<>(Dataset.class, Dataset::getDsname,
+                (start, nextPage) -> {
+                    starts.add(start);
+                    return content(page);
+                }, null).stream()) {
+            assertEquals(List.of("A.A", "A.B"), stream.map(Dataset::getDsname).collect(Collectors.toList()));
+        }
+        assertEquals(1, starts.size());
+        assertNull(starts.get(0));
+    }
+
+    @Test
+    public void tstDsnListIteratorPagingSuccess() throws ZosmfRequestException {
+        final List<String> starts = new ArrayList<>();
+        final List<String> pages = List.of(
+                "{\"items\":[{\"member\":\"M1\"},{\"member\":\"M2\"}],\"returnedRows\":2,\"moreRows\":true}",
+                "{\"moreRows\":true,\"items\":[{\"member\":\"M2\"},{\"member\":\"M3\"}]}",
+                "{\"items\":[{\"member\":\"M3\"}],\"returnedRows\":1}");
+        try (Stream<Member> stream = new DsnListIterator<>(Member.class, Member::getMember,
+                (start, nextPage) -> {
+                    starts.add(start);
+                    return content(pages.get(starts.size() - 1));
+                }, "M1").stream()) {
+            assertEquals(List.of("M1", "M2", "M3"), stream.map(Member::getMember).collect(Collectors.toList()));
+        }
+        assertEquals(List.of("M1", "M2", "M3"), starts);
+    }
+
+    @Test
+    public void tstDsnListIteratorEmptySuccess() throws ZosmfRequestException {
+        final DsnListIterator<Dataset> iterator = new DsnListIterator<>(Dataset.class, Dataset::getDsname,
+                (start, nextPage) -> content("{}"), null);
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public void tstDsnListIteratorNextPageFailure() throws ZosmfRequestException {
+        final List<String> starts = new ArrayList<>();
+        final DsnListIterator<Dataset> iterator = new DsnListIterator<>(Dataset.class, Dataset::getDsname,
+                (start, nextPage) -> {
+                    starts.add(start);
+                    if (starts.size() > 1) {
+                        throw new ZosmfRequestException("http status error code: 500");
+                    }
+                    return content("{\"items\":[{\"dsname\":\"A.A\"}],\"moreRows\":true}");
+                }, null);
+        assertEquals("A.A", iterator.next().getDsname());
+        final IllegalStateException e = assertThrows(IllegalStateException.class, iterator::hasNext);
+        assertInstanceOf(ZosmfRequestException.class, e.getCause());
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public void tstDsnListIteratorNoFurtherItemFailure() throws ZosmfRequestException {
+        final List<Boolean> nextPages = new ArrayList<>();
+        // the next page repeats the start item only, although more rows are reported
+        final DsnListIterator<Member> iterator = new DsnListIterator<>(Member.class, Member::getMember,
+                (start, nextPage) -> {
+                    nextPages.add(nextPage);
+                    return content("{\"items\":[{\"member\":\"M1\"}],\"moreRows\":true}");
+                }, null);
+        assertEquals("M1", iterator.next().getMember());
+        assertThrows(UncheckedIOException.class, iterator::hasNext);
+        assertEquals(List.of(false, true), nextPages);
+    }
+
+    @Test
+    public void tstDsnListIteratorInvalidContentFailure() {
+        final ZosmfRequestException e = assertThrows(ZosmfRequestException.class,
+                () -> new DsnListIterator<>(Dataset.class, Dataset::getDsname, (start, nextPage) -> content("[]"), null));
+        assertEquals("json object expected in list response", e.getMessage());
+    }
+
+    private static InputStream content(final String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
@@ -9,6 +9,8 @@
  */
 package zowe.client.sdk.zosfiles.dsn.methods;
 
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpsServer;
 import kong.unirest.core.Cookie;
 import org.json.simple.JSONObject;
 import org.junit.jupiter.api.BeforeEach;
@@ -20,7 +22,18 @@ import zowe.client.sdk.rest.GetJsonZosmfRequest;
 import zowe.client.sdk.rest.Response;
 import zowe.client.sdk.rest.ZosmfRequest;
 import zowe.client.sdk.rest.exception.ZosmfRequestException;
+import zowe.client.sdk.utility.UtilsTestHelper;
 import zowe.client.sdk.zosfiles.dsn.input.DsnListInputData;
+import zowe.client.sdk.zosfiles.dsn.model.Dataset;
+
+import java.io.IOException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -36,6 +49,9 @@ import static org.mockito.Mockito.withSettings;
  */
 public class DsnListTest {
 
+    private static final List<String> CATALOG = List.of("TEST.#CNTL", "TEST.#JCL", "TEST.CNTL", "TEST.DATA",
+            "TEST.LOAD");
+
     private final ZosConnection connection = ZosConnectionFactory
             .createBasicConnection("1", 443, "1", "1");
     private final ZosConnection tokenConnection = ZosConnectionFactory
@@ -136,4 +152,65 @@ public class DsnListTest {
         assertEquals("connection is null", exception.getMessage());
     }
 
+    @Test
+    public void tstDsnListStreamDatasetsNullDatasetNameFailure() {
+        final DsnList dsnList = new DsnList(connection);
+        final IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> dsnList.streamDatasets(null, new DsnListInputData.Builder().build()));
+        assertEquals("dataSetName is either null or empty", exception.getMessage());
+    }
+
+    @Test
+    public void tstDsnListStreamMembersNullInputDataFailure() {
+        final DsnList dsnList = new DsnList(connection);
+        final NullPointerException exception = assertThrows(NullPointerException.class,
+                () -> dsnList.streamMembers("TEST.DATASET", null));
+        assertEquals("listInputData is null", exception.getMessage());
+    }
+
+    @Test
+    public void tstDsnListStreamDatasetsSpecialCharacterPageSuccess() throws Exception {
+        final HttpsServer server = UtilsTestHelper.startHttpsServer("/zosmf/restfiles/ds", DsnListTest::handle);
+        try {
+            final DsnList dsnList = new DsnList(UtilsTestHelper.createConnection(server));
+            // the first page ends with 'TEST.#JCL', the next page must start there and not at 'TEST.'
+            try (Stream<Dataset> datasets = dsnList.streamDatasets("TEST",
+                    new DsnListInputData.Builder().maxLength("2").build())) {
+                assertEquals(CATALOG, datasets.limit(10).map(Dataset::getDsname).collect(Collectors.toList()));
+            }
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    public void tstDsnListStreamDatasetsPageSizeOneSuccess() throws Exception {
+        final HttpsServer server = UtilsTestHelper.startHttpsServer("/zosmf/restfiles/ds", DsnListTest::handle);
+        try {
+            final DsnList dsnList = new DsnList(UtilsTestHelper.createConnection(server));
+            // each next page repeats the last dataset returned, it must still bring a new one
+            try (Stream<Dataset> datasets = dsnList.streamDatasets("TEST",
+                    new DsnListInputData.Builder().maxLength("1").build())) {
+                assertEquals(CATALOG, datasets.limit(10).map(Dataset::getDsname).collect(Collectors.toList()));
+            }
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    private static void handle(final HttpExchange exchange) throws IOException {
+        final Map<String, String> query = Arrays.stream(exchange.getRequestURI().getRawQuery().split("&"))
+                .map(parameter -> parameter.split("=", 2))
+                .collect(Collectors.toMap(parameter -> parameter[0],
+                        parameter -> URLDecoder.decode(parameter[1], StandardCharsets.UTF_8)));
+        final String start = query.getOrDefault("start", "");
+        final int maxItems = Integer.parseInt(exchange.getRequestHeaders().getFirst("X-IBM-Max-Items"));
+        final List<String> names = CATALOG.stream().filter(name -> name.compareTo(start) >= 0)
+                .collect(Collectors.toList());
+        final List<String> page = names.subList(0, Math.min(maxItems, names.size()));
+        UtilsTestHelper.send(exchange, 200, "{\"items\":[" + page.stream()
+                .map(name -> "{\"dsname\":\"" + name + "\"}").collect(Collectors.joining(",")) +
+                "],\"returnedRows\":" + page.size() + ",\"moreRows\":" + (names.size() > page.size()) + "}");
+    }
+
 }
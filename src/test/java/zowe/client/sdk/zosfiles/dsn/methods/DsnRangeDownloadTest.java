@@ -0,0 +1,153 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosfiles.dsn.methods;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpsServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import zowe.client.sdk.core.ZosConnection;
+import zowe.client.sdk.rest.exception.ZosmfRequestException;
+import zowe.client.sdk.utility.UtilsTestHelper;
+import zowe.client.sdk.zosfiles.dsn.input.DsnDownloadInputData;
+import zowe.client.sdk.zosfiles.dsn.input.DsnRangeDownloadInputData;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Class containing unit tests for DsnRangeDownload and the record range reads of DsnGet.
+ *
+ * @author Frank Giordano
+ * @version 6.0
+ */
+public class DsnRangeDownloadTest {
+
+    private final List<String> ranges = new CopyOnWriteArrayList<>();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private volatile List<String> records;
+    private volatile boolean failing;
+    private volatile boolean trailingNewline = true;
+    private HttpsServer server;
+    private ZosConnection connection;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    public void init() throws Exception {
+        server = UtilsTestHelper.startHttpsServer("/zosmf/restfiles/ds",
+                UtilsTestHelper.countConcurrency(this::handle, maxInFlight));
+        connection = UtilsTestHelper.createConnection(server);
+        records = IntStream.range(0, 1050).mapToObj(i -> "RECORD " + i).collect(Collectors.toList());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    public void tstDsnRangeDownloadSuccess() throws ZosmfRequestException, IOException {
+        final Path path = tempDir.resolve("extract.txt");
+        final long count = new DsnRangeDownload(connection).download("TEST.DATA", path,
+                new DsnRangeDownloadInputData.Builder().recordsPerWindow(100).maxConcurrentRequests(3).build());
+
+        assertEquals(1050, count);
+        assertEquals(String.join("\n", records) + "\n", Files.readString(path));
+        assertFalse(Files.exists(tempDir.resolve("extract.txt.part")));
+        assertTrue(ranges.contains("1000,100"));
+        assertTrue(maxInFlight.get() <= 3);
+    }
+
+    @Test
+    public void tstDsnRangeDownloadExactWindowsSuccess() throws ZosmfRequestException {
+        records = records.subList(0, 200);
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        final long count = new DsnRangeDownload(connection).download("TEST.DATA", outputStream,
+                new DsnRangeDownloadInputData.Builder().recordsPerWindow(100).maxConcurrentRequests(4).build());
+
+        // the windows past the last record are probed and ignored
+        assertEquals(200, count);
+        assertEquals(String.join("\n", records) + "\n", outputStream.toString(StandardCharsets.UTF_8));
+        assertTrue(ranges.contains("200,1"));
+    }
+
+    @Test
+    public void tstDsnRangeDownloadNoTrailingNewlineSuccess() throws ZosmfRequestException {
+        trailingNewline = false;
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        final long count = new DsnRangeDownload(connection).download("TEST.DATA", outputStream,
+                new DsnRangeDownloadInputData.Builder().recordsPerWindow(100).maxConcurrentRequests(3).build());
+
+        // the last record of each window is separated from the first record of the next one
+        assertEquals(1050, count);
+        assertEquals(String.join("\n", records), outputStream.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void tstDsnGetRangeSuccess() throws ZosmfRequestException, IOException {
+        final DsnGet dsnGet = new DsnGet(connection);
+        try (InputStream head = dsnGet.getRange("TEST.DATA", 0, 2, new DsnDownloadInputData.Builder().build())) {
+            assertEquals("RECORD 0\nRECORD 1\n", new String(head.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        try (InputStream tail = dsnGet.get("TEST.DATA",
+                new DsnDownloadInputData.Builder().recordsRange("-1").build())) {
+            assertEquals("RECORD 1049\n", new String(tail.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        assertEquals(List.of("0,2", "-1"), ranges);
+    }
+
+    @Test
+    public void tstDsnRangeDownloadFailure() {
+        failing = true;
+        assertThrows(ZosmfRequestException.class, () -> new DsnRangeDownload(connection).download("TEST.DATA",
+                new ByteArrayOutputStream(), new DsnRangeDownloadInputData.Builder().recordsPerWindow(100).build()));
+        assertThrows(IllegalArgumentException.class, () -> new DsnRangeDownloadInputData.Builder()
+                .downloadInputData(new DsnDownloadInputData.Builder().binary(true).build()));
+    }
+
+    private void handle(final HttpExchange exchange) throws IOException {
+        final String range = exchange.getRequestHeaders().getFirst("X-IBM-Record-Range");
+        ranges.add(range);
+        if (failing && range.startsWith("300,")) {
+            UtilsTestHelper.send(exchange, 503, "{}");
+            return;
+        }
+        final List<String> selected;
+        if (range.startsWith("-")) {
+            final int last = Integer.parseInt(range.substring(1));
+            selected = records.subList(records.size() - last, records.size());
+        } else {
+            final String[] values = range.split(",");
+            final int start = Math.min(Integer.parseInt(values[0]), records.size());
+            selected = records.subList(start, Math.min(start + Integer.parseInt(values[1]), records.size()));
+        }
+        if (selected.isEmpty()) {
+            UtilsTestHelper.send(exchange, 500, "{}");
+        } else {
+            UtilsTestHelper.send(exchange, 200, String.join("\n", selected) + (trailingNewline ? "\n" : ""));
+        }
+    }
+
+}
@@ -106,7 +106,7 @@ public class DsnRenameTest {
         ZosConnection connection = Mockito.mock(ZosConnection.class);
         NullPointerException exception = assertThrows(
                 NullPointerException.class,
-                () -> new DsnRename(connection, null)
+                () -> new DsnRename(connection, (ZosmfRequest) null)
         );
         assertEquals("request is null", exception.getMessage());
     }
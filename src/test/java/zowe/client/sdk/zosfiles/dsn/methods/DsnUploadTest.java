@@ -0,0 +1,199 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosfiles.dsn.methods;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpsServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import zowe.client.sdk.rest.exception.ZosmfRequestException;
+import zowe.client.sdk.utility.UtilsTestHelper;
+import zowe.client.sdk.zosfiles.dsn.input.DsnUploadInputData;
+import zowe.client.sdk.zosfiles.dsn.response.DsnUploadResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Class containing unit tests for DsnUpload.
+ *
+ * @author Frank Giordano
+ * @version 6.0
+ */
+public class DsnUploadTest {
+
+    // members without ISPF statistics, as binary members
+    private static final String NO_STATS = "LOADMOD";
+
+    private final Map<String, String> contents = new ConcurrentHashMap<>();
+    private final Map<String, Integer> versions = new ConcurrentHashMap<>();
+    private final AtomicInteger uploads = new AtomicInteger();
+    private final AtomicInteger conditionalRequests = new AtomicInteger();
+    private volatile String failingMember = "";
+    private HttpsServer server;
+    private DsnUpload dsnUpload;
+    private DsnUploadInputData uploadInputData;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    public void init() throws Exception {
+        server = UtilsTestHelper.startHttpsServer("/zosmf/restfiles/ds", this::handle);
+        dsnUpload = new DsnUpload(UtilsTestHelper.createConnection(server));
+        uploadInputData = new DsnUploadInputData.Builder(tempDir).maxConcurrentRequests(2).build();
+
+        Files.writeString(tempDir.resolve("payroll.cbl"), "PAYROLL V1\n");
+        Files.writeString(tempDir.resolve("runjob.jcl"), "//RUNJOB JOB\n");
+        Files.writeString(tempDir.resolve("loadmod.bin"), "LOAD\n");
+        Files.writeString(tempDir.resolve("toolongname.cbl"), "IGNORED\n");
+        Files.writeString(tempDir.resolve("1st.cbl"), "IGNORED\n");
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    public void tstDsnUploadDeltaSuccess() throws ZosmfRequestException, IOException {
+        DsnUploadResponse response = dsnUpload.uploadDirectory("TEST.CNTL", uploadInputData);
+        assertEquals(List.of("LOADMOD", "PAYROLL", "RUNJOB"), response.getUploaded());
+        assertTrue(response.getUnchanged().isEmpty());
+        assertEquals(List.of("1st.cbl", "toolongname.cbl"), response.getIgnored().stream()
+                .map(path -> path.getFileName().toString()).collect(Collectors.toList()));
+        assertEquals(29, response.getBytes());
+        assertEquals("PAYROLL V1\n", contents.get("PAYROLL"));
+        assertTrue(Files.exists(uploadInputData.getStateFile()));
+
+        // nothing changed, the member without statistics is checked with its ETag
+        response = dsnUpload.uploadDirectory("TEST.CNTL", uploadInputData);
+        assertEquals(List.of("LOADMOD", "PAYROLL", "RUNJOB"), response.getUnchanged());
+        assertTrue(response.getUploaded().isEmpty());
+        assertEquals(3, uploads.get());
+        assertEquals(1, conditionalRequests.get());
+
+        // a local change and two remote changes
+        Files.writeString(tempDir.resolve("payroll.cbl"), "PAYROLL V2\n");
+        versions.merge("RUNJOB", 1, Integer::sum);
+        contents.put(NO_STATS, "CHANGED\n");
+        versions.merge(NO_STATS, 1, Integer::sum);
+        response = dsnUpload.uploadDirectory("TEST.CNTL", uploadInputData);
+        assertEquals(List.of("LOADMOD", "PAYROLL", "RUNJOB"), response.getUploaded());
+        assertEquals("PAYROLL V2\n", contents.get("PAYROLL"));
+        assertEquals("LOAD\n", contents.get(NO_STATS));
+        assertEquals(6, uploads.get());
+    }
+
+    @Test
+    public void tstDsnUploadDryRunSuccess() throws ZosmfRequestException {
+        final DsnUploadResponse response = dsnUpload.uploadDirectory("TEST.CNTL",
+                new DsnUploadInputData.Builder(tempDir).dryRun(true).build());
+
+        assertTrue(response.isDryRun());
+        assertEquals(List.of("LOADMOD", "PAYROLL", "RUNJOB"), response.getUploaded());
+        assertEquals(29, response.getBytes());
+        assertEquals(0, uploads.get());
+        assertFalse(Files.exists(tempDir.resolve(DsnUploadInputData.DEFAULT_STATE_FILE_NAME)));
+    }
+
+    @Test
+    public void tstDsnUploadForceSuccess() throws ZosmfRequestException {
+        dsnUpload.uploadDirectory("TEST.CNTL", uploadInputData);
+        final DsnUploadResponse response = dsnUpload.uploadDirectory("TEST.CNTL",
+                new DsnUploadInputData.Builder(tempDir).force(true).build());
+
+        assertEquals(3, response.getUploaded().size());
+        assertEquals(6, uploads.get());
+    }
+
+    @Test
+    public void tstDsnUploadFailure() throws ZosmfRequestException {
+        failingMember = "PAYROLL";
+        DsnUploadResponse response = dsnUpload.uploadDirectory("TEST.CNTL", uploadInputData);
+        assertEquals(List.of("LOADMOD", "RUNJOB"), response.getUploaded());
+        assertTrue(response.getFailures().containsKey("PAYROLL"));
+
+        // the failed member is not recorded, so it is uploaded by the next run
+        failingMember = "";
+        response = dsnUpload.uploadDirectory("TEST.CNTL", uploadInputData);
+        assertEquals(List.of("PAYROLL"), response.getUploaded());
+        assertTrue(response.getFailures().isEmpty());
+
+        assertThrows(ZosmfRequestException.class, () -> dsnUpload.uploadDirectory("MISSING.CNTL",
+                uploadInputData));
+        assertThrows(IllegalArgumentException.class, () -> new DsnUploadInputData.Builder(tempDir)
+                .maxConcurrentRequests(0));
+    }
+
+    private void handle(final HttpExchange exchange) throws IOException {
+        // /zosmf/restfiles/ds/<dsname>/member or /zosmf/restfiles/ds/<dsname>(<member>)
+        final String path = exchange.getRequestURI().getPath();
+        if (path.contains("MISSING")) {
+            send(exchange, 404, "{}", null);
+            return;
+        }
+        if (path.endsWith("/member")) {
+            send(exchange, 200, "{\"items\":[" + versions.keySet().stream()
+                    .map(member -> NO_STATS.equals(member) ? "{\"member\":\"" + member + "\"}" :
+                            "{\"member\":\"" + member + "\",\"vers\":1,\"mod\":" + versions.get(member) +
+                                    ",\"m4date\":\"2026/10/17\",\"mtime\":\"10:00\",\"msec\":\"00\"}")
+                    .collect(Collectors.joining(",")) + "]}", null);
+            return;
+        }
+        final String member = path.substring(path.indexOf('(') + 1, path.indexOf(')'));
+        if ("PUT".equals(exchange.getRequestMethod())) {
+            uploads.incrementAndGet();
+            if (member.equals(failingMember)) {
+                send(exchange, 500, "{}", null);
+                return;
+            }
+            contents.put(member, new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            versions.merge(member, 1, Integer::sum);
+            send(exchange, 204, "", etag(member));
+            return;
+        }
+        final String ifNoneMatch = exchange.getRequestHeaders().getFirst("If-None-Match");
+        if (ifNoneMatch != null) {
+            conditionalRequests.incrementAndGet();
+            if (ifNoneMatch.equals(etag(member))) {
+                send(exchange, 304, "", etag(member));
+                return;
+            }
+        }
+        send(exchange, 200, contents.get(member), etag(member));
+    }
+
+    private String etag(final String member) {
+        return "\"" + member + "-" + versions.get(member) + "\"";
+    }
+
+    private static void send(final HttpExchange exchange, final int code, final String body, final String etag)
+            throws IOException {
+        if (etag != null) {
+            exchange.getResponseHeaders().add("ETag", etag);
+        }
+        // a kept alive connection may be dropped by the test server between two streamed uploads
+        exchange.getResponseHeaders().add("Connection", "close");
+        UtilsTestHelper.send(exchange, code, body);
+    }
+
+}
@@ -16,11 +16,15 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import zowe.client.sdk.core.ZosConnection;
 import zowe.client.sdk.core.ZosConnectionFactory;
+import zowe.client.sdk.rest.PutStreamZosmfRequest;
 import zowe.client.sdk.rest.PutTextZosmfRequest;
 import zowe.client.sdk.rest.Response;
 import zowe.client.sdk.rest.ZosmfRequest;
+import zowe.client.sdk.rest.ZosmfStreamBody;
 import zowe.client.sdk.rest.exception.ZosmfRequestException;
 
+import java.io.ByteArrayInputStream;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyMap;
@@ -83,6 +87,25 @@ public class DsnWriteTest {
         assertEquals("https://1:443/zosmf/restfiles/ds/TEXT_PDS", mockTextPutRequestToken.getUrl());
     }
 
+    @Test
+    public void tstDsnWriteMemberStreamBinarySuccess() throws ZosmfRequestException {
+        final PutStreamZosmfRequest mockStreamPutRequest = Mockito.mock(PutStreamZosmfRequest.class,
+                withSettings().useConstructor(connection));
+        Mockito.when(mockStreamPutRequest.executeRequest()).thenReturn(
+                new Response(new JSONObject(), 200, "success"));
+        doCallRealMethod().when(mockStreamPutRequest).setUrl(any());
+        doCallRealMethod().when(mockStreamPutRequest).getUrl();
+        doCallRealMethod().when(mockStreamPutRequest).setHeaders(anyMap());
+        doCallRealMethod().when(mockStreamPutRequest).getHeaders();
+        final ZosmfStreamBody content = ZosmfStreamBody.of(new ByteArrayInputStream(new byte[16]));
+        final DsnWrite dsnWrite = new DsnWrite(connection, mockStreamPutRequest);
+        final Response response = dsnWrite.write("TEST.DATASET", "MEMBER", content, true);
+        Mockito.verify(mockStreamPutRequest).setBody(content);
+        assertEquals("binary", mockStreamPutRequest.getHeaders().get("X-IBM-Data-Type"));
+        assertEquals(200, response.getStatusCode().orElse(-1));
+        assertEquals("https://1:443/zosmf/restfiles/ds/TEST.DATASET(MEMBER)", mockStreamPutRequest.getUrl());
+    }
+
     @Test
     public void tstDsnWriteSecondaryConstructorWithValidRequestType() {
         ZosConnection connection = Mockito.mock(ZosConnection.class);
@@ -119,7 +142,7 @@ public class DsnWriteTest {
                 IllegalStateException.class,
                 () -> new DsnWrite(connection, request)
         );
-        assertEquals("PUT_TEXT request type required", exception.getMessage());
+        assertEquals("PUT_TEXT or PUT_STREAM request type required", exception.getMessage());
     }
 
     @Test
@@ -20,9 +20,12 @@ import zowe.client.sdk.rest.PutStreamZosmfRequest;
 import zowe.client.sdk.rest.PutTextZosmfRequest;
 import zowe.client.sdk.rest.Response;
 import zowe.client.sdk.rest.ZosmfRequest;
+import zowe.client.sdk.rest.ZosmfStreamBody;
 import zowe.client.sdk.rest.exception.ZosmfRequestException;
 import zowe.client.sdk.zosfiles.uss.input.UssWriteInputData;
 
+import java.io.ByteArrayInputStream;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyMap;
@@ -104,6 +107,32 @@ public class UssWriteTest {
         assertEquals("https://1:443/zosmf/restfiles/fs%2Fxx%2Fxx%2Fx", mockStreamPutRequest.getUrl());
     }
 
+    @Test
+    public void tstUssWriteStreamSuccess() throws ZosmfRequestException {
+        final PutStreamZosmfRequest mockStreamPutRequest = Mockito.mock(PutStreamZosmfRequest.class,
+                withSettings().useConstructor(connection));
+        Mockito.when(mockStreamPutRequest.executeRequest()).thenReturn(
+                new Response(new byte[0], 200, "success"));
+        doCallRealMethod().when(mockStreamPutRequest).setUrl(any());
+        doCallRealMethod().when(mockStreamPutRequest).getUrl();
+        doCallRealMethod().when(mockStreamPutRequest).setHeaders(anyMap());
+        doCallRealMethod().when(mockStreamPutRequest).getHeaders();
+        final ZosmfStreamBody content = ZosmfStreamBody.of(new ByteArrayInputStream("text".getBytes()));
+        final UssWrite ussWrite = new UssWrite(connection, mockStreamPutRequest);
+        final Response response = ussWrite.writeStream("/xx/xx/x", content, false);
+        Mockito.verify(mockStreamPutRequest).setBody(content);
+        assertEquals("text;", mockStreamPutRequest.getHeaders().get("X-IBM-Data-Type"));
+        assertEquals(200, response.getStatusCode().orElse(-1));
+        assertEquals("https://1:443/zosmf/restfiles/fs%2Fxx%2Fxx%2Fx", mockStreamPutRequest.getUrl());
+    }
+
+    @Test
+    public void tstUssWriteStreamNullContentFailure() {
+        final NullPointerException e = assertThrows(NullPointerException.class,
+                () -> ussWrite.writeStream("/xx/xx/x", null, true));
+        assertEquals("content is null", e.getMessage());
+    }
+
     @Test
     public void tstUssWriteTextNullTargetPathFailure() throws ZosmfRequestException {
         String errMsg = "";
@@ -0,0 +1,202 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosjobs.methods;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpsServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import zowe.client.sdk.utility.UtilsTestHelper;
+import zowe.client.sdk.zosjobs.input.JobBatchInputData;
+import zowe.client.sdk.zosjobs.input.JobModifyInputData;
+import zowe.client.sdk.zosjobs.response.JobBatchResponse;
+import zowe.client.sdk.zosjobs.response.JobFeedback;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Class containing unit tests for JobBatch.
+ *
+ * @author Frank Giordano
+ * @version 6.0
+ */
+public class JobBatchTest {
+
+    private static final int JOBS = 6;
+    private static final String FEEDBACK = "{\"jobid\":\"%s\",\"jobname\":\"TESTJOB\",\"status\":\"0\"}";
+    private static final String JOB = "{\"jobid\":\"%s\",\"jobname\":\"TESTJOB\",\"owner\":\"USER\",\"status\":\"%s\"}";
+
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private final AtomicInteger modifyRequests = new AtomicInteger();
+    private final AtomicInteger listRequests = new AtomicInteger();
+    private final List<String> listQueries = new CopyOnWriteArrayList<>();
+    // job id -> number of list queries still returning the job as active
+    private final Map<String, Integer> queuedJobs = new ConcurrentHashMap<>();
+    private volatile int listsBeforeCompletion = 1;
+    private volatile String listedStatus = "ACTIVE";
+    private volatile String failingJobId = "";
+    private volatile String unparsableJobId = "";
+    private HttpsServer server;
+    private JobBatch jobBatch;
+
+    @BeforeEach
+    public void init() throws Exception {
+        server = UtilsTestHelper.startHttpsServer("/zosmf/restjobs/jobs",
+                UtilsTestHelper.countConcurrency(this::handle, maxInFlight));
+        jobBatch = new JobBatch(UtilsTestHelper.createConnection(server));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    public void tstJobBatchPurgeSuccess() {
+        final JobBatchResponse response = jobBatch.purge(getJobs("1.0"), new JobBatchInputData.Builder()
+                .maxConcurrentRequests(3).watchDelay(0).build());
+
+        assertTrue(response.isSuccess());
+        assertEquals(JOBS, response.getFeedbacks().size());
+        assertEquals("JOB1", response.getFeedbacks().get(0).getJobId());
+        assertEquals(JOBS, modifyRequests.get());
+        assertTrue(maxInFlight.get() <= 3);
+        // one list query per round for all the jobs of the same name
+        assertEquals(2, listRequests.get());
+    }
+
+    @Test
+    public void tstJobBatchPurgePrefixSuccess() {
+        final List<JobModifyInputData> jobs = IntStream.rangeClosed(1, JOBS)
+                .mapToObj(i -> new JobModifyInputData.Builder("BUILD" + i, "JOB" + i).version("1.0").build())
+                .collect(Collectors.toList());
+        final JobBatchResponse response = jobBatch.purge(jobs, new JobBatchInputData.Builder().watchDelay(0).build());
+
+        assertTrue(response.isSuccess());
+        // the jobs of different names share one list query per round, narrowed by their common prefix
+        assertEquals(2, listRequests.get());
+        assertTrue(listQueries.stream().allMatch(query -> query.contains("prefix=BUILD*")));
+    }
+
+    @Test
+    public void tstJobBatchCancelSyncSuccess() {
+        final JobBatchResponse response = jobBatch.cancel(getJobs("2.0"), new JobBatchInputData.Builder().build());
+
+        assertTrue(response.isSuccess());
+        assertEquals(JOBS, response.getFeedbacks().size());
+        assertEquals(0, listRequests.get());
+    }
+
+    @Test
+    public void tstJobBatchCancelSuccess() {
+        // a cancelled job still listed with the OUTPUT status is complete
+        listedStatus = "OUTPUT";
+        final JobBatchResponse response = jobBatch.cancel(getJobs("1.0"), new JobBatchInputData.Builder()
+                .watchDelay(0).build());
+
+        assertTrue(response.isSuccess());
+        assertEquals(1, listRequests.get());
+    }
+
+    @Test
+    public void tstJobBatchUnverifiedFailure() {
+        listsBeforeCompletion = Integer.MAX_VALUE;
+        final JobBatchResponse response = jobBatch.purge(getJobs("1.0"), new JobBatchInputData.Builder()
+                .watchDelay(0).attempts(3).build());
+
+        assertFalse(response.isSuccess());
+        assertEquals(JOBS, response.getUnverified().size());
+        assertEquals(3, listRequests.get());
+    }
+
+    @Test
+    public void tstJobBatchRequestFailure() {
+        failingJobId = "JOB2";
+        final List<JobModifyInputData> jobs = getJobs("1.0");
+        final JobBatchResponse response = jobBatch.purge(jobs, new JobBatchInputData.Builder().verify(false).build());
+
+        assertFalse(response.isSuccess());
+        assertEquals(JOBS - 1, response.getFeedbacks().size());
+        assertEquals(1, response.getFailures().size());
+        assertTrue(response.getFailures().containsKey(jobs.get(1)));
+        assertEquals(0, listRequests.get());
+    }
+
+    @Test
+    public void tstJobBatchUnparsableFeedbackSuccess() {
+        unparsableJobId = "JOB3";
+        final JobBatchResponse response = jobBatch.purge(getJobs("2.0"), new JobBatchInputData.Builder().build());
+
+        // the feedback is built from the job parameters, without a status z/OSMF did not report
+        final JobFeedback feedback = response.getFeedbacks().get(2);
+        assertEquals("JOB3", feedback.getJobId());
+        assertEquals("TESTJOB", feedback.getJobName());
+        assertEquals("", feedback.getStatus());
+        assertEquals("0", response.getFeedbacks().get(0).getStatus());
+    }
+
+    @Test
+    public void tstJobBatchInvalidVersionFailure() {
+        final List<JobModifyInputData> jobs = List.of(
+                new JobModifyInputData.Builder("TESTJOB", "JOB1").version("1.0").build(),
+                new JobModifyInputData.Builder("TESTJOB", "JOB2").version("3.0").build());
+        assertThrows(IllegalArgumentException.class, () -> jobBatch.purge(jobs,
+                new JobBatchInputData.Builder().build()));
+        // no request is sent when one of the jobs is invalid
+        assertEquals(0, modifyRequests.get());
+    }
+
+    private static List<JobModifyInputData> getJobs(final String version) {
+        return IntStream.rangeClosed(1, JOBS)
+                .mapToObj(i -> new JobModifyInputData.Builder("TESTJOB", "JOB" + i).version(version).build())
+                .collect(Collectors.toList());
+    }
+
+    private void handle(final HttpExchange exchange) throws IOException {
+        try {
+            final String[] path = exchange.getRequestURI().getPath().split("/");
+            if (path.length == 4) {
+                // /zosmf/restjobs/jobs?owner=*&prefix=TESTJOB
+                listRequests.incrementAndGet();
+                listQueries.add(exchange.getRequestURI().getQuery());
+                final String jobs = queuedJobs.keySet().stream()
+                        .filter(jobId -> queuedJobs.merge(jobId, -1, Integer::sum) >= 0)
+                        .map(jobId -> String.format(JOB, jobId, listedStatus))
+                        .collect(Collectors.joining(","));
+                UtilsTestHelper.send(exchange, 200, "[" + jobs + "]");
+                return;
+            }
+            // /zosmf/restjobs/jobs/TESTJOB/<jobid>
+            modifyRequests.incrementAndGet();
+            Thread.sleep(20);
+            final String jobId = path[5];
+            if (failingJobId.equals(jobId)) {
+                UtilsTestHelper.send(exchange, 500, "{}");
+                return;
+            }
+            queuedJobs.put(jobId, listsBeforeCompletion);
+            UtilsTestHelper.send(exchange, 200, unparsableJobId.equals(jobId) ? "accepted" :
+                    String.format(FEEDBACK, jobId));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -10,6 +10,7 @@
 package zowe.client.sdk.zosjobs.methods;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpsServer;
 import org.json.simple.JSONArray;
 import org.json.simple.JSONObject;
 import org.junit.jupiter.api.BeforeEach;
@@ -23,13 +24,22 @@ import zowe.client.sdk.rest.GetTextZosmfRequest;
 import zowe.client.sdk.rest.Response;
 import zowe.client.sdk.rest.ZosmfRequest;
 import zowe.client.sdk.rest.exception.ZosmfRequestException;
+import zowe.client.sdk.utility.UtilsTestHelper;
 import zowe.client.sdk.zosjobs.JobsConstants;
 import zowe.client.sdk.zosjobs.input.CommonJobInputData;
 import zowe.client.sdk.zosjobs.model.Job;
 import zowe.client.sdk.zosjobs.model.JobStepData;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -353,6 +363,53 @@ public class JobGetJsonTest {
         assertEquals(JobsConstants.JOB_NAME_ILLEGAL_MSG, errorMsg);
     }
 
+    @Test
+    public void tstJobGetJsonStatusCommonAsyncSuccess() {
+        final Executor executor = Runnable::run;
+        Mockito.when(mockJsonGetRequest.executeRequestAsync(executor)).thenReturn(
+                CompletableFuture.completedFuture(new Response(jobJson, 200, "success")));
+
+        final Job job = getJobs.getStatusCommonAsync(
+                new CommonJobInputData("1", "jobName", true), executor).join();
+        assertEquals("https://1:443/zosmf/restjobs/jobs/jobName/1?step-data=Y", getJobs.getUrl());
+        assertEquals("jobid", job.getJobId());
+        assertEquals("status", job.getStatus());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void tstJobGetJsonCommonAsyncSuccess() {
+        final Executor executor = Runnable::run;
+        final JSONArray jsonArray = new JSONArray();
+        jsonArray.add(jobJson);
+        Mockito.when(mockJsonGetRequest.executeRequestAsync(executor)).thenReturn(
+                CompletableFuture.completedFuture(new Response(jsonArray, 200, "success")));
+
+        final List<Job> jobs = getJobs.getCommonAsync(null, executor).join();
+        assertEquals("https://1:443/zosmf/restjobs/jobs?owner=1", getJobs.getUrl());
+        assertEquals(1, jobs.size());
+        assertEquals("jobname", jobs.get(0).getJobName());
+    }
+
+    @Test
+    public void tstJobGetJsonStatusCommonAsyncFailure() {
+        final Executor executor = Runnable::run;
+        final ZosmfRequestException error = new ZosmfRequestException("http status error code: 404");
+        Mockito.when(mockJsonGetRequest.executeRequestAsync(executor)).thenReturn(
+                CompletableFuture.failedFuture(new CompletionException(error)));
+
+        final CompletableFuture<Job> future = getJobs.getStatusCommonAsync(
+                new CommonJobInputData("1", "jobName"), executor);
+        final CompletionException e = assertThrows(CompletionException.class, future::join);
+        assertSame(error, e.getCause());
+    }
+
+    @Test
+    public void tstJobGetJsonStatusCommonAsyncNullExecutorFailure() {
+        assertThrows(NullPointerException.class,
+                () -> getJobs.getStatusCommonAsync(new CommonJobInputData("1", "jobName"), null));
+    }
+
     @Test
     public void tstJobGetJsonStatusForJobSuccess() throws ZosmfRequestException {
         Mockito.when(mockJsonGetRequest.executeRequest()).thenReturn(
@@ -552,4 +609,29 @@ public class JobGetJsonTest {
         assertEquals("connection is null", exception.getMessage());
     }
 
+    @Test
+    public void tstJobGetJsonSharedInstanceConcurrentSuccess() throws Exception {
+        final HttpsServer server = UtilsTestHelper.startHttpsServer("/zosmf/restjobs/jobs", exchange -> {
+            // answer with the job id given in the query, so a reply mixed between calls is detected
+            final String query = exchange.getRequestURI().getQuery();
+            final String jobId = query.substring(query.indexOf("jobid=") + "jobid=".length());
+            UtilsTestHelper.send(exchange, 200, "[{\"jobid\":\"" + jobId + "\",\"jobname\":\"JOB\"}]");
+        });
+        final ExecutorService executor = Executors.newFixedThreadPool(16);
+        try {
+            final JobGet jobGet = new JobGet(UtilsTestHelper.createConnection(server));
+            final List<Future<Job>> futures = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                final String jobId = "JOB" + i;
+                futures.add(executor.submit(() -> jobGet.getById(jobId)));
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                assertEquals("JOB" + i, futures.get(i).get().getJobId());
+            }
+        } finally {
+            executor.shutdown();
+            server.stop(0);
+        }
+    }
+
 }
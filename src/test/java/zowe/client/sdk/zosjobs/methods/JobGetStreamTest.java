@@ -0,0 +1,145 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosjobs.methods;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpsServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import zowe.client.sdk.rest.exception.ZosmfRequestException;
+import zowe.client.sdk.utility.UtilsTestHelper;
+import zowe.client.sdk.zosjobs.input.JobGetInputData;
+import zowe.client.sdk.zosjobs.model.Job;
+import zowe.client.sdk.zosjobs.model.JobFile;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Class containing unit tests for JobGet streaming of spool content.
+ *
+ * @author Frank Giordano
+ * @version 6.0
+ */
+public class JobGetStreamTest {
+
+    private static final int LINES = 1000;
+    private static final JobFile JOB_FILE = new JobFile("TESTJOB", "JOB1", 2L);
+
+    private final List<String> listQueries = new CopyOnWriteArrayList<>();
+    private HttpsServer server;
+    private JobGet jobGet;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    public void init() throws Exception {
+        server = UtilsTestHelper.startHttpsServer("/zosmf/restjobs/jobs", this::handleList);
+        server.createContext("/zosmf/restjobs/jobs/TESTJOB/JOB1/files/2/records", this::handleContent);
+        server.createContext("/zosmf/restjobs/jobs/TESTJOB/JOB9/files/2/records",
+                exchange -> UtilsTestHelper.send(exchange, 404, ""));
+        jobGet = new JobGet(UtilsTestHelper.createConnection(server));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    public void tstJobGetSpoolContentReaderSuccess() throws ZosmfRequestException, IOException {
+        final List<String> lines = new ArrayList<>();
+        try (BufferedReader reader = jobGet.getSpoolContentReader(JOB_FILE)) {
+            reader.lines().forEach(lines::add);
+        }
+        assertEquals(LINES, lines.size());
+        assertEquals("line 1 é", lines.get(0));
+        assertEquals("https://localhost:" + server.getAddress().getPort() +
+                "/zosmf/restjobs/jobs/TESTJOB/JOB1/files/2/records", jobGet.getUrl());
+    }
+
+    @Test
+    public void tstJobGetDownloadSpoolContentSuccess() throws ZosmfRequestException, IOException {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        final long size = jobGet.downloadSpoolContent(JOB_FILE, outputStream);
+        assertEquals(outputStream.size(), size);
+
+        final Path path = tempDir.resolve("spool.txt");
+        assertEquals(size, jobGet.downloadSpoolContent(JOB_FILE, path));
+        assertArrayEquals(outputStream.toByteArray(), Files.readAllBytes(path));
+        assertEquals(LINES, Files.readAllLines(path, StandardCharsets.UTF_8).size());
+    }
+
+    @Test
+    public void tstJobGetProcessSpoolContentStopSuccess() throws ZosmfRequestException {
+        final List<String> lines = new ArrayList<>();
+        final long count = jobGet.processSpoolContent(JOB_FILE, line -> {
+            lines.add(line);
+            return !line.startsWith("line 3 ");
+        });
+        assertEquals(3, count);
+        assertEquals(3, lines.size());
+
+        assertEquals(LINES, jobGet.processSpoolContent(JOB_FILE, line -> true));
+    }
+
+    @Test
+    public void tstJobGetSpoolContentStreamFailure() {
+        assertThrows(ZosmfRequestException.class,
+                () -> jobGet.getSpoolContentStream(new JobFile("TESTJOB", "JOB9", 2L)));
+        assertThrows(NullPointerException.class, () -> jobGet.processSpoolContent(JOB_FILE, null));
+        assertThrows(NullPointerException.class, () -> jobGet.getSpoolContentStream(null));
+    }
+
+    @Test
+    public void tstJobGetStreamJobsSuccess() throws ZosmfRequestException {
+        final List<String> jobIds;
+        try (Stream<Job> jobs = jobGet.streamJobs(new JobGetInputData.Builder("USER").prefix("TEST*").maxJobs(5)
+                .build())) {
+            jobIds = jobs.map(Job::getJobId).collect(Collectors.toList());
+        }
+        assertEquals(List.of("JOB1", "JOB2", "JOB3"), jobIds);
+        assertEquals(List.of("owner=USER&prefix=TEST*&max-jobs=5"), listQueries);
+    }
+
+    private void handleList(final HttpExchange exchange) throws IOException {
+        listQueries.add(exchange.getRequestURI().getQuery());
+        UtilsTestHelper.send(exchange, 200, "[{\"jobid\":\"JOB1\",\"jobname\":\"TEST1\"}," +
+                "{\"jobid\":\"JOB2\",\"jobname\":\"TEST2\"},{\"jobid\":\"JOB3\",\"jobname\":\"TEST3\"}]");
+    }
+
+    private void handleContent(final HttpExchange exchange) throws IOException {
+        exchange.getResponseHeaders().add("Content-Type", "text/plain; charset=UTF-8");
+        exchange.sendResponseHeaders(200, 0);
+        try (OutputStream out = exchange.getResponseBody()) {
+            for (int i = 1; i <= LINES; i++) {
+                out.write(("line " + i + " é\n").getBytes(StandardCharsets.UTF_8));
+            }
+        } catch (IOException e) {
+            // the client stopped reading
+        }
+    }
+
+}
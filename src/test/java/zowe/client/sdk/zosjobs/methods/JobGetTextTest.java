@@ -19,8 +19,12 @@ import zowe.client.sdk.core.ZosConnectionFactory;
 import zowe.client.sdk.rest.GetTextZosmfRequest;
 import zowe.client.sdk.rest.Response;
 import zowe.client.sdk.rest.exception.ZosmfRequestException;
+import zowe.client.sdk.zosjobs.model.JobFile;
+
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.Mockito.doCallRealMethod;
@@ -77,4 +81,25 @@ public class JobGetTextTest {
         assertEquals("1\n2\n3\n", results);
     }
 
+    @Test
+    public void tstJobGetTextSpoolContentRangeSuccess() throws ZosmfRequestException {
+        JobGet getJobs = new JobGet(connection);
+        Mockito.when(mockTextGetRequest.executeRequest()).thenReturn(
+                new Response("11\n12\n", 200, "success"));
+        Whitebox.setInternalState(getJobs, "request", mockTextGetRequest);
+
+        final String results = getJobs.getSpoolContentRange(new JobFile("jobName", "jobId", 1L), 10, 5);
+        Mockito.verify(mockTextGetRequest).setHeaders(Map.of("X-IBM-Record-Range", "10,5"));
+        assertEquals("https://1:443/zosmf/restjobs/jobs/jobName/jobId/files/1/records", getJobs.getUrl());
+        assertEquals("11\n12\n", results);
+    }
+
+    @Test
+    public void tstJobGetTextSpoolContentRangeInvalidFailure() {
+        JobGet getJobs = new JobGet(connection);
+        final JobFile jobFile = new JobFile("jobName", "jobId", 1L);
+        assertThrows(IllegalArgumentException.class, () -> getJobs.getSpoolContentRange(jobFile, -1, 5));
+        assertThrows(IllegalArgumentException.class, () -> getJobs.getSpoolContentRange(jobFile, 0, 0));
+    }
+
 }
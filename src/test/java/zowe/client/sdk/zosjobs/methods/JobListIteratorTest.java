@@ -0,0 +1,117 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosjobs.methods;
+
+import org.junit.jupiter.api.Test;
+import zowe.client.sdk.rest.exception.ZosmfRequestException;
+import zowe.client.sdk.zosjobs.model.Job;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Class containing unit tests for JobListIterator.
+ *
+ * @author Frank Giordano
+ * @version 6.0
+ */
+public class JobListIteratorTest {
+
+    private static final List<String> JOB_NAMES = List.of("AB", "AB", "AB1", "ABC", "ABCD", "ABD", "AC", "B1",
+            "B2", "XYZ");
+
+    private final List<String> prefixes = new ArrayList<>();
+
+    @Test
+    public void tstJobListIteratorSinglePageSuccess() throws ZosmfRequestException {
+        try (Stream<Job> stream = new JobListIterator("*", true, 100,
+                prefix -> list(prefix, 100)).stream()) {
+            assertEquals(JOB_NAMES.size(), stream.count());
+        }
+        assertEquals(List.of("*"), prefixes);
+    }
+
+    @Test
+    public void tstJobListIteratorSplitSuccess() throws ZosmfRequestException {
+        final List<String> jobIds;
+        try (Stream<Job> stream = new JobListIterator("*", true, 3, prefix -> list(prefix, 3)).stream()) {
+            jobIds = stream.map(Job::getJobId).collect(Collectors.toList());
+        }
+        // every job is returned once, past the max-jobs of a single request
+        assertEquals(IntStream.range(0, JOB_NAMES.size()).mapToObj(i -> "JOB" + i).sorted()
+                .collect(Collectors.toList()), jobIds.stream().sorted().collect(Collectors.toList()));
+        assertEquals("*", prefixes.get(0));
+        assertTrue(prefixes.containsAll(List.of("A*", "AB", "AB*", "ABC*", "B*", "X*")));
+        assertFalse(prefixes.contains("B1*"));
+    }
+
+    @Test
+    public void tstJobListIteratorPrefixSuccess() throws ZosmfRequestException {
+        final List<String> jobNames;
+        try (Stream<Job> stream = new JobListIterator("AB*", true, 2, prefix -> list(prefix, 2)).stream()) {
+            jobNames = stream.map(Job::getJobName).collect(Collectors.toList());
+        }
+        assertEquals(List.of("AB", "AB", "AB1", "ABC", "ABCD", "ABD"),
+                jobNames.stream().sorted().collect(Collectors.toList()));
+    }
+
+    @Test
+    public void tstJobListIteratorUnsplittableSuccess() throws ZosmfRequestException {
+        // two jobs of the same name fill a window that cannot be split
+        final List<String> jobNames;
+        try (Stream<Job> stream = new JobListIterator("AB", true, 2, prefix -> list(prefix, 2)).stream()) {
+            jobNames = stream.map(Job::getJobName).collect(Collectors.toList());
+        }
+        assertEquals(List.of("AB", "AB"), jobNames);
+        assertEquals(List.of("AB"), prefixes);
+    }
+
+    @Test
+    public void tstJobListIteratorNextWindowFailure() throws ZosmfRequestException {
+        final JobListIterator iterator = new JobListIterator("*", true, 3, prefix -> {
+            if (!prefixes.isEmpty()) {
+                throw new ZosmfRequestException("window error");
+            }
+            return list(prefix, 3);
+        });
+        final IllegalStateException error = assertThrows(IllegalStateException.class, iterator::hasNext);
+        assertInstanceOf(ZosmfRequestException.class, error.getCause());
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public void tstJobListIteratorInvalidResponseFailure() {
+        assertThrows(ZosmfRequestException.class, () -> new JobListIterator("*", true, 3,
+                prefix -> content("{}")));
+    }
+
+    private InputStream list(final String prefix, final int maxJobs) {
+        prefixes.add(prefix);
+        final String stem = prefix.endsWith("*") ? prefix.substring(0, prefix.length() - 1) : null;
+        return content(IntStream.range(0, JOB_NAMES.size())
+                .filter(i -> stem != null ? JOB_NAMES.get(i).startsWith(stem) : JOB_NAMES.get(i).equals(prefix))
+                .limit(maxJobs)
+                .mapToObj(i -> "{\"jobid\":\"JOB" + i + "\",\"jobname\":\"" + JOB_NAMES.get(i) + "\"}")
+                .collect(Collectors.joining(",", "[", "]")));
+    }
+
+    private static InputStream content(final String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
@@ -0,0 +1,153 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosjobs.methods;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpsServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import zowe.client.sdk.rest.exception.ZosmfRequestException;
+import zowe.client.sdk.utility.AsyncUtils;
+import zowe.client.sdk.utility.UtilsTestHelper;
+import zowe.client.sdk.zosjobs.input.JobMonitorInputData;
+import zowe.client.sdk.zosjobs.model.Job;
+import zowe.client.sdk.zosjobs.types.JobStatus;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Class containing unit tests for JobMonitor asynchronous polling.
+ *
+ * @author Frank Giordano
+ * @version 6.0
+ */
+public class JobMonitorTest {
+
+    private static final String JOB = "{\"jobid\":\"JOB1\",\"jobname\":\"TESTJOB\",\"status\":\"%s\"}";
+
+    private final AtomicInteger statusPolls = new AtomicInteger();
+    private final AtomicInteger fileLookups = new AtomicInteger();
+    private final List<String> recordRanges = new CopyOnWriteArrayList<>();
+    private final List<String> spoolRecords = new CopyOnWriteArrayList<>(List.of("line 1"));
+    private volatile int activePolls;
+    private HttpsServer server;
+    private ExecutorService executor;
+    private JobMonitor monitor;
+
+    @BeforeEach
+    public void init() throws Exception {
+        server = UtilsTestHelper.startHttpsServer("/zosmf/restjobs/jobs", this::handle);
+        executor = Executors.newFixedThreadPool(2);
+        monitor = new JobMonitor(UtilsTestHelper.createConnection(server), 5, 10);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdown();
+        server.stop(0);
+    }
+
+    @Test
+    public void tstJobMonitorWaitStatusAsyncSuccess() throws ZosmfRequestException {
+        activePolls = 2;
+        final Job job = AsyncUtils.join(monitor.waitStatusCommonAsync(
+                new JobMonitorInputData.Builder("TESTJOB", "JOB1").build(), executor));
+        assertEquals("OUTPUT", job.getStatus());
+        // two ACTIVE polls, the OUTPUT poll and the step data request
+        assertEquals(4, statusPolls.get());
+    }
+
+    @Test
+    public void tstJobMonitorWaitStatusAsyncMaxAttemptsFailure() {
+        activePolls = 100;
+        final CompletionException e = assertThrows(CompletionException.class, () -> monitor.waitByStatusAsync(
+                Job.builder().jobName("TESTJOB").jobId("JOB1").build(), JobStatus.Type.OUTPUT, executor).join());
+        assertInstanceOf(IllegalStateException.class, e.getCause());
+        assertEquals("Desired status not seen. The number of maximum attempts reached.", e.getCause().getMessage());
+        assertEquals(6, statusPolls.get());
+    }
+
+    @Test
+    public void tstJobMonitorWaitMessageAsyncSuccess() throws ZosmfRequestException {
+        activePolls = 100;
+        assertTrue(AsyncUtils.join(monitor.waitMessageCommonAsync(
+                new JobMonitorInputData.Builder("TESTJOB", "JOB1").build(), "IEF404I", executor)));
+        assertFalse(AsyncUtils.join(monitor.waitMessageCommonAsync(
+                new JobMonitorInputData.Builder("TESTJOB", "JOB1").attempts(3).build(), "MISSING", executor)));
+    }
+
+    @Test
+    public void tstJobMonitorWaitMessageTailSuccess() throws ZosmfRequestException {
+        activePolls = 100;
+        final JobMonitorInputData input = new JobMonitorInputData.Builder("TESTJOB", "JOB1")
+                .lineLimit(2).tail(true).build();
+
+        assertTrue(AsyncUtils.join(monitor.waitMessageCommonAsync(input, "IEF404I", executor)));
+        // the job and its spool file are looked up once, and no record is retrieved twice
+        assertEquals(1, fileLookups.get());
+        assertEquals(List.of("0,2", "1,2", "3,2", "4,2", "6,2", "7,2"), recordRanges);
+    }
+
+    @Test
+    public void tstJobMonitorWaitMessageTailSyncSuccess() throws ZosmfRequestException {
+        activePolls = 100;
+        assertTrue(monitor.waitMessageCommon(new JobMonitorInputData.Builder("TESTJOB", "JOB1")
+                .lineLimit(2).tail(true).build(), "IEF404I"));
+        assertEquals(1, fileLookups.get());
+        assertEquals(List.of("0,2", "1,2", "3,2", "4,2", "6,2", "7,2"), recordRanges);
+    }
+
+    private void handle(final HttpExchange exchange) throws IOException {
+        final String path = exchange.getRequestURI().getPath();
+        if (path.endsWith("/records")) {
+            final String range = exchange.getRequestHeaders().getFirst("X-IBM-Record-Range");
+            if (range == null) {
+                UtilsTestHelper.send(exchange, 200, "line 1\nIEF404I TESTJOB - ENDED\n");
+                return;
+            }
+            recordRanges.add(range);
+            final int start = Integer.parseInt(range.split(",")[0]);
+            final int count = Integer.parseInt(range.split(",")[1]);
+            final StringBuilder content = new StringBuilder();
+            for (int i = start; i < Math.min(start + count, spoolRecords.size()); i++) {
+                content.append(spoolRecords.get(i)).append("\n");
+            }
+            if (start + count > spoolRecords.size()) {
+                // the job writes more output once the end of its spool file is read
+                if (spoolRecords.size() < 7) {
+                    for (int i = 0; i < 3; i++) {
+                        spoolRecords.add("line " + (spoolRecords.size() + 1));
+                    }
+                } else {
+                    spoolRecords.add("IEF404I TESTJOB - ENDED");
+                }
+            }
+            UtilsTestHelper.send(exchange, 200, content.toString());
+        } else if (path.endsWith("/files")) {
+            fileLookups.incrementAndGet();
+            UtilsTestHelper.send(exchange, 200, "[{\"jobid\":\"JOB1\",\"jobname\":\"TESTJOB\",\"id\":2,\"ddname\":\"JESMSGLG\"}]");
+        } else if (path.endsWith("/JOB1")) {
+            final int poll = statusPolls.incrementAndGet();
+            UtilsTestHelper.send(exchange, 200, String.format(JOB, poll <= activePolls ? "ACTIVE" : "OUTPUT"));
+        } else {
+            UtilsTestHelper.send(exchange, 200, "[" + String.format(JOB, "ACTIVE") + "]");
+        }
+    }
+
+}
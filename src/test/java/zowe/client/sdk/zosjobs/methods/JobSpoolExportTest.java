@@ -0,0 +1,152 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosjobs.methods;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpsServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import zowe.client.sdk.rest.exception.ZosmfRequestException;
+import zowe.client.sdk.utility.UtilsTestHelper;
+import zowe.client.sdk.zosjobs.input.JobSpoolExportInputData;
+import zowe.client.sdk.zosjobs.model.Job;
+import zowe.client.sdk.zosjobs.response.JobSpoolExportResponse;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Class containing unit tests for JobSpoolExport.
+ *
+ * @author Frank Giordano
+ * @version 6.0
+ */
+public class JobSpoolExportTest {
+
+    private static final int JOBS = 6;
+    private static final String FILES = "[" +
+            "{\"jobid\":\"%1$s\",\"jobname\":\"TESTJOB\",\"id\":2,\"ddname\":\"JESMSGLG\"}," +
+            "{\"jobid\":\"%1$s\",\"jobname\":\"TESTJOB\",\"id\":102,\"ddname\":\"SYSPRINT\"}," +
+            "{\"jobid\":\"%1$s\",\"jobname\":\"TESTJOB\",\"id\":103,\"ddname\":\"SYSPRINT\"}]";
+
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private final AtomicInteger contentRequests = new AtomicInteger();
+    private volatile String failingJobId = "";
+    private HttpsServer server;
+    private JobSpoolExport spoolExport;
+    private List<Job> jobs;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    public void init() throws Exception {
+        server = UtilsTestHelper.startHttpsServer("/zosmf/restjobs/jobs",
+                UtilsTestHelper.countConcurrency(this::handle, maxInFlight));
+        spoolExport = new JobSpoolExport(UtilsTestHelper.createConnection(server));
+        jobs = IntStream.rangeClosed(1, JOBS)
+                .mapToObj(i -> Job.builder().jobName("TESTJOB").jobId("JOB" + i).build())
+                .collect(Collectors.toList());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    public void tstJobSpoolExportSuccess() throws ZosmfRequestException, IOException {
+        final AtomicLong progress = new AtomicLong();
+        final JobSpoolExportResponse response = spoolExport.export(jobs, new JobSpoolExportInputData.Builder(tempDir)
+                .maxConcurrentRequests(3).progressListener((bytes, total) -> progress.accumulateAndGet(bytes, Math::max))
+                .build());
+
+        assertEquals(JOBS * 3, response.getExportedFiles());
+        assertEquals(0, response.getSkippedFiles());
+        assertTrue(response.getFailures().isEmpty());
+        assertEquals(response.getBytes(), progress.get());
+        assertTrue(maxInFlight.get() <= 3);
+
+        final Path jobDirectory = tempDir.resolve("TESTJOB").resolve("JOB1");
+        assertEquals("JOB1 2\n", Files.readString(jobDirectory.resolve("JESMSGLG.txt")));
+        assertEquals("JOB1 102\n", Files.readString(jobDirectory.resolve("SYSPRINT.txt")));
+        assertEquals("JOB1 103\n", Files.readString(jobDirectory.resolve("SYSPRINT-103.txt")));
+        try (var files = Files.list(jobDirectory)) {
+            assertEquals(3, files.count());
+        }
+    }
+
+    @Test
+    public void tstJobSpoolExportResumeSuccess() throws ZosmfRequestException {
+        final JobSpoolExportInputData exportInputData = new JobSpoolExportInputData.Builder(tempDir)
+                .resume(true).build();
+        spoolExport.export(jobs, exportInputData);
+        assertEquals(JOBS * 3, contentRequests.get());
+
+        final JobSpoolExportResponse response = spoolExport.export(jobs, exportInputData);
+        assertEquals(0, response.getExportedFiles());
+        assertEquals(JOBS * 3, response.getSkippedFiles());
+        assertEquals(JOBS * 3, contentRequests.get());
+    }
+
+    @Test
+    public void tstJobSpoolExportContinueOnErrorSuccess() throws ZosmfRequestException {
+        failingJobId = "JOB2";
+        final JobSpoolExportResponse response = spoolExport.export(jobs, new JobSpoolExportInputData.Builder(tempDir)
+                .continueOnError(true).build());
+
+        assertEquals((JOBS - 1) * 3, response.getExportedFiles());
+        assertEquals(3, response.getFailures().size());
+        assertTrue(response.getFailures().containsKey(tempDir.resolve("TESTJOB/JOB2/JESMSGLG.txt")));
+        assertFalse(Files.exists(tempDir.resolve("TESTJOB/JOB2/JESMSGLG.txt.part")));
+    }
+
+    @Test
+    public void tstJobSpoolExportFailFastFailure() {
+        failingJobId = "JOB1";
+        assertThrows(ZosmfRequestException.class, () -> spoolExport.export(jobs,
+                new JobSpoolExportInputData.Builder(tempDir).maxConcurrentRequests(1).build()));
+        // the first spool file failed, no other one was started
+        assertEquals(1, contentRequests.get());
+    }
+
+    private void handle(final HttpExchange exchange) throws IOException {
+        try {
+            final String[] path = exchange.getRequestURI().getPath().split("/");
+            // /zosmf/restjobs/jobs/TESTJOB/<jobid>/files[/<id>/records]
+            final String jobId = path[5];
+            if (path.length == 7) {
+                UtilsTestHelper.send(exchange, 200, String.format(FILES, jobId));
+                return;
+            }
+            contentRequests.incrementAndGet();
+            Thread.sleep(20);
+            if (failingJobId.equals(jobId)) {
+                UtilsTestHelper.send(exchange, 500, "{}");
+            } else {
+                UtilsTestHelper.send(exchange, 200, jobId + " " + path[7] + "\n");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+
+}
@@ -0,0 +1,174 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosjobs.methods;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpsServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import zowe.client.sdk.rest.exception.ZosmfRequestException;
+import zowe.client.sdk.utility.UtilsTestHelper;
+import zowe.client.sdk.zosjobs.input.JobSpoolSearchInputData;
+import zowe.client.sdk.zosjobs.model.Job;
+import zowe.client.sdk.zosjobs.response.JobSpoolHit;
+
+import java.io.IOException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Class containing unit tests for JobSpoolSearch.
+ *
+ * @author Frank Giordano
+ * @version 6.0
+ */
+public class JobSpoolSearchTest {
+
+    private static final String FILES = "[" +
+            "{\"jobid\":\"%1$s\",\"jobname\":\"TESTJOB\",\"id\":2,\"ddname\":\"JESMSGLG\"}," +
+            "{\"jobid\":\"%1$s\",\"jobname\":\"TESTJOB\",\"id\":3,\"ddname\":\"SYSPRINT\"}]";
+    private static final Map<String, String> CONTENTS = Map.of(
+            "JOB1/2", "IEF403I TESTJOB - STARTED\nstep one\nIEF404I TESTJOB - ENDED\n",
+            "JOB1/3", "no message here\n",
+            "JOB2/2", "IEF403I TESTJOB - STARTED\nIEF450I TESTJOB - ABEND\n",
+            "JOB2/3", "report line\nief403i in lower case\n");
+
+    private final List<String> downloads = new CopyOnWriteArrayList<>();
+    private final List<String> searchQueries = new CopyOnWriteArrayList<>();
+    private HttpsServer server;
+    private JobSpoolSearch spoolSearch;
+    private List<Job> jobs;
+
+    @BeforeEach
+    public void init() throws Exception {
+        server = UtilsTestHelper.startHttpsServer("/zosmf/restjobs/jobs", this::handle);
+        spoolSearch = new JobSpoolSearch(UtilsTestHelper.createConnection(server));
+        jobs = List.of(Job.builder().jobName("TESTJOB").jobId("JOB1").build(),
+                Job.builder().jobName("TESTJOB").jobId("JOB2").build());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    public void tstJobSpoolSearchServerSearchSuccess() throws ZosmfRequestException {
+        final List<JobSpoolHit> hits = spoolSearch.searchJobs(jobs,
+                new JobSpoolSearchInputData.Builder("IEF404I", "IEF450I").insensitive(false).build());
+
+        assertEquals(List.of("JOB1 2 2", "JOB2 2 1"), describe(hits));
+        assertEquals("IEF404I TESTJOB - ENDED", hits.get(0).getLine());
+        // only the spool files holding a match are downloaded
+        assertEquals(List.of("JOB1/2", "JOB2/2"), downloads.stream().sorted().collect(Collectors.toList()));
+        assertEquals(4, searchQueries.size());
+        assertTrue(searchQueries.contains("JOB1/2 research=IEF404I|IEF450I&insensitive=false&maxreturnsize=1"));
+    }
+
+    @Test
+    public void tstJobSpoolSearchInsensitiveSuccess() throws ZosmfRequestException {
+        final List<JobSpoolHit> hits = spoolSearch.searchJobs(jobs,
+                new JobSpoolSearchInputData.Builder("IEF403I").build());
+
+        assertEquals(List.of("JOB1 2 0", "JOB2 2 0", "JOB2 3 1"), describe(hits));
+        assertTrue(searchQueries.contains("JOB1/3 search=IEF403I&maxreturnsize=1"));
+        assertEquals(3, downloads.size());
+    }
+
+    @Test
+    public void tstJobSpoolSearchLocalRegexSuccess() throws ZosmfRequestException {
+        final List<JobSpoolHit> hits = spoolSearch.searchJobs(jobs,
+                new JobSpoolSearchInputData.Builder("IEF4(04|50)I").regex(true).insensitive(false)
+                        .serverSearch(false).maxConcurrentRequests(1).build());
+
+        assertEquals(List.of("JOB1 2 2", "JOB2 2 1"), describe(hits));
+        assertTrue(searchQueries.isEmpty());
+        assertEquals(4, downloads.size());
+    }
+
+    @Test
+    public void tstJobSpoolSearchJavaRegexSuccess() throws ZosmfRequestException {
+        // '\d' means nothing to the POSIX extended regular expressions of z/OSMF, the spool files are scanned locally
+        final List<JobSpoolHit> hits = spoolSearch.searchJobs(jobs,
+                new JobSpoolSearchInputData.Builder("IEF\\d{3}I").regex(true).insensitive(false).build());
+
+        assertEquals(List.of("JOB1 2 0", "JOB1 2 2", "JOB2 2 0", "JOB2 2 1"), describe(hits));
+        assertTrue(searchQueries.isEmpty());
+        assertEquals(4, downloads.size());
+    }
+
+    @Test
+    public void tstJobSpoolSearchFailure() {
+        final List<Job> missing = List.of(Job.builder().jobName("TESTJOB").jobId("JOB9").build());
+        assertThrows(ZosmfRequestException.class, () -> spoolSearch.searchJobs(missing,
+                new JobSpoolSearchInputData.Builder("IEF403I").build()));
+        assertThrows(IllegalArgumentException.class, () -> new JobSpoolSearchInputData.Builder());
+    }
+
+    private static List<String> describe(final List<JobSpoolHit> hits) {
+        return hits.stream()
+                .map(hit -> hit.getJobFile().getJobId() + " " + hit.getJobFile().getId() + " " + hit.getRecord())
+                .collect(Collectors.toList());
+    }
+
+    private void handle(final HttpExchange exchange) throws IOException {
+        // /zosmf/restjobs/jobs/TESTJOB/<jobid>/files[/<id>/records]
+        final String[] path = exchange.getRequestURI().getPath().split("/");
+        final String jobId = path[5];
+        if (!jobId.startsWith("JOB") || "JOB9".equals(jobId)) {
+            UtilsTestHelper.send(exchange, 404, "{}");
+            return;
+        }
+        if (path.length == 7) {
+            UtilsTestHelper.send(exchange, 200, String.format(FILES, jobId));
+            return;
+        }
+        final String key = jobId + "/" + path[7];
+        final String content = CONTENTS.get(key);
+        final String query = exchange.getRequestURI().getRawQuery();
+        if (query == null) {
+            downloads.add(key);
+            UtilsTestHelper.send(exchange, 200, content);
+            return;
+        }
+        final String decoded = URLDecoder.decode(query, StandardCharsets.UTF_8);
+        searchQueries.add(key + " " + decoded);
+        UtilsTestHelper.send(exchange, 200, serverSearch(content, decoded));
+    }
+
+    private static String serverSearch(final String content, final String query) {
+        final Map<String, String> params = Arrays.stream(query.split("&"))
+                .map(param -> param.split("=", 2))
+                .collect(Collectors.toMap(param -> param[0], param -> param[1]));
+        final int flags = "false".equals(params.get("insensitive")) ? 0 : Pattern.CASE_INSENSITIVE;
+        // like z/OSMF, a research value is a POSIX extended regular expression, where Java shorthands match nothing
+        if (params.containsKey("research") && params.get("research").matches(".*\\\\[dDwWsSbB].*")) {
+            return "";
+        }
+        final Pattern pattern = params.containsKey("search") ?
+                Pattern.compile(Pattern.quote(params.get("search")), flags) :
+                Pattern.compile(params.get("research"), flags);
+        return Arrays.stream(content.split("\n"))
+                .filter(line -> pattern.matcher(line).find())
+                .findFirst()
+                .map(line -> line + "\n")
+                .orElse("");
+    }
+
+}
@@ -0,0 +1,180 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosjobs.methods;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpsServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import zowe.client.sdk.utility.UtilsTestHelper;
+import zowe.client.sdk.zosjobs.input.JobSubmitJclInputData;
+import zowe.client.sdk.zosjobs.input.JobSubmitPipelineInputData;
+import zowe.client.sdk.zosjobs.model.Job;
+import zowe.client.sdk.zosjobs.response.JobSubmitResult;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Class containing unit tests for JobSubmitPipeline.
+ *
+ * @author Frank Giordano
+ * @version 6.0
+ */
+public class JobSubmitPipelineTest {
+
+    private static final String JOB = "{\"jobid\":\"%s\",\"jobname\":\"TESTJOB\",\"owner\":\"USER\"," +
+            "\"status\":\"%s\"%s}";
+    private static final String STEP_DATA = ",\"retcode\":\"CC 0000\",\"step-data\":[{\"step-name\":\"STEP1\"}]";
+
+    private final AtomicInteger jobCount = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private final HttpHandler submitHandler = UtilsTestHelper.countConcurrency(this::submit, maxInFlight);
+    private final List<Long> submitTimes = new CopyOnWriteArrayList<>();
+    private final CountDownLatch threeSubmitted = new CountDownLatch(3);
+    private final CountDownLatch fourSubmitted = new CountDownLatch(4);
+    // job id -> number of polls still returning the job as active
+    private final Map<String, Integer> activeJobs = new ConcurrentHashMap<>();
+    private HttpsServer server;
+    private JobSubmitPipeline pipeline;
+
+    @BeforeEach
+    public void init() throws Exception {
+        server = UtilsTestHelper.startHttpsServer("/zosmf/restjobs/jobs", this::handle);
+        pipeline = new JobSubmitPipeline(UtilsTestHelper.createConnection(server));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    public void tstJobSubmitPipelineSuccess() {
+        final List<JobSubmitResult> results;
+        try (Stream<JobSubmitResult> stream = pipeline.submit(jcls(9), new JobSubmitPipelineInputData.Builder()
+                .maxConcurrentRequests(2).watchDelay(10).build())) {
+            results = stream.collect(Collectors.toList());
+        }
+
+        assertEquals(9, results.size());
+        assertTrue(results.stream().allMatch(result -> result.getFailure().isEmpty()));
+        final List<Job> jobs = results.stream().map(result -> result.getJob().orElseThrow())
+                .collect(Collectors.toList());
+        assertEquals(IntStream.rangeClosed(1, 9).mapToObj(i -> "JOB" + i).sorted().collect(Collectors.toList()),
+                jobs.stream().map(Job::getJobId).sorted().collect(Collectors.toList()));
+        assertTrue(jobs.stream().allMatch(job -> "OUTPUT".equals(job.getStatus()) &&
+                job.getStepData().length == 1));
+        assertTrue(maxInFlight.get() <= 2);
+    }
+
+    @Test
+    public void tstJobSubmitPipelineRateLimitSuccess() {
+        final long start = System.nanoTime();
+        try (Stream<JobSubmitResult> stream = pipeline.submit(jcls(5), new JobSubmitPipelineInputData.Builder()
+                .maxSubmitsPerSecond(20).watchDelay(0).stepData(false).build())) {
+            assertEquals(5, stream.count());
+        }
+        // the 5th submit is paced 4 x 50 ms after the first one
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 200, "submits not paced");
+        assertEquals(5, submitTimes.size());
+    }
+
+    @Test
+    public void tstJobSubmitPipelineMaxPendingJobsSuccess() throws InterruptedException {
+        try (Stream<JobSubmitResult> stream = pipeline.submit(jcls(20), new JobSubmitPipelineInputData.Builder()
+                .maxPendingJobs(2).watchDelay(0).build())) {
+            final Iterator<JobSubmitResult> results = stream.iterator();
+            assertTrue(results.next().getJob().isPresent());
+            // two pending jobs plus the one consumed, the next submit waits for the next result to be consumed
+            assertTrue(threeSubmitted.await(5, TimeUnit.SECONDS));
+            assertFalse(fourSubmitted.await(200, TimeUnit.MILLISECONDS));
+            assertEquals(3, jobCount.get());
+            assertTrue(results.next().getJob().isPresent());
+            assertTrue(fourSubmitted.await(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    public void tstJobSubmitPipelineFailure() {
+        final Stream<JobSubmitJclInputData> jcls = Stream.of("//OK1 JOB", "//FAIL JOB", "//OK2 JOB")
+                .map(jcl -> new JobSubmitJclInputData(jcl, null, null));
+        final List<JobSubmitResult> results;
+        try (Stream<JobSubmitResult> stream = pipeline.submit(jcls, new JobSubmitPipelineInputData.Builder()
+                .watchDelay(0).build())) {
+            results = stream.collect(Collectors.toList());
+        }
+
+        assertEquals(3, results.size());
+        final List<JobSubmitResult> failures = results.stream().filter(result -> result.getFailure().isPresent())
+                .collect(Collectors.toList());
+        assertEquals(1, failures.size());
+        assertEquals("//FAIL JOB", failures.get(0).getSubmitJclInputData().getJcl().orElseThrow());
+    }
+
+    private static Stream<JobSubmitJclInputData> jcls(final int count) {
+        return IntStream.rangeClosed(1, count).mapToObj(i -> new JobSubmitJclInputData("//TESTJOB JOB " + i,
+                null, null));
+    }
+
+    private void handle(final HttpExchange exchange) throws IOException {
+        final String[] path = exchange.getRequestURI().getPath().split("/");
+        if ("PUT".equals(exchange.getRequestMethod())) {
+            submitHandler.handle(exchange);
+        } else if (path.length == 4) {
+            // /zosmf/restjobs/jobs?owner=USER&prefix=TESTJOB, each poll brings the jobs closer to completion
+            final String jobs = activeJobs.keySet().stream()
+                    .map(jobId -> String.format(JOB, jobId,
+                            activeJobs.merge(jobId, -1, Integer::sum) >= 0 ? "ACTIVE" : "OUTPUT", ""))
+                    .collect(Collectors.joining(","));
+            UtilsTestHelper.send(exchange, 200, "[" + jobs + "]");
+        } else {
+            // /zosmf/restjobs/jobs/TESTJOB/<jobid>?step-data=Y
+            UtilsTestHelper.send(exchange, 200, String.format(JOB, path[5], "OUTPUT", STEP_DATA));
+        }
+    }
+
+    private void submit(final HttpExchange exchange) throws IOException {
+        try {
+            submitTimes.add(System.currentTimeMillis());
+            final String jcl = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            Thread.sleep(10);
+            if (jcl.contains("FAIL")) {
+                UtilsTestHelper.send(exchange, 500, "{}");
+                return;
+            }
+            final int number = jobCount.incrementAndGet();
+            threeSubmitted.countDown();
+            fourSubmitted.countDown();
+            final String jobId = "JOB" + number;
+            activeJobs.put(jobId, number % 3);
+            UtilsTestHelper.send(exchange, 200, String.format(JOB, jobId, "INPUT", ""));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+
+}
@@ -0,0 +1,193 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosjobs.methods;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpsServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import zowe.client.sdk.core.ZosConnectionFactory;
+import zowe.client.sdk.rest.exception.ZosmfRequestException;
+import zowe.client.sdk.utility.AsyncUtils;
+import zowe.client.sdk.utility.UtilsTestHelper;
+import zowe.client.sdk.zosjobs.model.Job;
+import zowe.client.sdk.zosjobs.types.JobStatus;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Class containing unit tests for JobWatcher.
+ *
+ * @author Frank Giordano
+ * @version 6.0
+ */
+public class JobWatcherTest {
+
+    private static final int JOBS = 100;
+    private static final String JOB = "{\"jobid\":\"%s\",\"jobname\":\"TESTJOB\",\"owner\":\"USER\",\"status\":\"%s\"}";
+
+    private final AtomicInteger listRequests = new AtomicInteger();
+    private final AtomicInteger statusRequests = new AtomicInteger();
+    private final List<String> queries = new CopyOnWriteArrayList<>();
+    private volatile int activeLists;
+    private volatile int listedJobs = JOBS;
+    private volatile int listCode = 200;
+    private HttpsServer server;
+    private ExecutorService executor;
+    private JobWatcher watcher;
+
+    @BeforeEach
+    public void init() throws Exception {
+        server = UtilsTestHelper.startHttpsServer("/zosmf/restjobs/jobs", this::handle);
+        executor = Executors.newFixedThreadPool(2);
+        watcher = new JobWatcher(UtilsTestHelper.createConnection(server), executor, 10);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        watcher.close();
+        executor.shutdown();
+        server.stop(0);
+    }
+
+    @Test
+    public void tstJobWatcherOneRequestPerIntervalSuccess() throws ZosmfRequestException {
+        activeLists = 3;
+        final List<CompletableFuture<Job>> watches = watchAll(JobStatus.Type.OUTPUT);
+
+        for (final CompletableFuture<Job> watch : watches) {
+            assertEquals("OUTPUT", AsyncUtils.join(watch).getStatus());
+        }
+        // three ACTIVE lists and the OUTPUT list for all the jobs
+        assertEquals(4, listRequests.get());
+        assertEquals(0, statusRequests.get());
+        assertEquals(0, watcher.getWatchCount());
+    }
+
+    @Test
+    public void tstJobWatcherPassedStatusSuccess() throws ZosmfRequestException {
+        activeLists = 100;
+        final Job job = AsyncUtils.join(watcher.watch("TESTJOB", "JOB1", JobStatus.Type.INPUT));
+        assertEquals("ACTIVE", job.getStatus());
+        assertEquals(1, listRequests.get());
+    }
+
+    @Test
+    public void tstJobWatcherMissingJobFallbackSuccess() throws ZosmfRequestException {
+        listedJobs = JOBS - 1;
+        final List<CompletableFuture<Job>> watches = watchAll(JobStatus.Type.OUTPUT);
+
+        for (final CompletableFuture<Job> watch : watches) {
+            assertEquals("OUTPUT", AsyncUtils.join(watch).getStatus());
+        }
+        assertEquals(1, listRequests.get());
+        assertEquals(1, statusRequests.get());
+    }
+
+    @Test
+    public void tstJobWatcherOwnerPrefixSuccess() throws ZosmfRequestException {
+        final List<CompletableFuture<Job>> watches = new ArrayList<>();
+        for (final String jobName : List.of("BUILDAPI", "BUILDWEB", "BUILD")) {
+            watches.add(watcher.watch(Job.builder().jobName(jobName).jobId("JOB" + (watches.size() + 1))
+                    .owner("USER").build(), JobStatus.Type.OUTPUT));
+        }
+
+        for (final CompletableFuture<Job> watch : watches) {
+            assertEquals("OUTPUT", AsyncUtils.join(watch).getStatus());
+        }
+        // the jobs of one owner share a list request, narrowed by the common prefix of their names
+        assertEquals(1, listRequests.get());
+        assertTrue(queries.get(0).contains("owner=USER"));
+        assertTrue(queries.get(0).contains("prefix=BUILD*"));
+    }
+
+    @Test
+    public void tstJobWatcherMaxJobsGroupSuccess() throws ZosmfRequestException {
+        watcher.close();
+        watcher = new JobWatcher(UtilsTestHelper.createConnection(server), executor, 10, 40);
+        activeLists = 3;
+        final List<CompletableFuture<Job>> watches = watchAll(JobStatus.Type.OUTPUT);
+
+        for (final CompletableFuture<Job> watch : watches) {
+            assertEquals("OUTPUT", AsyncUtils.join(watch).getStatus());
+        }
+        // each list request refreshes at most 40 jobs, all named TESTJOB
+        assertTrue(listRequests.get() >= 3);
+        assertTrue(queries.stream().allMatch(query -> query.contains("prefix=TESTJOB")));
+        assertEquals(0, statusRequests.get());
+    }
+
+    @Test
+    public void tstJobWatcherRequestFailure() {
+        listCode = 500;
+        final CompletableFuture<Job> watch = watcher.watch("TESTJOB", "JOB1", JobStatus.Type.OUTPUT);
+        assertThrows(ZosmfRequestException.class, () -> AsyncUtils.join(watch));
+    }
+
+    @Test
+    public void tstJobWatcherCloseFailure() {
+        activeLists = 1000;
+        final CompletableFuture<Job> watch = watcher.watch("TESTJOB", "JOB1", JobStatus.Type.OUTPUT);
+        watcher.close();
+        assertThrows(CancellationException.class, watch::join);
+        assertThrows(IllegalStateException.class, () -> watcher.watch("TESTJOB", "JOB2", JobStatus.Type.OUTPUT));
+    }
+
+    @Test
+    public void tstJobWatcherInvalidParameterFailure() {
+        assertThrows(IllegalArgumentException.class, () -> watcher.watch("", "JOB1", JobStatus.Type.OUTPUT));
+        assertThrows(NullPointerException.class, () -> watcher.watch("TESTJOB", "JOB1", null));
+        assertThrows(IllegalArgumentException.class, () -> new JobWatcher(ZosConnectionFactory
+                .createBasicConnection("localhost", 443, "user", "password"), executor, -1));
+    }
+
+    private List<CompletableFuture<Job>> watchAll(final JobStatus.Type statusType) {
+        final List<CompletableFuture<Job>> watches = new ArrayList<>();
+        for (int i = 1; i <= JOBS; i++) {
+            watches.add(watcher.watch(Job.builder().jobName("TESTJOB").jobId("JOB" + i).owner("USER").build(),
+                    statusType));
+        }
+        return watches;
+    }
+
+    private void handle(final HttpExchange exchange) throws IOException {
+        final String path = exchange.getRequestURI().getPath();
+        if ("/zosmf/restjobs/jobs".equals(path)) {
+            if (listCode != 200) {
+                UtilsTestHelper.send(exchange, listCode, "{}");
+                return;
+            }
+            queries.add(exchange.getRequestURI().getQuery());
+            final String status = listRequests.incrementAndGet() <= activeLists ? "ACTIVE" : "OUTPUT";
+            UtilsTestHelper.send(exchange, 200, IntStream.rangeClosed(1, listedJobs)
+                    .mapToObj(i -> String.format(JOB, "JOB" + i, status))
+                    .collect(Collectors.joining(",", "[", "]")));
+        } else {
+            statusRequests.incrementAndGet();
+            final String jobId = path.substring(path.lastIndexOf('/') + 1);
+            UtilsTestHelper.send(exchange, 200, String.format(JOB, jobId, "OUTPUT"));
+        }
+    }
+
+
+}